@@ -4,8 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fleencorp.base.resolver.impl.SearchParamArgResolver;
+import com.fleencorp.feen.common.interceptor.ReCaptchaVerificationInterceptor;
 import org.springframework.context.annotation.*;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -33,6 +35,7 @@ import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS
 public class FleenFeenConfiguration implements WebMvcConfigurer {
 
   private final SearchParamArgResolver queryParamResolver;
+  private final ReCaptchaVerificationInterceptor reCaptchaVerificationInterceptor;
 
   /**
    * Constructs a new instance of {@code FleenFeenConfiguration}.
@@ -41,10 +44,14 @@ public class FleenFeenConfiguration implements WebMvcConfigurer {
    *                           search parameters in the application. The {@code @Lazy} annotation
    *                           indicates that this dependency is injected lazily, meaning it will
    *                           be created only when it is first needed rather than at application startup.
+   * @param reCaptchaVerificationInterceptor the interceptor that starts reCAPTCHA verification before the
+   *                                         request body is validated.
    */
   public FleenFeenConfiguration(
-      @Lazy final SearchParamArgResolver queryParamResolver) {
+      @Lazy final SearchParamArgResolver queryParamResolver,
+      @Lazy final ReCaptchaVerificationInterceptor reCaptchaVerificationInterceptor) {
     this.queryParamResolver = queryParamResolver;
+    this.reCaptchaVerificationInterceptor = reCaptchaVerificationInterceptor;
   }
 
 
@@ -78,4 +85,14 @@ public class FleenFeenConfiguration implements WebMvcConfigurer {
   public void addArgumentResolvers(final List<HandlerMethodArgumentResolver> resolvers) {
     resolvers.add(queryParamResolver);
   }
+
+  /**
+   * Registers the interceptor that starts reCAPTCHA verification early for annotated handlers.
+   *
+   * @param registry The registry to add the interceptor to
+   */
+  @Override
+  public void addInterceptors(final InterceptorRegistry registry) {
+    registry.addInterceptor(reCaptchaVerificationInterceptor);
+  }
 }
@@ -6,17 +6,20 @@ import com.fleencorp.base.exception.externalsystem.ExternalSystemException;
 import com.fleencorp.feen.adapter.google.recaptcha.model.constant.GoogleRecaptchaEndpointBlock;
 import com.fleencorp.feen.adapter.google.recaptcha.model.constant.GoogleRecaptchaParameter;
 import com.fleencorp.feen.adapter.google.recaptcha.model.response.ReCaptchaResponse;
+import com.fleencorp.feen.common.configuration.external.google.recaptcha.ReCaptchaProperties;
 import com.fleencorp.feen.common.constant.external.ExternalSystemType;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
+import java.net.http.HttpClient;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -26,6 +29,11 @@ import static com.fleencorp.feen.common.util.common.LoggingUtil.logIfEnabled;
  * The ReCaptchaAdapter is used for authentication and security purpose to verify that
  * the request being sent to the application is made by a human and not a bot or machine.
  *
+ * <p>Requests are sent through a single shared {@link HttpClient}, which keeps connections to Google
+ * alive and reuses them, so a verification does not pay for a new TCP and TLS handshake. Connect and
+ * read timeouts are kept tight because the verification is on the critical path of sign-up and
+ * sign-in.</p>
+ *
  * @author Yusuf Alamu Musa
  * @version 1.0
  */
@@ -43,16 +51,38 @@ public class ReCaptchaAdapter extends BaseAdapter {
    *
    * @param baseUrl    The base URL of the reCAPTCHA service
    * @param secretKey  The secret key used for reCAPTCHA verification
+   * @param reCaptchaProperties The connection and read timeouts of the HTTP client
    */
   protected ReCaptchaAdapter(
       @Value("${google.recaptcha.base-url}") final String baseUrl,
       @Value("${google.recaptcha.secret-key}") final String secretKey,
-      final RestClient restClient) {
-    super(baseUrl, new RestTemplateBuilder()
-      .requestFactory(SimpleClientHttpRequestFactory::new).build(), restClient);
+      final RestClient restClient,
+      final ReCaptchaProperties reCaptchaProperties) {
+    super(baseUrl, createRestTemplate(reCaptchaProperties), restClient);
     this.recaptchaSecret = secretKey;
   }
 
+  /**
+   * Creates a {@link RestTemplate} backed by a pooled, keep-alive {@link HttpClient}.
+   *
+   * @param reCaptchaProperties the connection and read timeouts to apply
+   * @return the configured {@link RestTemplate}
+   */
+  private static RestTemplate createRestTemplate(final ReCaptchaProperties reCaptchaProperties) {
+    final HttpClient httpClient = HttpClient.newBuilder()
+      .connectTimeout(reCaptchaProperties.getConnectTimeout())
+      .version(HttpClient.Version.HTTP_2)
+      .followRedirects(HttpClient.Redirect.NEVER)
+      .build();
+
+    final JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+    requestFactory.setReadTimeout(reCaptchaProperties.getReadTimeout());
+
+    return new RestTemplateBuilder()
+      .requestFactory(() -> requestFactory)
+      .build();
+  }
+
   /**
    * Verifies a reCAPTCHA token with the Google reCAPTCHA service.
    *
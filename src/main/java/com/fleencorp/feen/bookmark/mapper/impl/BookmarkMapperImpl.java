@@ -6,7 +6,6 @@ import com.fleencorp.feen.bookmark.model.info.UserBookmarkInfo;
 import com.fleencorp.feen.bookmark.model.response.BookmarkResponse;
 import com.fleencorp.feen.common.model.info.ParentInfo;
 import com.fleencorp.feen.mapper.impl.BaseMapper;
-import com.fleencorp.feen.mapper.impl.info.ToInfoMapperImpl;
 import com.fleencorp.feen.mapper.info.ToInfoMapper;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Component;
@@ -23,9 +22,11 @@ public class BookmarkMapperImpl extends BaseMapper implements BookmarkMapper {
 
   private final ToInfoMapper toInfoMapper;
 
-  public BookmarkMapperImpl(final MessageSource messageSource) {
+  public BookmarkMapperImpl(
+      final ToInfoMapper toInfoMapper,
+      final MessageSource messageSource) {
     super(messageSource);
-    this.toInfoMapper = new ToInfoMapperImpl(messageSource);
+    this.toInfoMapper = toInfoMapper;
   }
 
   /**
@@ -28,7 +28,7 @@ public class CalendarController {
   }
 
   @GetMapping(value = "/data-create-calendar")
-  @Cacheable(value = "data-required-to-create-calendar")
+  @Cacheable(value = "data-required-to-create-calendar", sync = true)
   public DataForCreateCalendarResponse getDataCreateCalendar() {
     return calendarService.getDataForCreateCalendar();
   }
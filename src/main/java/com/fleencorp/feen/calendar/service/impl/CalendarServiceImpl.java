@@ -18,6 +18,7 @@ import com.fleencorp.feen.calendar.model.response.base.CalendarResponse;
 import com.fleencorp.feen.calendar.model.search.CalendarSearchResult;
 import com.fleencorp.feen.calendar.repository.CalendarRepository;
 import com.fleencorp.feen.calendar.service.CalendarService;
+import com.fleencorp.feen.common.service.misc.MiscService;
 import com.fleencorp.feen.country.model.search.CountrySearchResult;
 import com.fleencorp.feen.country.service.CountryService;
 import com.fleencorp.feen.model.request.search.CountrySearchRequest;
@@ -63,6 +64,7 @@ public class CalendarServiceImpl implements CalendarService {
   private final CalendarRepository calendarRepository;
   private final BaseOauth2Service baseOauth2Service;
   private final CalendarMapper calendarMapper;
+  private final MiscService miscService;
   private final Localizer localizer;
 
   public CalendarServiceImpl(
@@ -72,6 +74,7 @@ public class CalendarServiceImpl implements CalendarService {
       final BaseOauth2Service baseOauth2Service,
       final CalendarRepository calendarRepository,
       final CalendarMapper calendarMapper,
+      final MiscService miscService,
       final Localizer localizer) {
     this.countryService = countryService;
     this.googleCalendarService = googleCalendarService;
@@ -79,6 +82,7 @@ public class CalendarServiceImpl implements CalendarService {
     this.baseOauth2Service = baseOauth2Service;
     this.calendarRepository = calendarRepository;
     this.calendarMapper = calendarMapper;
+    this.miscService = miscService;
     this.localizer = localizer;
   }
 
@@ -269,6 +273,8 @@ public class CalendarServiceImpl implements CalendarService {
     );
     // Save updated calendar
     calendar = calendarRepository.save(calendar);
+    // Remove the stale calendar from the calendar lookup cache
+    miscService.evictCalendar(calendar.getCode());
 
     // Update the calendar through Google Calendar API Service
     final GooglePatchCalendarResponse googlePatchCalendarResponse = googleCalendarService.patchCalendar(patchCalendarRequest);
@@ -314,6 +320,7 @@ public class CalendarServiceImpl implements CalendarService {
 
     final GoogleCreateCalendarResponse googleCreateCalendarResponse = googleCalendarService.createCalendar(createCalendarRequest);
     calendar.setExternalId(googleCreateCalendarResponse.calendarId());
+    miscService.evictCalendar(calendar.getCode());
 
     final CalendarResponse calendarResponse = calendarMapper.toCalendarResponse(calendar);
     final ReactivateCalendarResponse reactivateCalendarResponse = ReactivateCalendarResponse.of(calendar.getCalendarId(), calendarResponse);
@@ -348,6 +355,7 @@ public class CalendarServiceImpl implements CalendarService {
     calendar.markAsInactive();
 
     calendarRepository.save(calendar);
+    miscService.evictCalendar(calendar.getCode());
     return localizer.of(DeletedCalendarResponse.of(calendarId));
   }
 
@@ -23,6 +23,7 @@ import com.fleencorp.feen.chat.space.model.response.update.UpdateChatSpaceStatus
 import com.fleencorp.feen.chat.space.service.core.ChatSpaceService;
 import com.fleencorp.feen.chat.space.service.event.ChatSpaceEventService;
 import com.fleencorp.feen.chat.space.service.join.ChatSpaceJoinService;
+import com.fleencorp.feen.common.aspect.RateLimit;
 import com.fleencorp.feen.common.exception.FailedOperationException;
 import com.fleencorp.feen.shared.security.RegisteredUser;
 import com.fleencorp.feen.stream.model.dto.event.CreateChatSpaceEventDto;
@@ -230,6 +231,7 @@ public class ChatSpaceController {
     @ApiResponse(responseCode = "409", description = "User is already a member",
       content = @Content(schema = @Schema(implementation = AlreadyJoinedChatSpaceException.class)))
   })
+  @RateLimit(name = "chat-space-join", capacity = 20, refillPeriodSeconds = 60)
   @PostMapping(value = "/join/{chatSpaceId}")
   public JoinChatSpaceResponse join(
       @Parameter(description = "ID of the chat space to join", required = true)
@@ -262,6 +264,7 @@ public class ChatSpaceController {
     @ApiResponse(responseCode = "409", description = "User is already a member",
       content = @Content(schema = @Schema(implementation = AlreadyJoinedChatSpaceException.class)))
   })
+  @RateLimit(name = "chat-space-request-to-join", capacity = 20, refillPeriodSeconds = 60)
   @PostMapping(value = "/request-to-join/{chatSpaceId}")
   public RequestToJoinChatSpaceResponse requestToJoin(
       @Parameter(description = "ID of the chat space to request joining", required = true)
@@ -9,16 +9,17 @@ import com.fleencorp.feen.chat.space.model.info.core.ChatSpaceTotalMemberInfo;
 import com.fleencorp.feen.chat.space.model.info.core.ChatSpaceTotalMemberRequestToJoinInfo;
 import com.fleencorp.feen.chat.space.model.response.core.ChatSpaceResponse;
 import com.fleencorp.feen.common.constant.common.JoinStatus;
+import com.fleencorp.feen.shared.chat.space.contract.IsAChatSpace;
 
 import java.util.List;
 
 public interface ChatSpaceMapper {
 
-  ChatSpaceResponse toChatSpaceResponse(ChatSpace entry);
+  ChatSpaceResponse toChatSpaceResponse(IsAChatSpace entry);
 
   ChatSpaceResponse toChatSpaceResponseByAdminUpdate(ChatSpace entry);
 
-  List<ChatSpaceResponse> toChatSpaceResponses(List<ChatSpace> entries);
+  List<ChatSpaceResponse> toChatSpaceResponses(List<? extends IsAChatSpace> entries);
 
   void setMembershipInfo(ChatSpaceResponse chatSpace, ChatSpaceRequestToJoinStatus requestToJoinStatus, JoinStatus joinStatus, ChatSpaceMemberRole memberRole, boolean isAMember, boolean isAdmin, boolean hasLeft, boolean isRemoved);
 
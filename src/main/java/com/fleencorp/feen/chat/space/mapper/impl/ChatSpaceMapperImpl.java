@@ -23,6 +23,7 @@ import com.fleencorp.feen.common.model.info.ShareCountInfo;
 import com.fleencorp.feen.like.model.info.UserLikeInfo;
 import com.fleencorp.feen.mapper.impl.BaseMapper;
 import com.fleencorp.feen.mapper.info.ToInfoMapper;
+import com.fleencorp.feen.shared.chat.space.contract.IsAChatSpace;
 import com.fleencorp.feen.stream.model.other.Organizer;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Component;
@@ -87,7 +88,7 @@ public class ChatSpaceMapperImpl extends BaseMapper implements ChatSpaceMapper {
    *         or {@code null} if the input is null
    */
   @Override
-  public ChatSpaceResponse toChatSpaceResponse(final ChatSpace entry) {
+  public ChatSpaceResponse toChatSpaceResponse(final IsAChatSpace entry) {
     if (nonNull(entry)) {
       final ChatSpaceResponse response = new ChatSpaceResponse();
       response.setId(entry.getChatSpaceId());
@@ -131,7 +132,7 @@ public class ChatSpaceMapperImpl extends BaseMapper implements ChatSpaceMapper {
       response.setOrganizer(organizer);
 
       final JoinStatus joinStatus = JoinStatus.byChatSpaceStatus(entry.isPrivate());
-      final JoinStatusInfo joinStatusInfo = JoinStatusInfo.of(joinStatus, translate(joinStatus.getMessageCode()), translate(joinStatus.getMessageCode2()), translate(joinStatus.getMessageCode3()));
+      final JoinStatusInfo joinStatusInfo = chatSpaceMemberMapper.toJoinStatusInfo(response, joinStatus);
 
       final IsAChatSpaceMemberInfo isAMemberInfo = chatSpaceMemberMapper.toIsAChatSpaceMemberInfo(false);
       final IsAChatSpaceAdminInfo isAAdminInfo = chatSpaceMemberMapper.toIsAChatSpaceAdminInfo(false);
@@ -194,7 +195,7 @@ public class ChatSpaceMapperImpl extends BaseMapper implements ChatSpaceMapper {
    * @return a list of {@code ChatSpaceResponse} objects with the mapped data, or an empty list if the input is null
    **/
   @Override
-  public List<ChatSpaceResponse> toChatSpaceResponses(final List<ChatSpace> entries) {
+  public List<ChatSpaceResponse> toChatSpaceResponses(final List<? extends IsAChatSpace> entries) {
     if (nonNull(entries) && !entries.isEmpty()) {
       return entries.stream()
         .filter(Objects::nonNull)
@@ -17,6 +17,7 @@ import com.fleencorp.feen.chat.space.model.response.member.base.ChatSpaceMemberR
 import com.fleencorp.feen.common.constant.common.JoinStatus;
 import com.fleencorp.feen.common.model.info.JoinStatusInfo;
 import com.fleencorp.feen.mapper.impl.BaseMapper;
+import com.fleencorp.feen.mapper.impl.info.LocalizedInfoRegistry;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Component;
 
@@ -42,13 +43,35 @@ import static java.util.Objects.nonNull;
 @Component
 public class ChatSpaceMemberMapperImpl extends BaseMapper implements ChatSpaceMemberMapper {
 
+  private final LocalizedInfoRegistry localizedInfoRegistry;
+
   /**
    * Constructor for the ChatSpaceMemberMapper class.
    *
+   * <p>Registers the membership info objects that depend only on a status and the locale, so that they are
+   * shared instead of rebuilt for every member of a page.</p>
+   *
    * @param messageSource the MessageSource used for message translation
+   * @param localizedInfoRegistry the registry holding the shared membership info objects
    */
-  public ChatSpaceMemberMapperImpl(final MessageSource messageSource) {
+  public ChatSpaceMemberMapperImpl(
+      final MessageSource messageSource,
+      final LocalizedInfoRegistry localizedInfoRegistry) {
     super(messageSource);
+    this.localizedInfoRegistry = localizedInfoRegistry;
+
+    localizedInfoRegistry.register(ChatSpaceRequestToJoinStatusInfo.class, ChatSpaceRequestToJoinStatus.class, requestToJoinStatus ->
+      ChatSpaceRequestToJoinStatusInfo.of(requestToJoinStatus, translate(requestToJoinStatus.getMessageCode())));
+    localizedInfoRegistry.register(ChatSpaceMemberRoleInfo.class, ChatSpaceMemberRole.class, role ->
+      ChatSpaceMemberRoleInfo.of(role, translate(role.getMessageCode())));
+    localizedInfoRegistry.register(IsAChatSpaceMemberInfo.class, IsAChatSpaceMember.class, isAChatSpaceMember ->
+      IsAChatSpaceMemberInfo.of(isAChatSpaceMember == IsAChatSpaceMember.YES, translate(isAChatSpaceMember.getMessageCode())));
+    localizedInfoRegistry.register(IsAChatSpaceAdminInfo.class, IsAChatSpaceAdmin.class, isAChatSpaceAdmin ->
+      IsAChatSpaceAdminInfo.of(isAChatSpaceAdmin == IsAChatSpaceAdmin.YES, translate(isAChatSpaceAdmin.getMessageCode()), translate(isAChatSpaceAdmin.getMessageCode2())));
+    localizedInfoRegistry.register(IsChatSpaceMemberRemovedInfo.class, IsChatSpaceMemberRemoved.class, isChatSpaceMemberRemoved ->
+      IsChatSpaceMemberRemovedInfo.of(isChatSpaceMemberRemoved == IsChatSpaceMemberRemoved.YES, translate(isChatSpaceMemberRemoved.getMessageCode())));
+    localizedInfoRegistry.register(IsChatSpaceMemberLeftInfo.class, IsChatSpaceMemberLeft.class, isChatSpaceMemberLeft ->
+      IsChatSpaceMemberLeftInfo.of(isChatSpaceMemberLeft == IsChatSpaceMemberLeft.YES, translate(isChatSpaceMemberLeft.getMessageCode())));
   }
 
   /**
@@ -132,22 +155,15 @@ public class ChatSpaceMemberMapperImpl extends BaseMapper implements ChatSpaceMe
   @Override
   public ChatSpaceMembershipInfo getMembershipInfo(final ChatSpaceMember entry, final ChatSpace chatSpace) {
     final ChatSpaceRequestToJoinStatus requestToJoinStatus = entry.getRequestToJoinStatus();
-    final ChatSpaceRequestToJoinStatusInfo requestToJoinStatusInfo = ChatSpaceRequestToJoinStatusInfo.of(requestToJoinStatus, translate(requestToJoinStatus.getMessageCode()));
+    final ChatSpaceRequestToJoinStatusInfo requestToJoinStatusInfo = localizedInfoRegistry.get(ChatSpaceRequestToJoinStatusInfo.class, requestToJoinStatus);
 
     final JoinStatus joinStatus = JoinStatus.getJoinStatus(entry.getRequestToJoinStatus(), chatSpace.getSpaceVisibility(), entry.isAMember(), entry.hasLeft(), entry.isRemoved());
-    final JoinStatusInfo joinStatusInfo = JoinStatusInfo.of(joinStatus, translate(joinStatus.getMessageCode()), translate(joinStatus.getMessageCode2()), translate(joinStatus.getMessageCode3()));
-
-    final IsAChatSpaceMember isAChatSpaceMember = IsAChatSpaceMember.by(entry.isAMember());
-    final IsAChatSpaceMemberInfo isAChatSpaceMemberInfo = IsAChatSpaceMemberInfo.of(entry.isAMember(), translate(isAChatSpaceMember.getMessageCode()));
-
-    final IsAChatSpaceAdmin isAChatSpaceAdmin = IsAChatSpaceAdmin.by(entry.isAdmin());
-    final IsAChatSpaceAdminInfo isAChatSpaceAdminInfo = IsAChatSpaceAdminInfo.of(entry.isAdmin(), translate(isAChatSpaceAdmin.getMessageCode()), translate(isAChatSpaceAdmin.getMessageCode2()));
-
-    final IsChatSpaceMemberRemoved isChatSpaceMemberRemoved = IsChatSpaceMemberRemoved.by(entry.isRemoved());
-    final IsChatSpaceMemberRemovedInfo isChatSpaceMemberRemovedInfo = IsChatSpaceMemberRemovedInfo.of(entry.isRemoved(), translate(isChatSpaceMemberRemoved.getMessageCode()));
+    final JoinStatusInfo joinStatusInfo = localizedInfoRegistry.get(JoinStatusInfo.class, joinStatus);
 
-    final IsChatSpaceMemberLeft isChatSpaceMemberLeft = IsChatSpaceMemberLeft.by(entry.hasLeft());
-    final IsChatSpaceMemberLeftInfo isChatSpaceMemberLeftInfo = IsChatSpaceMemberLeftInfo.of(entry.hasLeft(), translate(isChatSpaceMemberLeft.getMessageCode()));
+    final IsAChatSpaceMemberInfo isAChatSpaceMemberInfo = toIsAChatSpaceMemberInfo(entry.isAMember());
+    final IsAChatSpaceAdminInfo isAChatSpaceAdminInfo = toIsAChatSpaceAdminInfo(entry.isAdmin());
+    final IsChatSpaceMemberRemovedInfo isChatSpaceMemberRemovedInfo = toIsChatSpaceMemberRemovedInfo(entry.isRemoved());
+    final IsChatSpaceMemberLeftInfo isChatSpaceMemberLeftInfo = toIsChatSpaceMemberLeftInfo(entry.hasLeft());
 
     final ChatSpaceMemberRole role = entry.getRole();
     final ChatSpaceMemberRoleInfo chatSpaceMemberRoleInfo = toMemberRoleInfo(role);
@@ -214,7 +230,7 @@ public class ChatSpaceMemberMapperImpl extends BaseMapper implements ChatSpaceMe
    */
   @Override
   public ChatSpaceMemberRoleInfo toMemberRoleInfo(final ChatSpaceMemberRole role) {
-    return ChatSpaceMemberRoleInfo.of(role, translate(role.getMessageCode()));
+    return localizedInfoRegistry.get(ChatSpaceMemberRoleInfo.class, role);
   }
 
   /**
@@ -238,7 +254,7 @@ public class ChatSpaceMemberMapperImpl extends BaseMapper implements ChatSpaceMe
   @Override
   public ChatSpaceRequestToJoinStatusInfo toRequestToJoinStatusInfo(final ChatSpaceResponse chatSpace, final ChatSpaceRequestToJoinStatus requestToJoinStatus) {
     if (nonNull(chatSpace) && nonNull(requestToJoinStatus)) {
-      return ChatSpaceRequestToJoinStatusInfo.of(requestToJoinStatus, translate(requestToJoinStatus.getMessageCode()));
+      return localizedInfoRegistry.get(ChatSpaceRequestToJoinStatusInfo.class, requestToJoinStatus);
     }
     return null;
   }
@@ -264,7 +280,7 @@ public class ChatSpaceMemberMapperImpl extends BaseMapper implements ChatSpaceMe
   @Override
   public JoinStatusInfo toJoinStatusInfo(final ChatSpaceResponse chatSpace, final JoinStatus joinStatus) {
     if (nonNull(chatSpace) && nonNull(joinStatus)) {
-      return JoinStatusInfo.of(joinStatus, translate(joinStatus.getMessageCode()), translate(joinStatus.getMessageCode2()), translate(joinStatus.getMessageCode3()));
+      return localizedInfoRegistry.get(JoinStatusInfo.class, joinStatus);
     }
     return null;
   }
@@ -284,8 +300,7 @@ public class ChatSpaceMemberMapperImpl extends BaseMapper implements ChatSpaceMe
    */
   @Override
   public IsAChatSpaceMemberInfo toIsAChatSpaceMemberInfo(final boolean isAMember) {
-    final IsAChatSpaceMember isAChatSpaceMember = IsAChatSpaceMember.by(isAMember);
-    return IsAChatSpaceMemberInfo.of(isAMember, translate(isAChatSpaceMember.getMessageCode()));
+    return localizedInfoRegistry.get(IsAChatSpaceMemberInfo.class, IsAChatSpaceMember.by(isAMember));
   }
 
   /**
@@ -303,8 +318,7 @@ public class ChatSpaceMemberMapperImpl extends BaseMapper implements ChatSpaceMe
    */
   @Override
   public IsAChatSpaceAdminInfo toIsAChatSpaceAdminInfo(final boolean isAdmin) {
-    final IsAChatSpaceAdmin isAChatSpaceAdmin = IsAChatSpaceAdmin.by(isAdmin);
-    return IsAChatSpaceAdminInfo.of(isAdmin, translate(isAChatSpaceAdmin.getMessageCode()), translate(isAChatSpaceAdmin.getMessageCode2()));
+    return localizedInfoRegistry.get(IsAChatSpaceAdminInfo.class, IsAChatSpaceAdmin.by(isAdmin));
   }
 
   /**
@@ -322,8 +336,7 @@ public class ChatSpaceMemberMapperImpl extends BaseMapper implements ChatSpaceMe
    */
   @Override
   public IsChatSpaceMemberRemovedInfo toIsChatSpaceMemberRemovedInfo(final boolean isRemoved) {
-    final IsChatSpaceMemberRemoved isChatSpaceMemberRemoved = IsChatSpaceMemberRemoved.by(isRemoved);
-    return IsChatSpaceMemberRemovedInfo.of(isRemoved, translate(isChatSpaceMemberRemoved.getMessageCode()));
+    return localizedInfoRegistry.get(IsChatSpaceMemberRemovedInfo.class, IsChatSpaceMemberRemoved.by(isRemoved));
   }
 
   /**
@@ -341,7 +354,6 @@ public class ChatSpaceMemberMapperImpl extends BaseMapper implements ChatSpaceMe
    */
   @Override
   public IsChatSpaceMemberLeftInfo toIsChatSpaceMemberLeftInfo(final boolean hasLeft) {
-    final IsChatSpaceMemberLeft isChatSpaceMemberLeft = IsChatSpaceMemberLeft.by(hasLeft);
-    return IsChatSpaceMemberLeftInfo.of(hasLeft, translate(isChatSpaceMemberLeft.getMessageCode()));
+    return localizedInfoRegistry.get(IsChatSpaceMemberLeftInfo.class, IsChatSpaceMemberLeft.by(hasLeft));
   }
 }
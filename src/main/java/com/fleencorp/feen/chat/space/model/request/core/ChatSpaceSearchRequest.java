@@ -26,6 +26,9 @@ public class ChatSpaceSearchRequest extends SearchRequest {
   @JsonProperty("another_user_id")
   protected Long anotherUserId;
 
+  @JsonProperty("with_total")
+  protected Boolean withTotal;
+
   public ChatSpaceStatus getDefaultActive() {
     return ChatSpaceStatus.ACTIVE;
   }
@@ -37,4 +40,8 @@ public class ChatSpaceSearchRequest extends SearchRequest {
   public Member getAnotherUser() {
     return hasAnotherUser() ? Member.of(anotherUserId) : null;
   }
+
+  public boolean includesTotal(final boolean byDefault) {
+    return nonNull(withTotal) ? withTotal : byDefault;
+  }
 }
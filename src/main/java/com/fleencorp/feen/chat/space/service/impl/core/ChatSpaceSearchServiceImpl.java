@@ -25,6 +25,8 @@ import com.fleencorp.feen.chat.space.service.core.ChatSpaceSearchService;
 import com.fleencorp.feen.chat.space.service.core.ChatSpaceService;
 import com.fleencorp.feen.chat.space.service.member.ChatSpaceMemberOperationsService;
 import com.fleencorp.feen.mapper.common.UnifiedMapper;
+import com.fleencorp.feen.shared.chat.space.contract.IsAChatSpace;
+import com.fleencorp.feen.shared.chat.space.service.ChatSpaceQueryService;
 import com.fleencorp.feen.shared.security.RegisteredUser;
 import com.fleencorp.feen.user.model.domain.Member;
 import com.fleencorp.feen.user.service.member.MemberService;
@@ -34,6 +36,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -55,10 +58,12 @@ import static java.util.Objects.nonNull;
  */
 @Slf4j
 @Service
+@Transactional(readOnly = true)
 public class ChatSpaceSearchServiceImpl implements ChatSpaceSearchService {
 
   private final ChatSpaceMemberOperationsService chatSpaceMemberOperationsService;
   private final ChatSpaceOperationsService chatSpaceOperationsService;
+  private final ChatSpaceQueryService chatSpaceQueryService;
   private final ChatSpaceService chatSpaceService;
   private final ChatSpaceOtherService chatSpaceOtherService;
   private final MemberService memberService;
@@ -69,6 +74,7 @@ public class ChatSpaceSearchServiceImpl implements ChatSpaceSearchService {
   public ChatSpaceSearchServiceImpl(
       final ChatSpaceMemberOperationsService chatSpaceMemberOperationsService,
       final ChatSpaceOperationsService chatSpaceOperationsService,
+      final ChatSpaceQueryService chatSpaceQueryService,
       final ChatSpaceService chatSpaceService,
       final ChatSpaceOtherService chatSpaceOtherService,
       final MemberService memberService,
@@ -77,6 +83,7 @@ public class ChatSpaceSearchServiceImpl implements ChatSpaceSearchService {
       final Localizer localizer) {
     this.chatSpaceMemberOperationsService = chatSpaceMemberOperationsService;
     this.chatSpaceOperationsService = chatSpaceOperationsService;
+    this.chatSpaceQueryService = chatSpaceQueryService;
     this.chatSpaceService = chatSpaceService;
     this.chatSpaceOtherService = chatSpaceOtherService;
     this.memberService = memberService;
@@ -99,19 +106,20 @@ public class ChatSpaceSearchServiceImpl implements ChatSpaceSearchService {
    */
   @Override
   public ChatSpaceSearchResult findSpaces(final ChatSpaceSearchRequest searchRequest, final RegisteredUser user) {
-    final Page<ChatSpace> page;
+    final Page<IsAChatSpace> page;
     final Pageable pageable = searchRequest.getPage();
     final ChatSpaceStatus chatSpaceStatus = searchRequest.getDefaultActive();
     final String title = searchRequest.getTitle();
     final LocalDateTime startDateTime = searchRequest.getStartDateTime();
     final LocalDateTime endDateTime = searchRequest.getEndDateTime();
+    final boolean withTotal = searchRequest.includesTotal(true);
 
     if (searchRequest.areAllDatesSet()) {
-      page = chatSpaceOperationsService.findByDateBetween(startDateTime, endDateTime, chatSpaceStatus, pageable);
+      page = chatSpaceQueryService.findChatSpacesByDateBetween(startDateTime, endDateTime, chatSpaceStatus, pageable, withTotal);
     } else if (nonNull(title)) {
-      page = chatSpaceOperationsService.findByTitle(title, chatSpaceStatus, pageable);
+      page = chatSpaceQueryService.findChatSpacesByTitle(title, chatSpaceStatus, pageable, withTotal);
     } else {
-      page = chatSpaceOperationsService.findMany(chatSpaceStatus, pageable);
+      page = chatSpaceQueryService.findChatSpaces(chatSpaceStatus, pageable, withTotal);
     }
 
     final List<ChatSpaceResponse> chatSpaceResponses = unifiedMapper.toChatSpaceResponses(page.getContent());
@@ -15,6 +15,8 @@ import com.fleencorp.feen.common.exception.FailedOperationException;
 import com.fleencorp.feen.common.service.misc.MiscService;
 import com.fleencorp.feen.shared.member.contract.IsAMember;
 import com.fleencorp.feen.shared.security.RegisteredUser;
+import com.fleencorp.feen.shared.stream.contract.IsAStream;
+import com.fleencorp.feen.shared.stream.service.StreamQueryService;
 import com.fleencorp.feen.stream.constant.core.StreamType;
 import com.fleencorp.feen.stream.mapper.StreamUnifiedMapper;
 import com.fleencorp.feen.stream.model.domain.FleenStream;
@@ -25,6 +27,7 @@ import com.fleencorp.feen.stream.model.response.base.CreateStreamResponse;
 import com.fleencorp.feen.stream.service.common.StreamOperationsService;
 import com.fleencorp.feen.stream.service.event.EventOperationsService;
 import com.fleencorp.localizer.service.Localizer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
@@ -43,6 +46,7 @@ public class ChatSpaceEventServiceImpl implements ChatSpaceEventService {
   private final EventOperationsService eventOperationsService;
   private final MiscService miscService;
   private final StreamOperationsService streamOperationsService;
+  private final StreamQueryService streamQueryService;
   private final StreamUnifiedMapper streamUnifiedMapper;
   private final Localizer localizer;
 
@@ -53,6 +57,7 @@ public class ChatSpaceEventServiceImpl implements ChatSpaceEventService {
       final EventOperationsService eventOperationsService,
       final MiscService miscService,
       final StreamOperationsService streamOperationsService,
+      @Qualifier("sharedStreamQueryService") final StreamQueryService streamQueryService,
       final StreamUnifiedMapper streamUnifiedMapper,
       final Localizer localizer) {
     this.delegatedAuthorityEmail = delegatedAuthorityEmail;
@@ -60,6 +65,7 @@ public class ChatSpaceEventServiceImpl implements ChatSpaceEventService {
     this.chatSpaceOperationsService = chatSpaceOperationsService;
     this.miscService = miscService;
     this.streamOperationsService = streamOperationsService;
+    this.streamQueryService = streamQueryService;
     this.eventOperationsService = eventOperationsService;
     this.streamUnifiedMapper = streamUnifiedMapper;
     this.localizer = localizer;
@@ -69,7 +75,8 @@ public class ChatSpaceEventServiceImpl implements ChatSpaceEventService {
    * Retrieves a paginated list of events (streams) within a specific chat space.
    *
    * <p>This method searches for streams associated with the provided {@code chatSpaceId}
-   * and converts them into {@link StreamResponse} views.</p>
+   * and converts them into {@link StreamResponse} views. The events are read as list projections, so their
+   * attendees are not loaded and their stream link is only decrypted when it is shown.</p>
    *
    * @param chatSpaceId the ID of the chat space to find events for.
    * @param searchRequest the search request containing pagination details.
@@ -79,8 +86,8 @@ public class ChatSpaceEventServiceImpl implements ChatSpaceEventService {
    */
   @Override
   public ChatSpaceEventSearchResult findChatSpaceEvents(final Long chatSpaceId, final SearchRequest searchRequest, final RegisteredUser user) {
-    final Page<FleenStream> page = streamOperationsService.findByChatSpaceId(chatSpaceId, searchRequest.getPage());
-    final List<StreamResponse> streamResponses = streamUnifiedMapper.toStreamResponsesActual(page.getContent());
+    final Page<IsAStream> page = streamQueryService.findStreamsByChatSpace(chatSpaceId, searchRequest.getPage());
+    final List<StreamResponse> streamResponses = streamUnifiedMapper.toStreamResponses(page.getContent());
 
     streamOperationsService.processOtherStreamDetails(streamResponses, user.toMember());
 
@@ -0,0 +1,25 @@
+package com.fleencorp.feen.common.aspect;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Limits how many calls to an external integration run at the same time.
+ *
+ * <p>Placed on a class, it limits every public method of the class. All the classes and methods sharing a name
+ * share the same permits. The number of permits is configured through
+ * {@code concurrency-limit.integrations.<name>.*} properties.</p>
+ */
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface ConcurrencyLimit {
+
+  /**
+   * Name of the limited integration. Permits and property overrides are keyed by this name.
+   */
+  String name();
+}
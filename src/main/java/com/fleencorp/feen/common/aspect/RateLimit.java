@@ -0,0 +1,45 @@
+package com.fleencorp.feen.common.aspect;
+
+import com.fleencorp.feen.common.constant.ratelimit.RateLimitKeyType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Applies a distributed token-bucket rate limit to the annotated endpoint.
+ *
+ * <p>The values declared here are the defaults for the route. They can be overridden per route name
+ * through {@code rate-limit.routes.<name>.*} properties.</p>
+ */
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface RateLimit {
+
+  /**
+   * Name of the limited route. Buckets and property overrides are keyed by this name.
+   */
+  String name();
+
+  /**
+   * Maximum number of tokens the bucket can hold, which is also the allowed burst size.
+   */
+  long capacity();
+
+  /**
+   * Number of tokens added back to the bucket every refill period. Defaults to the capacity.
+   */
+  long refillTokens() default -1;
+
+  /**
+   * Length of the refill period in seconds.
+   */
+  long refillPeriodSeconds() default 60;
+
+  /**
+   * What the bucket is keyed by.
+   */
+  RateLimitKeyType key() default RateLimitKeyType.PRINCIPAL;
+}
@@ -0,0 +1,63 @@
+package com.fleencorp.feen.common.aspect.impl;
+
+import com.fleencorp.feen.common.aspect.ConcurrencyLimit;
+import com.fleencorp.feen.common.configuration.async.ConcurrencyLimiter;
+import com.fleencorp.feen.common.configuration.async.ConcurrencyLimiter.Permit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aspect that holds a permit of the integration declared by {@link ConcurrencyLimit} while the annotated method
+ * or the public methods of the annotated class run.
+ *
+ * <p>On methods that are also {@code @Async} the permit is taken on the thread the method runs on, so callers
+ * never wait for it.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Aspect
+@Component
+public class ConcurrencyLimitAspect {
+
+  private final ConcurrencyLimiter concurrencyLimiter;
+
+  public ConcurrencyLimitAspect(final ConcurrencyLimiter concurrencyLimiter) {
+    this.concurrencyLimiter = concurrencyLimiter;
+  }
+
+  /**
+   * Limits a method annotated with {@link ConcurrencyLimit}.
+   *
+   * @param joinPoint The join point representing the limited method.
+   * @param concurrencyLimit The annotation naming the integration.
+   * @return The result of executing the target method.
+   * @throws Throwable If no permit became free in time or the target method fails.
+   */
+  @Around("@annotation(concurrencyLimit)")
+  public Object limitMethod(final ProceedingJoinPoint joinPoint, final ConcurrencyLimit concurrencyLimit) throws Throwable {
+    return proceedWithPermit(joinPoint, concurrencyLimit);
+  }
+
+  /**
+   * Limits the public methods of a class annotated with {@link ConcurrencyLimit}, unless the method declares a
+   * limit of its own.
+   *
+   * @param joinPoint The join point representing the limited method.
+   * @param concurrencyLimit The annotation naming the integration.
+   * @return The result of executing the target method.
+   * @throws Throwable If no permit became free in time or the target method fails.
+   */
+  @Around("@within(concurrencyLimit) && execution(public * *(..)) && !@annotation(com.fleencorp.feen.common.aspect.ConcurrencyLimit)")
+  public Object limitType(final ProceedingJoinPoint joinPoint, final ConcurrencyLimit concurrencyLimit) throws Throwable {
+    return proceedWithPermit(joinPoint, concurrencyLimit);
+  }
+
+  private Object proceedWithPermit(final ProceedingJoinPoint joinPoint, final ConcurrencyLimit concurrencyLimit) throws Throwable {
+    try (Permit _ = concurrencyLimiter.acquire(concurrencyLimit.name())) {
+      return joinPoint.proceed();
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.fleencorp.feen.common.aspect.impl;
+
+import com.fleencorp.feen.common.aspect.RateLimit;
+import com.fleencorp.feen.common.configuration.ratelimit.RateLimitProperties;
+import com.fleencorp.feen.common.constant.ratelimit.RateLimitKeyType;
+import com.fleencorp.feen.common.exception.RateLimitExceededException;
+import com.fleencorp.feen.common.model.ratelimit.RateLimitDecision;
+import com.fleencorp.feen.common.model.ratelimit.RateLimitPolicy;
+import com.fleencorp.feen.common.service.impl.ratelimit.RateLimiterService;
+import com.fleencorp.feen.shared.security.RegisteredUser;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Aspect that applies the token-bucket rate limit declared by {@link RateLimit} before the annotated
+ * endpoint runs. Rejected requests raise a {@link RateLimitExceededException}, which is translated into a
+ * {@code 429 Too Many Requests} response with a {@code Retry-After} header.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Slf4j
+@Aspect
+@Component
+public class RateLimitAspect {
+
+  private final RateLimiterService rateLimiterService;
+  private final RateLimitProperties properties;
+
+  public RateLimitAspect(
+      final RateLimiterService rateLimiterService,
+      final RateLimitProperties properties) {
+    this.rateLimiterService = rateLimiterService;
+    this.properties = properties;
+  }
+
+  /**
+   * Consumes a token for the current client before executing the target method.
+   *
+   * @param joinPoint The join point representing the rate limited method.
+   * @param rateLimit The annotation describing the default policy of the route.
+   * @return The result of executing the target method if the request is allowed.
+   * @throws Throwable If the rate limit is exceeded or the target method fails.
+   */
+  @Around("@annotation(rateLimit)")
+  public Object applyRateLimit(final ProceedingJoinPoint joinPoint, final RateLimit rateLimit) throws Throwable {
+    if (!properties.isEnabled()) {
+      return joinPoint.proceed();
+    }
+
+    final RateLimitPolicy policy = RateLimitPolicy.of(rateLimit, properties.getRoutes().get(rateLimit.name()));
+    final RateLimitDecision decision = rateLimiterService.tryConsume(policy, resolveIdentifier(policy.keyType()));
+
+    if (!decision.allowed()) {
+      final long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+      throw RateLimitExceededException.of(retryAfterSeconds);
+    }
+
+    return joinPoint.proceed();
+  }
+
+  /**
+   * Resolves the identifier the bucket is keyed by.
+   *
+   * @param keyType what the bucket is keyed by
+   * @return the principal id, the client IP address, or both
+   */
+  private String resolveIdentifier(final RateLimitKeyType keyType) {
+    final String ipAddress = getClientIpAddress();
+    final Long userId = getAuthenticatedUserId();
+
+    return switch (keyType) {
+      case IP -> ipAddress;
+      case PRINCIPAL -> nonNull(userId) ? "user:" + userId : "ip:" + ipAddress;
+      case PRINCIPAL_AND_IP -> (nonNull(userId) ? "user:" + userId : "anonymous") + ":ip:" + ipAddress;
+    };
+  }
+
+  /**
+   * Retrieves the IP address of the client making the request.
+   *
+   * <p>Forwarded headers are resolved by the server before the request reaches the application, so the remote
+   * address is the client named in {@code X-Forwarded-For} when the request came through a trusted proxy, and the
+   * peer address otherwise. A client cannot choose its bucket by sending the header itself.</p>
+   *
+   * @return The IP address of the client.
+   */
+  private String getClientIpAddress() {
+    final HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+    return request.getRemoteAddr();
+  }
+
+  /**
+   * Retrieves the id of the authenticated user, if any.
+   *
+   * @return the id of the authenticated user or {@code null} for anonymous requests
+   */
+  private Long getAuthenticatedUserId() {
+    final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (nonNull(authentication) && authentication.getPrincipal() instanceof final RegisteredUser user) {
+      return user.getId();
+    }
+    return null;
+  }
+}
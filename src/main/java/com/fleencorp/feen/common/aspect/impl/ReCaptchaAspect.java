@@ -1,24 +1,40 @@
 package com.fleencorp.feen.common.aspect.impl;
 
 import com.fleencorp.feen.adapter.google.recaptcha.model.response.ReCaptchaResponse;
+import com.fleencorp.feen.common.configuration.external.google.recaptcha.ReCaptchaProperties;
+import com.fleencorp.feen.common.interceptor.ReCaptchaVerificationInterceptor;
 import com.fleencorp.feen.service.impl.external.recaptcha.ReCaptchaService;
 import com.fleencorp.feen.service.impl.external.recaptcha.impl.ReCaptchaAttemptService;
 import com.fleencorp.feen.user.exception.recaptcha.InvalidReCaptchaException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.fleencorp.feen.common.interceptor.ReCaptchaVerificationInterceptor.RECAPTCHA_HEADER_KEY;
+import static com.fleencorp.feen.common.interceptor.ReCaptchaVerificationInterceptor.RECAPTCHA_VERIFICATION_ATTRIBUTE;
+
 /**
  * The ReCaptchaAspect is used on the application APIs to verify that requests coming to the application are
  * made by a real user or human and not a machine. It also protects the application APIs from unnecessary calls in case
  * of invalid security tokens attached to the requests sent to application, it sets a limit on the number of requests to be
  * made at an instance to the application APIs until after a defined period of time.
  *
+ * <p>The verification is normally started by the {@link ReCaptchaVerificationInterceptor} before the request body is
+ * validated, and this aspect only waits for its verdict. If Google does not answer within the configured wait, the
+ * request is allowed or rejected according to the fail-open policy. Every decision is counted in
+ * {@code recaptcha.verification.decisions}, tagged with its outcome.</p>
+ *
  * @author Yusuf Alamu Musa
  */
 @Slf4j
@@ -26,18 +42,23 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 @Component
 public class ReCaptchaAspect {
 
-  private static final String RECAPTCHA_HEADER_KEY = "Recaptcha-token";
+  private static final String DECISIONS_METRIC = "recaptcha.verification.decisions";
+  private static final String OUTCOME_TAG = "outcome";
+
   private final ReCaptchaService reCaptchaService;
   private final ReCaptchaAttemptService reCaptchaAttemptService;
-  private final String recaptchaScoreThreshold;
+  private final ReCaptchaProperties reCaptchaProperties;
+  private final MeterRegistry meterRegistry;
 
   public ReCaptchaAspect(
       final ReCaptchaService reCaptchaService,
       final ReCaptchaAttemptService reCaptchaAttemptService,
-      @Value("${google.web.recaptcha-score-threshold}") final String recaptchaScoreThreshold) {
+      final ReCaptchaProperties reCaptchaProperties,
+      final MeterRegistry meterRegistry) {
     this.reCaptchaService = reCaptchaService;
     this.reCaptchaAttemptService = reCaptchaAttemptService;
-    this.recaptchaScoreThreshold = recaptchaScoreThreshold;
+    this.reCaptchaProperties = reCaptchaProperties;
+    this.meterRegistry = meterRegistry;
   }
 
   /**
@@ -52,54 +73,74 @@ public class ReCaptchaAspect {
   @Around("@annotation(com.fleencorp.feen.common.aspect.ReCaptcha)")
   public Object verifyReCaptcha(final ProceedingJoinPoint joinPoint) throws Throwable {
     // Check if reCAPTCHA is disabled
-    if (isCaptchaDisabled()) {
+    if (!reCaptchaService.isReCaptchaEnabled()) {
       // If reCAPTCHA is disabled, proceed with executing the target method
       return joinPoint.proceed();
     }
 
+    final HttpServletRequest request = getCurrentRequest();
     // Get the IP address of the client
-    final String ipAddress = getClientIpAddress();
+    final String ipAddress = request.getRemoteAddr();
 
     // Check if the IP address is blocked due to too many failed reCAPTCHA attempts
     checkIfIpAddressBlocked(ipAddress);
 
-    // Extract the reCAPTCHA token from the request
-    final String reCaptchaToken = extractReCaptchaToken();
-
-    // Verify the reCAPTCHA token
-    final ReCaptchaResponse response = verifyReCaptchaToken(reCaptchaToken);
+    // Get the verification started by the interceptor, or start it now
+    final CompletableFuture<ReCaptchaResponse> verification = getOrStartVerification(request);
+
+    final ReCaptchaResponse response;
+    try {
+      // Wait for the verdict within the configured time
+      response = verification.get(reCaptchaProperties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final TimeoutException | ExecutionException ex) {
+      // Google could not be reached in time, apply the failure policy
+      return applyFailurePolicy(joinPoint, ex);
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new InvalidReCaptchaException();
+    }
 
     // If reCAPTCHA verification is successful, proceed with executing the target method
-    if (isReCaptchaValid(response)) {
+    if (reCaptchaService.isReCaptchaValid(response)) {
       // Mark the reCAPTCHA attempt as succeeded for the IP address
       reCaptchaAttemptService.reCaptchaSucceeded(ipAddress);
+      record("allowed");
       // Proceed with executing the target method
       return joinPoint.proceed();
     } else {
       // If reCAPTCHA verification fails, mark the reCAPTCHA attempt as failed for the IP address
       reCaptchaAttemptService.reCaptchaFailed(ipAddress);
+      record("denied");
       // Throw an exception indicating invalid reCAPTCHA
       throw new InvalidReCaptchaException();
     }
   }
 
   /**
-   * Checks if the reCAPTCHA feature is disabled.
+   * Allows or rejects the request when the verdict is unavailable, depending on the fail-open policy.
    *
-   * @return {@code true} if the reCAPTCHA feature is disabled, {@code false} otherwise.
+   * @param joinPoint The join point of the target method.
+   * @param cause The reason the verdict is unavailable.
+   * @return The result of executing the target method if the policy is fail-open.
+   * @throws Throwable If the policy is fail-closed, or the target method fails.
    */
-  private boolean isCaptchaDisabled() {
-    return getReCaptchaScoreThreshold() <= 0;
+  private Object applyFailurePolicy(final ProceedingJoinPoint joinPoint, final Exception cause) throws Throwable {
+    log.warn("ReCaptcha verdict unavailable: {}", cause.getMessage());
+    if (reCaptchaProperties.isFailOpen()) {
+      record("fail-open");
+      return joinPoint.proceed();
+    }
+    record("fail-closed");
+    throw new InvalidReCaptchaException();
   }
 
   /**
-   * Retrieves the IP address of the client making the request.
+   * Retrieves the current HTTP request.
    *
-   * @return The IP address of the client.
+   * @return The request being handled.
    */
-  private String getClientIpAddress() {
-    final var request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-    return request.getRemoteAddr();
+  private HttpServletRequest getCurrentRequest() {
+    return ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
   }
 
   /**
@@ -111,47 +152,29 @@ public class ReCaptchaAspect {
    */
   private void checkIfIpAddressBlocked(final String ipAddress) {
     if (reCaptchaAttemptService.isBlocked(ipAddress)) {
+      record("blocked");
       throw new InvalidReCaptchaException("ReCaptcha attempt failed");
     }
   }
 
   /**
-   * Extracts the reCAPTCHA token from the request header.
+   * Returns the verification started by the interceptor for this request, or starts one using the token in the
+   * request header when the interceptor did not run.
    *
-   * @return The reCAPTCHA token extracted from the request header.
+   * @param request The request being handled.
+   * @return The pending verdict of the reCAPTCHA token.
    */
-  private String extractReCaptchaToken() {
-    final var request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-    return request.getHeader(RECAPTCHA_HEADER_KEY);
-  }
-
-  /**
-   * Verifies the reCAPTCHA token using the reCAPTCHA service.
-   *
-   * @param reCaptchaToken The reCAPTCHA token to verify.
-   * @return The response received from verifying the reCAPTCHA token.
-   */
-  private ReCaptchaResponse verifyReCaptchaToken(final String reCaptchaToken) {
-    return reCaptchaService.verifyReCaptcha(reCaptchaToken);
-  }
-
-  /**
-   * Checks if the reCAPTCHA response is valid based on the configured threshold.
-   *
-   * @param response The reCAPTCHA response to validate.
-   * @return {@code true} if the reCAPTCHA response is valid, {@code false} otherwise.
-   */
-  private boolean isReCaptchaValid(final ReCaptchaResponse response) {
-    return response != null && response.isSuccess() && response.getScore() >= getReCaptchaScoreThreshold();
+  @SuppressWarnings("unchecked")
+  private CompletableFuture<ReCaptchaResponse> getOrStartVerification(final HttpServletRequest request) {
+    final Object verification = request.getAttribute(RECAPTCHA_VERIFICATION_ATTRIBUTE);
+    if (verification instanceof final CompletableFuture<?> future) {
+      return (CompletableFuture<ReCaptchaResponse>) future;
+    }
+    return reCaptchaService.verifyReCaptchaAsync(request.getHeader(RECAPTCHA_HEADER_KEY), request.getRemoteAddr());
   }
 
-  /**
-   * Retrieves the configured reCAPTCHA score threshold from the properties.
-   *
-   * @return The reCAPTCHA score threshold configured in the properties.
-   */
-  private float getReCaptchaScoreThreshold() {
-    return Float.parseFloat(recaptchaScoreThreshold);
+  private void record(final String outcome) {
+    meterRegistry.counter(DECISIONS_METRIC, OUTCOME_TAG, outcome).increment();
   }
 
 }
@@ -2,15 +2,21 @@ package com.fleencorp.feen.common.configuration.async;
 
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import static java.util.Objects.nonNull;
+
 /**
  * Configuration class to enable asynchronous method execution.
  *
@@ -28,10 +34,16 @@ import java.util.concurrent.ThreadPoolExecutor;
 @EnableAsync(proxyTargetClass = true)
 public class AsyncConfig implements AsyncConfigurer {
 
+  private static final long DEFAULT_AWAIT_TERMINATION_MILLIS = 30_000;
+
   private final TaskExecutionProperties taskExecutionProperties;
+  private final Environment environment;
 
-  public AsyncConfig(final TaskExecutionProperties taskExecutionProperties) {
+  public AsyncConfig(
+      final TaskExecutionProperties taskExecutionProperties,
+      final Environment environment) {
     this.taskExecutionProperties = taskExecutionProperties;
+    this.environment = environment;
   }
 
   @Override
@@ -40,36 +52,17 @@ public class AsyncConfig implements AsyncConfigurer {
   }
 
   /**
-   * Configures and provides an {@link Executor} bean named "mailExecutor" for asynchronous processing.
-   *
-   * <p>This method sets up a {@link ThreadPoolTaskExecutor} with specific parameters to manage
-   * background tasks efficiently. The executor is particularly useful for tasks like sending
-   * email verifications, where the main application should not be blocked while waiting
-   * for these tasks to complete.</p>
-   *
-   * <p>Scenario Explanation:</p>
-   * <p>Imagine you are running a bakery and while baking a cake, you also need to send
-   * out invitations for a party. If you, the baker, stop baking every time you send
-   * an invitation, it would slow things down. Instead, you hire a few assistants (workers)
-   * to send out the invitations. Now, you can keep baking cakes while your assistants
-   * handle the invitations.</p>
+   * Configures and provides the {@link Executor} that runs the {@code @Async} methods.
    *
-   * <p>In the same way, this method sets up a team of background workers to handle email
-   * verification tasks, allowing your main program to continue running smoothly without
-   * waiting for each email to be sent.</p>
+   * <p>When {@code spring.threads.virtual.enabled} is set, which also moves the request threads of the servlet
+   * container to virtual threads, every task runs on a virtual thread of its own. A task that blocks on Google,
+   * Slack, SES or Firebase then only parks its virtual thread, and there is no queue that fills up and pushes the
+   * blocking call back onto the caller. How many calls reach an integration at once is bounded by the
+   * {@link ConcurrencyLimiter} instead of by the size of a pool. On shutdown the running tasks are given the
+   * {@code spring.task.execution.shutdown.await-termination-period} to complete.</p>
    *
-   * <p><b>Configuration Details:</b></p>
-   * <ul>
-   * <li><b>Core Pool Size:</b> 2 - Always have at least 2 workers ready to handle tasks.</li>
-   * <li><b>Max Pool Size:</b> 5 - Can scale up to 5 workers if needed.</li>
-   * <li><b>Queue Capacity:</b> 10 - Can hold up to 10 tasks waiting to be handled if all workers are busy.</li>
-   * <li><b>Thread Name Prefix:</b> "Async Executor-" - Each worker thread will have a name starting with this prefix for easier identification.</li>
-   * </ul>
-   *
-   * <p><b>Behavior When Queue is Full:</b></p>
-   * <p>If all workers are busy and the queue of 10 tasks is full, new tasks will not be
-   * accepted until a space is freed up in the queue. This ensures that the system does
-   * not get overwhelmed and maintains a manageable load.</p>
+   * <p>Without virtual threads the tasks run on a {@link ThreadPoolTaskExecutor} sized by
+   * {@code spring.task.execution.pool.*}, which runs a task on the caller once its queue is full.</p>
    *
    * @return the configured {@link Executor} instance for managing asynchronous tasks.
    *
@@ -79,6 +72,13 @@ public class AsyncConfig implements AsyncConfigurer {
   @Override
   @Bean
   public Executor getAsyncExecutor() {
+    if (Threading.VIRTUAL.isActive(environment)) {
+      final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(taskExecutionProperties.getThreadNamePrefix());
+      executor.setVirtualThreads(true);
+      executor.setTaskTerminationTimeout(awaitTerminationMillis());
+      return executor;
+    }
+
     final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
     executor.setCorePoolSize(taskExecutionProperties.getPool().getCoreSize());
     executor.setMaxPoolSize(taskExecutionProperties.getPool().getMaxSize());
@@ -92,4 +92,9 @@ public class AsyncConfig implements AsyncConfigurer {
     return executor;
   }
 
+  private long awaitTerminationMillis() {
+    final Duration awaitTermination = taskExecutionProperties.getShutdown().getAwaitTerminationPeriod();
+    return nonNull(awaitTermination) ? awaitTermination.toMillis() : DEFAULT_AWAIT_TERMINATION_MILLIS;
+  }
+
 }
@@ -0,0 +1,82 @@
+package com.fleencorp.feen.common.configuration.async;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * <p>Configuration properties for the concurrency limits of the external integrations.</p>
+ *
+ * <p>With virtual threads the number of threads no longer bounds how many calls reach an integration at once, so
+ * every integration gets a number of permits instead. A call waits for a permit on its own thread, which costs
+ * nothing on a virtual thread, and fails once it has waited longer than the acquire timeout.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+  /**
+   * Whether the limits are applied at all.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Number of calls an integration without its own limit may run at the same time.
+   */
+  private int maxConcurrent = 20;
+
+  /**
+   * How long a call waits for a permit before it fails.
+   */
+  private Duration acquireTimeout = Duration.ofSeconds(30);
+
+  /**
+   * Per-integration overrides keyed by the name declared on the annotation.
+   */
+  private Map<String, Integration> integrations = new HashMap<>();
+
+  /**
+   * Returns the number of calls the integration may run at the same time.
+   *
+   * @param name the name of the integration
+   * @return the configured limit of the integration, or the default limit
+   */
+  public int maxConcurrentOf(final String name) {
+    final Integration integration = integrations.get(name);
+    return nonNull(integration) && nonNull(integration.getMaxConcurrent()) ? integration.getMaxConcurrent() : maxConcurrent;
+  }
+
+  /**
+   * Returns how long a call to the integration waits for a permit.
+   *
+   * @param name the name of the integration
+   * @return the configured timeout of the integration, or the default timeout
+   */
+  public Duration acquireTimeoutOf(final String name) {
+    final Integration integration = integrations.get(name);
+    return nonNull(integration) && nonNull(integration.getAcquireTimeout()) ? integration.getAcquireTimeout() : acquireTimeout;
+  }
+
+  /**
+   * Configured override for a single integration. Any value left unset falls back to the default.
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  public static class Integration {
+
+    private Integer maxConcurrent;
+    private Duration acquireTimeout;
+  }
+}
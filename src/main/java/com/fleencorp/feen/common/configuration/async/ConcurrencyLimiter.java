@@ -0,0 +1,101 @@
+package com.fleencorp.feen.common.configuration.async;
+
+import com.fleencorp.feen.common.exception.FailedOperationException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConcurrencyLimiter hands out the permits that bound how many calls run against each external integration.
+ *
+ * <p>Every integration has a fair {@link Semaphore} created on first use with the limit of
+ * {@link ConcurrencyLimitProperties}. A thread that already holds a permit of an integration is not asked for
+ * another one, so a limited service calling another service of the same integration cannot deadlock once every
+ * permit is taken by callers waiting on themselves.</p>
+ *
+ * <p>The permits in use and the callers waiting for one are published as the
+ * {@code integration.concurrency.in-use} and {@code integration.concurrency.waiting} gauges.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimiter {
+
+  private static final Permit NO_PERMIT = () -> {};
+
+  private final ConcurrencyLimitProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+  private final ThreadLocal<Set<String>> heldPermits = ThreadLocal.withInitial(HashSet::new);
+
+  public ConcurrencyLimiter(
+      final ConcurrencyLimitProperties properties,
+      final MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Waits for a permit of the integration, for at most its acquire timeout.
+   *
+   * @param name the name of the integration
+   * @return the permit, to be closed once the call is done
+   * @throws FailedOperationException if no permit became free in time or the thread was interrupted while waiting
+   */
+  public Permit acquire(final String name) {
+    final Set<String> held = heldPermits.get();
+    if (!properties.isEnabled() || held.contains(name)) {
+      return NO_PERMIT;
+    }
+
+    final Semaphore semaphore = semaphores.computeIfAbsent(name, this::createSemaphore);
+    try {
+      if (!semaphore.tryAcquire(properties.acquireTimeoutOf(name).toMillis(), TimeUnit.MILLISECONDS)) {
+        log.warn("No permit of {} became free within {}", name, properties.acquireTimeoutOf(name));
+        throw FailedOperationException.of();
+      }
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw FailedOperationException.of();
+    }
+
+    held.add(name);
+    return () -> {
+      held.remove(name);
+      semaphore.release();
+    };
+  }
+
+  private Semaphore createSemaphore(final String name) {
+    final int maxConcurrent = properties.maxConcurrentOf(name);
+    final Semaphore semaphore = new Semaphore(maxConcurrent, true);
+
+    Gauge.builder("integration.concurrency.in-use", semaphore, s -> maxConcurrent - s.availablePermits())
+      .tag("integration", name)
+      .register(meterRegistry);
+    Gauge.builder("integration.concurrency.waiting", semaphore, Semaphore::getQueueLength)
+      .tag("integration", name)
+      .register(meterRegistry);
+    return semaphore;
+  }
+
+  /**
+   * A permit of an integration, released when closed.
+   */
+  @FunctionalInterface
+  public interface Permit extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+}
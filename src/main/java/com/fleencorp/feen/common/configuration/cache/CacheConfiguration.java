@@ -3,7 +3,15 @@ package com.fleencorp.feen.common.configuration.cache;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fleencorp.feen.common.event.subscriber.StreamEventSubscriber;
+import com.fleencorp.feen.common.service.impl.cache.CacheLoadCoordinator;
+import com.fleencorp.feen.common.service.impl.cache.LocalCacheRegistry;
+import com.fleencorp.feen.common.service.impl.cache.TieredCacheManager;
+import com.fleencorp.feen.common.service.impl.cache.TieredCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -19,36 +27,41 @@ import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
-import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import java.time.Duration;
-
 /**
  * Configuration class for setting up Redis cache-related beans.
 
  * This class configures the Redis connection, cache manager, and serializers.
  * It uses {@link CacheProperties} for Redis connection details and {@link ObjectMapper} for JSON serialization.
  *
+ * <p>Spring caches are served by a {@link TieredCacheManager}, which keeps an on-heap tier in front of Redis
+ * and invalidates it across nodes over the channel configured in {@link TieredCacheProperties}.</p>
+ *
  * @author Yusuf Alamu Musa
  * @version 1.0
  */
 @Slf4j
 @Configuration
-public class CacheConfiguration {
+@EnableCaching
+public class CacheConfiguration implements CachingConfigurer {
 
   private final CacheProperties credentials;
+  private final TieredCacheProperties tieredCacheProperties;
   private final ObjectMapper mapper;
 
   /**
    * Constructs a {@link CacheConfiguration} with the specified {@link CacheProperties} and {@link ObjectMapper}.
    *
-   * @param credentials the cache properties containing Redis connection details, such as host, port, and credentials.
-   * @param mapper      the {@link ObjectMapper} used for JSON serialization and deserialization.
+   * @param credentials           the cache properties containing Redis connection details, such as host, port, and credentials.
+   * @param tieredCacheProperties the policies of the on-heap cache tier.
+   * @param mapper                the {@link ObjectMapper} used for JSON serialization and deserialization.
    */
   public CacheConfiguration(final CacheProperties credentials,
+                            final TieredCacheProperties tieredCacheProperties,
                             final ObjectMapper mapper) {
     this.credentials = credentials;
+    this.tieredCacheProperties = tieredCacheProperties;
     this.mapper = mapper;
   }
 
@@ -76,24 +89,27 @@ public class CacheConfiguration {
   /**
    * Creates a {@link RedisCacheConfiguration} bean for configuring Redis cache settings.
    *
-   * <p>This method sets up the cache configuration with specific settings such as entry time-to-live (TTL),
-   * disabling caching of null values, using cache name prefixes, and adding a specific prefix to cache names.</p>
+   * <p>This is the configuration of caches without a declared policy. It applies the entry time-to-live (TTL),
+   * null value handling, value serializer and cache name prefix of the default policy.</p>
    *
+   * @param cachePolicyRegistry the registry building cache configurations from their policies
    * @return a configured {@link RedisCacheConfiguration} instance
    * @see <a href="https://velog.io/@dev_hammy/GuideMessaging-with-Redis">
    *   Guide_Messaging with Redis</a>
    */
   @Bean
-  public RedisCacheConfiguration redisCacheConfiguration() {
-    final RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig();
-    configuration.entryTtl(Duration.ofMinutes(credentials.getTtl()));
-    configuration.disableCachingNullValues();
-    configuration.usePrefix();
-    configuration.prefixCacheNameWith(credentials.getPrefix());
-    configuration.serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(stringSerializer()));
-    configuration.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(stringSerializer()));
-
-    return configuration;
+  public RedisCacheConfiguration redisCacheConfiguration(final CachePolicyRegistry cachePolicyRegistry) {
+    return cachePolicyRegistry.getDefaultConfiguration();
+  }
+
+  /**
+   * Creates the {@link CachePolicyRegistry} holding the TTL, serializer and null handling of every cache.
+   *
+   * @return a configured {@link CachePolicyRegistry} instance
+   */
+  @Bean
+  public CachePolicyRegistry cachePolicyRegistry() {
+    return new CachePolicyRegistry(tieredCacheProperties, credentials.getPrefix(), mapper);
   }
 
   /**
@@ -141,20 +157,26 @@ public class CacheConfiguration {
    * <p>This method sets up a Redis template with specific serializers for keys, values, and hash values.
    * It also configures the connection pool using the provided {@link JedisConnectionFactory}.</p>
    *
+   * <p>Plain values stay JSON because they are mostly strings such as tokens, shared with nodes that may not
+   * have been upgraded yet. Hash values use the compact codec of the default cache policy.</p>
+   *
    * @param connectionFactory the {@link JedisConnectionFactory} used to establish the Redis connection
+   * @param cachePolicyRegistry the registry providing the serializer of the default cache policy
    * @return a configured {@link RedisTemplate} instance
    * @see <a href="https://brunch.co.kr/@springboot/695">
    *   Spring WebSocket & Stomp</a>
    */
   @Bean
   @Primary
-  public RedisTemplate<String, Object> redisTemplate(final JedisConnectionFactory connectionFactory) {
+  public RedisTemplate<String, Object> redisTemplate(
+      final JedisConnectionFactory connectionFactory,
+      final CachePolicyRegistry cachePolicyRegistry) {
     final RedisTemplate<String, Object> template = new RedisTemplate<>();
     configurePool(connectionFactory);
     template.setConnectionFactory(connectionFactory);
     template.setKeySerializer(stringSerializer());
     template.setValueSerializer(jackson2JsonSerializer());
-    template.setHashValueSerializer(jdkSerializer());
+    template.setHashValueSerializer(cachePolicyRegistry.getValueSerializer(tieredCacheProperties.getDefaults()));
 
     return template;
   }
@@ -178,22 +200,62 @@ public class CacheConfiguration {
   /**
    * Creates a {@link RedisCacheManager} bean for managing Redis caches.
    *
-   * <p>This method sets up a RedisCacheManager with the default cache configuration and
-   * transaction awareness. It uses the connection factory to establish the Redis connection.</p>
+   * <p>This method sets up a RedisCacheManager with the default cache configuration, the configuration of
+   * every cache that declares its own policy, and transaction awareness. It uses the connection factory to
+   * establish the Redis connection.</p>
    *
+   * @param cachePolicyRegistry the registry building cache configurations from their policies
    * @return a configured {@link RedisCacheManager} instance
    * @see <a href="https://velog.io/@ktf1686/Spring-Redis-PUBSUB-WebSocket%EC%9D%84-%EC%9D%B4%EC%9A%A9%ED%95%9C-%EC%B1%84%ED%8C%85-%EC%84%9C%EB%B2%84-%EA%B5%AC%ED%98%84%ED%95%98%EA%B8%B0">
    *   [Spring] Implementing a chat server using Redis PUB/SUB + WebSocket - Simple</a>
    */
   @Bean
-  public RedisCacheManager cacheManager() {
+  public RedisCacheManager redisCacheManager(final CachePolicyRegistry cachePolicyRegistry) {
     return RedisCacheManager
             .builder(connectionFactory())
-            .cacheDefaults(redisCacheConfiguration())
+            .cacheDefaults(cachePolicyRegistry.getDefaultConfiguration())
+            .withInitialCacheConfigurations(cachePolicyRegistry.getInitialConfigurations())
             .transactionAware()
             .build();
   }
 
+  /**
+   * Creates the primary {@link CacheManager} used by {@code @Cacheable} and related annotations.
+   *
+   * <p>Every cache it returns reads from a size- and TTL-bounded on-heap tier before going to the
+   * {@link RedisCacheManager}, so near-static data such as the available link types and the {@code data-required-to-*}
+   * results are served without a Redis round trip on most requests. Misses of {@code @Cacheable(sync = true)}
+   * methods are recomputed once per key through the {@link CacheLoadCoordinator}.</p>
+   *
+   * @param redisCacheManager the cache manager providing the Redis tier
+   * @param localCacheRegistry the registry providing the on-heap tier
+   * @param cacheLoadCoordinator the coordinator recomputing missing and expiring entries
+   * @param tieredCacheMetrics the per-tier cache metrics
+   * @return a configured {@link TieredCacheManager} instance
+   */
+  @Bean
+  @Primary
+  public CacheManager cacheManager(
+      final RedisCacheManager redisCacheManager,
+      final LocalCacheRegistry localCacheRegistry,
+      final CacheLoadCoordinator cacheLoadCoordinator,
+      final TieredCacheMetrics tieredCacheMetrics) {
+    return new TieredCacheManager(redisCacheManager, localCacheRegistry, cacheLoadCoordinator, tieredCacheMetrics);
+  }
+
+  /**
+   * Provides the default {@link KeyGenerator} for cached methods.
+   *
+   * <p>Cached results are mostly localized responses, so keys include the locale of the request.</p>
+   *
+   * @return a {@link LocaleAwareKeyGenerator} instance
+   */
+  @Override
+  @Bean
+  public KeyGenerator keyGenerator() {
+    return new LocaleAwareKeyGenerator();
+  }
+
   /**
    * Creates a {@link RedisMessageListenerContainer} bean for managing Redis message listeners.
    *
@@ -201,18 +263,25 @@ public class CacheConfiguration {
    * message listener adapter. It configures the container to listen to messages on the provided
    * channel topic.</p>
    *
+   * <p>The {@link LocalCacheRegistry} is also registered on the cache invalidation channel so that entries
+   * changed on other nodes are dropped from the local cache tier.</p>
+   *
    * @param connectionFactory the connection factory for establishing the Redis connection
    * @param messageListenerAdapter the message listener adapter for handling incoming messages
+   * @param localCacheRegistry the registry dropping local cache entries changed on other nodes
    * @return a configured {@link RedisMessageListenerContainer} instance
    * @see <a href="https://velog.io/@wwlee94/Redis-PubSub-Base-Server-Sent-Event">
    *   Redis Pub/Sub based SSE (Server-Sent Events) real-time notification application</a>
    */
   @Bean
   public RedisMessageListenerContainer redisMessageListenerContainer(
-      final RedisConnectionFactory connectionFactory, final MessageListenerAdapter messageListenerAdapter) {
+      final RedisConnectionFactory connectionFactory,
+      final MessageListenerAdapter messageListenerAdapter,
+      final LocalCacheRegistry localCacheRegistry) {
     final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
     container.setConnectionFactory(connectionFactory);
     container.addMessageListener(messageListenerAdapter, channelTopic());
+    container.addMessageListener(localCacheRegistry, ChannelTopic.of(tieredCacheProperties.getInvalidationChannel()));
     return container;
   }
 
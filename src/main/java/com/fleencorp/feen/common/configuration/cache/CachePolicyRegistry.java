@@ -0,0 +1,123 @@
+package com.fleencorp.feen.common.configuration.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleencorp.feen.common.configuration.cache.TieredCacheProperties.CachePolicy;
+import com.fleencorp.feen.common.constant.cache.CacheValueSerializer;
+import com.fleencorp.feen.common.service.impl.cache.codec.CacheCodec;
+import com.fleencorp.feen.common.service.impl.cache.codec.EnvelopeRedisSerializer;
+import com.fleencorp.feen.common.service.impl.cache.codec.JacksonCacheCodec;
+import com.fleencorp.feen.common.service.impl.cache.codec.JdkCacheCodec;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * CachePolicyRegistry turns the declarative cache policies of {@link TieredCacheProperties} into the
+ * {@link RedisCacheConfiguration} of each cache.
+ *
+ * <p>{@link RedisCacheConfiguration} is immutable: every setter returns a new copy. The configurations built
+ * here chain those copies, so the TTL, key prefix, serializers and {@code null} handling of each policy
+ * actually reach Redis.</p>
+ *
+ * <p>Values are written by the codec the policy names, inside the versioned envelope of
+ * {@link EnvelopeRedisSerializer}, and compressed once they reach the policy's compression threshold.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class CachePolicyRegistry {
+
+  private final TieredCacheProperties properties;
+  private final String prefix;
+  private final Map<Byte, CacheCodec> codecs;
+  private final CacheCodec jsonCodec;
+  private final CacheCodec jdkCodec;
+
+  /**
+   * Constructs a new CachePolicyRegistry.
+   *
+   * @param properties the declared cache policies
+   * @param prefix the prefix placed before every cache name in Redis keys, may be blank
+   * @param mapper the application {@link ObjectMapper}, copied for Smile and JSON values
+   */
+  public CachePolicyRegistry(
+      final TieredCacheProperties properties,
+      final String prefix,
+      final ObjectMapper mapper) {
+    this.properties = properties;
+    this.prefix = prefix;
+    this.jsonCodec = JacksonCacheCodec.json(mapper);
+    this.jdkCodec = new JdkCacheCodec();
+    this.codecs = createCodecs(JacksonCacheCodec.smile(mapper), jsonCodec, jdkCodec);
+  }
+
+  /**
+   * Returns the configuration applied to caches without a declared policy.
+   *
+   * @return the default Redis cache configuration
+   */
+  public RedisCacheConfiguration getDefaultConfiguration() {
+    return toRedisCacheConfiguration(properties.getDefaults());
+  }
+
+  /**
+   * Returns the configuration of every cache that declares its own policy, keyed by cache name.
+   *
+   * @return the Redis cache configurations to register up front
+   */
+  public Map<String, RedisCacheConfiguration> getInitialConfigurations() {
+    final Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+    properties.getCaches().keySet()
+      .forEach(cacheName -> configurations.put(cacheName, toRedisCacheConfiguration(properties.getPolicy(cacheName))));
+    return configurations;
+  }
+
+  /**
+   * Builds the Redis cache configuration of a single policy.
+   *
+   * @param policy the complete policy of a cache
+   * @return the Redis cache configuration enforcing the policy
+   */
+  public RedisCacheConfiguration toRedisCacheConfiguration(final CachePolicy policy) {
+    RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+      .entryTtl(policy.getTtl())
+      .serializeKeysWith(SerializationPair.fromSerializer(new StringRedisSerializer()))
+      .serializeValuesWith(SerializationPair.fromSerializer(getValueSerializer(policy)));
+
+    if (hasText(prefix)) {
+      configuration = configuration.prefixCacheNameWith(prefix);
+    }
+    if (!policy.allowsNullValues()) {
+      configuration = configuration.disableCachingNullValues();
+    }
+    return configuration;
+  }
+
+  /**
+   * Builds the serializer writing the values of a policy.
+   *
+   * @param policy the complete policy of a cache
+   * @return a plain string serializer for {@link CacheValueSerializer#STRING}, otherwise an envelope serializer
+   */
+  public RedisSerializer<?> getValueSerializer(final CachePolicy policy) {
+    if (policy.getSerializer() == CacheValueSerializer.STRING) {
+      return new StringRedisSerializer();
+    }
+
+    final CacheCodec codec = codecs.get(policy.getSerializer().getCodecId());
+    return new EnvelopeRedisSerializer(codec, codecs, jsonCodec, jdkCodec, policy.getCompressionThreshold());
+  }
+
+  private static Map<Byte, CacheCodec> createCodecs(final CacheCodec... codecs) {
+    final Map<Byte, CacheCodec> codecsById = new HashMap<>();
+    Stream.of(codecs).forEach(codec -> codecsById.put(codec.getType().getCodecId(), codec));
+    return codecsById;
+  }
+}
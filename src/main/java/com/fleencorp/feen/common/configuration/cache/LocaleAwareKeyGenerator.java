@@ -0,0 +1,24 @@
+package com.fleencorp.feen.common.configuration.cache;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.lang.reflect.Method;
+
+/**
+ * A {@link KeyGenerator} that prefixes the default key with the language tag of the current request.
+ *
+ * <p>Most {@code @Cacheable} results in this application are localized responses, so the same method
+ * called with the same arguments must still produce a separate entry per locale.</p>
+ */
+public class LocaleAwareKeyGenerator implements KeyGenerator {
+
+  private static final String SEPARATOR = ":";
+
+  @Override
+  public Object generate(final Object target, final Method method, final Object... params) {
+    final String locale = LocaleContextHolder.getLocale().toLanguageTag();
+    return locale + SEPARATOR + SimpleKeyGenerator.generateKey(params);
+  }
+}
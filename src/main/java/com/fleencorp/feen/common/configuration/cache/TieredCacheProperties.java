@@ -0,0 +1,172 @@
+package com.fleencorp.feen.common.configuration.cache;
+
+import com.fleencorp.feen.common.constant.cache.CacheValueSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * <p>Configuration properties for the two-tier cache and the policy of every cache it holds.</p>
+ *
+ * <p>Each cache name can declare its own policy under {@code cache.tiered.caches[<name>]}. Any setting a
+ * cache leaves out is taken from {@code cache.tiered.defaults}.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "cache.tiered")
+public class TieredCacheProperties {
+
+  /**
+   * Redis pub/sub channel on which nodes announce changed entries so others drop their local copy.
+   */
+  private String invalidationChannel = "cache-invalidation";
+
+  /**
+   * Policy used for any setting a cache does not declare itself.
+   */
+  private CachePolicy defaults = new CachePolicy(Duration.ofHours(1), 1_000L, Duration.ofMinutes(5), CacheValueSerializer.SMILE, 1_024, false, Duration.ZERO, false);
+
+  /**
+   * How long a node may hold the lock taken to recompute an entry of a cache that uses a distributed lock.
+   */
+  private Duration loadLockLease = Duration.ofSeconds(30);
+
+  /**
+   * How long a node waits for another node to finish recomputing an entry before recomputing it itself.
+   */
+  private Duration loadLockWait = Duration.ofSeconds(5);
+
+  /**
+   * Number of threads that refresh entries in the background before they expire.
+   */
+  private int refreshThreads = 2;
+
+  /**
+   * Maximum number of background refreshes waiting for a free thread. Further refreshes are skipped.
+   */
+  private int refreshQueueCapacity = 100;
+
+  /**
+   * Policies keyed by cache name.
+   */
+  private Map<String, CachePolicy> caches = new HashMap<>();
+
+  /**
+   * Returns the policy of the given cache, with every missing setting taken from the defaults.
+   *
+   * @param cacheName the name of the cache
+   * @return the complete policy of the cache
+   */
+  public CachePolicy getPolicy(final String cacheName) {
+    final CachePolicy policy = caches.get(cacheName);
+    if (isNull(policy)) {
+      return defaults;
+    }
+
+    return new CachePolicy(
+      nonNull(policy.getTtl()) ? policy.getTtl() : defaults.getTtl(),
+      nonNull(policy.getLocalMaxEntries()) ? policy.getLocalMaxEntries() : defaults.getLocalMaxEntries(),
+      nonNull(policy.getLocalTtl()) ? policy.getLocalTtl() : defaults.getLocalTtl(),
+      nonNull(policy.getSerializer()) ? policy.getSerializer() : defaults.getSerializer(),
+      nonNull(policy.getCompressionThreshold()) ? policy.getCompressionThreshold() : defaults.getCompressionThreshold(),
+      nonNull(policy.getCacheNullValues()) ? policy.getCacheNullValues() : defaults.getCacheNullValues(),
+      nonNull(policy.getRefreshAhead()) ? policy.getRefreshAhead() : defaults.getRefreshAhead(),
+      nonNull(policy.getDistributedLock()) ? policy.getDistributedLock() : defaults.getDistributedLock()
+    );
+  }
+
+  /**
+   * Settings of a single cache across both tiers.
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class CachePolicy {
+
+    /**
+     * How long an entry is kept in Redis after it was written.
+     */
+    private Duration ttl;
+
+    /**
+     * Maximum number of entries kept on the heap.
+     */
+    private Long localMaxEntries;
+
+    /**
+     * How long an entry is kept on the heap after it was written.
+     */
+    private Duration localTtl;
+
+    /**
+     * How values are written to Redis.
+     */
+    private CacheValueSerializer serializer;
+
+    /**
+     * Encoded size in bytes from which values are compressed with LZ4, or zero to never compress.
+     */
+    private Integer compressionThreshold;
+
+    /**
+     * Whether {@code null} results are cached.
+     */
+    private Boolean cacheNullValues;
+
+    /**
+     * How long before an entry expires in Redis it is recomputed in the background, or zero to never refresh
+     * ahead. The current value keeps being served while it is recomputed.
+     */
+    private Duration refreshAhead;
+
+    /**
+     * Whether a Redis lock ensures only one node recomputes a missing entry at a time. Meant for loaders that
+     * are expensive enough that one recomputation per node is already too many.
+     */
+    private Boolean distributedLock;
+
+    /**
+     * Whether {@code null} results are cached, treating an unset value as {@code false}.
+     *
+     * @return {@code true} if {@code null} results are cached
+     */
+    public boolean allowsNullValues() {
+      return Boolean.TRUE.equals(cacheNullValues);
+    }
+
+    /**
+     * Returns how long after being written an entry should be refreshed in the background.
+     *
+     * @return the age at which the entry is refreshed, or {@link Duration#ZERO} if refresh-ahead is disabled
+     */
+    public Duration refreshAfter() {
+      if (isNull(ttl) || isNull(refreshAhead) || refreshAhead.isZero() || refreshAhead.isNegative()) {
+        return Duration.ZERO;
+      }
+      final Duration refreshAfter = ttl.minus(refreshAhead);
+      return refreshAfter.isNegative() ? Duration.ZERO : refreshAfter;
+    }
+
+    /**
+     * Whether missing entries are recomputed under a distributed lock, treating an unset value as {@code false}.
+     *
+     * @return {@code true} if a distributed lock is used
+     */
+    public boolean usesDistributedLock() {
+      return Boolean.TRUE.equals(distributedLock);
+    }
+  }
+}
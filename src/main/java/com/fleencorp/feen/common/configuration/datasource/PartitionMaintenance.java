@@ -0,0 +1,101 @@
+package com.fleencorp.feen.common.configuration.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * PartitionMaintenance keeps the tables partitioned by month ready for the rows to come and trims the months past
+ * their retention.
+ *
+ * <p>On a background thread it asks the database to create the partitions of the coming months, moving any rows
+ * that reached the default partition into them, and to detach the partitions older than the retention of each
+ * table into the archive schema. Both are done by the functions the partition changelog installs, which take an
+ * advisory lock per table, so every instance of the application can run the maintenance safely.</p>
+ *
+ * <p>The number of partitions created and detached is counted under {@code datasource.partition.created} and
+ * {@code datasource.partition.detached}.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "datasource.partition", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PartitionMaintenance implements DisposableBean {
+
+  private static final String CREATE_PARTITIONS = "SELECT create_monthly_partitions(?, CURRENT_DATE, ?)";
+  private static final String DETACH_PARTITIONS = "SELECT detach_partitions_older_than(?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PartitionMaintenanceProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final ScheduledExecutorService maintainer;
+
+  public PartitionMaintenance(
+      final JdbcTemplate jdbcTemplate,
+      final PartitionMaintenanceProperties properties,
+      final MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.maintainer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("partition-maintenance-"));
+  }
+
+  /**
+   * Starts the maintenance once the application is ready, which is after Liquibase has installed the functions.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    final long interval = properties.getInterval().toMillis();
+    maintainer.scheduleWithFixedDelay(this::maintain, 0, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Creates the coming partitions and detaches the expired ones of every configured table.
+   */
+  void maintain() {
+    properties.getTables().forEach((tableName, table) -> {
+      try {
+        final Integer created = jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class, tableName, properties.getMonthsAhead());
+        count("created", tableName, created);
+
+        if (table.getRetentionMonths() > 0) {
+          final Integer detached = jdbcTemplate.queryForObject(DETACH_PARTITIONS, Integer.class,
+            tableName, table.getRetentionMonths(), properties.getArchiveSchema());
+          count("detached", tableName, detached);
+        }
+      } catch (final Exception ex) {
+        log.warn("Unable to maintain the partitions of {}: {}", tableName, ex.getMessage());
+      }
+    });
+  }
+
+  private void count(final String action, final String tableName, final Integer partitions) {
+    if (nonNull(partitions) && partitions > 0) {
+      log.info("Partition maintenance {} {} partition(s) of {}", action, partitions, tableName);
+      Counter.builder("datasource.partition." + action)
+        .tag("table", tableName)
+        .register(meterRegistry)
+        .increment(partitions);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    maintainer.shutdownNow();
+  }
+}
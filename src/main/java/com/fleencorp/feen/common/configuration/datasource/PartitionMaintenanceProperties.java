@@ -0,0 +1,88 @@
+package com.fleencorp.feen.common.configuration.datasource;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * <p>Configuration properties for the tables partitioned by the month of their {@code created_on} column.</p>
+ *
+ * <p>Partitions are created a few months ahead so rows never land in the default partition, and the partitions of
+ * the months past the retention of a table are detached into the archive schema, where they can be exported or
+ * dropped without touching the live table.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "datasource.partition")
+public class PartitionMaintenanceProperties {
+
+  /**
+   * Whether the partitions are created and detached by the application.
+   */
+  private boolean enabled = true;
+
+  /**
+   * How often the partitions are checked.
+   */
+  private Duration interval = Duration.ofHours(6);
+
+  /**
+   * Number of months after the current one that always have a partition.
+   */
+  private int monthsAhead = 3;
+
+  /**
+   * Schema the detached partitions are moved to.
+   */
+  private String archiveSchema = "archive";
+
+  /**
+   * The partitioned tables, keyed by table name.
+   */
+  private Map<String, Table> tables = new LinkedHashMap<>();
+
+  /**
+   * Returns the start of the oldest month of a table that is still attached, so queries can skip the partitions
+   * that are about to be detached. A table without a retention keeps every month.
+   *
+   * @param tableName the name of the partitioned table
+   * @return the first instant of the oldest retained month, or the epoch if nothing is detached
+   */
+  public LocalDateTime retainedSince(final String tableName) {
+    final Table table = tables.get(tableName);
+    if (isNull(table) || table.getRetentionMonths() <= 0) {
+      return LocalDate.EPOCH.atStartOfDay();
+    }
+    return LocalDate.now()
+      .withDayOfMonth(1)
+      .minusMonths(table.getRetentionMonths())
+      .atStartOfDay();
+  }
+
+  /**
+   * Settings of a single partitioned table.
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  public static class Table {
+
+    /**
+     * Number of months before the current one that stay attached. Older months are detached into the archive
+     * schema. {@code 0} keeps every month attached.
+     */
+    private int retentionMonths;
+  }
+}
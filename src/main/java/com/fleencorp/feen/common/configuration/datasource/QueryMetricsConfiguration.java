@@ -0,0 +1,52 @@
+package com.fleencorp.feen.common.configuration.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Instruments the application data source with datasource-proxy so every statement is measured by the
+ * {@link QueryMetricsListener}.
+ *
+ * <p>Only the {@code dataSource} bean is wrapped, which is the one Hibernate, the {@code JdbcTemplate}s and
+ * Liquibase use. When read replicas are enabled that bean already routes between the primary and the replicas,
+ * so the statements of both are measured, while the pools behind it keep their concrete types.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.query-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMetricsConfiguration {
+
+  private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+  @Bean
+  public static BeanPostProcessor queryMetricsDataSourcePostProcessor(
+      final ObjectProvider<MeterRegistry> meterRegistry,
+      final ObjectProvider<QueryMetricsProperties> properties) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!DATA_SOURCE_BEAN_NAME.equals(beanName) || !(bean instanceof final DataSource dataSource) || bean instanceof ProxyDataSource) {
+          return bean;
+        }
+
+        final QueryMetricsListener listener = new QueryMetricsListener(meterRegistry.getObject(), properties.getObject());
+        return ProxyDataSourceBuilder.create(dataSource)
+          .name(DATA_SOURCE_BEAN_NAME)
+          .listener(listener)
+          .methodListener(listener)
+          .proxyResultSet()
+          .build();
+      }
+    };
+  }
+}
@@ -0,0 +1,245 @@
+package com.fleencorp.feen.common.configuration.datasource;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * QueryMetricsListener records the latency and row count of every statement run through the application data
+ * source, grouped by the {@link SqlFingerprint} of the statement, and logs a sample of the slow ones.
+ *
+ * <p>The following meters are published, tagged with the fingerprint id and the statement type:</p>
+ * <ul>
+ *   <li>{@code jdbc.query}: a timer with a percentile histogram, also tagged with the outcome;</li>
+ *   <li>{@code jdbc.query.rows}: the rows read by a query or changed by an update;</li>
+ *   <li>{@code jdbc.query.slow}: the statements that ran longer than the slow-query threshold.</li>
+ * </ul>
+ *
+ * <p>The normalized SQL of a fingerprint is logged once when it is first seen, so dashboards can map the id back
+ * to the query. The slow-query log only holds normalized SQL and never bind values.</p>
+ *
+ * <p>Rows read by a query are counted as its result set is iterated and recorded when the result set is closed.
+ * The statement that produced a result set is remembered until it is garbage collected, so the count can be
+ * attributed to the right fingerprint.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Slf4j
+public class QueryMetricsListener implements QueryExecutionListener, MethodExecutionListener {
+
+  private static final String OTHER = "other";
+  private static final long MAX_CACHED_STATEMENTS = 5_000;
+
+  private final MeterRegistry meterRegistry;
+  private final long slowQueryThresholdMillis;
+  private final double slowQuerySampleRate;
+  private final int maxFingerprints;
+
+  private final Cache<String, SqlFingerprint> fingerprints;
+  private final Map<String, QueryMeters> meters = new ConcurrentHashMap<>();
+  private final Cache<Statement, QueryMeters> statementMeters;
+  private final Cache<ResultSet, AtomicLong> rowsRead;
+
+  /**
+   * Constructs a new QueryMetricsListener.
+   *
+   * @param meterRegistry the registry the query metrics are published to
+   * @param properties the slow-query threshold, sample rate and fingerprint limit
+   */
+  public QueryMetricsListener(final MeterRegistry meterRegistry, final QueryMetricsProperties properties) {
+    this.meterRegistry = meterRegistry;
+    this.slowQueryThresholdMillis = properties.getSlowQueryThreshold().toMillis();
+    this.slowQuerySampleRate = properties.getSlowQuerySampleRate();
+    this.maxFingerprints = properties.getMaxFingerprints();
+    this.fingerprints = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED_STATEMENTS)
+      .build();
+    this.statementMeters = CacheBuilder.newBuilder()
+      .weakKeys()
+      .build();
+    this.rowsRead = CacheBuilder.newBuilder()
+      .weakKeys()
+      .build();
+  }
+
+  @Override
+  public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {}
+
+  @Override
+  public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+    if (queryInfoList.isEmpty()) {
+      return;
+    }
+
+    final SqlFingerprint fingerprint = fingerprintOf(queryInfoList.getFirst().getQuery());
+    final QueryMeters queryMeters = metersOf(fingerprint);
+    final long elapsed = execInfo.getElapsedTime();
+
+    (execInfo.isSuccess() ? queryMeters.success : queryMeters.failure).record(elapsed, TimeUnit.MILLISECONDS);
+    recordResult(execInfo, queryMeters);
+
+    if (elapsed >= slowQueryThresholdMillis) {
+      queryMeters.slow.increment();
+      if (ThreadLocalRandom.current().nextDouble() < slowQuerySampleRate) {
+        log.warn("Slow query {} took {} ms{}: {}",
+          fingerprint.id(),
+          elapsed,
+          execInfo.isBatch() ? " for a batch of " + execInfo.getBatchSize() : "",
+          fingerprint.sql());
+      }
+    }
+  }
+
+  @Override
+  public void beforeMethod(final MethodExecutionContext executionContext) {
+    if (executionContext.getTarget() instanceof final ResultSet resultSet
+        && "close".equals(executionContext.getMethod().getName())) {
+      recordRowsRead(resultSet);
+    }
+  }
+
+  @Override
+  public void afterMethod(final MethodExecutionContext executionContext) {
+    if (executionContext.getTarget() instanceof final ResultSet resultSet
+        && "next".equals(executionContext.getMethod().getName())
+        && Boolean.TRUE.equals(executionContext.getResult())) {
+      try {
+        rowsRead.get(resultSet, AtomicLong::new).incrementAndGet();
+      } catch (final Exception _) {
+        // Counting rows must never fail the query
+      }
+    }
+  }
+
+  /**
+   * Records the rows changed by an update, or remembers which query a statement ran so the rows it reads can be
+   * recorded when its result set is closed.
+   */
+  private void recordResult(final ExecutionInfo execInfo, final QueryMeters queryMeters) {
+    switch (execInfo.getResult()) {
+      case final Integer updated -> queryMeters.rows.record(updated);
+      case final Long updated -> queryMeters.rows.record(updated);
+      case final int[] updated -> queryMeters.rows.record(sum(updated));
+      case final long[] updated -> queryMeters.rows.record(sum(updated));
+      case null, default -> {
+        if (execInfo.isSuccess() && nonNull(execInfo.getStatement())) {
+          statementMeters.put(execInfo.getStatement(), queryMeters);
+        }
+      }
+    }
+  }
+
+  private void recordRowsRead(final ResultSet resultSet) {
+    final AtomicLong rows = rowsRead.asMap().remove(resultSet);
+    try {
+      final QueryMeters queryMeters = statementMeters.getIfPresent(resultSet.getStatement());
+      if (nonNull(queryMeters)) {
+        queryMeters.rows.record(nonNull(rows) ? rows.get() : 0);
+      }
+    } catch (final SQLException _) {
+      // The result set does not belong to a statement run through this data source
+    }
+  }
+
+  private SqlFingerprint fingerprintOf(final String sql) {
+    final SqlFingerprint fingerprint = fingerprints.getIfPresent(sql);
+    if (nonNull(fingerprint)) {
+      return fingerprint;
+    }
+
+    final SqlFingerprint computed = SqlFingerprint.of(sql);
+    fingerprints.put(sql, computed);
+    return computed;
+  }
+
+  private QueryMeters metersOf(final SqlFingerprint fingerprint) {
+    final QueryMeters existing = meters.get(fingerprint.id());
+    if (nonNull(existing)) {
+      return existing;
+    }
+
+    if (meters.size() >= maxFingerprints) {
+      return meters.computeIfAbsent(OTHER, _ -> new QueryMeters(meterRegistry, OTHER, OTHER));
+    }
+
+    return meters.computeIfAbsent(fingerprint.id(), id -> {
+      log.info("Tracking query {}: {}", id, fingerprint.sql());
+      return new QueryMeters(meterRegistry, id, fingerprint.type());
+    });
+  }
+
+  private static long sum(final int[] values) {
+    long total = 0;
+    for (final int value : values) {
+      total += Math.max(value, 0);
+    }
+    return total;
+  }
+
+  private static long sum(final long[] values) {
+    long total = 0;
+    for (final long value : values) {
+      total += Math.max(value, 0);
+    }
+    return total;
+  }
+
+  /**
+   * The meters of a single fingerprint.
+   */
+  private static final class QueryMeters {
+
+    private final Timer success;
+    private final Timer failure;
+    private final DistributionSummary rows;
+    private final Counter slow;
+
+    private QueryMeters(final MeterRegistry meterRegistry, final String id, final String type) {
+      this.success = timer(meterRegistry, id, type, "success");
+      this.failure = timer(meterRegistry, id, type, "error");
+      this.rows = DistributionSummary.builder("jdbc.query.rows")
+        .tag("query", id)
+        .tag("type", type)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+      this.slow = Counter.builder("jdbc.query.slow")
+        .tag("query", id)
+        .tag("type", type)
+        .register(meterRegistry);
+    }
+
+    private static Timer timer(final MeterRegistry meterRegistry, final String id, final String type, final String outcome) {
+      return Timer.builder("jdbc.query")
+        .tag("query", id)
+        .tag("type", type)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofMillis(1))
+        .maximumExpectedValue(Duration.ofSeconds(30))
+        .register(meterRegistry);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.fleencorp.feen.common.configuration.datasource;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * <p>Configuration properties for the JDBC query metrics and the slow-query log.</p>
+ *
+ * <p>Statements are grouped by their fingerprint, the SQL with its literals replaced by placeholders, so the
+ * latency and row count of every distinct query can be followed without logging each statement.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "datasource.query-metrics")
+public class QueryMetricsProperties {
+
+  /**
+   * Whether the application data source is instrumented.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Statements that run for at least this long are candidates for the slow-query log.
+   */
+  private Duration slowQueryThreshold = Duration.ofMillis(500);
+
+  /**
+   * Share of the slow statements that are written to the slow-query log, between {@code 0} and {@code 1}.
+   * Every slow statement is still counted.
+   */
+  private double slowQuerySampleRate = 1.0;
+
+  /**
+   * Maximum number of distinct fingerprints tagged on the metrics. Statements seen after the limit is reached
+   * are reported under the {@code other} fingerprint, which keeps the number of time series bounded.
+   */
+  private int maxFingerprints = 500;
+}
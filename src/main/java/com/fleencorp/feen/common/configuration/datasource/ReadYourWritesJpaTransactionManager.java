@@ -0,0 +1,28 @@
+package com.fleencorp.feen.common.configuration.datasource;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * A {@link JpaTransactionManager} that tells the {@link ReadYourWritesTracker} whenever a read-write transaction
+ * commits, so the reads that follow it for the same user stay on the primary.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class ReadYourWritesJpaTransactionManager extends JpaTransactionManager {
+
+  private final transient ReadYourWritesTracker readYourWritesTracker;
+
+  public ReadYourWritesJpaTransactionManager(final ReadYourWritesTracker readYourWritesTracker) {
+    this.readYourWritesTracker = readYourWritesTracker;
+  }
+
+  @Override
+  protected void doCommit(final DefaultTransactionStatus status) {
+    super.doCommit(status);
+    if (!status.isReadOnly()) {
+      readYourWritesTracker.recordWrite();
+    }
+  }
+}
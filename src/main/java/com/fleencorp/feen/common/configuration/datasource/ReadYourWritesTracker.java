@@ -0,0 +1,68 @@
+package com.fleencorp.feen.common.configuration.datasource;
+
+import com.fleencorp.feen.shared.security.RegisteredUser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * ReadYourWritesTracker remembers which users committed a write recently, so their reads can be kept on the
+ * primary until the replicas have caught up.
+ *
+ * <p>The application is stateless, so the authenticated user stands in for the session. Requests without an
+ * authenticated user are never held on the primary. Writes are remembered for a fixed window on this node only;
+ * a user whose next request lands on another node may briefly read from a replica.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class ReadYourWritesTracker {
+
+  private static final long MAX_TRACKED_USERS = 100_000;
+
+  private final Cache<Long, Boolean> recentWriters;
+
+  /**
+   * Constructs a new ReadYourWritesTracker.
+   *
+   * @param window how long after a write the user keeps reading from the primary
+   */
+  public ReadYourWritesTracker(final Duration window) {
+    this.recentWriters = CacheBuilder.newBuilder()
+      .maximumSize(MAX_TRACKED_USERS)
+      .expireAfterWrite(window)
+      .build();
+  }
+
+  /**
+   * Records that the current user has just committed a write.
+   */
+  public void recordWrite() {
+    currentUserId().ifPresent(userId -> recentWriters.put(userId, Boolean.TRUE));
+  }
+
+  /**
+   * Whether the current user committed a write within the window.
+   *
+   * @return {@code true} if the reads of the current user must go to the primary
+   */
+  public boolean hasRecentWrite() {
+    return currentUserId()
+      .map(userId -> nonNull(recentWriters.getIfPresent(userId)))
+      .orElse(false);
+  }
+
+  private static Optional<Long> currentUserId() {
+    final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (nonNull(authentication) && authentication.getPrincipal() instanceof final RegisteredUser user) {
+      return Optional.ofNullable(user.getId());
+    }
+    return Optional.empty();
+  }
+}
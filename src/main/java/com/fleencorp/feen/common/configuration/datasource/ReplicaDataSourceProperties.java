@@ -0,0 +1,81 @@
+package com.fleencorp.feen.common.configuration.datasource;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Configuration properties for the read replicas that serve read-only transactions.</p>
+ *
+ * <p>Every replica gets its own connection pool. A second local PostgreSQL that is not replicating from the
+ * primary can be used as a replica in development and tests; it is never considered lagging.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+  /**
+   * Whether read-only transactions are routed to the replicas. When disabled every connection comes from the
+   * primary.
+   */
+  private boolean enabled = false;
+
+  /**
+   * The replicas read-only transactions are spread over.
+   */
+  private List<Replica> replicas = new ArrayList<>();
+
+  /**
+   * How far a replica may fall behind the primary before it stops receiving reads.
+   */
+  private Duration maxLag = Duration.ofSeconds(5);
+
+  /**
+   * How often the lag of every replica is measured.
+   */
+  private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+  /**
+   * How long after committing a write a user keeps reading from the primary, so they see their own writes even
+   * if the replicas have not applied them yet.
+   */
+  private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+  /**
+   * Connection settings of a single replica.
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  public static class Replica {
+
+    /**
+     * JDBC URL of the replica.
+     */
+    private String url;
+
+    /**
+     * Username used to connect to the replica.
+     */
+    private String username;
+
+    /**
+     * Password used to connect to the replica.
+     */
+    private String password;
+
+    /**
+     * Maximum number of connections kept to the replica.
+     */
+    private int maximumPoolSize = 20;
+  }
+}
@@ -0,0 +1,108 @@
+package com.fleencorp.feen.common.configuration.datasource;
+
+import com.fleencorp.feen.common.configuration.datasource.ReplicaRoutingDataSource.NamedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes read-only transactions to the read replicas when {@code datasource.replica.enabled} is set.
+ *
+ * <p>The primary pool is configured from {@code spring.datasource} as before. The data source the application
+ * uses is a {@link LazyConnectionDataSourceProxy} over it, which defers taking a connection until the first
+ * statement of a transaction. By then the transaction is known to be read-only or not, and read-only ones get
+ * their connection from the {@link ReplicaRoutingDataSource}. Work that is not inside a read-only transaction,
+ * including Liquibase, always runs on the primary.</p>
+ *
+ * <p>Every replica has its own Hikari pool named {@code replica-<n>}, publishing the usual Hikari metrics.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+
+  @Bean
+  @ConfigurationProperties(prefix = "spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+    final HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+      .type(HikariDataSource.class)
+      .build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  public ReadYourWritesTracker readYourWritesTracker(final ReplicaDataSourceProperties properties) {
+    return new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      final HikariDataSource primaryDataSource,
+      final ReadYourWritesTracker readYourWritesTracker,
+      final ReplicaDataSourceProperties properties,
+      final MeterRegistry meterRegistry) {
+    final List<NamedDataSource> replicas = new ArrayList<>();
+    for (int i = 0; i < properties.getReplicas().size(); i++) {
+      replicas.add(new NamedDataSource("replica-" + i, createReplicaPool("replica-" + i, properties.getReplicas().get(i), primaryDataSource, meterRegistry)));
+    }
+    return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker, properties, meterRegistry);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(final HikariDataSource primaryDataSource, final ReplicaRoutingDataSource replicaRoutingDataSource) {
+    final LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+    dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+    return dataSource;
+  }
+
+  @Bean
+  public JpaTransactionManager transactionManager(
+      final ReadYourWritesTracker readYourWritesTracker,
+      final ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+    final JpaTransactionManager transactionManager = new ReadYourWritesJpaTransactionManager(readYourWritesTracker);
+    transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+    return transactionManager;
+  }
+
+  /**
+   * Creates the pool of a replica with the settings of the primary pool, except for its address, credentials
+   * and size.
+   */
+  private static HikariDataSource createReplicaPool(
+      final String poolName,
+      final ReplicaDataSourceProperties.Replica replica,
+      final HikariDataSource primaryDataSource,
+      final MeterRegistry meterRegistry) {
+    final HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName(poolName);
+    dataSource.setDriverClassName(primaryDataSource.getDriverClassName());
+    dataSource.setJdbcUrl(replica.getUrl());
+    dataSource.setUsername(replica.getUsername());
+    dataSource.setPassword(replica.getPassword());
+    dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+    dataSource.setMinimumIdle(primaryDataSource.getMinimumIdle());
+    dataSource.setMaxLifetime(primaryDataSource.getMaxLifetime());
+    dataSource.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+    dataSource.setReadOnly(true);
+    dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    return dataSource;
+  }
+}
@@ -0,0 +1,230 @@
+package com.fleencorp.feen.common.configuration.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ReplicaRoutingDataSource hands out connections to the read replicas for read-only work.
+ *
+ * <p>It is installed as the read-only data source of a {@code LazyConnectionDataSourceProxy}, which only asks it
+ * for a connection once a read-only transaction runs its first statement. Connections are spread over the
+ * replicas in turn, skipping any replica whose lag behind the primary exceeds the allowed maximum or whose lag
+ * could not be measured. When no replica is usable, or the current user committed a write moments ago, the
+ * connection is taken from the primary instead.</p>
+ *
+ * <p>The lag of every replica is measured on a background thread and published as the
+ * {@code datasource.replica.lag} gauge. The number of connections served by each target is counted under
+ * {@code datasource.replica.routed}.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+  /**
+   * Measures the lag of a standby as the age of the last replayed transaction, unless it has replayed everything
+   * it received. A server that is not in recovery is a standalone database and never lags.
+   */
+  static final String REPLICA_LAG_QUERY = """
+    SELECT CASE
+      WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+      ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+    END
+    """;
+
+  private final DataSource primary;
+  private final List<Replica> replicas;
+  private final ReadYourWritesTracker readYourWritesTracker;
+  private final Duration maxLag;
+  private final ReplicaLagProbe lagProbe;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final Counter primaryFallbacks;
+  private final Counter stickyReads;
+  private final ScheduledExecutorService lagChecker;
+
+  /**
+   * Constructs a new ReplicaRoutingDataSource that measures the lag of the replicas with {@link #REPLICA_LAG_QUERY}.
+   *
+   * @param primary the data source used when no replica may serve the read
+   * @param replicas the replica data sources and their pool names
+   * @param readYourWritesTracker tells whether the current user must read from the primary
+   * @param properties the lag limit and check interval
+   * @param meterRegistry the registry the lag and routing metrics are published to
+   */
+  public ReplicaRoutingDataSource(
+      final DataSource primary,
+      final List<NamedDataSource> replicas,
+      final ReadYourWritesTracker readYourWritesTracker,
+      final ReplicaDataSourceProperties properties,
+      final MeterRegistry meterRegistry) {
+    this(primary, replicas, readYourWritesTracker, properties, meterRegistry, ReplicaRoutingDataSource::measureLag);
+  }
+
+  ReplicaRoutingDataSource(
+      final DataSource primary,
+      final List<NamedDataSource> replicas,
+      final ReadYourWritesTracker readYourWritesTracker,
+      final ReplicaDataSourceProperties properties,
+      final MeterRegistry meterRegistry,
+      final ReplicaLagProbe lagProbe) {
+    this.primary = primary;
+    this.readYourWritesTracker = readYourWritesTracker;
+    this.maxLag = properties.getMaxLag();
+    this.lagProbe = lagProbe;
+    this.replicas = replicas.stream()
+      .map(replica -> new Replica(replica.name(), replica.dataSource(), meterRegistry))
+      .toList();
+    this.primaryFallbacks = routedCounter(meterRegistry, "primary", "no-replica-available");
+    this.stickyReads = routedCounter(meterRegistry, "primary", "read-your-writes");
+
+    this.replicas.forEach(replica -> Gauge.builder("datasource.replica.lag", replica, Replica::getLagMillis)
+      .tag("pool", replica.name)
+      .baseUnit("milliseconds")
+      .register(meterRegistry));
+
+    checkLag();
+    final long interval = properties.getLagCheckInterval().toMillis();
+    this.lagChecker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-lag-"));
+    this.lagChecker.scheduleWithFixedDelay(this::checkLag, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return route().getConnection();
+  }
+
+  @Override
+  public Connection getConnection(final String username, final String password) throws SQLException {
+    return route().getConnection(username, password);
+  }
+
+  /**
+   * Chooses the data source the current read is served from.
+   *
+   * @return the next replica that is within the lag limit, or the primary
+   */
+  DataSource route() {
+    if (readYourWritesTracker.hasRecentWrite()) {
+      stickyReads.increment();
+      return primary;
+    }
+
+    final int size = replicas.size();
+    final int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+    for (int i = 0; i < size; i++) {
+      final Replica replica = replicas.get((start + i) % size);
+      if (replica.available) {
+        replica.routed.increment();
+        return replica.dataSource;
+      }
+    }
+
+    primaryFallbacks.increment();
+    return primary;
+  }
+
+  /**
+   * Measures the lag of every replica and takes the ones behind by more than the limit out of rotation.
+   */
+  void checkLag() {
+    for (final Replica replica : replicas) {
+      try {
+        final Duration lag = lagProbe.measure(replica.dataSource);
+        replica.lagMillis = lag.toMillis();
+        replica.setAvailable(lag.compareTo(maxLag) <= 0);
+      } catch (final Exception ex) {
+        replica.setAvailable(false);
+        log.warn("Unable to measure the lag of replica {}: {}", replica.name, ex.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Stops measuring the lag and closes the replica pools, which are not beans of their own.
+   */
+  @Override
+  public void destroy() throws Exception {
+    lagChecker.shutdownNow();
+    for (final Replica replica : replicas) {
+      if (replica.dataSource instanceof final AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+
+  private static Duration measureLag(final DataSource dataSource) throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+         Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery(REPLICA_LAG_QUERY)) {
+      resultSet.next();
+      return Duration.ofMillis(resultSet.getLong(1));
+    }
+  }
+
+  private static Counter routedCounter(final MeterRegistry meterRegistry, final String target, final String reason) {
+    return Counter.builder("datasource.replica.routed")
+      .tag("target", target)
+      .tag("reason", reason)
+      .register(meterRegistry);
+  }
+
+  /**
+   * Measures how far a replica is behind the primary.
+   */
+  @FunctionalInterface
+  interface ReplicaLagProbe {
+    Duration measure(DataSource replica) throws Exception;
+  }
+
+  /**
+   * A replica data source together with the name its metrics are tagged with.
+   *
+   * @param name the name of the replica pool
+   * @param dataSource the replica data source
+   */
+  public record NamedDataSource(String name, DataSource dataSource) {}
+
+  private static final class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private final Counter routed;
+    private volatile boolean available;
+    private volatile long lagMillis;
+
+    private Replica(final String name, final DataSource dataSource, final MeterRegistry meterRegistry) {
+      this.name = name;
+      this.dataSource = dataSource;
+      this.routed = routedCounter(meterRegistry, name, "read-only");
+    }
+
+    private double getLagMillis() {
+      return lagMillis;
+    }
+
+    private void setAvailable(final boolean available) {
+      if (this.available != available) {
+        log.info("Replica {} is {} reads (lag {} ms)", name, available ? "serving" : "no longer serving", lagMillis);
+      }
+      this.available = available;
+    }
+  }
+}
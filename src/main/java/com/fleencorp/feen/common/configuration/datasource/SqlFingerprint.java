@@ -0,0 +1,51 @@
+package com.fleencorp.feen.common.configuration.datasource;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * The fingerprint of a SQL statement: the statement with its comments removed, its literals and {@code IN} lists
+ * replaced by placeholders and its whitespace collapsed, so that every execution of the same query maps to the
+ * same fingerprint whatever its arguments.
+ *
+ * @param id a short, stable identifier of the fingerprint used to tag metrics
+ * @param type the kind of statement, such as {@code select} or {@code insert}
+ * @param sql the normalized statement
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record SqlFingerprint(String id, String type, String sql) {
+
+  private static final Pattern COMMENTS = Pattern.compile("/\\*.*?\\*/|--[^\\n]*", Pattern.DOTALL);
+  private static final Pattern STRING_LITERALS = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMERIC_LITERALS = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+  private static final Pattern IN_LISTS = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  /**
+   * Computes the fingerprint of a statement.
+   *
+   * @param sql the statement as sent to the database
+   * @return the fingerprint of the statement
+   */
+  public static SqlFingerprint of(final String sql) {
+    String normalized = COMMENTS.matcher(sql).replaceAll(" ");
+    normalized = STRING_LITERALS.matcher(normalized).replaceAll("?");
+    normalized = NUMERIC_LITERALS.matcher(normalized).replaceAll("?");
+    normalized = IN_LISTS.matcher(normalized).replaceAll("(?, ...)");
+    normalized = WHITESPACE.matcher(normalized).replaceAll(" ").strip();
+
+    return new SqlFingerprint("%08x".formatted(normalized.hashCode()), typeOf(normalized), normalized);
+  }
+
+  private static String typeOf(final String sql) {
+    final int end = sql.indexOf(' ');
+    final String keyword = (end < 0 ? sql : sql.substring(0, end)).toLowerCase(Locale.ROOT);
+    return switch (keyword) {
+      case "select", "with" -> "select";
+      case "insert", "update", "delete" -> keyword;
+      default -> "other";
+    };
+  }
+}
@@ -0,0 +1,52 @@
+package com.fleencorp.feen.common.configuration.external.google.recaptcha;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * <p>Configuration properties for the HTTP client, verdict cache and failure policy used when verifying
+ * reCAPTCHA tokens with Google.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "google.recaptcha")
+public class ReCaptchaProperties {
+
+  /**
+   * Maximum time allowed to open a connection to Google.
+   */
+  private Duration connectTimeout = Duration.ofMillis(500);
+
+  /**
+   * Maximum time allowed for Google to answer a verification request.
+   */
+  private Duration readTimeout = Duration.ofMillis(1500);
+
+  /**
+   * Maximum time a request waits for the verdict before the failure policy applies.
+   */
+  private Duration maxWait = Duration.ofSeconds(2);
+
+  /**
+   * How long a verdict is reused for the same token from the same client, so immediate retries do not hit
+   * Google again. Kept to seconds, since a cached verdict lets the token be replayed for that long.
+   */
+  private Duration verdictCacheTtl = Duration.ofSeconds(10);
+
+  /**
+   * Maximum number of verdicts kept in the cache.
+   */
+  private Long verdictCacheMaxEntries = 10_000L;
+
+  /**
+   * Whether requests are allowed through when Google cannot be reached in time.
+   */
+  private boolean failOpen = false;
+}
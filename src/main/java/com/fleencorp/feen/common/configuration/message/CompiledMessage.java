@@ -0,0 +1,139 @@
+package com.fleencorp.feen.common.configuration.message;
+
+import java.text.Format;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * An immutable, precompiled form of a single message pattern for one locale.
+ *
+ * <p>Messages without arguments are formatted once when compiled and returned as a constant afterwards.
+ * Messages whose placeholders are all plain {@code {n}} references are split into literal segments and
+ * argument indexes, so formatting them with string arguments is a single pass over a {@link StringBuilder}
+ * with no parsing. Any other case, such as typed placeholders like {@code {0,number}} or non-string
+ * arguments that need locale-aware formatting, is delegated to a private {@link MessageFormat}, which gives
+ * exactly the same result as {@link MessageFormat#format(Object)} would.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+final class CompiledMessage {
+
+  private static final char MARKER = '\uFFFF';
+
+  private final String constant;
+  private final String[] literals;
+  private final int[] argumentIndexes;
+  private final int literalLength;
+  private final MessageFormat messageFormat;
+
+  private CompiledMessage(
+      final String constant,
+      final String[] literals,
+      final int[] argumentIndexes,
+      final MessageFormat messageFormat) {
+    this.constant = constant;
+    this.literals = literals;
+    this.argumentIndexes = argumentIndexes;
+    this.literalLength = isNull(literals) ? 0 : Arrays.stream(literals).mapToInt(String::length).sum();
+    this.messageFormat = messageFormat;
+  }
+
+  /**
+   * Compiles the given pattern for the given locale.
+   *
+   * @param pattern the message pattern in {@link MessageFormat} syntax
+   * @param locale the locale the message is formatted for
+   * @return the compiled message
+   */
+  static CompiledMessage compile(final String pattern, final Locale locale) {
+    final MessageFormat messageFormat = new MessageFormat(pattern, locale);
+    final Format[] formats = messageFormat.getFormats();
+
+    if (formats.length == 0) {
+      return new CompiledMessage(messageFormat.format(new Object[0]), null, null, null);
+    }
+
+    if (Arrays.stream(formats).anyMatch(Objects::nonNull)) {
+      return new CompiledMessage(null, null, null, messageFormat);
+    }
+
+    // Format the pattern with one marker per argument to let MessageFormat unescape the literal text,
+    // then split the result on the markers
+    final int argumentCount = messageFormat.getFormatsByArgumentIndex().length;
+    final Object[] markers = new Object[argumentCount];
+    for (int i = 0; i < argumentCount; i++) {
+      markers[i] = MARKER + String.valueOf(i) + MARKER;
+    }
+    final String marked = messageFormat.format(markers);
+
+    final String[] literals = new String[formats.length + 1];
+    final int[] argumentIndexes = new int[formats.length];
+    int position = 0;
+    for (int i = 0; i < formats.length; i++) {
+      final int markerStart = marked.indexOf(MARKER, position);
+      final int markerEnd = marked.indexOf(MARKER, markerStart + 1);
+      literals[i] = marked.substring(position, markerStart);
+      argumentIndexes[i] = Integer.parseInt(marked, markerStart + 1, markerEnd, 10);
+      position = markerEnd + 1;
+    }
+    literals[formats.length] = marked.substring(position);
+
+    return new CompiledMessage(null, literals, argumentIndexes, messageFormat);
+  }
+
+  /**
+   * Formats the message with the given arguments.
+   *
+   * @param args the arguments, already resolved by the message source
+   * @return the formatted message
+   */
+  String format(final Object[] args) {
+    if (nonNull(constant)) {
+      return constant;
+    }
+
+    if (isNull(literals) || !hasOnlyStringArguments(args)) {
+      synchronized (messageFormat) {
+        return messageFormat.format(isNull(args) ? new Object[0] : args);
+      }
+    }
+
+    final StringBuilder builder = new StringBuilder(literalLength + (argumentIndexes.length * 16));
+    for (int i = 0; i < argumentIndexes.length; i++) {
+      builder.append(literals[i]);
+      final int argumentIndex = argumentIndexes[i];
+      if (isNull(args) || argumentIndex >= args.length) {
+        builder.append('{').append(argumentIndex).append('}');
+      } else {
+        builder.append((String) args[argumentIndex]);
+      }
+    }
+    builder.append(literals[argumentIndexes.length]);
+    return builder.toString();
+  }
+
+  /**
+   * Whether every argument referenced by the message is a string or {@code null}, which are the only values
+   * that {@link MessageFormat} inserts without locale-aware formatting.
+   */
+  private boolean hasOnlyStringArguments(final Object[] args) {
+    if (isNull(args)) {
+      return true;
+    }
+    for (final int argumentIndex : argumentIndexes) {
+      if (argumentIndex < args.length) {
+        final Object arg = args[argumentIndex];
+        if (nonNull(arg) && !(arg instanceof String)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+}
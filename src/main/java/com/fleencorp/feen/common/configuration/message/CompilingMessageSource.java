@@ -0,0 +1,97 @@
+package com.fleencorp.feen.common.configuration.message;
+
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.util.ObjectUtils;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A {@link ReloadableResourceBundleMessageSource} that compiles every message once per locale and serves it
+ * from a lock-free cache afterwards.
+ *
+ * <p>The mappers building {@code *Info} objects translate three to four codes per object, and a page of
+ * results builds hundreds of them. Resolving each of those through the parent class means a properties file
+ * timestamp check once the cache interval has passed, a lookup across the locale fallback chain, and a
+ * synchronized {@link MessageFormat#format(Object)} call. This message source resolves a code through the
+ * parent only the first time it is requested for a locale, turns the pattern into an immutable
+ * {@link CompiledMessage} and looks it up in a concurrent map on every later call.</p>
+ *
+ * <p>The formatted output is identical to the parent's. Codes that cannot be resolved are not cached and
+ * are handed to the parent, so parent message sources, default messages and missing code errors behave as
+ * before. Compiled messages are kept until {@link #clearCache()} is called and do not follow the
+ * {@link #setCacheSeconds(int) cache duration}, so it should be left unset.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class CompilingMessageSource extends ReloadableResourceBundleMessageSource {
+
+  private final ConcurrentMap<Locale, ConcurrentMap<String, CompiledMessage>> compiledMessages = new ConcurrentHashMap<>();
+
+  /**
+   * Resolves the message from the compiled cache, compiling it on first use.
+   *
+   * @param code the code of the message
+   * @param args the arguments of the message, if any
+   * @param locale the locale to resolve the message for
+   * @return the formatted message, or {@code null} if it cannot be resolved
+   */
+  @Override
+  protected String getMessageInternal(final String code, final Object[] args, final Locale locale) {
+    if (isNull(code) || isNull(locale) || (!isAlwaysUseMessageFormat() && ObjectUtils.isEmpty(args))) {
+      return super.getMessageInternal(code, args, locale);
+    }
+
+    final CompiledMessage compiledMessage = getCompiledMessage(code, locale);
+    if (isNull(compiledMessage)) {
+      return super.getMessageInternal(code, args, locale);
+    }
+
+    final Object[] resolvedArgs = ObjectUtils.isEmpty(args) ? args : resolveArguments(args, locale);
+    return compiledMessage.format(resolvedArgs);
+  }
+
+  /**
+   * Drops every compiled message along with the properties cached by the parent class.
+   */
+  @Override
+  public void clearCache() {
+    compiledMessages.clear();
+    super.clearCache();
+  }
+
+  private CompiledMessage getCompiledMessage(final String code, final Locale locale) {
+    final ConcurrentMap<String, CompiledMessage> messagesOfLocale = getMessagesOfLocale(locale);
+    final CompiledMessage compiledMessage = messagesOfLocale.get(code);
+    if (nonNull(compiledMessage)) {
+      return compiledMessage;
+    }
+
+    final MessageFormat messageFormat = resolveCode(code, locale);
+    if (isNull(messageFormat)) {
+      return null;
+    }
+
+    final String pattern;
+    synchronized (messageFormat) {
+      pattern = messageFormat.toPattern();
+    }
+    final CompiledMessage newCompiledMessage = CompiledMessage.compile(pattern, locale);
+    final CompiledMessage existing = messagesOfLocale.putIfAbsent(code, newCompiledMessage);
+    return nonNull(existing) ? existing : newCompiledMessage;
+  }
+
+  private ConcurrentMap<String, CompiledMessage> getMessagesOfLocale(final Locale locale) {
+    final ConcurrentMap<String, CompiledMessage> messagesOfLocale = compiledMessages.get(locale);
+    if (nonNull(messagesOfLocale)) {
+      return messagesOfLocale;
+    }
+    return compiledMessages.computeIfAbsent(locale, _ -> new ConcurrentHashMap<>());
+  }
+}
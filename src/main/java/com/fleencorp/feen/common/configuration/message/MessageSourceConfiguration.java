@@ -5,7 +5,6 @@ import com.fleencorp.localizer.service.Localizer;
 import com.fleencorp.localizer.service.adapter.DefaultLocalizer;
 import com.fleencorp.localizer.service.adapter.DefaultLocalizerAdapter;
 import com.fleencorp.localizer.service.adapter.ErrorLocalizerAdapter;
-import com.fleencorp.localizer.service.adapter.LocalizerAdapter;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
@@ -61,9 +60,13 @@ public class MessageSourceConfiguration {
    * Creates and configures a ReloadableResourceBundleMessageSource.
    *
    * <p>This method initializes a ReloadableResourceBundleMessageSource with specific settings:
-   * it sets the cache duration to 60 seconds, the default locale to US English, disables using
-   * code as the default message, prevents fallback to the system locale, and ensures that message
-   * formatting is always used.</p>
+   * it sets the default locale to US English, disables using code as the default message, prevents
+   * fallback to the system locale, and ensures that message formatting is always used.</p>
+   *
+   * <p>The instance is a {@link CompilingMessageSource}, which compiles each message once per locale and
+   * serves later lookups from memory, since the mappers translate several codes for every item they map.
+   * The compiled messages are never reloaded, so no cache duration is set and the message files are loaded
+   * once as well.</p>
    *
    * @return a configured instance of ReloadableResourceBundleMessageSource.
    *
@@ -71,8 +74,7 @@ public class MessageSourceConfiguration {
    *   Everything about multilingual processing!</a>
    */
   private ReloadableResourceBundleMessageSource baseMessageSource() {
-    final ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
-    messageSource.setCacheSeconds(60);
+    final ReloadableResourceBundleMessageSource messageSource = new CompilingMessageSource();
     messageSource.setDefaultLocale(Locale.US);
     messageSource.setAlwaysUseMessageFormat(true);
     messageSource.setUseCodeAsDefaultMessage(false);
@@ -141,9 +143,17 @@ public class MessageSourceConfiguration {
     return new DefaultLocalizerAdapter(messageSource);
   }
 
+  /**
+   * Provides the {@link Localizer} used to localize responses.
+   *
+   * <p>The instance is a {@link ResponseLocalizer}, which also localizes the responses nested in a response, so
+   * a response such as the user profile is localized with a single call.</p>
+   *
+   * @return the response localizer.
+   */
   @Bean
   public Localizer localizer() {
-    return new LocalizerAdapter(responseMessageSource());
+    return new ResponseLocalizer(responseMessageSource());
   }
 
   @Bean
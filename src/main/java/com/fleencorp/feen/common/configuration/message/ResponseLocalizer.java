@@ -0,0 +1,113 @@
+package com.fleencorp.feen.common.configuration.message;
+
+import com.fleencorp.localizer.model.response.LocalizedResponse;
+import com.fleencorp.localizer.service.adapter.LocalizerAdapter;
+import org.springframework.context.MessageSource;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A {@link LocalizerAdapter} that localizes a response together with every response nested in it, in a single call.
+ *
+ * <p>Responses such as the user profile embed several search results that carry messages of their own, and
+ * services used to localize each of them with a separate call before attaching them. This localizer does it
+ * while localizing the outer response. The nested responses of a type are found once, the first time the type
+ * is localized, and read afterwards through cached {@link MethodHandle} getters, so no field is looked up
+ * reflectively per call. The messages themselves are resolved by the parent class through the configured
+ * message source, which compiles each message once per locale.</p>
+ *
+ * <p>Only fields whose declared type is a {@link LocalizedResponse} are followed; responses held in collections
+ * or search results are not. A response reachable more than once in the same response is localized once.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class ResponseLocalizer extends LocalizerAdapter {
+
+  private static final MethodType NESTED_RESPONSE_GETTER = MethodType.methodType(LocalizedResponse.class, LocalizedResponse.class);
+
+  private static final ClassValue<List<MethodHandle>> NESTED_RESPONSES = new ClassValue<>() {
+    @Override
+    protected List<MethodHandle> computeValue(final Class<?> type) {
+      return findNestedResponses(type);
+    }
+  };
+
+  public ResponseLocalizer(final MessageSource messageSource) {
+    super(messageSource);
+  }
+
+  /**
+   * Localizes the response and every response nested in it.
+   *
+   * @param response the response to localize
+   * @param <T> the type of the response
+   * @return the localized response
+   */
+  @Override
+  public <T extends LocalizedResponse> T of(final T response) {
+    final T localizedResponse = super.of(response);
+    if (nonNull(response) && !NESTED_RESPONSES.get(response.getClass()).isEmpty()) {
+      final Map<LocalizedResponse, Boolean> localized = new IdentityHashMap<>();
+      localized.put(response, Boolean.TRUE);
+      localizeNested(response, localized);
+    }
+    return localizedResponse;
+  }
+
+  private void localizeNested(final LocalizedResponse response, final Map<LocalizedResponse, Boolean> localized) {
+    for (final MethodHandle getter : NESTED_RESPONSES.get(response.getClass())) {
+      final LocalizedResponse nested = getNested(getter, response);
+      if (nonNull(nested) && isNull(localized.put(nested, Boolean.TRUE))) {
+        super.of(nested);
+        localizeNested(nested, localized);
+      }
+    }
+  }
+
+  private static LocalizedResponse getNested(final MethodHandle getter, final LocalizedResponse response) {
+    try {
+      return (LocalizedResponse) getter.invokeExact(response);
+    } catch (final RuntimeException | Error ex) {
+      throw ex;
+    } catch (final Throwable ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  /**
+   * Creates a getter for every field of the type and its superclasses that holds a nested response.
+   */
+  private static List<MethodHandle> findNestedResponses(final Class<?> type) {
+    final List<MethodHandle> getters = new ArrayList<>();
+    for (Class<?> current = type; nonNull(current) && current != LocalizedResponse.class; current = current.getSuperclass()) {
+      for (final Field field : current.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers()) && LocalizedResponse.class.isAssignableFrom(field.getType())) {
+          getters.add(toGetter(current, field));
+        }
+      }
+    }
+    return List.copyOf(getters);
+  }
+
+  private static MethodHandle toGetter(final Class<?> owner, final Field field) {
+    try {
+      return MethodHandles.privateLookupIn(owner, MethodHandles.lookup())
+        .unreflectGetter(field)
+        .asType(NESTED_RESPONSE_GETTER);
+    } catch (final IllegalAccessException ex) {
+      throw new IllegalStateException("Unable to read nested response " + owner.getSimpleName() + "." + field.getName(), ex);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.fleencorp.feen.common.configuration.ratelimit;
+
+import com.fleencorp.feen.common.model.ratelimit.RateLimitOverride;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>Configuration properties for the distributed rate limiter.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+  /**
+   * Whether rate limiting is applied at all.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Number of extra tokens a node may lease from a bucket and consume locally without another Redis
+   * round trip. A lease is only granted while the bucket holds at least twice this many spare tokens.
+   * Set to zero to always consult Redis.
+   */
+  private Integer localLeaseSize = 2;
+
+  /**
+   * Maximum number of buckets whose lease or rejection is remembered locally.
+   */
+  private Integer localMaxEntries = 10_000;
+
+  /**
+   * Whether requests are allowed through when Redis cannot be reached.
+   */
+  private boolean failOpen = true;
+
+  /**
+   * Per-route overrides keyed by the route name declared on the annotation.
+   */
+  private Map<String, RateLimitOverride> routes = new HashMap<>();
+}
@@ -0,0 +1,39 @@
+package com.fleencorp.feen.common.constant.cache;
+
+import lombok.Getter;
+
+/**
+ * Identifies how the values of a cache are written to Redis.
+ *
+ * <p>Every serializer except {@link #STRING} writes its values inside a versioned envelope that records the
+ * codec id, so an entry can still be read after the cache switches to another serializer.</p>
+ */
+@Getter
+public enum CacheValueSerializer {
+
+  /**
+   * Jackson Smile with embedded type information. Compact binary form of {@link #JSON}.
+   */
+  SMILE((byte) 1),
+
+  /**
+   * JSON with embedded type information, readable by any node regardless of Java serialization support.
+   */
+  JSON((byte) 2),
+
+  /**
+   * Java serialization. Values must implement {@link java.io.Serializable}.
+   */
+  JDK((byte) 3),
+
+  /**
+   * Plain strings without an envelope. Values must already be strings.
+   */
+  STRING((byte) 0);
+
+  private final byte codecId;
+
+  CacheValueSerializer(final byte codecId) {
+    this.codecId = codecId;
+  }
+}
@@ -6,7 +6,6 @@ import com.fleencorp.base.constant.base.ApiParameter;
 import com.fleencorp.base.serializer.ToStringEnumSerializer;
 import com.fleencorp.feen.stream.constant.core.StreamSource;
 import lombok.Getter;
-import lombok.Setter;
 
 import static com.fleencorp.feen.common.constant.external.google.calendar.GoogleCalendarParameter.googleMeetLink;
 import static com.fleencorp.feen.common.constant.external.google.youtube.base.YouTubeParameter.liveStreamLink;
@@ -20,6 +19,9 @@ import static java.util.Objects.isNull;
  * and provides functionality to mask the sensitive parts of the stream links.
  * This is used to protect sensitive information such as meeting codes or video IDs.</p>
  *
+ * <p>The constants are shared by every request, so they are never changed. A masked link is returned as a new
+ * string for the response to hold.</p>
+ *
  * @author Yusuf Alamu Musa
  * @version 1.0
  */
@@ -63,8 +65,7 @@ public enum MaskedStreamLinkUri implements ApiParameter {
     }
   };
 
-  @Setter
-  private String value;
+  private final String value;
   private final String baseUrl;
   public abstract String maskLink(String url);
 
@@ -79,40 +80,52 @@ public enum MaskedStreamLinkUri implements ApiParameter {
   }
 
   /**
-   * Creates a MaskedStreamLinkUri instance based on the provided stream source and value.
+   * Masks the stream link based on the provided stream source.
    *
    * <p>
    * This method determines whether the stream source is Google Meet or YouTube Live
-   * and applies the appropriate link masking. For Google Meet links, the method will
-   * return a MaskedStreamLinkUri instance with the link masked according to Google Meet rules.
-   * Similarly, for YouTube Live links, it will return a MaskedStreamLinkUri instance
-   * with the link masked according to YouTube rules.</p>
+   * and applies the appropriate link masking. Google Meet links are masked according to
+   * Google Meet rules, and YouTube Live links according to YouTube rules.</p>
    *
    * @param value  the original stream link (Google Meet or YouTube)
    * @param source the stream source (Google Meet or YouTube Live)
-   * @return a MaskedStreamLinkUri instance with the masked link based on the source
+   * @return the masked link, the Google Meet value if the source is unknown, or {@code null} if the link is
+   *         {@code null}
    */
-  public static MaskedStreamLinkUri of(final String value, final StreamSource source) {
+  public static String maskedLinkOf(final String value, final StreamSource source) {
     if (isNull(value)) {
       return null;
     }
 
-    // Initialize with default Google Meet masked stream link
-    MaskedStreamLinkUri maskedStreamLinkUri = MaskedStreamLinkUri.GOOGLE_MEET;
-
     // Check if the source is Google Meet and apply Google Meet-specific link masking
     if (isGoogleMeet(source)) {
-      final String maskedLink = maskedStreamLinkUri.maskLink(value);
-      maskedStreamLinkUri.setValue(maskedLink);
+      return GOOGLE_MEET.maskLink(value);
     }
     // Check if the source is YouTube Live and apply YouTube-specific link masking
-    else if (isYouTubeLive(source)) {
-      maskedStreamLinkUri = MaskedStreamLinkUri.YOUTUBE;
-      final String maskedLink = maskedStreamLinkUri.maskLink(value);
-      maskedStreamLinkUri.setValue(maskedLink);
+    if (isYouTubeLive(source)) {
+      return YOUTUBE.maskLink(value);
+    }
+    // Default to the Google Meet value when the source is unknown
+    return GOOGLE_MEET.getValue();
+  }
+
+  /**
+   * Returns the link of the source with the whole meeting code or video ID hidden.
+   *
+   * <p>Unlike {@link #maskedLinkOf(String, StreamSource)}, this does not need the stream link itself, so lists can
+   * show a masked link without decrypting the link of every row.</p>
+   *
+   * @param source the stream source (Google Meet or YouTube Live)
+   * @return the fully masked link of the source, or {@code null} if the source is unknown
+   */
+  public static String fullyMaskedLinkOf(final StreamSource source) {
+    if (isGoogleMeet(source)) {
+      return GOOGLE_MEET.baseUrl + "***-***-***";
+    }
+    if (isYouTubeLive(source)) {
+      return YOUTUBE.baseUrl + "***";
     }
-    // Return the masked link URI based on the source
-    return maskedStreamLinkUri;
+    return null;
   }
 
   /**
@@ -0,0 +1,22 @@
+package com.fleencorp.feen.common.constant.ratelimit;
+
+/**
+ * Identifies what a rate limit bucket is keyed by.
+ */
+public enum RateLimitKeyType {
+
+  /**
+   * One bucket per client IP address.
+   */
+  IP,
+
+  /**
+   * One bucket per authenticated principal. Anonymous requests fall back to the IP address.
+   */
+  PRINCIPAL,
+
+  /**
+   * One bucket per authenticated principal and IP address pair.
+   */
+  PRINCIPAL_AND_IP;
+}
@@ -0,0 +1,27 @@
+package com.fleencorp.feen.common.exception;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fleencorp.localizer.model.exception.LocalizedException;
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends LocalizedException {
+
+  @JsonIgnore
+  private final long retryAfterSeconds;
+
+  @Override
+  @JsonIgnore
+  public String getMessageCode() {
+    return "rate.limit.exceeded";
+  }
+
+  public RateLimitExceededException(final long retryAfterSeconds) {
+    super(retryAfterSeconds);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public static RateLimitExceededException of(final long retryAfterSeconds) {
+    return new RateLimitExceededException(retryAfterSeconds);
+  }
+}
@@ -0,0 +1,37 @@
+package com.fleencorp.feen.common.exception;
+
+import com.fleencorp.feen.common.constant.http.FleenHttpStatus;
+import com.fleencorp.localizer.model.response.ErrorResponse;
+import com.fleencorp.localizer.service.ErrorLocalizer;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+/**
+ * Translates rate limit rejections raised on any endpoint into a {@code 429 Too Many Requests}
+ * response carrying a {@code Retry-After} header.
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RateLimitExceptionHandler {
+
+  private final ErrorLocalizer localizer;
+
+  public RateLimitExceptionHandler(final ErrorLocalizer localizer) {
+    this.localizer = localizer;
+  }
+
+  @ExceptionHandler(value = {
+    RateLimitExceededException.class,
+  })
+  public ResponseEntity<ErrorResponse> handleTooManyRequests(final RateLimitExceededException e) {
+    return ResponseEntity.status(TOO_MANY_REQUESTS)
+      .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+      .body(localizer.withStatus(e, FleenHttpStatus.tooManyRequests()));
+  }
+}
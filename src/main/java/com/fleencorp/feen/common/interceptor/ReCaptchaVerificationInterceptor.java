@@ -0,0 +1,65 @@
+package com.fleencorp.feen.common.interceptor;
+
+import com.fleencorp.feen.common.aspect.ReCaptcha;
+import com.fleencorp.feen.service.impl.external.recaptcha.ReCaptchaService;
+import com.fleencorp.feen.service.impl.external.recaptcha.impl.ReCaptchaAttemptService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Starts the reCAPTCHA verification of a request as soon as its handler is known.
+ *
+ * <p>Interceptors run before the request body is read, converted and validated, so starting the call to
+ * Google here lets it overlap with that work. The pending verdict is stored as a request attribute and
+ * awaited by the {@link com.fleencorp.feen.common.aspect.impl.ReCaptchaAspect} just before the handler
+ * runs. Requests that fail validation never wait for Google at all, and requests from an address blocked after
+ * too many failed attempts are not sent to Google, so the aspect rejects them without a verdict.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Component
+public class ReCaptchaVerificationInterceptor implements HandlerInterceptor {
+
+  public static final String RECAPTCHA_HEADER_KEY = "Recaptcha-token";
+  public static final String RECAPTCHA_VERIFICATION_ATTRIBUTE = ReCaptchaVerificationInterceptor.class.getName() + ".verification";
+
+  private final ReCaptchaService reCaptchaService;
+  private final ReCaptchaAttemptService reCaptchaAttemptService;
+
+  public ReCaptchaVerificationInterceptor(
+      final ReCaptchaService reCaptchaService,
+      final ReCaptchaAttemptService reCaptchaAttemptService) {
+    this.reCaptchaService = reCaptchaService;
+    this.reCaptchaAttemptService = reCaptchaAttemptService;
+  }
+
+  /**
+   * Starts the verification of the reCAPTCHA token when the handler is annotated with {@link ReCaptcha} and the
+   * client is not blocked.
+   *
+   * @param request the current request
+   * @param response the current response
+   * @param handler the handler chosen for the request
+   * @return always {@code true}, the decision is made by the aspect
+   */
+  @Override
+  public boolean preHandle(@NonNull final HttpServletRequest request, @NonNull final HttpServletResponse response, @NonNull final Object handler) {
+    if (handler instanceof final HandlerMethod handlerMethod
+        && handlerMethod.hasMethodAnnotation(ReCaptcha.class)
+        && reCaptchaService.isReCaptchaEnabled()) {
+      final String reCaptchaToken = request.getHeader(RECAPTCHA_HEADER_KEY);
+      final String ipAddress = request.getRemoteAddr();
+      if (nonNull(reCaptchaToken) && !reCaptchaAttemptService.isBlocked(ipAddress)) {
+        request.setAttribute(RECAPTCHA_VERIFICATION_ATTRIBUTE, reCaptchaService.verifyReCaptchaAsync(reCaptchaToken, ipAddress));
+      }
+    }
+    return true;
+  }
+}
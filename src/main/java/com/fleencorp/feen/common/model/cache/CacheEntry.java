@@ -0,0 +1,21 @@
+package com.fleencorp.feen.common.model.cache;
+
+import java.time.Duration;
+
+/**
+ * A single value to write in a bulk cache operation.
+ *
+ * @param key the key to set
+ * @param value the value to set, written as is if it is a string and as JSON otherwise
+ * @param ttl how long the key lives, or {@code null} to keep it until deleted
+ */
+public record CacheEntry(String key, Object value, Duration ttl) {
+
+  public static CacheEntry of(final String key, final Object value, final Duration ttl) {
+    return new CacheEntry(key, value, ttl);
+  }
+
+  public static CacheEntry of(final String key, final Object value) {
+    return new CacheEntry(key, value, null);
+  }
+}
@@ -0,0 +1,28 @@
+package com.fleencorp.feen.common.model.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import static java.util.Objects.isNull;
+
+/**
+ * A message broadcast over Redis pub/sub telling other nodes to drop entries from their local cache tier.
+ *
+ * @param nodeId the node that changed the entry, so it can ignore its own message
+ * @param cacheName the cache the entry belongs to
+ * @param key the key of the changed entry, or {@code null} if the whole cache was cleared
+ */
+public record CacheInvalidationMessage(String nodeId, String cacheName, String key) {
+
+  public static CacheInvalidationMessage evict(final String nodeId, final String cacheName, final String key) {
+    return new CacheInvalidationMessage(nodeId, cacheName, key);
+  }
+
+  public static CacheInvalidationMessage clear(final String nodeId, final String cacheName) {
+    return new CacheInvalidationMessage(nodeId, cacheName, null);
+  }
+
+  @JsonIgnore
+  public boolean isClear() {
+    return isNull(key);
+  }
+}
@@ -0,0 +1,21 @@
+package com.fleencorp.feen.common.model.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * The outcome of a rate limit check.
+ *
+ * @param allowed whether the request may proceed
+ * @param remaining the approximate number of tokens left in the bucket
+ * @param retryAfter how long the client should wait before retrying, zero if allowed
+ */
+public record RateLimitDecision(boolean allowed, long remaining, Duration retryAfter) {
+
+  public static RateLimitDecision allowed(final long remaining) {
+    return new RateLimitDecision(true, remaining, Duration.ZERO);
+  }
+
+  public static RateLimitDecision rejected(final Duration retryAfter) {
+    return new RateLimitDecision(false, 0, retryAfter);
+  }
+}
@@ -0,0 +1,23 @@
+package com.fleencorp.feen.common.model.ratelimit;
+
+import com.fleencorp.feen.common.constant.ratelimit.RateLimitKeyType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * Configured override for a single rate limited route. Any value left unset falls back to the value
+ * declared on the route's {@link com.fleencorp.feen.common.aspect.RateLimit} annotation.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class RateLimitOverride {
+
+  private Long capacity;
+  private Long refillTokens;
+  private Duration refillPeriod;
+  private RateLimitKeyType key;
+}
@@ -0,0 +1,47 @@
+package com.fleencorp.feen.common.model.ratelimit;
+
+import com.fleencorp.feen.common.aspect.RateLimit;
+import com.fleencorp.feen.common.constant.ratelimit.RateLimitKeyType;
+
+import java.time.Duration;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * The effective token-bucket policy applied to a rate limited route.
+ *
+ * @param name the route name
+ * @param capacity the maximum number of tokens, i.e. the burst size
+ * @param refillTokens the number of tokens added every refill period
+ * @param refillPeriod the length of the refill period
+ * @param keyType what the bucket is keyed by
+ */
+public record RateLimitPolicy(String name, long capacity, long refillTokens, Duration refillPeriod, RateLimitKeyType keyType) {
+
+  public static RateLimitPolicy of(final String name, final long capacity, final long refillTokens, final Duration refillPeriod, final RateLimitKeyType keyType) {
+    return new RateLimitPolicy(name, capacity, refillTokens, refillPeriod, keyType);
+  }
+
+  /**
+   * Creates a policy from a {@link RateLimit} annotation, applying any configured override for the route.
+   *
+   * @param rateLimit the annotation declared on the endpoint
+   * @param override the configured override for the route, may be {@code null}
+   * @return the effective policy
+   */
+  public static RateLimitPolicy of(final RateLimit rateLimit, final RateLimitOverride override) {
+    long capacity = rateLimit.capacity();
+    long refillTokens = rateLimit.refillTokens() > 0 ? rateLimit.refillTokens() : capacity;
+    Duration refillPeriod = Duration.ofSeconds(rateLimit.refillPeriodSeconds());
+    RateLimitKeyType keyType = rateLimit.key();
+
+    if (nonNull(override)) {
+      capacity = nonNull(override.getCapacity()) ? override.getCapacity() : capacity;
+      refillTokens = nonNull(override.getRefillTokens()) ? override.getRefillTokens() : refillTokens;
+      refillPeriod = nonNull(override.getRefillPeriod()) ? override.getRefillPeriod() : refillPeriod;
+      keyType = nonNull(override.getKey()) ? override.getKey() : keyType;
+    }
+
+    return of(rateLimit.name(), capacity, refillTokens, refillPeriod, keyType);
+  }
+}
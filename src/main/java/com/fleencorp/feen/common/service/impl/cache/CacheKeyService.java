@@ -1,27 +1,18 @@
 package com.fleencorp.feen.common.service.impl.cache;
 
 import com.fleencorp.base.constant.base.CacheKeyConstant;
-import com.fleencorp.feen.mfa.constant.MfaType;
+import com.fleencorp.feen.verification.constant.OtpPurpose;
 import lombok.extern.slf4j.Slf4j;
 
-import static com.fleencorp.base.constant.base.CacheKeyConstant.UPDATE_EMAIL_CACHE_PREFIX;
-import static com.fleencorp.base.constant.base.CacheKeyConstant.UPDATE_PHONE_NUMBER_CACHE_PREFIX;
-
 @Slf4j
 public final class CacheKeyService {
 
-  private CacheKeyService() {}
+  private static final String RATE_LIMIT_CACHE_PREFIX = "rate-limit:";
+  private static final String OTP_CACHE_PREFIX = "otp:";
+  private static final String MFA_AUTHENTICATOR_SETUP_CACHE_PREFIX = "mfa-authenticator-setup:";
+  private static final String CACHE_LOAD_LOCK_PREFIX = "cache-load-lock:";
 
-  /**
-   * Generates a cache key for setting up multi-factor authentication (MFA) based on the provided username and MFA type.
-   *
-   * @param username the username for which the MFA setup cache key is being generated.
-   * @param mfaType the type of MFA being set up (e.g., email or phone).
-   * @return the cache key for the MFA setup, determined by the specified {@link MfaType}.
-   */
-  public static String getMfaSetupCacheKey(final String username, final MfaType mfaType) {
-    return MfaType.isEmail(mfaType) ? getEmailMfaSetupCacheKey(username) : getPhoneMfaSetupCacheKey(username);
-  }
+  private CacheKeyService() {}
 
   /**
    * Prefix a user's identifier with a predefined key used to save an authentication token like JWT.
@@ -54,72 +45,45 @@ public final class CacheKeyService {
   }
 
   /**
-   * Prefix a user's identifier with a predefined key used to save a pre-verification token or OTP or code.
+   * Generates a cache key for a rate limit bucket based on the limited route and the client identifier.
    *
-   * @param username a user identifier found on the system or is to be registered on the system
-   * @return a string concatenation of a predefined prefix and the user's identifier
+   * @param name the name of the rate limited route or operation
+   * @param identifier the principal or IP address the bucket belongs to
+   * @return a string concatenation of a predefined prefix, the route name and the client identifier
    */
-  public static String getSignUpVerificationCacheKey(final String username) {
-    return CacheKeyConstant.SIGN_UP_VERIFICATION_PREFIX.concat(username);
+  public static String getRateLimitCacheKey(final String name, final String identifier) {
+    return RATE_LIMIT_CACHE_PREFIX.concat(name).concat(":").concat(identifier);
   }
 
   /**
-   * <p>Prefix a user's identifier with a predefined key used to save a pre-authentication token or OTP or code.</p>
+   * Generates a cache key for a one-time verification code based on the flow it belongs to and the user.
    *
-   * @param username a user identifier found on the system or is to be registered on the system
-   * @return a string concatenation of a predefined prefix and the user's identifier
+   * @param otpPurpose the flow the code is issued for
+   * @param username the user the code is issued to
+   * @return a string concatenation of a predefined prefix, the purpose and the user's identifier
    */
-  public static String getMfaAuthenticationCacheKey(final String username) {
-    return CacheKeyConstant.MFA_AUTHENTICATION_PREFIX.concat(username);
+  public static String getOtpCacheKey(final OtpPurpose otpPurpose, final String username) {
+    return OTP_CACHE_PREFIX.concat(otpPurpose.getValue()).concat(":").concat(username);
   }
 
   /**
-   * Prefix a user's identifier with a predefined key used to save a reset password token or OTP or code.
+   * Generates a cache key for the pending authenticator MFA setup of a user, holding the secret and its QR code.
    *
-   * @param username a user identifier found on the system or is to be registered on the system
+   * @param username the user setting up the authenticator
    * @return a string concatenation of a predefined prefix and the user's identifier
    */
-  public static String getResetPasswordCacheKey(final String username) {
-    return CacheKeyConstant.RESET_PASSWORD_CACHE_PREFIX.concat(username);
+  public static String getMfaAuthenticatorSetupCacheKey(final String username) {
+    return MFA_AUTHENTICATOR_SETUP_CACHE_PREFIX.concat(username);
   }
 
   /**
-   * Prefix a user's identifier with a predefined key used to save a MFA setup token or OTP or code.
+   * Generates the key of the lock held by the node that recomputes an entry of a shared cache.
    *
-   * @param username a user identifier found on the system or is to be registered on the system
-   * @return a string concatenation of a predefined prefix and the user's identifier
-   */
-  public static String getEmailMfaSetupCacheKey(final String username) {
-    return CacheKeyConstant.MFA_SETUP_EMAIL_CACHE_PREFIX.concat(username);
-  }
-
-  /**
-   * Prefix a user's identifier with a predefined key used to save a MFA setup token or OTP or code.
-   *
-   * @param username a user identifier found on the system or is to be registered on the system
-   * @return a string concatenation of a predefined prefix and the user's identifier
-   */
-  public static String getPhoneMfaSetupCacheKey(final String username) {
-    return CacheKeyConstant.MFA_SETUP_PHONE_CACHE_PREFIX.concat(username);
-  }
-
-  /**
-   * Prefix a user's identifier with a predefined key used to save an update email otp.
-   *
-   * @param username a user identifier found on the system or is to be registered on the system
-   * @return a string concatenation of a predefined prefix and the user's identifier
-   */
-  public static String getUpdateEmailCacheKey(final String username) {
-    return UPDATE_EMAIL_CACHE_PREFIX.concat(username);
-  }
-
-  /**
-   * Prefix a user's identifier with a predefined key used to save an update phone number otp.
-   *
-   * @param username a user identifier found on the system or is to be registered on the system
-   * @return a string concatenation of a predefined prefix and the user's identifier
+   * @param cacheName the name of the cache
+   * @param key the key of the entry being recomputed
+   * @return the lock key
    */
-  public static String getUpdatePhoneNumberCacheKey(final String username) {
-    return UPDATE_PHONE_NUMBER_CACHE_PREFIX.concat(username);
+  public static String getCacheLoadLockKey(final String cacheName, final String key) {
+    return CACHE_LOAD_LOCK_PREFIX.concat(cacheName).concat(":").concat(key);
   }
 }
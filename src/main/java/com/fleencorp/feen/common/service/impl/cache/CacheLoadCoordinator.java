@@ -0,0 +1,309 @@
+package com.fleencorp.feen.common.service.impl.cache;
+
+import com.fleencorp.feen.common.configuration.cache.TieredCacheProperties;
+import com.fleencorp.feen.common.configuration.cache.TieredCacheProperties.CachePolicy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static com.fleencorp.feen.common.service.impl.cache.CacheKeyService.getCacheLoadLockKey;
+import static com.fleencorp.feen.common.service.impl.cache.TieredCacheMetrics.*;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * CacheLoadCoordinator makes sure a missing or expiring cache entry is recomputed once instead of once per
+ * caller.
+ *
+ * <p>When several requests miss the same entry at the same time, the first one recomputes it and the others
+ * wait for its result instead of hitting the database and message sources themselves. This holds per node;
+ * caches whose policy enables a distributed lock additionally take a short Redis lock so only one node
+ * recomputes the entry while the others wait for it to appear in Redis.</p>
+ *
+ * <p>Entries of caches with a refresh-ahead window are recomputed on a small background pool shortly before
+ * they expire in Redis. Callers keep receiving the current value in the meantime, so a popular entry never
+ * expires under load. The locale of the request that triggered the refresh is carried over to the background
+ * thread, because most cached responses are localized.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class CacheLoadCoordinator implements DisposableBean {
+
+  private static final String COMPARE_AND_DELETE_SCRIPT = "scripts/redis/compare-and-delete.lua";
+  private static final long LOCK_POLL_INTERVAL_MILLIS = 50;
+  private static final String WITHOUT_LOCK = "";
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+  private final StringRedisTemplate redisTemplate;
+  private final TieredCacheProperties properties;
+  private final TieredCacheMetrics metrics;
+  private final RedisScript<Long> compareAndDeleteScript;
+  private final ThreadPoolExecutor refreshExecutor;
+
+  /**
+   * Constructs a new CacheLoadCoordinator.
+   *
+   * @param redisTemplate the template used to take and release distributed load locks
+   * @param properties the lock and refresh configuration
+   * @param metrics the tiered cache metrics
+   * @param meterRegistry the registry used to publish the number of loads in flight
+   */
+  public CacheLoadCoordinator(
+      final StringRedisTemplate redisTemplate,
+      final TieredCacheProperties properties,
+      final TieredCacheMetrics metrics,
+      final MeterRegistry meterRegistry) {
+    this.redisTemplate = redisTemplate;
+    this.properties = properties;
+    this.metrics = metrics;
+    this.compareAndDeleteScript = createCompareAndDeleteScript();
+    this.refreshExecutor = new ThreadPoolExecutor(
+      properties.getRefreshThreads(),
+      properties.getRefreshThreads(),
+      0L,
+      TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(properties.getRefreshQueueCapacity()),
+      new CustomizableThreadFactory("cache-refresh-"),
+      new ThreadPoolExecutor.AbortPolicy()
+    );
+
+    Gauge.builder("cache.tiered.loads.in.flight", inFlight, ConcurrentMap::size)
+      .register(meterRegistry);
+  }
+
+  /**
+   * Recomputes a missing entry, letting concurrent callers for the same entry share a single computation.
+   *
+   * @param cacheName the name of the cache
+   * @param key the key of the entry
+   * @param policy the policy of the cache
+   * @param loader recomputes the entry and writes it to the cache
+   * @param recheck reads the entry from Redis; used after waiting for another node to recompute it
+   * @return the value of the entry
+   * @throws Exception the exception thrown by the loader
+   */
+  public Object load(
+      final String cacheName,
+      final String key,
+      final CachePolicy policy,
+      final Callable<?> loader,
+      final Supplier<ValueWrapper> recheck) throws Exception {
+    if (policy.usesDistributedLock()) {
+      return singleFlight(cacheName, key, () -> loadWithLock(cacheName, key, loader, recheck));
+    }
+    return singleFlight(cacheName, key, loader);
+  }
+
+  /**
+   * Recomputes an entry on the background pool while callers keep being served its current value.
+   *
+   * <p>The refresh is skipped if the entry is already being recomputed on this node, if another node holds its
+   * load lock, or if the pool is saturated. A skipped or failed refresh is not retried; the entry simply expires
+   * and is recomputed on the next miss.</p>
+   *
+   * @param cacheName the name of the cache
+   * @param key the key of the entry
+   * @param policy the policy of the cache
+   * @param loader recomputes the entry and writes it to the cache
+   */
+  public void refreshAsync(final String cacheName, final String key, final CachePolicy policy, final Callable<?> loader) {
+    if (inFlight.containsKey(toFlightKey(cacheName, key))) {
+      metrics.recordLoad(cacheName, REFRESH_SKIPPED);
+      return;
+    }
+
+    final LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+    try {
+      refreshExecutor.execute(() -> refresh(cacheName, key, policy, loader, localeContext));
+    } catch (final RejectedExecutionException ex) {
+      metrics.recordLoad(cacheName, REFRESH_SKIPPED);
+    }
+  }
+
+  /**
+   * Shuts down the refresh pool when the application context closes.
+   */
+  @Override
+  public void destroy() {
+    refreshExecutor.shutdown();
+  }
+
+  private void refresh(
+      final String cacheName,
+      final String key,
+      final CachePolicy policy,
+      final Callable<?> loader,
+      final LocaleContext localeContext) {
+    LocaleContextHolder.setLocaleContext(localeContext);
+    try {
+      if (policy.usesDistributedLock()) {
+        final String lockKey = getCacheLoadLockKey(cacheName, key);
+        final String token = tryLock(lockKey);
+        if (isNull(token)) {
+          metrics.recordLoad(cacheName, REFRESH_SKIPPED);
+          return;
+        }
+        try {
+          singleFlight(cacheName, key, loader);
+        } finally {
+          unlock(lockKey, token);
+        }
+      } else {
+        singleFlight(cacheName, key, loader);
+      }
+      metrics.recordLoad(cacheName, REFRESHED);
+    } catch (final Exception ex) {
+      metrics.recordLoad(cacheName, REFRESH_FAILED);
+      log.warn("Unable to refresh {} of cache {}: {}", key, cacheName, ex.getMessage());
+    } finally {
+      LocaleContextHolder.resetLocaleContext();
+    }
+  }
+
+  /**
+   * Runs the loader unless a computation of the same entry is already in flight on this node, in which case
+   * its result is awaited instead.
+   */
+  private Object singleFlight(final String cacheName, final String key, final Callable<?> loader) throws Exception {
+    final String flightKey = toFlightKey(cacheName, key);
+    final CompletableFuture<Object> flight = new CompletableFuture<>();
+    final CompletableFuture<Object> existingFlight = inFlight.putIfAbsent(flightKey, flight);
+    if (nonNull(existingFlight)) {
+      metrics.recordLoad(cacheName, COALESCED);
+      return await(existingFlight);
+    }
+
+    try {
+      final Object value = loader.call();
+      flight.complete(value);
+      metrics.recordLoad(cacheName, LOADED);
+      return value;
+    } catch (final Exception | Error ex) {
+      flight.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(flightKey, flight);
+    }
+  }
+
+  /**
+   * Recomputes the entry under its Redis lock. If another node holds the lock, waits for that node to write the
+   * entry to Redis, and recomputes it anyway if it does not appear within the configured wait.
+   */
+  private Object loadWithLock(
+      final String cacheName,
+      final String key,
+      final Callable<?> loader,
+      final Supplier<ValueWrapper> recheck) throws Exception {
+    final String lockKey = getCacheLoadLockKey(cacheName, key);
+    String token = tryLock(lockKey);
+
+    if (isNull(token)) {
+      metrics.recordLoad(cacheName, LOCK_WAITED);
+      final long waitUntil = System.nanoTime() + properties.getLoadLockWait().toNanos();
+      while (isNull(token) && System.nanoTime() < waitUntil) {
+        Thread.sleep(LOCK_POLL_INTERVAL_MILLIS);
+        final ValueWrapper loadedByOtherNode = recheck.get();
+        if (nonNull(loadedByOtherNode)) {
+          return loadedByOtherNode.get();
+        }
+        token = tryLock(lockKey);
+      }
+
+      if (isNull(token)) {
+        log.warn("Timed out waiting for another node to load {} of cache {}", key, cacheName);
+        return loader.call();
+      }
+
+      final ValueWrapper loadedByOtherNode = recheck.get();
+      if (nonNull(loadedByOtherNode)) {
+        unlock(lockKey, token);
+        return loadedByOtherNode.get();
+      }
+    }
+
+    try {
+      return loader.call();
+    } finally {
+      unlock(lockKey, token);
+    }
+  }
+
+  /**
+   * Tries to take the lock.
+   *
+   * @return the token to release the lock with, {@code null} if another node holds it, or an empty token if
+   *         Redis is unavailable and the caller should proceed without a lock
+   */
+  private String tryLock(final String lockKey) {
+    final String token = nodeId + ":" + UUID.randomUUID();
+    try {
+      final Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, properties.getLoadLockLease());
+      return Boolean.TRUE.equals(acquired) ? token : null;
+    } catch (final DataAccessException ex) {
+      log.warn("Unable to take load lock {}: {}", lockKey, ex.getMessage());
+      return WITHOUT_LOCK;
+    }
+  }
+
+  private void unlock(final String lockKey, final String token) {
+    if (WITHOUT_LOCK.equals(token)) {
+      return;
+    }
+    try {
+      redisTemplate.execute(compareAndDeleteScript, List.of(lockKey), token);
+    } catch (final DataAccessException ex) {
+      log.warn("Unable to release load lock {}: {}", lockKey, ex.getMessage());
+    }
+  }
+
+  private static Object await(final CompletableFuture<Object> flight) throws Exception {
+    try {
+      return flight.get();
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw ex;
+    } catch (final ExecutionException ex) {
+      if (ex.getCause() instanceof final Exception cause) {
+        throw cause;
+      }
+      if (ex.getCause() instanceof final Error error) {
+        throw error;
+      }
+      throw ex;
+    }
+  }
+
+  private static String toFlightKey(final String cacheName, final String key) {
+    return cacheName.concat(":").concat(key);
+  }
+
+  private static RedisScript<Long> createCompareAndDeleteScript() {
+    final DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+    script.setScriptSource(new ResourceScriptSource(new ClassPathResource(COMPARE_AND_DELETE_SCRIPT)));
+    script.setResultType(Long.class);
+    return script;
+  }
+}
@@ -3,20 +3,39 @@ package com.fleencorp.feen.common.service.impl.cache;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fleencorp.base.util.JsonUtil;
+import com.fleencorp.feen.common.model.cache.CacheEntry;
+import com.google.common.cache.Cache;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import static com.fleencorp.feen.common.service.impl.cache.TieredCacheMetrics.LOCAL_TIER;
+import static com.fleencorp.feen.common.service.impl.cache.TieredCacheMetrics.REDIS_TIER;
 import static com.fleencorp.feen.common.util.common.LoggingUtil.logIfEnabled;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 /**
  * CacheService provides methods for interacting with a Redis cache.
  *
+ * <p>The {@code *Tiered} methods additionally keep deserialized values in the on-heap region of a named
+ * cache, which suits near-static data read on many requests. Changes made through them are announced to the
+ * other nodes so their local copies are dropped.</p>
+ *
+ * <p>The {@code multi*} methods read or write many keys in a single round trip, using {@code MGET},
+ * {@code MSET} or a pipeline.</p>
+ *
  * @author Yusuf Alamu Musa
  * @version 1.0
  */
@@ -27,6 +46,8 @@ public class CacheService {
   private final RedisTemplate<String, Object> redisTemplate;
   private final ObjectMapper mapper;
   private final JsonUtil jsonUtil;
+  private final LocalCacheRegistry localCacheRegistry;
+  private final TieredCacheMetrics tieredCacheMetrics;
   private final Map<String, Object> objectsMap = new HashMap<>();
 
   /**
@@ -34,14 +55,21 @@ public class CacheService {
    *
    * @param redisTemplate The RedisTemplate to use for cache operations.
    * @param mapper        The ObjectMapper to use for serialization/deserialization.
+   * @param jsonUtil      The utility used to deserialize cached JSON values.
+   * @param localCacheRegistry The registry providing the on-heap regions of named caches.
+   * @param tieredCacheMetrics The per-tier cache metrics.
    */
   public CacheService(
       final RedisTemplate<String, Object> redisTemplate,
       final ObjectMapper mapper,
-      final JsonUtil jsonUtil) {
+      final JsonUtil jsonUtil,
+      final LocalCacheRegistry localCacheRegistry,
+      final TieredCacheMetrics tieredCacheMetrics) {
     this.redisTemplate = redisTemplate;
     this.mapper = mapper;
     this.jsonUtil = jsonUtil;
+    this.localCacheRegistry = localCacheRegistry;
+    this.tieredCacheMetrics = tieredCacheMetrics;
   }
 
   /**
@@ -93,8 +121,7 @@ public class CacheService {
    * @param duration The duration after which the key will expire.
    */
   public void set(final String key, final String value, final Duration duration) {
-    set(key, value);
-    expire(key, duration);
+    redisTemplate.opsForValue().set(key, value, duration);
   }
 
   /**
@@ -164,6 +191,25 @@ public class CacheService {
     }
   }
 
+  /**
+   * Sets the specified key in the cache to the serialized JSON representation of the given value, together with its
+   * expiration time in a single {@code SET}, so the key never exists without one.
+   *
+   * @param key      The key to set.
+   * @param value    The value to serialize and set for the key.
+   * @param duration The duration after which the key will expire.
+   */
+  public void set(final String key, final Object value, final Duration duration) {
+    if (nonNull(key) && nonNull(value)) {
+      try {
+        final String jsonString = mapper.writeValueAsString(value);
+        set(key, jsonString, duration);
+      } catch (final JsonProcessingException ex) {
+        logIfEnabled(log::isErrorEnabled, () -> log.error(ex.getMessage(), ex));
+      }
+    }
+  }
+
   /**
    * Retrieves the value associated with the specified key from the cache and deserializes it into an object of the given class.
    *
@@ -181,4 +227,206 @@ public class CacheService {
     return null;
   }
 
+  /**
+   * Retrieves the values of several keys in a single {@code MGET}.
+   *
+   * @param keys The keys to retrieve the values for.
+   * @return The values keyed by key, in the order of the given keys. Keys that do not exist are left out.
+   */
+  public Map<String, Object> multiGet(final Collection<String> keys) {
+    final Map<String, Object> values = new LinkedHashMap<>();
+    if (isNull(keys) || keys.isEmpty()) {
+      return values;
+    }
+
+    final List<String> orderedKeys = new ArrayList<>(keys);
+    final List<Object> results = redisTemplate.opsForValue().multiGet(orderedKeys);
+    if (nonNull(results)) {
+      for (int i = 0; i < orderedKeys.size(); i++) {
+        final Object value = results.get(i);
+        if (nonNull(value)) {
+          values.put(orderedKeys.get(i), value);
+        }
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Retrieves the values of several keys in a single {@code MGET} and deserializes them into the given class.
+   *
+   * @param keys  The keys to retrieve the values for.
+   * @param clazz The class type of the values to deserialize.
+   * @param <T>   The type of the values to deserialize.
+   * @return The deserialized values keyed by key. Keys that do not exist are left out.
+   */
+  public <T> Map<String, T> multiGet(final Collection<String> keys, final Class<T> clazz) {
+    final Map<String, T> values = new LinkedHashMap<>();
+    multiGet(keys).forEach((key, value) -> {
+      final T deserialized = clazz == String.class ? clazz.cast(value) : jsonUtil.get((String) value, clazz);
+      if (nonNull(deserialized)) {
+        values.put(key, deserialized);
+      }
+    });
+    return values;
+  }
+
+  /**
+   * Sets several keys without an expiration in a single {@code MSET}. Strings are stored as is and other values
+   * as their JSON representation.
+   *
+   * @param values The values to set, keyed by key.
+   */
+  public void multiSet(final Map<String, ?> values) {
+    if (isNull(values) || values.isEmpty()) {
+      return;
+    }
+
+    final Map<String, Object> cacheValues = new HashMap<>(values.size());
+    values.forEach((key, value) -> {
+      final String cacheValue = toCacheValue(value);
+      if (nonNull(key) && nonNull(cacheValue)) {
+        cacheValues.put(key, cacheValue);
+      }
+    });
+    redisTemplate.opsForValue().multiSet(cacheValues);
+  }
+
+  /**
+   * Sets several keys with the same expiration in a single pipeline.
+   *
+   * @param values   The values to set, keyed by key.
+   * @param duration The duration after which every key will expire.
+   */
+  public void multiSet(final Map<String, ?> values, final Duration duration) {
+    if (isNull(values) || values.isEmpty()) {
+      return;
+    }
+
+    final List<CacheEntry> entries = new ArrayList<>(values.size());
+    values.forEach((key, value) -> entries.add(CacheEntry.of(key, value, duration)));
+    multiSet(entries);
+  }
+
+  /**
+   * Sets several keys, each with its own expiration, in a single pipeline.
+   *
+   * @param entries The entries to set. Entries without a TTL are kept until deleted.
+   */
+  public void multiSet(final Collection<CacheEntry> entries) {
+    if (isNull(entries) || entries.isEmpty()) {
+      return;
+    }
+
+    pipelined(operations -> entries.forEach(entry -> {
+      final String cacheValue = toCacheValue(entry.value());
+      if (isNull(entry.key()) || isNull(cacheValue)) {
+        return;
+      }
+
+      if (nonNull(entry.ttl())) {
+        operations.opsForValue().set(entry.key(), cacheValue, entry.ttl());
+      } else {
+        operations.opsForValue().set(entry.key(), cacheValue);
+      }
+    }));
+  }
+
+  /**
+   * Runs several commands in a single Redis pipeline.
+   *
+   * <p>Commands issued on the given operations are queued and sent together; their results are only
+   * available once the pipeline completes, so the callback must not rely on them.</p>
+   *
+   * @param commands The callback issuing the commands.
+   * @return The result of each command, in the order the commands were issued.
+   */
+  private List<Object> pipelined(final Consumer<RedisOperations<String, Object>> commands) {
+    return redisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(final RedisOperations<K, V> operations) {
+        commands.accept((RedisOperations<String, Object>) operations);
+        return null;
+      }
+    });
+  }
+
+  /**
+   * Converts a value into the string stored in Redis: strings as is and other values as JSON.
+   *
+   * @param value The value to convert.
+   * @return The string to store, or null if the value is null or cannot be serialized.
+   */
+  private String toCacheValue(final Object value) {
+    if (isNull(value) || value instanceof String) {
+      return (String) value;
+    }
+
+    try {
+      return mapper.writeValueAsString(value);
+    } catch (final JsonProcessingException ex) {
+      logIfEnabled(log::isErrorEnabled, () -> log.error(ex.getMessage(), ex));
+      return null;
+    }
+  }
+
+  /**
+   * Retrieves the value of the key from the on-heap region of the named cache, or from Redis if it is not held
+   * locally. A value read from Redis is kept in the local region for later reads.
+   *
+   * @param cacheName The name of the cache whose local region is used.
+   * @param key       The key to retrieve the value for.
+   * @param clazz     The class type of the value to deserialize.
+   * @param <T>       The type of the value to deserialize.
+   * @return The value associated with the key, or null if the key does not exist.
+   */
+  public <T> T getTiered(final String cacheName, final String key, final Class<T> clazz) {
+    final Cache<String, Object> localCache = localCacheRegistry.getRegion(cacheName);
+    final long localStartedAt = System.nanoTime();
+    final Object localValue = localCache.getIfPresent(key);
+    final boolean localHit = clazz.isInstance(localValue);
+    tieredCacheMetrics.recordGet(cacheName, LOCAL_TIER, localHit, localStartedAt);
+
+    if (localHit) {
+      return clazz.cast(localValue);
+    }
+
+    final long redisStartedAt = System.nanoTime();
+    final T value = get(key, clazz);
+    tieredCacheMetrics.recordGet(cacheName, REDIS_TIER, nonNull(value), redisStartedAt);
+
+    if (nonNull(value)) {
+      localCache.put(key, value);
+    }
+    return value;
+  }
+
+  /**
+   * Sets the key in Redis and in the on-heap region of the named cache, and tells the other nodes to drop their
+   * local copy.
+   *
+   * @param cacheName The name of the cache whose local region is used.
+   * @param key       The key to set.
+   * @param value     The value to serialize and set for the key.
+   */
+  public void setTiered(final String cacheName, final String key, final Object value) {
+    if (nonNull(key) && nonNull(value)) {
+      set(key, value);
+      localCacheRegistry.getRegion(cacheName).put(key, value);
+      localCacheRegistry.publishEviction(cacheName, key);
+    }
+  }
+
+  /**
+   * Deletes the key from Redis and from the on-heap region of the named cache on every node.
+   *
+   * @param cacheName The name of the cache whose local region is used.
+   * @param key       The key to delete.
+   */
+  public void deleteTiered(final String cacheName, final String key) {
+    delete(key);
+    localCacheRegistry.getRegion(cacheName).invalidate(key);
+    localCacheRegistry.publishEviction(cacheName, key);
+  }
 }
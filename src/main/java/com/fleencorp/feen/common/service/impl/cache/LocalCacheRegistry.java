@@ -0,0 +1,166 @@
+package com.fleencorp.feen.common.service.impl.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleencorp.feen.common.configuration.cache.TieredCacheProperties;
+import com.fleencorp.feen.common.configuration.cache.TieredCacheProperties.CachePolicy;
+import com.fleencorp.feen.common.model.cache.CacheInvalidationMessage;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+/**
+ * LocalCacheRegistry owns the on-heap tier of every cache and keeps it consistent across nodes.
+ *
+ * <p>Each cache name gets its own size- and TTL-bounded region built from its {@link TieredCacheProperties}
+ * policy. Whenever a node changes an entry it announces the key on a Redis pub/sub channel, and every other
+ * node drops its local copy so the next read falls through to Redis. Messages are best effort: an entry
+ * that misses an invalidation is still bounded by the TTL of its region.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class LocalCacheRegistry implements MessageListener {
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final ConcurrentMap<String, Cache<String, Object>> regions = new ConcurrentHashMap<>();
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper mapper;
+  private final TieredCacheProperties properties;
+  private final TieredCacheMetrics metrics;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Constructs a new LocalCacheRegistry.
+   *
+   * @param redisTemplate the template used to publish invalidation messages
+   * @param mapper the mapper used to write and read invalidation messages
+   * @param properties the local tier policies
+   * @param metrics the tiered cache metrics
+   * @param meterRegistry the registry used to publish the size of each region
+   */
+  public LocalCacheRegistry(
+      final StringRedisTemplate redisTemplate,
+      final ObjectMapper mapper,
+      final TieredCacheProperties properties,
+      final TieredCacheMetrics metrics,
+      final MeterRegistry meterRegistry) {
+    this.redisTemplate = redisTemplate;
+    this.mapper = mapper;
+    this.properties = properties;
+    this.metrics = metrics;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Returns the local region of the given cache, creating it from its policy on first use.
+   *
+   * @param cacheName the name of the cache
+   * @return the on-heap region of the cache
+   */
+  public Cache<String, Object> getRegion(final String cacheName) {
+    return regions.computeIfAbsent(cacheName, this::createRegion);
+  }
+
+  /**
+   * Returns the policy of the given cache.
+   *
+   * @param cacheName the name of the cache
+   * @return the complete policy of the cache
+   */
+  public CachePolicy getPolicy(final String cacheName) {
+    return properties.getPolicy(cacheName);
+  }
+
+  /**
+   * Tells the other nodes to drop their local copy of an entry.
+   *
+   * @param cacheName the name of the cache
+   * @param key the key of the changed entry
+   */
+  public void publishEviction(final String cacheName, final String key) {
+    publish(CacheInvalidationMessage.evict(nodeId, cacheName, key));
+  }
+
+  /**
+   * Tells the other nodes to drop every local entry of a cache.
+   *
+   * @param cacheName the name of the cache
+   */
+  public void publishClear(final String cacheName) {
+    publish(CacheInvalidationMessage.clear(nodeId, cacheName));
+  }
+
+  /**
+   * Drops local entries named by an invalidation message from another node.
+   *
+   * @param message the message received from the invalidation channel
+   * @param pattern the pattern of the channel that the message was received from
+   */
+  @Override
+  public void onMessage(final Message message, final byte[] pattern) {
+    final CacheInvalidationMessage invalidation;
+    try {
+      invalidation = mapper.readValue(new String(message.getBody(), UTF_8), CacheInvalidationMessage.class);
+    } catch (final JsonProcessingException ex) {
+      log.warn("Ignoring malformed cache invalidation message: {}", ex.getMessage());
+      return;
+    }
+
+    if (nodeId.equals(invalidation.nodeId())) {
+      return;
+    }
+
+    final Cache<String, Object> region = regions.get(invalidation.cacheName());
+    if (isNull(region)) {
+      return;
+    }
+
+    if (invalidation.isClear()) {
+      region.invalidateAll();
+    } else {
+      region.invalidate(invalidation.key());
+    }
+    metrics.recordInvalidation(invalidation.cacheName());
+  }
+
+  private void publish(final CacheInvalidationMessage invalidation) {
+    try {
+      redisTemplate.convertAndSend(properties.getInvalidationChannel(), mapper.writeValueAsString(invalidation));
+    } catch (final JsonProcessingException | DataAccessException ex) {
+      log.warn("Unable to publish cache invalidation for {}: {}", invalidation.cacheName(), ex.getMessage());
+    }
+  }
+
+  private Cache<String, Object> createRegion(final String cacheName) {
+    final CachePolicy policy = getPolicy(cacheName);
+    final Cache<String, Object> region = CacheBuilder.newBuilder()
+      .maximumSize(policy.getLocalMaxEntries())
+      .expireAfterWrite(policy.getLocalTtl().toMillis(), TimeUnit.MILLISECONDS)
+      .build();
+
+    Gauge.builder("cache.tiered.size", region, Cache::size)
+      .tag("cache", cacheName)
+      .tag("tier", TieredCacheMetrics.LOCAL_TIER)
+      .register(meterRegistry);
+    return region;
+  }
+}
@@ -0,0 +1,287 @@
+package com.fleencorp.feen.common.service.impl.cache;
+
+import com.fleencorp.feen.common.configuration.cache.TieredCacheProperties.CachePolicy;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import static com.fleencorp.feen.common.service.impl.cache.TieredCacheMetrics.LOCAL_TIER;
+import static com.fleencorp.feen.common.service.impl.cache.TieredCacheMetrics.REDIS_TIER;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A {@link Cache} that reads from an on-heap tier before falling back to Redis.
+ *
+ * <p>Reads are served from the local region of the cache when possible. On a local miss the Redis cache is
+ * read and any value found is copied into the local region. Writes and evictions go to Redis first, then to
+ * the local region, and are announced to the other nodes so they drop their stale local copy.</p>
+ *
+ * <p>Redis failures are treated as misses on read and logged on write, so an unavailable Redis degrades
+ * to node-local caching instead of failing the request. {@code null} results are only cached in either tier
+ * when the policy of the cache allows them.</p>
+ *
+ * <p>Lookups that carry a value loader, which is what {@code @Cacheable(sync = true)} uses, recompute a
+ * missing entry through the {@link CacheLoadCoordinator}, so concurrent misses share a single computation.
+ * When the policy has a refresh-ahead window, an entry recomputed by this node is refreshed in the background
+ * once it gets close to expiring in Redis, while the current value keeps being served.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Slf4j
+public class TieredCache implements Cache {
+
+  private final String name;
+  private final Cache redisCache;
+  private final CachePolicy policy;
+  private final boolean allowNullValues;
+  private final long refreshAfterMillis;
+  private final com.google.common.cache.Cache<String, Object> localCache;
+  private final com.google.common.cache.Cache<String, Long> refreshDeadlines;
+  private final LocalCacheRegistry localCacheRegistry;
+  private final CacheLoadCoordinator loadCoordinator;
+  private final TieredCacheMetrics metrics;
+
+  /**
+   * Constructs a new TieredCache.
+   *
+   * @param name the name of the cache
+   * @param redisCache the Redis cache acting as the second tier
+   * @param policy the policy of the cache
+   * @param localCacheRegistry the registry owning the local region and invalidation channel
+   * @param loadCoordinator the coordinator recomputing missing and expiring entries
+   * @param metrics the tiered cache metrics
+   */
+  public TieredCache(
+      final String name,
+      final Cache redisCache,
+      final CachePolicy policy,
+      final LocalCacheRegistry localCacheRegistry,
+      final CacheLoadCoordinator loadCoordinator,
+      final TieredCacheMetrics metrics) {
+    this.name = name;
+    this.redisCache = redisCache;
+    this.policy = policy;
+    this.allowNullValues = policy.allowsNullValues();
+    this.refreshAfterMillis = policy.refreshAfter().toMillis();
+    this.localCache = localCacheRegistry.getRegion(name);
+    this.refreshDeadlines = CacheBuilder.newBuilder()
+      .maximumSize(policy.getLocalMaxEntries())
+      .expireAfterWrite(policy.getTtl().toMillis(), TimeUnit.MILLISECONDS)
+      .build();
+    this.localCacheRegistry = localCacheRegistry;
+    this.loadCoordinator = loadCoordinator;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return redisCache.getNativeCache();
+  }
+
+  /**
+   * Returns the value of the key from the local tier, or from Redis if it is not held locally.
+   *
+   * @param key the key whose value is to be returned
+   * @return the value wrapper, or {@code null} if neither tier holds the key
+   */
+  @Override
+  public ValueWrapper get(final Object key) {
+    final String localKey = toLocalKey(key);
+    final long startedAt = System.nanoTime();
+    final Object localValue = localCache.getIfPresent(localKey);
+    metrics.recordGet(name, LOCAL_TIER, nonNull(localValue), startedAt);
+
+    if (nonNull(localValue)) {
+      return new SimpleValueWrapper(fromStoreValue(localValue));
+    }
+
+    return getFromRedisIntoLocalCache(key, localKey);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(final Object key, final Class<T> type) {
+    final ValueWrapper wrapper = get(key);
+    if (isNull(wrapper)) {
+      return null;
+    }
+
+    final Object value = wrapper.get();
+    if (nonNull(value) && nonNull(type) && !type.isInstance(value)) {
+      throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+    }
+    return (T) value;
+  }
+
+  /**
+   * Returns the value of the key, recomputing it with the value loader if neither tier holds it.
+   *
+   * <p>Concurrent callers missing the same key share a single call to the loader. A value that is due for
+   * refresh is returned as is while it is recomputed in the background.</p>
+   *
+   * @param key the key whose value is to be returned
+   * @param valueLoader computes the value on a miss
+   * @return the cached or computed value
+   * @throws ValueRetrievalException if the loader fails
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(final Object key, final Callable<T> valueLoader) {
+    final String localKey = toLocalKey(key);
+    final ValueWrapper wrapper = get(key);
+    if (nonNull(wrapper)) {
+      refreshIfDue(key, localKey, valueLoader);
+      return (T) wrapper.get();
+    }
+
+    try {
+      return (T) loadCoordinator.load(name, localKey, policy,
+        () -> loadAndPut(key, localKey, valueLoader),
+        () -> getFromRedisIntoLocalCache(key, localKey));
+    } catch (final Exception ex) {
+      throw new ValueRetrievalException(key, valueLoader, ex);
+    }
+  }
+
+  @Override
+  public void put(final Object key, final Object value) {
+    if (isNull(value) && !allowNullValues) {
+      return;
+    }
+
+    final String localKey = toLocalKey(key);
+    try {
+      redisCache.put(key, value);
+    } catch (final RuntimeException ex) {
+      log.warn("Unable to write {} to the Redis tier of cache {}: {}", localKey, name, ex.getMessage());
+    }
+    localCache.put(localKey, toStoreValue(value));
+    localCacheRegistry.publishEviction(name, localKey);
+  }
+
+  @Override
+  public ValueWrapper putIfAbsent(final Object key, final Object value) {
+    if (isNull(value) && !allowNullValues) {
+      return get(key);
+    }
+
+    final String localKey = toLocalKey(key);
+    final ValueWrapper existing = redisCache.putIfAbsent(key, value);
+    if (nonNull(existing)) {
+      localCache.put(localKey, toStoreValue(existing.get()));
+      return existing;
+    }
+
+    localCache.put(localKey, toStoreValue(value));
+    localCacheRegistry.publishEviction(name, localKey);
+    return null;
+  }
+
+  @Override
+  public void evict(final Object key) {
+    final String localKey = toLocalKey(key);
+    redisCache.evict(key);
+    localCache.invalidate(localKey);
+    refreshDeadlines.invalidate(localKey);
+    localCacheRegistry.publishEviction(name, localKey);
+  }
+
+  @Override
+  public boolean evictIfPresent(final Object key) {
+    final String localKey = toLocalKey(key);
+    final boolean evicted = redisCache.evictIfPresent(key);
+    localCache.invalidate(localKey);
+    refreshDeadlines.invalidate(localKey);
+    localCacheRegistry.publishEviction(name, localKey);
+    return evicted;
+  }
+
+  @Override
+  public void clear() {
+    redisCache.clear();
+    localCache.invalidateAll();
+    refreshDeadlines.invalidateAll();
+    localCacheRegistry.publishClear(name);
+  }
+
+  @Override
+  public boolean invalidate() {
+    final boolean invalidated = redisCache.invalidate();
+    localCache.invalidateAll();
+    refreshDeadlines.invalidateAll();
+    localCacheRegistry.publishClear(name);
+    return invalidated;
+  }
+
+  /**
+   * Computes the value with the loader, writes it to both tiers and schedules its refresh.
+   */
+  private Object loadAndPut(final Object key, final String localKey, final Callable<?> valueLoader) throws Exception {
+    final Object value = valueLoader.call();
+    put(key, value);
+    if (refreshAfterMillis > 0) {
+      refreshDeadlines.put(localKey, System.currentTimeMillis() + refreshAfterMillis);
+    }
+    return value;
+  }
+
+  /**
+   * Starts a background refresh of the entry if its refresh deadline has passed. Removing the deadline claims
+   * the refresh, so only one caller on this node starts it; a successful refresh sets a new deadline.
+   */
+  private void refreshIfDue(final Object key, final String localKey, final Callable<?> valueLoader) {
+    if (refreshAfterMillis <= 0) {
+      return;
+    }
+
+    final Long refreshAt = refreshDeadlines.getIfPresent(localKey);
+    if (nonNull(refreshAt) && System.currentTimeMillis() >= refreshAt && refreshDeadlines.asMap().remove(localKey, refreshAt)) {
+      loadCoordinator.refreshAsync(name, localKey, policy, () -> loadAndPut(key, localKey, valueLoader));
+    }
+  }
+
+  private ValueWrapper getFromRedisIntoLocalCache(final Object key, final String localKey) {
+    final ValueWrapper redisValue = getFromRedis(key);
+    if (nonNull(redisValue)) {
+      localCache.put(localKey, toStoreValue(redisValue.get()));
+    }
+    return redisValue;
+  }
+
+  private ValueWrapper getFromRedis(final Object key) {
+    final long startedAt = System.nanoTime();
+    try {
+      final ValueWrapper value = redisCache.get(key);
+      metrics.recordGet(name, REDIS_TIER, nonNull(value), startedAt);
+      return value;
+    } catch (final RuntimeException ex) {
+      metrics.recordError(name, REDIS_TIER, startedAt);
+      log.warn("Unable to read {} from the Redis tier of cache {}: {}", key, name, ex.getMessage());
+      return null;
+    }
+  }
+
+  private static String toLocalKey(final Object key) {
+    return String.valueOf(key);
+  }
+
+  private static Object toStoreValue(final Object value) {
+    return isNull(value) ? NullValue.INSTANCE : value;
+  }
+
+  private static Object fromStoreValue(final Object value) {
+    return value == NullValue.INSTANCE ? null : value;
+  }
+}
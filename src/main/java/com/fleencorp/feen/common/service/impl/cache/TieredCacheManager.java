@@ -0,0 +1,68 @@
+package com.fleencorp.feen.common.service.impl.cache;
+
+import com.fleencorp.feen.common.configuration.cache.TieredCacheProperties.CachePolicy;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.isNull;
+
+/**
+ * A {@link CacheManager} that places an on-heap tier in front of every cache of the Redis cache manager.
+ *
+ * <p>Caches are created lazily on first use. Each one combines the Redis cache of the same name with the
+ * local region registered in {@link LocalCacheRegistry}, whose bounds come from the cache's own policy.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class TieredCacheManager implements CacheManager {
+
+  private final CacheManager redisCacheManager;
+  private final LocalCacheRegistry localCacheRegistry;
+  private final CacheLoadCoordinator loadCoordinator;
+  private final TieredCacheMetrics metrics;
+  private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new TieredCacheManager.
+   *
+   * @param redisCacheManager the cache manager providing the Redis tier
+   * @param localCacheRegistry the registry providing the local tier
+   * @param loadCoordinator the coordinator recomputing missing and expiring entries
+   * @param metrics the tiered cache metrics
+   */
+  public TieredCacheManager(
+      final CacheManager redisCacheManager,
+      final LocalCacheRegistry localCacheRegistry,
+      final CacheLoadCoordinator loadCoordinator,
+      final TieredCacheMetrics metrics) {
+    this.redisCacheManager = redisCacheManager;
+    this.localCacheRegistry = localCacheRegistry;
+    this.loadCoordinator = loadCoordinator;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Cache getCache(final String name) {
+    return caches.computeIfAbsent(name, this::createCache);
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return Collections.unmodifiableSet(caches.keySet());
+  }
+
+  private Cache createCache(final String name) {
+    final Cache redisCache = redisCacheManager.getCache(name);
+    if (isNull(redisCache)) {
+      return null;
+    }
+    final CachePolicy policy = localCacheRegistry.getPolicy(name);
+    return new TieredCache(name, redisCache, policy, localCacheRegistry, loadCoordinator, metrics);
+  }
+}
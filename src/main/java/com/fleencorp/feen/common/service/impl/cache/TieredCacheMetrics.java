@@ -0,0 +1,110 @@
+package com.fleencorp.feen.common.service.impl.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TieredCacheMetrics publishes per-cache and per-tier metrics for the two-tier cache.
+ *
+ * <p>The following metrics are recorded, each tagged with the cache name and tier ({@code l1} or {@code l2}):</p>
+ * <ul>
+ *   <li>{@code cache.tiered.gets} - lookups, tagged by result ({@code hit}, {@code miss} or {@code error})</li>
+ *   <li>{@code cache.tiered.latency} - time spent on a lookup in the tier</li>
+ *   <li>{@code cache.tiered.invalidations} - local entries dropped after a message from another node</li>
+ *   <li>{@code cache.tiered.loads} - recomputations of missing or expiring entries, tagged by outcome; the
+ *   {@code coalesced} outcome counts callers that waited for a recomputation already in flight instead of
+ *   starting their own</li>
+ * </ul>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Component
+public class TieredCacheMetrics {
+
+  public static final String LOCAL_TIER = "l1";
+  public static final String REDIS_TIER = "l2";
+
+  public static final String LOADED = "loaded";
+  public static final String COALESCED = "coalesced";
+  public static final String LOCK_WAITED = "lock-waited";
+  public static final String REFRESHED = "refreshed";
+  public static final String REFRESH_SKIPPED = "refresh-skipped";
+  public static final String REFRESH_FAILED = "refresh-failed";
+
+  private static final String GETS_METRIC = "cache.tiered.gets";
+  private static final String LATENCY_METRIC = "cache.tiered.latency";
+  private static final String INVALIDATIONS_METRIC = "cache.tiered.invalidations";
+  private static final String LOADS_METRIC = "cache.tiered.loads";
+
+  private static final String CACHE_TAG = "cache";
+  private static final String TIER_TAG = "tier";
+  private static final String RESULT_TAG = "result";
+  private static final String OUTCOME_TAG = "outcome";
+
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Constructs a new TieredCacheMetrics.
+   *
+   * @param meterRegistry the registry used to publish cache metrics
+   */
+  public TieredCacheMetrics(final MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Records the outcome and latency of a lookup in one tier.
+   *
+   * @param cacheName the name of the cache
+   * @param tier the tier that was read
+   * @param hit whether the entry was found
+   * @param startedAt the {@link System#nanoTime()} at which the lookup started
+   */
+  public void recordGet(final String cacheName, final String tier, final boolean hit, final long startedAt) {
+    record(cacheName, tier, hit ? "hit" : "miss", startedAt);
+  }
+
+  /**
+   * Records a lookup in one tier that failed with an error.
+   *
+   * @param cacheName the name of the cache
+   * @param tier the tier that was read
+   * @param startedAt the {@link System#nanoTime()} at which the lookup started
+   */
+  public void recordError(final String cacheName, final String tier, final long startedAt) {
+    record(cacheName, tier, "error", startedAt);
+  }
+
+  /**
+   * Records that local entries of a cache were dropped after an invalidation message.
+   *
+   * @param cacheName the name of the cache
+   */
+  public void recordInvalidation(final String cacheName) {
+    meterRegistry.counter(INVALIDATIONS_METRIC, CACHE_TAG, cacheName).increment();
+  }
+
+  /**
+   * Records the outcome of a recomputation of an entry.
+   *
+   * @param cacheName the name of the cache
+   * @param outcome one of {@link #LOADED}, {@link #COALESCED}, {@link #LOCK_WAITED}, {@link #REFRESHED},
+   *                {@link #REFRESH_SKIPPED} or {@link #REFRESH_FAILED}
+   */
+  public void recordLoad(final String cacheName, final String outcome) {
+    meterRegistry.counter(LOADS_METRIC, CACHE_TAG, cacheName, OUTCOME_TAG, outcome).increment();
+  }
+
+  private void record(final String cacheName, final String tier, final String result, final long startedAt) {
+    meterRegistry.counter(GETS_METRIC, CACHE_TAG, cacheName, TIER_TAG, tier, RESULT_TAG, result).increment();
+    Timer.builder(LATENCY_METRIC)
+      .tag(CACHE_TAG, cacheName)
+      .tag(TIER_TAG, tier)
+      .register(meterRegistry)
+      .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,37 @@
+package com.fleencorp.feen.common.service.impl.cache.codec;
+
+import com.fleencorp.feen.common.constant.cache.CacheValueSerializer;
+
+/**
+ * Turns cache values into bytes and back, without any envelope or compression.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public interface CacheCodec {
+
+  /**
+   * Returns the serializer this codec implements. Its codec id is written into every envelope.
+   *
+   * @return the serializer type of the codec
+   */
+  CacheValueSerializer getType();
+
+  /**
+   * Encodes a value.
+   *
+   * @param value the value to encode, never {@code null}
+   * @return the encoded value
+   */
+  byte[] encode(Object value);
+
+  /**
+   * Decodes a value previously produced by {@link #encode(Object)}.
+   *
+   * @param bytes the buffer holding the encoded value
+   * @param offset the position of the first byte of the value
+   * @param length the number of bytes of the value
+   * @return the decoded value
+   */
+  Object decode(byte[] bytes, int offset, int length);
+}
@@ -0,0 +1,168 @@
+package com.fleencorp.feen.common.service.impl.cache.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * A {@link RedisSerializer} that writes every value inside a small versioned envelope.
+ *
+ * <p>The envelope is a four byte header followed by the payload:</p>
+ * <ul>
+ *   <li>a magic byte that no JSON, Smile or Java serialization stream starts with</li>
+ *   <li>the envelope version</li>
+ *   <li>the id of the codec that wrote the payload</li>
+ *   <li>flags; when the LZ4 flag is set the header is followed by the uncompressed length</li>
+ * </ul>
+ *
+ * <p>Values are written with the configured codec and compressed with LZ4 once they reach the compression
+ * threshold, as long as compression actually makes them smaller. Values are read with whichever codec the
+ * envelope names, so a cache can change codec without flushing Redis. Entries without an envelope are
+ * read as the JSON or Java serialization written before envelopes existed. Entries that cannot be read,
+ * such as those written by a newer envelope version or for a class that no longer exists, are treated as
+ * cache misses instead of failing the request.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Slf4j
+public class EnvelopeRedisSerializer implements RedisSerializer<Object> {
+
+  private static final byte MAGIC = (byte) 0xFC;
+  private static final byte VERSION = 1;
+  private static final byte LZ4_FLAG = 0x01;
+  private static final int HEADER_LENGTH = 4;
+  private static final int LENGTH_PREFIX = 4;
+  private static final byte[] EMPTY = new byte[0];
+
+  private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+  private final CacheCodec codec;
+  private final Map<Byte, CacheCodec> codecs;
+  private final CacheCodec legacyJsonCodec;
+  private final CacheCodec legacyJdkCodec;
+  private final int compressionThreshold;
+
+  /**
+   * Constructs a new EnvelopeRedisSerializer.
+   *
+   * @param codec the codec used to write values
+   * @param codecs every known codec keyed by codec id, used to read values
+   * @param legacyJsonCodec the codec used to read JSON entries written without an envelope
+   * @param legacyJdkCodec the codec used to read Java serialization entries written without an envelope
+   * @param compressionThreshold the encoded size in bytes from which values are compressed, or zero to never compress
+   */
+  public EnvelopeRedisSerializer(
+      final CacheCodec codec,
+      final Map<Byte, CacheCodec> codecs,
+      final CacheCodec legacyJsonCodec,
+      final CacheCodec legacyJdkCodec,
+      final int compressionThreshold) {
+    this.codec = codec;
+    this.codecs = Map.copyOf(codecs);
+    this.legacyJsonCodec = legacyJsonCodec;
+    this.legacyJdkCodec = legacyJdkCodec;
+    this.compressionThreshold = compressionThreshold;
+  }
+
+  @Override
+  public byte[] serialize(final Object value) {
+    if (isNull(value)) {
+      return EMPTY;
+    }
+
+    final byte[] payload = codec.encode(value);
+    if (compressionThreshold > 0 && payload.length >= compressionThreshold) {
+      final byte[] compressed = compress(payload);
+      if (compressed.length < HEADER_LENGTH + payload.length) {
+        return compressed;
+      }
+    }
+
+    final byte[] envelope = new byte[HEADER_LENGTH + payload.length];
+    writeHeader(envelope, (byte) 0);
+    System.arraycopy(payload, 0, envelope, HEADER_LENGTH, payload.length);
+    return envelope;
+  }
+
+  @Override
+  public Object deserialize(final byte[] bytes) {
+    if (isNull(bytes) || bytes.length == 0) {
+      return null;
+    }
+    if (bytes[0] != MAGIC) {
+      return decodeLegacy(bytes);
+    }
+    if (bytes.length < HEADER_LENGTH || bytes[1] > VERSION) {
+      log.warn("Ignoring cache entry with unsupported envelope version {}", bytes.length > 1 ? bytes[1] : -1);
+      return null;
+    }
+
+    final CacheCodec entryCodec = codecs.get(bytes[2]);
+    if (isNull(entryCodec)) {
+      log.warn("Ignoring cache entry written with unknown codec {}", bytes[2]);
+      return null;
+    }
+
+    if ((bytes[3] & LZ4_FLAG) != 0) {
+      final int originalLength = readInt(bytes, HEADER_LENGTH);
+      final byte[] restored = new byte[originalLength];
+      LZ4.fastDecompressor().decompress(bytes, HEADER_LENGTH + LENGTH_PREFIX, restored, 0, originalLength);
+      return decode(entryCodec, restored, 0, originalLength);
+    }
+    return decode(entryCodec, bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+  }
+
+  private byte[] compress(final byte[] payload) {
+    final LZ4Compressor compressor = LZ4.fastCompressor();
+    final int offset = HEADER_LENGTH + LENGTH_PREFIX;
+    final int maxLength = compressor.maxCompressedLength(payload.length);
+    final byte[] envelope = new byte[offset + maxLength];
+    final int compressedLength = compressor.compress(payload, 0, payload.length, envelope, offset, maxLength);
+
+    writeHeader(envelope, LZ4_FLAG);
+    writeInt(envelope, HEADER_LENGTH, payload.length);
+    return Arrays.copyOf(envelope, offset + compressedLength);
+  }
+
+  private Object decodeLegacy(final byte[] bytes) {
+    final boolean javaSerialized = bytes.length > 1 && bytes[0] == (byte) 0xAC && bytes[1] == (byte) 0xED;
+    return decode(javaSerialized ? legacyJdkCodec : legacyJsonCodec, bytes, 0, bytes.length);
+  }
+
+  private static Object decode(final CacheCodec entryCodec, final byte[] bytes, final int offset, final int length) {
+    try {
+      return entryCodec.decode(bytes, offset, length);
+    } catch (final RuntimeException ex) {
+      log.warn("Ignoring unreadable {} cache entry: {}", entryCodec.getType(), ex.getMessage());
+      return null;
+    }
+  }
+
+  private void writeHeader(final byte[] envelope, final byte flags) {
+    envelope[0] = MAGIC;
+    envelope[1] = VERSION;
+    envelope[2] = codec.getType().getCodecId();
+    envelope[3] = flags;
+  }
+
+  private static void writeInt(final byte[] buffer, final int offset, final int value) {
+    buffer[offset] = (byte) (value >>> 24);
+    buffer[offset + 1] = (byte) (value >>> 16);
+    buffer[offset + 2] = (byte) (value >>> 8);
+    buffer[offset + 3] = (byte) value;
+  }
+
+  private static int readInt(final byte[] buffer, final int offset) {
+    return ((buffer[offset] & 0xFF) << 24)
+      | ((buffer[offset + 1] & 0xFF) << 16)
+      | ((buffer[offset + 2] & 0xFF) << 8)
+      | (buffer[offset + 3] & 0xFF);
+  }
+}
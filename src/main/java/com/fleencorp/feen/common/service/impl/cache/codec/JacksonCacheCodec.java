@@ -0,0 +1,96 @@
+package com.fleencorp.feen.common.service.impl.cache.codec;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fleencorp.feen.common.constant.cache.CacheValueSerializer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * A {@link CacheCodec} backed by a copy of the application {@link ObjectMapper}.
+ *
+ * <p>Type information is embedded for non-final types so values read back as the class that was written.
+ * Unknown properties are ignored, so entries written by an older or newer version of a class can still be
+ * read during a rolling deploy. The Smile variant also back-references repeated property names and string
+ * values, which keeps the embedded class names from being written more than once per value.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class JacksonCacheCodec implements CacheCodec {
+
+  private static final String TYPE_PROPERTY = "@class";
+
+  private final CacheValueSerializer type;
+  private final ObjectMapper mapper;
+
+  private JacksonCacheCodec(final CacheValueSerializer type, final ObjectMapper mapper) {
+    this.type = type;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Creates a codec writing Jackson Smile.
+   *
+   * @param mapper the application {@link ObjectMapper} whose modules and settings are copied
+   * @return a Smile codec
+   */
+  public static JacksonCacheCodec smile(final ObjectMapper mapper) {
+    final SmileFactory smileFactory = SmileFactory.builder()
+      .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+      .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+      .build();
+    return new JacksonCacheCodec(CacheValueSerializer.SMILE, createTypedMapper(mapper, smileFactory));
+  }
+
+  /**
+   * Creates a codec writing JSON.
+   *
+   * @param mapper the application {@link ObjectMapper} whose modules and settings are copied
+   * @return a JSON codec
+   */
+  public static JacksonCacheCodec json(final ObjectMapper mapper) {
+    return new JacksonCacheCodec(CacheValueSerializer.JSON, createTypedMapper(mapper, new JsonFactory()));
+  }
+
+  @Override
+  public CacheValueSerializer getType() {
+    return type;
+  }
+
+  @Override
+  public byte[] encode(final Object value) {
+    try {
+      return mapper.writeValueAsBytes(value);
+    } catch (final IOException ex) {
+      throw new SerializationException("Could not write " + type + " cache value", ex);
+    }
+  }
+
+  @Override
+  public Object decode(final byte[] bytes, final int offset, final int length) {
+    try {
+      return mapper.readValue(bytes, offset, length, Object.class);
+    } catch (final IOException ex) {
+      throw new SerializationException("Could not read " + type + " cache value", ex);
+    }
+  }
+
+  private static ObjectMapper createTypedMapper(final ObjectMapper mapper, final JsonFactory factory) {
+    final ObjectMapper typedMapper = mapper.copyWith(factory);
+    typedMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    GenericJackson2JsonRedisSerializer.registerNullValueSerializer(typedMapper, TYPE_PROPERTY);
+    typedMapper.activateDefaultTyping(
+      typedMapper.getPolymorphicTypeValidator(),
+      ObjectMapper.DefaultTyping.NON_FINAL,
+      JsonTypeInfo.As.PROPERTY
+    );
+    return typedMapper;
+  }
+}
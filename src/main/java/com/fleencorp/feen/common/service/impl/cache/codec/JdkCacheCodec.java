@@ -0,0 +1,34 @@
+package com.fleencorp.feen.common.service.impl.cache.codec;
+
+import com.fleencorp.feen.common.constant.cache.CacheValueSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.util.Arrays;
+
+/**
+ * A {@link CacheCodec} using Java serialization. Kept for values that are only {@link java.io.Serializable}
+ * and for reading entries written before the Jackson codecs existed.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class JdkCacheCodec implements CacheCodec {
+
+  private final JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+
+  @Override
+  public CacheValueSerializer getType() {
+    return CacheValueSerializer.JDK;
+  }
+
+  @Override
+  public byte[] encode(final Object value) {
+    return serializer.serialize(value);
+  }
+
+  @Override
+  public Object decode(final byte[] bytes, final int offset, final int length) {
+    final byte[] value = offset == 0 && length == bytes.length ? bytes : Arrays.copyOfRange(bytes, offset, offset + length);
+    return serializer.deserialize(value);
+  }
+}
@@ -1,5 +1,6 @@
 package com.fleencorp.feen.common.service.impl.message;
 
+import com.fleencorp.feen.common.aspect.ConcurrencyLimit;
 import com.fleencorp.feen.common.configuration.message.EmailMessageProperties;
 import com.fleencorp.feen.common.exception.UnableToCompleteOperationException;
 import com.fleencorp.feen.common.model.message.EmailMessage;
@@ -28,6 +29,7 @@ import static org.springframework.mail.javamail.MimeMessageHelper.MULTIPART_MODE
  */
 @Slf4j
 @Service
+@ConcurrencyLimit(name = "mail")
 public class EmailMessageServiceImpl implements EmailMessageService {
 
   private final Resource logoFile;
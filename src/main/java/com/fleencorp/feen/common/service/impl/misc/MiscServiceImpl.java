@@ -11,13 +11,17 @@ import com.fleencorp.feen.model.response.security.GetEncodedPasswordResponse;
 import com.fleencorp.feen.shared.member.contract.IsAMember;
 import com.fleencorp.feen.stream.constant.core.StreamType;
 import com.fleencorp.feen.user.service.authentication.PasswordService;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Collection;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Objects.nonNull;
 
@@ -26,9 +30,13 @@ import static java.util.Objects.nonNull;
 @Qualifier("misc")
 public class MiscServiceImpl implements MiscService, PasswordService {
 
+  private static final long CALENDAR_CACHE_MAX_ENTRIES = 300;
+  private static final long CALENDAR_CACHE_TTL_MINUTES = 10;
+
   private final CountryService countryService;
   private final CalendarRepository calendarRepository;
   private final PasswordEncoder passwordEncoder;
+  private final Cache<String, Calendar> calendarsByCountryCode;
 
   /**
    * Constructs a new instance of {@link MiscServiceImpl}.
@@ -47,6 +55,10 @@ public class MiscServiceImpl implements MiscService, PasswordService {
     this.countryService = countryService;
     this.calendarRepository = calendarRepository;
     this.passwordEncoder = passwordEncoder;
+    this.calendarsByCountryCode = CacheBuilder.newBuilder()
+      .maximumSize(CALENDAR_CACHE_MAX_ENTRIES)
+      .expireAfterWrite(CALENDAR_CACHE_TTL_MINUTES, TimeUnit.MINUTES)
+      .build();
   }
 
   /**
@@ -69,10 +81,12 @@ public class MiscServiceImpl implements MiscService, PasswordService {
   /**
    * Retrieves a calendar based on the specified country title.
    *
-   * <p>This method first fetches the country code associated with the provided
-   * country title. If the country code is found, it then retrieves the calendar
-   * associated with that code from the repository. If either the country code
-   * or the calendar is not found, it throws a {@link CalendarNotFoundException}.</p>
+   * <p>This method first resolves the country code associated with the provided
+   * country title from the in-memory country index. If the country code is found, it then
+   * retrieves the calendar associated with that code, first from a short-lived local cache
+   * keyed by country code and then from the repository. If either the country code
+   * or the calendar is not found, it throws a {@link CalendarNotFoundException}. Missing
+   * calendars are not cached, so a newly created calendar is picked up immediately.</p>
    *
    * @param countryTitle The title of the country for which the calendar is to be retrieved.
    * @return The calendar associated with the specified country title.
@@ -83,8 +97,29 @@ public class MiscServiceImpl implements MiscService, PasswordService {
     final String countryCode = countryService.getCountryCodeByTitle(countryTitle)
       .orElseThrow(CalendarNotFoundException.of(countryTitle));
 
-    return calendarRepository.findDistinctByCodeIgnoreCase(countryCode)
+    final String cacheKey = toCalendarCacheKey(countryCode);
+    final Calendar cachedCalendar = calendarsByCountryCode.getIfPresent(cacheKey);
+    if (nonNull(cachedCalendar)) {
+      return cachedCalendar;
+    }
+
+    final Calendar calendar = calendarRepository.findDistinctByCodeIgnoreCase(countryCode)
       .orElseThrow(CalendarNotFoundException.of(countryCode));
+    calendarsByCountryCode.put(cacheKey, calendar);
+    return calendar;
+  }
+
+  /**
+   * Removes the calendar of the given country code from the local calendar cache. This should be called
+   * whenever a calendar is updated, reactivated or deleted so the next lookup reads the latest state.
+   *
+   * @param countryCode the country code of the calendar to evict
+   */
+  @Override
+  public void evictCalendar(final String countryCode) {
+    if (nonNull(countryCode)) {
+      calendarsByCountryCode.invalidate(toCalendarCacheKey(countryCode));
+    }
   }
 
   /**
@@ -107,6 +142,10 @@ public class MiscServiceImpl implements MiscService, PasswordService {
     return null;
   }
 
+  private static String toCalendarCacheKey(final String countryCode) {
+    return countryCode.toUpperCase(Locale.ROOT);
+  }
+
   /**
    * Retrieves the {@link PasswordEncoder} instance used for encoding passwords.
    *
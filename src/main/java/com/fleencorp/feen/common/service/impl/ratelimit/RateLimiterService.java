@@ -0,0 +1,233 @@
+package com.fleencorp.feen.common.service.impl.ratelimit;
+
+import com.fleencorp.feen.common.configuration.ratelimit.RateLimitProperties;
+import com.fleencorp.feen.common.model.ratelimit.RateLimitDecision;
+import com.fleencorp.feen.common.model.ratelimit.RateLimitPolicy;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.fleencorp.feen.common.service.impl.cache.CacheKeyService.getRateLimitCacheKey;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * RateLimiterService enforces distributed token-bucket rate limits backed by Redis.
+ *
+ * <p>Every bucket lives in a Redis hash and is refilled and consumed atomically by a single Lua script
+ * call, so all nodes share one view of each client's budget. To avoid a Redis round trip for clients that
+ * are clearly under their limit, the script may hand out a small lease of extra tokens which the node then
+ * consumes locally for a short time. Leased tokens are already deducted in Redis, so the global limit is
+ * never exceeded; unused leases simply expire. Rejections are also remembered locally until the bucket
+ * would have refilled, so abusive clients stop generating Redis traffic.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class RateLimiterService {
+
+  private static final String TOKEN_BUCKET_SCRIPT = "scripts/redis/token-bucket.lua";
+  private static final long LEASE_VALIDITY_MILLIS = 1_000;
+  private static final String METRIC_NAME = "rate.limit.requests";
+
+  private final StringRedisTemplate redisTemplate;
+  private final RateLimitProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final RedisScript<List> tokenBucketScript;
+  private final Cache<String, LocalBucket> localBuckets;
+
+  /**
+   * Constructs a new RateLimiterService.
+   *
+   * @param redisTemplate the template used to execute the token bucket script
+   * @param properties the rate limiter configuration
+   * @param meterRegistry the registry used to publish rate limit metrics
+   */
+  public RateLimiterService(
+      final StringRedisTemplate redisTemplate,
+      final RateLimitProperties properties,
+      final MeterRegistry meterRegistry) {
+    this.redisTemplate = redisTemplate;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.tokenBucketScript = createTokenBucketScript();
+    this.localBuckets = CacheBuilder.newBuilder()
+      .maximumSize(properties.getLocalMaxEntries())
+      .expireAfterWrite(1, TimeUnit.HOURS)
+      .build();
+  }
+
+  /**
+   * Attempts to consume a single token from the bucket identified by the policy and client identifier.
+   *
+   * @param policy the policy of the limited route
+   * @param identifier the principal or IP address the bucket belongs to
+   * @return the decision describing whether the request may proceed
+   */
+  public RateLimitDecision tryConsume(final RateLimitPolicy policy, final String identifier) {
+    final String key = getRateLimitCacheKey(policy.name(), identifier);
+    final long now = System.currentTimeMillis();
+
+    final LocalBucket localBucket = localBuckets.getIfPresent(key);
+    if (nonNull(localBucket)) {
+      if (localBucket.isBlocked(now)) {
+        record(policy, "local-rejected");
+        return RateLimitDecision.rejected(Duration.ofMillis(localBucket.blockedUntil - now));
+      }
+      if (localBucket.tryTakeLease(now)) {
+        record(policy, "local-allowed");
+        return RateLimitDecision.allowed(localBucket.leasedTokens.get());
+      }
+    }
+
+    return consumeFromRedis(policy, key, now);
+  }
+
+  /**
+   * Runs the token bucket script for the given key and remembers any lease or rejection locally.
+   *
+   * @param policy the policy of the limited route
+   * @param key the bucket key
+   * @param now the current time in milliseconds
+   * @return the decision describing whether the request may proceed
+   */
+  protected RateLimitDecision consumeFromRedis(final RateLimitPolicy policy, final String key, final long now) {
+    final long lease = getLeaseSize(policy);
+    final List<?> result;
+
+    try {
+      result = redisTemplate.execute(
+        tokenBucketScript,
+        List.of(key),
+        String.valueOf(policy.capacity()),
+        String.valueOf(policy.refillTokens()),
+        String.valueOf(policy.refillPeriod().toMillis()),
+        "1",
+        String.valueOf(lease)
+      );
+    } catch (final DataAccessException ex) {
+      log.warn("Rate limiter unavailable for {}: {}", policy.name(), ex.getMessage());
+      return unavailable(policy);
+    }
+
+    if (isNull(result) || result.size() < 4) {
+      log.warn("Rate limiter returned an unexpected result for {}: {}", policy.name(), result);
+      return unavailable(policy);
+    }
+
+    final boolean allowed = toLong(result.get(0)) == 1;
+    final long granted = toLong(result.get(1));
+    final long remaining = toLong(result.get(2));
+    final long retryAfter = toLong(result.get(3));
+
+    if (allowed) {
+      if (granted > 1) {
+        localBuckets.put(key, LocalBucket.leased(granted - 1, now + LEASE_VALIDITY_MILLIS));
+      }
+      record(policy, "allowed");
+      return RateLimitDecision.allowed(remaining);
+    }
+
+    localBuckets.put(key, LocalBucket.blocked(now + retryAfter));
+    record(policy, "rejected");
+    return RateLimitDecision.rejected(Duration.ofMillis(retryAfter));
+  }
+
+  /**
+   * Decides a request whose bucket could not be read, according to the fail-open policy.
+   *
+   * @param policy the policy of the limited route
+   * @return an allowed decision if the limiter fails open, otherwise a rejection to be retried shortly
+   */
+  private RateLimitDecision unavailable(final RateLimitPolicy policy) {
+    record(policy, "unavailable");
+    return properties.isFailOpen()
+      ? RateLimitDecision.allowed(0)
+      : RateLimitDecision.rejected(Duration.ofSeconds(1));
+  }
+
+  /**
+   * Determines how many extra tokens may be leased for local consumption. Leasing is disabled for small
+   * buckets such as OTP sends, where every token matters.
+   *
+   * @param policy the policy of the limited route
+   * @return the number of tokens to lease, or zero
+   */
+  protected long getLeaseSize(final RateLimitPolicy policy) {
+    final long leaseSize = properties.getLocalLeaseSize();
+    return leaseSize > 0 && policy.capacity() >= leaseSize * 10 ? leaseSize : 0;
+  }
+
+  private void record(final RateLimitPolicy policy, final String outcome) {
+    meterRegistry.counter(METRIC_NAME, "name", policy.name(), "outcome", outcome).increment();
+  }
+
+  private static long toLong(final Object value) {
+    return value instanceof final Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+  }
+
+  private static RedisScript<List> createTokenBucketScript() {
+    final DefaultRedisScript<List> script = new DefaultRedisScript<>();
+    script.setScriptSource(new ResourceScriptSource(new ClassPathResource(TOKEN_BUCKET_SCRIPT)));
+    script.setResultType(List.class);
+    return script;
+  }
+
+  /**
+   * Node-local view of a bucket: either a lease of tokens already deducted in Redis, or a rejection that
+   * holds until the bucket would have refilled.
+   */
+  private static final class LocalBucket {
+
+    private final AtomicLong leasedTokens;
+    private final long leaseExpiresAt;
+    private final long blockedUntil;
+
+    private LocalBucket(final long leasedTokens, final long leaseExpiresAt, final long blockedUntil) {
+      this.leasedTokens = new AtomicLong(leasedTokens);
+      this.leaseExpiresAt = leaseExpiresAt;
+      this.blockedUntil = blockedUntil;
+    }
+
+    private static LocalBucket leased(final long tokens, final long expiresAt) {
+      return new LocalBucket(tokens, expiresAt, 0);
+    }
+
+    private static LocalBucket blocked(final long until) {
+      return new LocalBucket(0, 0, until);
+    }
+
+    private boolean isBlocked(final long now) {
+      return blockedUntil > now;
+    }
+
+    private boolean tryTakeLease(final long now) {
+      if (leaseExpiresAt <= now) {
+        return false;
+      }
+      long current;
+      do {
+        current = leasedTokens.get();
+        if (current <= 0) {
+          return false;
+        }
+      } while (!leasedTokens.compareAndSet(current, current - 1));
+      return true;
+    }
+  }
+}
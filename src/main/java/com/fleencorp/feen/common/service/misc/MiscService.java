@@ -11,4 +11,6 @@ public interface MiscService {
   Calendar findCalendar(String countryTitle);
 
   Calendar findCalendarByStreamType(String countryTitle, StreamType streamType);
+
+  void evictCalendar(String countryCode);
 }
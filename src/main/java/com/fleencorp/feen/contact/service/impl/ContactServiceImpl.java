@@ -85,7 +85,7 @@ public class ContactServiceImpl implements ContactService {
   }
 
   @Override
-  @Cacheable("availableContactTypes")
+  @Cacheable(value = "availableContactTypes", sync = true)
   public GetAvailableContactTypeResponse getAvailableContactTypes() {
     final Map<ContactType, ContactTypeInfo> availableContactTypes =
       Stream.of(ContactType.values())
@@ -17,6 +17,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -81,4 +82,20 @@ public class CountryController {
   public FleenFeenResponse.CountAllResponse countAll() {
     return countryService.countAll();
   }
-}
\ No newline at end of file
+
+  @Operation(summary = "Reload countries",
+    description = "Rebuilds the in-memory country index from the database after countries have been changed. " +
+      "Accessible by users with ADMINISTRATOR or SUPER_ADMINISTRATOR roles."
+  )
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Successfully reloaded countries",
+      content = @Content(schema = @Schema(implementation = FleenFeenResponse.CountAllResponse.class))),
+    @ApiResponse(responseCode = "401", description = "User not authenticated",
+      content = @Content(schema = @Schema(implementation = InvalidAuthenticationException.class)))
+  })
+  @PreAuthorize("hasAnyRole('ADMINISTRATOR', 'SUPER_ADMINISTRATOR')")
+  @PostMapping(value = "/reload")
+  public FleenFeenResponse.CountAllResponse reloadCountries() {
+    return countryService.reloadCountries();
+  }
+}
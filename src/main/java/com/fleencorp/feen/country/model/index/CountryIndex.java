@@ -0,0 +1,191 @@
+package com.fleencorp.feen.country.model.index;
+
+import com.fleencorp.feen.country.model.domain.Country;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * An immutable, on-heap snapshot of every country known to the application.
+ *
+ * <p>Country data changes very rarely, yet it is read on the sign-up path, when resolving calendars and when
+ * updating profiles. The index is built once from the database and looked up by id, by code and by a
+ * case-insensitive title without touching the database or Redis. It is never modified after construction; a
+ * reload builds a new index which is then swapped in atomically by the owner, so readers always see a
+ * complete and consistent snapshot.</p>
+ *
+ * <p>The entries are ordered the same way as {@code CountryRepository#findMany}, that is by the last update
+ * time in descending order, so paginated results served from memory match the ones read from the database.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public final class CountryIndex {
+
+  private static final CountryIndex EMPTY = new CountryIndex(List.of(), Map.of(), Map.of(), Map.of(), false);
+
+  private static final Comparator<IndexedCountry> MOST_RECENTLY_UPDATED_FIRST = Comparator
+    .comparing(IndexedCountry::updatedOn, Comparator.nullsLast(Comparator.reverseOrder()))
+    .thenComparing(IndexedCountry::countryId);
+
+  private final List<IndexedCountry> countries;
+  private final Map<Long, IndexedCountry> countriesById;
+  private final Map<String, IndexedCountry> countriesByCode;
+  private final Map<String, IndexedCountry> countriesByTitle;
+  private final boolean loaded;
+
+  private CountryIndex(
+      final List<IndexedCountry> countries,
+      final Map<Long, IndexedCountry> countriesById,
+      final Map<String, IndexedCountry> countriesByCode,
+      final Map<String, IndexedCountry> countriesByTitle,
+      final boolean loaded) {
+    this.countries = countries;
+    this.countriesById = countriesById;
+    this.countriesByCode = countriesByCode;
+    this.countriesByTitle = countriesByTitle;
+    this.loaded = loaded;
+  }
+
+  /**
+   * Returns an index that has not been loaded yet and contains no countries.
+   *
+   * @return the empty index
+   */
+  public static CountryIndex empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Builds a new index from the given countries. Null entries and entries without an id are ignored.
+   *
+   * @param entries the countries to index
+   * @return the built index
+   */
+  public static CountryIndex of(final Collection<Country> entries) {
+    final List<IndexedCountry> countries = new ArrayList<>();
+    if (nonNull(entries)) {
+      entries.stream()
+        .filter(Objects::nonNull)
+        .filter(country -> nonNull(country.getCountryId()))
+        .map(IndexedCountry::of)
+        .forEach(countries::add);
+    }
+    countries.sort(MOST_RECENTLY_UPDATED_FIRST);
+
+    final Map<Long, IndexedCountry> countriesById = new HashMap<>();
+    final Map<String, IndexedCountry> countriesByCode = new HashMap<>();
+    final Map<String, IndexedCountry> countriesByTitle = new HashMap<>();
+    for (final IndexedCountry country : countries) {
+      countriesById.put(country.countryId(), country);
+      if (nonNull(country.code())) {
+        countriesByCode.putIfAbsent(normalizeCode(country.code()), country);
+      }
+      if (nonNull(country.title())) {
+        countriesByTitle.putIfAbsent(normalizeTitle(country.title()), country);
+      }
+    }
+
+    return new CountryIndex(
+      List.copyOf(countries),
+      Map.copyOf(countriesById),
+      Map.copyOf(countriesByCode),
+      Map.copyOf(countriesByTitle),
+      true
+    );
+  }
+
+  public Optional<IndexedCountry> findById(final Long countryId) {
+    return isNull(countryId) ? Optional.empty() : Optional.ofNullable(countriesById.get(countryId));
+  }
+
+  public Optional<IndexedCountry> findByCode(final String code) {
+    return isNull(code) ? Optional.empty() : Optional.ofNullable(countriesByCode.get(normalizeCode(code)));
+  }
+
+  public Optional<IndexedCountry> findByTitle(final String title) {
+    return isNull(title) ? Optional.empty() : Optional.ofNullable(countriesByTitle.get(normalizeTitle(title)));
+  }
+
+  public boolean existsByCode(final String code) {
+    return nonNull(code) && countriesByCode.containsKey(normalizeCode(code));
+  }
+
+  /**
+   * Returns the requested page of countries without copying the underlying snapshot.
+   *
+   * @param pageable the page to return
+   * @return the page of countries with the total number of indexed countries
+   */
+  public Page<IndexedCountry> findMany(final Pageable pageable) {
+    if (pageable.isUnpaged()) {
+      return new PageImpl<>(countries, pageable, countries.size());
+    }
+
+    final long offset = pageable.getOffset();
+    if (offset >= countries.size()) {
+      return new PageImpl<>(List.of(), pageable, countries.size());
+    }
+
+    final int fromIndex = (int) offset;
+    final int toIndex = Math.min(fromIndex + pageable.getPageSize(), countries.size());
+    return new PageImpl<>(countries.subList(fromIndex, toIndex), pageable, countries.size());
+  }
+
+  public List<IndexedCountry> getCountries() {
+    return countries;
+  }
+
+  public int size() {
+    return countries.size();
+  }
+
+  public boolean isLoaded() {
+    return loaded;
+  }
+
+  private static String normalizeCode(final String code) {
+    return code.strip().toUpperCase(Locale.ROOT);
+  }
+
+  private static String normalizeTitle(final String title) {
+    return title.strip().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * An immutable copy of a {@link Country} held by the index. Entities are never shared with callers; a new
+   * detached {@link Country} is created through {@link #toCountry()} whenever one is required.
+   */
+  public record IndexedCountry(
+      Long countryId,
+      String title,
+      String code,
+      String timezone,
+      LocalDateTime createdOn,
+      LocalDateTime updatedOn) {
+
+    public static IndexedCountry of(final Country country) {
+      return new IndexedCountry(
+        country.getCountryId(),
+        country.getTitle(),
+        country.getCode(),
+        country.getTimezone(),
+        country.getCreatedOn(),
+        country.getUpdatedOn()
+      );
+    }
+
+    public Country toCountry() {
+      final Country country = new Country(countryId, title, code, timezone);
+      country.setCreatedOn(createdOn);
+      country.setUpdatedOn(updatedOn);
+      return country;
+    }
+  }
+}
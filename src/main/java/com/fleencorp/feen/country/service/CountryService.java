@@ -21,6 +21,8 @@ public interface CountryService extends BasicCountryService {
 
   FleenFeenResponse.CountAllResponse countAll();
 
+  FleenFeenResponse.CountAllResponse reloadCountries();
+
   Optional<CountryResponse> getCountryFromCache(String title);
 
   Optional<String> getCountryCodeByTitle(String title);
@@ -2,10 +2,11 @@ package com.fleencorp.feen.country.service.impl;
 
 import com.fleencorp.base.model.view.search.SearchResult;
 import com.fleencorp.feen.common.model.response.core.FleenFeenResponse;
-import com.fleencorp.feen.common.service.impl.cache.CacheService;
 import com.fleencorp.feen.country.exception.CountryNotFoundException;
 import com.fleencorp.feen.country.mapper.CountryMapper;
 import com.fleencorp.feen.country.model.domain.Country;
+import com.fleencorp.feen.country.model.index.CountryIndex;
+import com.fleencorp.feen.country.model.index.CountryIndex.IndexedCountry;
 import com.fleencorp.feen.country.model.response.CountryResponse;
 import com.fleencorp.feen.country.model.response.RetrieveCountryResponse;
 import com.fleencorp.feen.country.model.search.CountrySearchResult;
@@ -21,11 +22,10 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.fleencorp.base.util.FleenUtil.toSearchResult;
-import static java.util.Objects.isNull;
 
 /**
 * Implementation of the {@link CountryService} interface.
@@ -34,6 +34,11 @@ import static java.util.Objects.isNull;
 * interface for managing Country entities. It uses a repository to perform CRUD operations on Country entities
 * and includes methods to count all countries and check if a country exists by its unique identifier.</p>
 *
+* <p>Country data changes very rarely, so every lookup is served from an immutable {@link CountryIndex} held on
+* the heap. The index is built when the application is ready, refreshed every 12 hours and can be rebuilt on
+* demand through {@link #reloadCountries()}. A reload builds a complete new index and swaps it in atomically, so
+* concurrent readers never observe a partially loaded index.</p>
+*
 * @author Yusuf Alamu Musa
 * @version 1.0
 */
@@ -42,32 +47,29 @@ import static java.util.Objects.isNull;
 public class CountryServiceImpl implements CountryService {
 
   private final CountryRepository repository;
-  private final CacheService cacheService;
   private final CountryMapper countryMapper;
   private final Localizer localizer;
+  private final AtomicReference<CountryIndex> countryIndex = new AtomicReference<>(CountryIndex.empty());
 
   /**
    * Constructs a new instance of the {@link CountryServiceImpl}.
    *
    * <p>This constructor initializes the service with the required dependencies:
-   * {@link CountryRepository}, {@link CacheService}, and {@link Localizer}.</p>
+   * {@link CountryRepository}, {@link CountryMapper}, and {@link Localizer}.</p>
    *
    * <p>These dependencies are injected to handle various operations such as
-   * country repository interactions, caching operations, and localized responses
+   * country repository interactions, mapping of country data and localized responses
    * for user feedback.</p>
    *
    * @param repository the {@link CountryRepository} used for country data retrieval and management
-   * @param cacheService the service for caching country data
    * @param countryMapper mapper for mapping country related info
    * @param localizer the service for creating localized responses
    */
   public CountryServiceImpl(
       final CountryRepository repository,
-      final CacheService cacheService,
       final CountryMapper countryMapper,
       final Localizer localizer) {
     this.repository = repository;
-    this.cacheService = cacheService;
     this.countryMapper = countryMapper;
     this.localizer = localizer;
   }
@@ -75,15 +77,18 @@ public class CountryServiceImpl implements CountryService {
   /**
    * Finds countries based on the provided search request.
    *
+   * <p>The requested page is served from the in-memory {@link CountryIndex} in the same order as the database
+   * query it replaces, so no query or count is issued.</p>
+   *
    * @param searchRequest the request object containing search criteria and pagination information
    * @return a CountrySearchResult object containing a list of CountryResponse views and pagination metadata
  */
   @Override
   public CountrySearchResult findCountries(final CountrySearchRequest searchRequest) {
-    // Retrieve a page of Country entities based on the search request.
-    final Page<Country> page = repository.findMany(searchRequest.getPage());
-    // Convert the list of Country entities to a list of CountryResponse views.
-    final List<CountryResponse> countryResponses = countryMapper.toCountryResponses(page.getContent());
+    // Retrieve a page of countries from the index based on the search request.
+    final Page<IndexedCountry> page = getIndex().findMany(searchRequest.getPage());
+    // Convert the list of countries to a list of CountryResponse views.
+    final List<CountryResponse> countryResponses = toCountryResponses(page.getContent());
     // Create the search result
     final SearchResult searchResult = toSearchResult(countryResponses, page);
     // Create the search result
@@ -95,7 +100,7 @@ public class CountryServiceImpl implements CountryService {
   /**
   * Retrieves a Country entity by its unique identifier.
   *
-  * <p>This method attempts to find a Country entity in the repository using the provided ID. If the Country is not found,
+  * <p>This method attempts to find a Country in the index using the provided ID. If the Country is not found,
   * a {@link CountryNotFoundException} is thrown.</p>
   *
   * @param countryId the unique identifier of the Country to be retrieved
@@ -105,10 +110,10 @@ public class CountryServiceImpl implements CountryService {
   @Override
   public RetrieveCountryResponse getCountry(final Long countryId) throws CountryNotFoundException {
     // Find country based on ID or throw an exception if it can't be found
-    final Country country = repository.findById(countryId)
+    final IndexedCountry country = getIndex().findById(countryId)
       .orElseThrow(CountryNotFoundException.of(countryId));
     // Create the response
-    final CountryResponse countryResponse = countryMapper.toCountryResponse(country);
+    final CountryResponse countryResponse = toCountryResponse(country);
     // Return a localized response containing details of country
     return localizer.of(RetrieveCountryResponse.of(countryResponse));
   }
@@ -116,8 +121,8 @@ public class CountryServiceImpl implements CountryService {
   /**
    * Retrieves a Country entity by its unique identifier.
    *
-   * <p>This method attempts to find a Country entity in the repository using the provided code. If the Country is not found,
-   * a {@link CountryNotFoundException} is thrown.</p>
+   * <p>This method attempts to find a Country in the index using the provided code. If the Country is not found,
+   * a {@link CountryNotFoundException} is thrown. The returned entity is a detached copy.</p>
    *
    * @param code the unique identifier of the Country to be retrieved
    * @return the Country entity associated with the specified code
@@ -125,30 +130,31 @@ public class CountryServiceImpl implements CountryService {
    */
   @Override
   public Country getCountryByCode(final String code) {
-    return repository.findByCode(code)
+    return getIndex().findByCode(code)
+      .map(IndexedCountry::toCountry)
       .orElseThrow(CountryNotFoundException.of(code));
   }
 
   /**
-  * Counts the total number of Country entities in the repository.
+  * Counts the total number of Country entities.
   *
-  * <p>This method retrieves the total count of Country entities from the repository and returns it wrapped in a
+  * <p>This method returns the number of countries in the index wrapped in a
   * {@link FleenFeenResponse.CountAllResponse} DTO.</p>
   *
   * @return a {@link FleenFeenResponse.CountAllResponse} containing the total count of Country entities
   */
   @Override
   public FleenFeenResponse.CountAllResponse countAll() {
-    // Count the total number of countries in the repository
-    final long total = repository.count();
+    // Count the total number of countries in the index
+    final long total = getIndex().size();
     // Return a localized response containing the total count of countries
     return localizer.of(FleenFeenResponse.CountAllResponse.of(total));
   }
 
   /**
-  * Checks if a Country entity exists in the repository by its unique identifier.
+  * Checks if a Country exists by its unique identifier.
   *
-  * <p>This method attempts to find a Country entity in the repository using the provided code and returns true if
+  * <p>This method looks up the provided code in the index and returns true if
   * the Country is found, otherwise returns false.</p>
   *
   * @param code the unique identifier of the Country to be checked
@@ -156,105 +162,114 @@ public class CountryServiceImpl implements CountryService {
   */
   @Override
   public boolean isCountryExists(final String code) {
-    // Check if a country exist with a 3 letter code exists in the repository
-    return repository.existsByCode(code);
+    // Check if a country exist with a 3 letter code exists in the index
+    return getIndex().existsByCode(code);
   }
 
   /**
-   * Retrieves a list of all countries from the repository and maps them to a list of {@link CountryResponse}
-   * objects. This method is typically used to fetch and cache country data.
+   * Rebuilds the country index from the database and swaps it in atomically.
    *
-   * @return A {@link List} of {@link CountryResponse} objects representing all countries.
-   */
-  private List<CountryResponse> getCountries() {
-    return countryMapper.toCountryResponses(repository.findAll());
-  }
-
-  /**
-   * Saves the provided list of {@link CountryResponse} objects to the cache. If the provided list is {@code null}
-   * or empty, it retrieves the countries from the data source and caches them instead.
+   * <p>This is intended for administrators after the country table has been changed. Only the index of the
+   * node handling the request is rebuilt; other nodes pick up the change on their next scheduled refresh.</p>
    *
-   * @param countries A {@link List} of {@link CountryResponse} objects to be cached. If this list is {@code null}
-   *                  or empty, the method will fetch the countries from the data source using {@link #getCountries()}.
+   * @return a {@link FleenFeenResponse.CountAllResponse} containing the number of indexed countries
    */
-  protected void saveCountriesToCache(final List<CountryResponse> countries) {
-    // If the list of countries is null or empty, retrieve the countries
-    List<CountryResponse> newCountries = countries;
-    if (isNull(countries) || countries.isEmpty()) {
-      newCountries = getCountries();
-    }
-
-    // Filter out null country entries and save each valid country to the cache
-    newCountries.stream()
-      .filter(Objects::nonNull)
-      .forEach(country -> cacheService.set(getCountryCacheKey(country.getTitle()), country));
+  @Override
+  public FleenFeenResponse.CountAllResponse reloadCountries() {
+    final CountryIndex index = reloadIndex();
+    return localizer.of(FleenFeenResponse.CountAllResponse.of(index.size()));
   }
 
   /**
-   * Handles the {@link ApplicationReadyEvent} event to save the list of countries to the cache when the
-   * application starts up. This method retrieves the countries from the data source and stores them in the cache.
+   * Handles the {@link ApplicationReadyEvent} event to build the country index when the application starts up.
    * This method is automatically invoked by the Spring framework when the application is fully initialized.
    */
   @EventListener(ApplicationReadyEvent.class)
-  public void saveCountriesToCacheOnStartup() {
-    final List<CountryResponse> countries = getCountries();
-    saveCountriesToCache(countries);
+  public void loadCountriesOnStartup() {
+    reloadIndex();
   }
 
   /**
-   * Scheduled task that refreshes the cache with country data every 12 hours.
+   * Scheduled task that rebuilds the country index every 12 hours.
    * This method is triggered based on a cron expression which schedules it to run at the start of every 12th hour.
-   * It calls {@link #saveCountriesToCache(List)} with {@code null} to update the cache with the latest
-   * list of countries retrieved from the data source.
    */
   @Scheduled(cron = "0 0 */12 * * *", zone = "${application.timezone}")
-  private void saveCountriesToCache() {
-    saveCountriesToCache(null);
+  private void refreshCountries() {
+    reloadIndex();
   }
 
   /**
-   * Retrieves a {@link CountryResponse} from the cache based on the provided country title.
-   * The method uses the title to generate a cache key and retrieves the corresponding {@link CountryResponse}
-   * from the cache. If no data is found in the cache for the generated key, the result will be {@code null}.
+   * Retrieves a {@link CountryResponse} from the index based on the provided country title.
+   * The title is matched case-insensitively.
    *
-   * @param title The title of the country for which the cached response is to be retrieved.
-   * @return The {@link CountryResponse} for the given title if it exists in the cache;
-   *         {@code null} if no cached data is found for the specified key.
+   * @param title The title of the country for which the response is to be retrieved.
+   * @return The {@link CountryResponse} for the given title if it exists;
+   *         {@link Optional#empty()} if no country is found with the specified title.
    */
   @Override
   public Optional<CountryResponse> getCountryFromCache(final String title) {
-    final String cacheKey = getCountryCacheKey(title);
-    final CountryResponse country = cacheService.get(cacheKey, CountryResponse.class);
-
-    return Optional.ofNullable(country);
+    return getIndex().findByTitle(title)
+      .map(this::toCountryResponse);
   }
 
   /**
-   * Retrieves the country code for a given country title from the cache.
-   * This method looks up the country title in the cache using {@link #getCountryFromCache(String)}.
-   * If a matching {@link CountryResponse} is found, the country code is returned as an {@link Optional}.
-   * If no matching country is found in the cache, an empty {@link Optional} is returned.
+   * Retrieves the country code for a given country title from the index.
+   * If a matching country is found, the country code is returned as an {@link Optional}.
+   * If no matching country is found, an empty {@link Optional} is returned.
    *
    * @param title The title of the country for which the code is to be retrieved.
    * @return An {@link Optional} containing the country code if found;
-   *         {@link Optional#empty()} if no country with the given title is found in the cache.
+   *         {@link Optional#empty()} if no country with the given title is found.
    */
   @Override
   public Optional<String> getCountryCodeByTitle(final String title) {
-    // Retrieve the country response from the cache
-    final Optional<CountryResponse> existingCountry = getCountryFromCache(title);
-    // If the country is found, return the code as an Optional
-    return existingCountry.map(CountryResponse::getCode);
+    return getIndex().findByTitle(title)
+      .map(IndexedCountry::code);
   }
 
   /**
-   * Generates the key used for caching country data. This key is used to store and retrieve country data from
-   * the cache. The generated key is a constant string "COUNTRY:::", which can be used to uniquely identify
-   * country-related cache entries.
+   * Returns the current country index, building it first if it has not been loaded yet. This covers callers
+   * that run before the {@link ApplicationReadyEvent} has been published.
    *
-   * @return A {@link String} representing the key used for country data in the cache.
+   * @return the current country index
    */
-  private String getCountryCacheKey(final String title) {
-    return "COUNTRY:::".concat(title);
+  protected CountryIndex getIndex() {
+    final CountryIndex index = countryIndex.get();
+    if (index.isLoaded()) {
+      return index;
+    }
+    return loadIndexIfAbsent();
+  }
+
+  /**
+   * Builds the index once for concurrent callers that all found it missing.
+   *
+   * @return the loaded country index
+   */
+  private synchronized CountryIndex loadIndexIfAbsent() {
+    final CountryIndex index = countryIndex.get();
+    return index.isLoaded() ? index : reloadIndex();
+  }
+
+  /**
+   * Reads all countries from the database, builds a new immutable index and swaps it in.
+   *
+   * @return the newly built index
+   */
+  protected CountryIndex reloadIndex() {
+    final CountryIndex index = CountryIndex.of(repository.findAll());
+    countryIndex.set(index);
+    log.info("Loaded {} countries into the country index", index.size());
+    return index;
+  }
+
+  private CountryResponse toCountryResponse(final IndexedCountry country) {
+    return countryMapper.toCountryResponse(country.toCountry());
+  }
+
+  private List<CountryResponse> toCountryResponses(final List<IndexedCountry> countries) {
+    return countryMapper.toCountryResponses(countries.stream()
+      .map(IndexedCountry::toCountry)
+      .toList());
   }
 }
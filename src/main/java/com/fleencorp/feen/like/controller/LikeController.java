@@ -2,6 +2,7 @@ package com.fleencorp.feen.like.controller;
 
 import com.fleencorp.base.resolver.SearchParam;
 import com.fleencorp.feen.chat.space.exception.core.ChatSpaceNotFoundException;
+import com.fleencorp.feen.common.aspect.RateLimit;
 import com.fleencorp.feen.common.exception.FailedOperationException;
 import com.fleencorp.feen.like.model.dto.LikeDto;
 import com.fleencorp.feen.like.model.request.search.LikeSearchRequest;
@@ -55,6 +56,7 @@ public class LikeController {
       content = @Content(schema = @Schema(implementation = FailedOperationException.class)))
   })
   @PreAuthorize("isFullyAuthenticated()")
+  @RateLimit(name = "like", capacity = 60, refillPeriodSeconds = 60)
   @PostMapping(value = "")
   public LikeCreateResponse like(
       @Valid @RequestBody final LikeDto likeDto,
@@ -6,7 +6,6 @@ import com.fleencorp.feen.like.model.domain.Like;
 import com.fleencorp.feen.like.model.info.UserLikeInfo;
 import com.fleencorp.feen.like.model.response.LikeResponse;
 import com.fleencorp.feen.mapper.impl.BaseMapper;
-import com.fleencorp.feen.mapper.impl.info.ToInfoMapperImpl;
 import com.fleencorp.feen.mapper.info.ToInfoMapper;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Component;
@@ -23,9 +22,11 @@ public class LikeMapperImpl extends BaseMapper implements LikeMapper {
 
   private final ToInfoMapper toInfoMapper;
 
-  public LikeMapperImpl(final MessageSource messageSource) {
+  public LikeMapperImpl(
+      final ToInfoMapper toInfoMapper,
+      final MessageSource messageSource) {
     super(messageSource);
-    this.toInfoMapper = new ToInfoMapperImpl(messageSource);
+    this.toInfoMapper = toInfoMapper;
   }
 
   /**
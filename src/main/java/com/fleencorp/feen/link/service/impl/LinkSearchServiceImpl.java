@@ -73,7 +73,7 @@ public class LinkSearchServiceImpl implements LinkSearchService {
    *         associated {@link LinkTypeInfo}s.
    */
   @Override
-  @Cacheable("availableLinkTypes")
+  @Cacheable(value = "availableLinkTypes", sync = true)
   public GetAvailableLinkTypeResponse getAvailableLinkTypes() {
     final Map<LinkType, LinkTypeInfo> availableLinkTypes =
       Stream.of(LinkType.values())
@@ -105,7 +105,7 @@ public class LinkSearchServiceImpl implements LinkSearchService {
    *         associated {@link MusicLinkTypeInfo}s.
    */
   @Override
-  @Cacheable("availableMusicLinkTypes")
+  @Cacheable(value = "availableMusicLinkTypes", sync = true)
   public GetAvailableMusicLinkTypeResponse getAvailableMusicLinkType() {
     final Map<MusicLinkType, MusicLinkTypeInfo> availableLinkTypes =
       Stream.of(MusicLinkType.values())
@@ -22,16 +22,17 @@ import com.fleencorp.feen.like.model.info.UserLikeInfo;
 import com.fleencorp.feen.model.info.share.contact.request.ShareContactRequestStatusInfo;
 import com.fleencorp.feen.model.info.user.profile.TotalFollowedInfo;
 import com.fleencorp.feen.model.info.user.profile.TotalFollowingInfo;
+import com.fleencorp.feen.shared.chat.space.contract.IsAChatSpace;
 
 import java.util.List;
 
 public interface UnifiedMapper {
 
-  ChatSpaceResponse toChatSpaceResponse(ChatSpace entry);
+  ChatSpaceResponse toChatSpaceResponse(IsAChatSpace entry);
 
   ChatSpaceResponse toChatSpaceResponseByAdminUpdate(ChatSpace entry);
 
-  List<ChatSpaceResponse> toChatSpaceResponses(List<ChatSpace> entries);
+  List<ChatSpaceResponse> toChatSpaceResponses(List<? extends IsAChatSpace> entries);
 
   void setMembershipInfo(ChatSpaceResponse chatSpace, ChatSpaceRequestToJoinStatus requestToJoinStatus, JoinStatus joinStatus, ChatSpaceMemberRole memberRole, boolean isAMember, boolean isAdmin, boolean hasLeft, boolean isRemoved);
 
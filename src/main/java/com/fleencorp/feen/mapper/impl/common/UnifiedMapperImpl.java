@@ -26,6 +26,7 @@ import com.fleencorp.feen.mapper.info.ToInfoMapper;
 import com.fleencorp.feen.model.info.share.contact.request.ShareContactRequestStatusInfo;
 import com.fleencorp.feen.model.info.user.profile.TotalFollowedInfo;
 import com.fleencorp.feen.model.info.user.profile.TotalFollowingInfo;
+import com.fleencorp.feen.shared.chat.space.contract.IsAChatSpace;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -50,7 +51,7 @@ public class UnifiedMapperImpl implements UnifiedMapper {
   }
 
   @Override
-  public ChatSpaceResponse toChatSpaceResponse(final ChatSpace entry) {
+  public ChatSpaceResponse toChatSpaceResponse(final IsAChatSpace entry) {
     return chatSpaceMapper.toChatSpaceResponse(entry);
   }
 
@@ -60,7 +61,7 @@ public class UnifiedMapperImpl implements UnifiedMapper {
   }
 
   @Override
-  public List<ChatSpaceResponse> toChatSpaceResponses(final List<ChatSpace> entries) {
+  public List<ChatSpaceResponse> toChatSpaceResponses(final List<? extends IsAChatSpace> entries) {
     return chatSpaceMapper.toChatSpaceResponses(entries);
   }
 
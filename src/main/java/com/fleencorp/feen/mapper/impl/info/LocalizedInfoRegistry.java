@@ -0,0 +1,158 @@
+package com.fleencorp.feen.mapper.impl.info;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * LocalizedInfoRegistry holds one shared instance of every {@code *Info} object that depends on nothing but a
+ * constant state and the locale of the request.
+ *
+ * <p>Values such as {@code UserLikeInfo}, {@code IsVotedInfo} or {@code JoinStatusInfo} are attached to every
+ * item of a page, yet for a given state and locale they always carry the same translated texts. Building them
+ * for every item allocates a new object and translates the same codes over and over. Mappers register a factory
+ * for each such info type once, and then ask the registry for the instance of a state; the registry builds it
+ * on first use for the locale and hands out the same instance afterwards. Instances for the supported locales
+ * are built when the application is ready, so requests never pay for them.</p>
+ *
+ * <p>The returned instances are shared between requests and threads, so the info types have no setters. Locales other
+ * than the supported ones are not cached, since the locale comes from the client; their instances are built on
+ * every call exactly as before. Cached instances are kept for the lifetime of the application, like the compiled
+ * messages they are built from.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class LocalizedInfoRegistry {
+
+  private final Set<Locale> supportedLocales;
+  private final ConcurrentMap<Class<?>, InfoFlyweights<?, ?>> flyweightsByInfoType = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new LocalizedInfoRegistry.
+   *
+   * @param supportedLocales the locales the message bundles are available in; only their instances are cached
+   */
+  public LocalizedInfoRegistry(@Value("${spring.messages.supported-locales:en-US,fr}") final List<Locale> supportedLocales) {
+    this.supportedLocales = Set.copyOf(supportedLocales);
+  }
+
+  /**
+   * Registers the factory building the info objects of the given type from the constants of a state enum.
+   *
+   * <p>The factory is called with the locale of the instance being built set on the {@link LocaleContextHolder}.
+   * Every info type is registered by a single mapper, so the instances handed out never depend on which mapper
+   * happened to register first.</p>
+   *
+   * @param infoType the type of the info objects
+   * @param stateType the enum whose constants the info objects are built from
+   * @param factory builds the info object of a state in the current locale
+   * @param <S> the type of the state
+   * @param <T> the type of the info objects
+   * @throws IllegalStateException if a factory is already registered for the info type
+   */
+  public <S extends Enum<S>, T> void register(final Class<T> infoType, final Class<S> stateType, final Function<S, T> factory) {
+    final InfoFlyweights<?, ?> existing = flyweightsByInfoType.putIfAbsent(infoType, new InfoFlyweights<>(stateType, factory, supportedLocales));
+    if (nonNull(existing)) {
+      throw new IllegalStateException("A localized info factory is already registered for " + infoType.getSimpleName());
+    }
+  }
+
+  /**
+   * Returns the shared info object of the given state in the locale of the current request.
+   *
+   * @param infoType the type of the info object
+   * @param state the state the info object describes
+   * @param <S> the type of the state
+   * @param <T> the type of the info object
+   * @return the info object of the state
+   * @throws IllegalStateException if no factory is registered for the info type
+   */
+  public <S extends Enum<S>, T> T get(final Class<T> infoType, final S state) {
+    return getFlyweights(infoType, state).get(state, LocaleContextHolder.getLocale());
+  }
+
+  /**
+   * Builds the info objects of every registered type and state for each supported locale.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void buildOnStartup() {
+    final LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+    try {
+      for (final Locale locale : supportedLocales) {
+        LocaleContextHolder.setLocale(locale);
+        flyweightsByInfoType.values().forEach(flyweights -> flyweights.buildAll(locale));
+      }
+      log.info("Built localized info objects of {} types for locales {}", flyweightsByInfoType.size(), supportedLocales);
+    } finally {
+      LocaleContextHolder.setLocaleContext(previousLocaleContext);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <S extends Enum<S>, T> InfoFlyweights<S, T> getFlyweights(final Class<T> infoType, final S state) {
+    final InfoFlyweights<S, T> flyweights = (InfoFlyweights<S, T>) flyweightsByInfoType.get(infoType);
+    if (isNull(flyweights) || flyweights.stateType != state.getDeclaringClass()) {
+      throw new IllegalStateException("No localized info factory registered for " + infoType.getSimpleName() + " and " + state.getDeclaringClass().getSimpleName());
+    }
+    return flyweights;
+  }
+
+  /**
+   * The instances of one info type, indexed by locale and by the ordinal of their state.
+   */
+  private static final class InfoFlyweights<S extends Enum<S>, T> {
+
+    private final Class<S> stateType;
+    private final Function<S, T> factory;
+    private final Map<Locale, AtomicReferenceArray<T>> instancesByLocale;
+
+    private InfoFlyweights(final Class<S> stateType, final Function<S, T> factory, final Set<Locale> locales) {
+      this.stateType = stateType;
+      this.factory = factory;
+
+      final int stateCount = stateType.getEnumConstants().length;
+      final Map<Locale, AtomicReferenceArray<T>> instances = new HashMap<>();
+      locales.forEach(locale -> instances.put(locale, new AtomicReferenceArray<>(stateCount)));
+      this.instancesByLocale = Map.copyOf(instances);
+    }
+
+    private T get(final S state, final Locale locale) {
+      final AtomicReferenceArray<T> instances = instancesByLocale.get(locale);
+      if (isNull(instances)) {
+        return factory.apply(state);
+      }
+
+      final T instance = instances.get(state.ordinal());
+      if (nonNull(instance)) {
+        return instance;
+      }
+
+      final T newInstance = factory.apply(state);
+      return instances.compareAndSet(state.ordinal(), null, newInstance)
+        ? newInstance
+        : instances.get(state.ordinal());
+    }
+
+    private void buildAll(final Locale locale) {
+      for (final S state : stateType.getEnumConstants()) {
+        get(state, locale);
+      }
+    }
+  }
+}
@@ -9,10 +9,12 @@ import com.fleencorp.feen.bookmark.constant.IsBookmarked;
 import com.fleencorp.feen.bookmark.model.info.BookmarkCountInfo;
 import com.fleencorp.feen.bookmark.model.info.UserBookmarkInfo;
 import com.fleencorp.feen.common.constant.common.IsDeleted;
+import com.fleencorp.feen.common.constant.common.JoinStatus;
 import com.fleencorp.feen.common.constant.common.ShareCount;
 import com.fleencorp.feen.common.constant.stat.TotalFollowed;
 import com.fleencorp.feen.common.constant.stat.TotalFollowing;
 import com.fleencorp.feen.common.model.info.IsDeletedInfo;
+import com.fleencorp.feen.common.model.info.JoinStatusInfo;
 import com.fleencorp.feen.common.model.info.ShareCountInfo;
 import com.fleencorp.feen.follower.constant.IsFollowed;
 import com.fleencorp.feen.follower.constant.IsFollowing;
@@ -48,8 +50,22 @@ import static java.util.Objects.nonNull;
 @Component
 public class ToInfoMapperImpl extends BaseMapper implements ToInfoMapper {
 
-  public ToInfoMapperImpl(final MessageSource messageSource) {
+  private final LocalizedInfoRegistry localizedInfoRegistry;
+
+  public ToInfoMapperImpl(
+      final MessageSource messageSource,
+      final LocalizedInfoRegistry localizedInfoRegistry) {
     super(messageSource);
+    this.localizedInfoRegistry = localizedInfoRegistry;
+
+    localizedInfoRegistry.register(UserLikeInfo.class, IsLiked.class, isLiked ->
+      UserLikeInfo.of(isLiked == IsLiked.YES, translate(isLiked.getMessageCode()), translate(isLiked.getMessageCode2())));
+    localizedInfoRegistry.register(UserBookmarkInfo.class, IsBookmarked.class, isBookmarked ->
+      UserBookmarkInfo.of(isBookmarked == IsBookmarked.YES, translate(isBookmarked.getMessageCode())));
+    localizedInfoRegistry.register(IsDeletedInfo.class, IsDeleted.class, isDeleted ->
+      IsDeletedInfo.of(isDeleted == IsDeleted.YES, translate(isDeleted.getMessageCode()), translate(isDeleted.getMessageCode2())));
+    localizedInfoRegistry.register(JoinStatusInfo.class, JoinStatus.class, joinStatus ->
+      JoinStatusInfo.of(joinStatus, translate(joinStatus.getMessageCode()), translate(joinStatus.getMessageCode2()), translate(joinStatus.getMessageCode3())));
   }
 
   /**
@@ -188,14 +204,14 @@ public class ToInfoMapperImpl extends BaseMapper implements ToInfoMapper {
    * The resulting {@link UserLikeInfo} contains both the raw status and
    * the translated messages.</p>
    *
+   * <p>The instance is shared from the {@link LocalizedInfoRegistry} and must not be modified.</p>
+   *
    * @param liked whether the entity is liked by the current user
    * @return a {@link UserLikeInfo} containing the like state and its localized descriptions
    */
   @Override
   public UserLikeInfo toLikeInfo(final boolean liked) {
-    final IsLiked isLiked = IsLiked.by(liked);
-
-    return UserLikeInfo.of(liked, translate(isLiked.getMessageCode()), translate(isLiked.getMessageCode2()));
+    return localizedInfoRegistry.get(UserLikeInfo.class, IsLiked.by(liked));
   }
 
   /**
@@ -206,13 +222,14 @@ public class ToInfoMapperImpl extends BaseMapper implements ToInfoMapper {
    * The resulting {@link UserBookmarkInfo} contains both the raw status and
    * the translated message.</p>
    *
+   * <p>The instance is shared from the {@link LocalizedInfoRegistry} and must not be modified.</p>
+   *
    * @param bookmarked whether the entity is bookmarked by the current user
    * @return a {@link UserBookmarkInfo} containing the bookmark state and its localized description
    */
   @Override
   public UserBookmarkInfo toBookmarkInfo(final boolean bookmarked) {
-    final IsBookmarked isBookmarked = IsBookmarked.by(bookmarked);
-    return UserBookmarkInfo.of(bookmarked, translate(isBookmarked.getMessageCode()));
+    return localizedInfoRegistry.get(UserBookmarkInfo.class, IsBookmarked.by(bookmarked));
   }
 
   /**
@@ -275,17 +292,14 @@ public class ToInfoMapperImpl extends BaseMapper implements ToInfoMapper {
    * <p>The resulting {@link IsDeletedInfo} provides information on the deletion status, including
    * localized message codes that can be used to display relevant messages to users.</p>
    *
+   * <p>The instance is shared from the {@link LocalizedInfoRegistry} and must not be modified.</p>
+   *
    * @param deleted The boolean flag indicating whether the entity has been deleted.
    * @return The {@link IsDeletedInfo} object containing the deletion status and message codes.
    */
   @Override
   public IsDeletedInfo toIsDeletedInfo(final boolean deleted) {
-    final IsDeleted isDeleted = IsDeleted.by(deleted);
-    return IsDeletedInfo.of(
-      deleted,
-      translate(isDeleted.getMessageCode()),
-      translate(isDeleted.getMessageCode2())
-    );
+    return localizedInfoRegistry.get(IsDeletedInfo.class, IsDeleted.by(deleted));
   }
 
   /**
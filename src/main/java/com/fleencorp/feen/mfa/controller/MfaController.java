@@ -1,5 +1,6 @@
 package com.fleencorp.feen.mfa.controller;
 
+import com.fleencorp.feen.common.aspect.RateLimit;
 import com.fleencorp.feen.mfa.model.dto.ConfirmMfaVerificationCodeDto;
 import com.fleencorp.feen.mfa.model.dto.ConfirmSetupMfaDto;
 import com.fleencorp.feen.mfa.model.dto.ResendMfaVerificationCodeDto;
@@ -34,6 +35,7 @@ public class MfaController {
     return mfaService.getMfaStatus(user);
   }
 
+  @RateLimit(name = "mfa-setup", capacity = 3, refillPeriodSeconds = 600)
   @PostMapping(value = "/setup")
   public SetupMfaResponse setupMfa(
       @Valid @RequestBody final SetupMfaDto dto,
@@ -48,6 +50,7 @@ public class MfaController {
     return mfaService.confirmMfaSetup(dto, user);
   }
 
+  @RateLimit(name = "mfa-resend-setup-code", capacity = 3, refillPeriodSeconds = 600)
   @PostMapping(value = "/resend-setup-code")
   public SetupMfaResponse resendMfaSetupCode(
       @Valid @RequestBody final SetupMfaDto dto,
@@ -56,6 +59,7 @@ public class MfaController {
   }
 
   @PreAuthorize("hasAnyRole('PRE_AUTHENTICATED_USER')")
+  @RateLimit(name = "mfa-verify-code", capacity = 10, refillPeriodSeconds = 600)
   @PostMapping(value = "/verify-code")
   public SignInResponse verifyMfaCode(
       @Valid @RequestBody final ConfirmMfaVerificationCodeDto confirmMfaVerificationCodeDto,
@@ -64,6 +68,7 @@ public class MfaController {
   }
 
   @PreAuthorize("hasAnyRole('PRE_AUTHENTICATED_USER')")
+  @RateLimit(name = "mfa-resend-verification-code", capacity = 3, refillPeriodSeconds = 600)
   @PostMapping(value = "/resend-verification-code")
   public ResendMfaVerificationCodeResponse resendMfaVerificationCode(
       @Valid @RequestBody final ResendMfaVerificationCodeDto resendMfaVerificationCodeDto,
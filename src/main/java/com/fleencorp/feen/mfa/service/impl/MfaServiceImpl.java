@@ -3,6 +3,7 @@ package com.fleencorp.feen.mfa.service.impl;
 import com.fleencorp.feen.common.event.model.base.PublishMessageRequest;
 import com.fleencorp.feen.common.event.publisher.ProfileRequestPublisher;
 import com.fleencorp.feen.common.exception.FailedOperationException;
+import com.fleencorp.feen.common.exception.RateLimitExceededException;
 import com.fleencorp.feen.common.service.impl.cache.CacheService;
 import com.fleencorp.feen.mapper.CommonMapper;
 import com.fleencorp.feen.mfa.constant.MfaSetupStatus;
@@ -22,24 +23,28 @@ import com.fleencorp.feen.mfa.model.response.SetupMfaResponse;
 import com.fleencorp.feen.mfa.repository.MfaRepository;
 import com.fleencorp.feen.mfa.service.MfaService;
 import com.fleencorp.feen.security.properties.MfaProperties;
+import com.fleencorp.feen.security.properties.QrCodeProperties;
+import com.fleencorp.feen.shared.common.crypto.SecretCipher;
 import com.fleencorp.feen.shared.security.RegisteredUser;
 import com.fleencorp.feen.user.model.domain.Member;
 import com.fleencorp.feen.user.repository.MemberRepository;
+import com.fleencorp.feen.verification.constant.OtpPurpose;
 import com.fleencorp.feen.verification.constant.VerificationType;
 import com.fleencorp.feen.verification.exception.core.ExpiredVerificationCodeException;
 import com.fleencorp.feen.verification.exception.core.InvalidVerificationCodeException;
+import com.fleencorp.feen.verification.model.otp.OtpVerification;
 import com.fleencorp.feen.verification.service.OtpService;
+import com.fleencorp.feen.verification.service.OtpStoreService;
 import com.fleencorp.localizer.service.Localizer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.util.Optional;
 
-import static com.fleencorp.feen.common.service.impl.cache.CacheKeyService.getMfaAuthenticationCacheKey;
-import static com.fleencorp.feen.common.service.impl.cache.CacheKeyService.getMfaSetupCacheKey;
+import static com.fleencorp.feen.common.service.impl.cache.CacheKeyService.getMfaAuthenticatorSetupCacheKey;
 import static com.fleencorp.feen.verification.service.OtpService.getRandomSixDigitOtp;
+import static java.util.Objects.nonNull;
 
 /**
  * Implementation of the MfaService interface, providing methods for managing multifactor authentication (MFA) processes.
@@ -52,41 +57,53 @@ import static com.fleencorp.feen.verification.service.OtpService.getRandomSixDig
 public class MfaServiceImpl implements MfaService {
 
   private final CacheService cacheService;
+  private final OtpStoreService otpStoreService;
   private final OtpService otpService;
   private final MfaRepository mfaRepository;
   private final MemberRepository memberRepository;
   private final ProfileRequestPublisher profileRequestPublisher;
   private final Localizer localizer;
   private final MfaProperties mfaProperties;
+  private final QrCodeProperties qrCodeProperties;
+  private final SecretCipher secretCipher;
   private final CommonMapper commonMapper;
 
   /**
    * Constructs an instance of MfaServiceImpl with the required services, properties, and mappers for Multi-Factor Authentication (MFA) operations.
    *
-   * @param cacheService         The service used for caching data.
+   * @param cacheService         The service used to keep pending authenticator setups.
+   * @param otpStoreService      The service storing one-time verification codes.
    * @param otpService           The service for generating One-Time Passwords (OTPs).
    * @param mfaRepository        The repository responsible for handling MFA data.
    * @param memberRepository     The repository responsible for managing member data.
    * @param profileRequestPublisher Publishes profile requests when necessary.
    * @param mfaProperties        Configuration properties for MFA settings.
+   * @param qrCodeProperties     Configuration properties for the setup QR code.
+   * @param secretCipher         Encrypts the secret of a pending authenticator setup while it is cached.
    * @param commonMapper            The mapper service responsible for mapping MFA-related entities and responses.
    * @param localizer    The service used to fetch localized responses based on the user's locale.
    */
   public MfaServiceImpl(
       final CacheService cacheService,
+      final OtpStoreService otpStoreService,
       final OtpService otpService,
       final MfaRepository mfaRepository,
       final MemberRepository memberRepository,
       final ProfileRequestPublisher profileRequestPublisher,
       final MfaProperties mfaProperties,
+      final QrCodeProperties qrCodeProperties,
+      final SecretCipher secretCipher,
       final CommonMapper commonMapper,
       final Localizer localizer) {
     this.cacheService = cacheService;
+    this.otpStoreService = otpStoreService;
     this.otpService = otpService;
     this.mfaRepository = mfaRepository;
     this.memberRepository = memberRepository;
     this.profileRequestPublisher = profileRequestPublisher;
     this.mfaProperties = mfaProperties;
+    this.qrCodeProperties = qrCodeProperties;
+    this.secretCipher = secretCipher;
     this.commonMapper = commonMapper;
     this.localizer = localizer;
   }
@@ -271,53 +288,45 @@ public class MfaServiceImpl implements MfaService {
     updateMfaSetupResponseAndIfPossibleSetMfaAuthenticatorSecret(member, mfaType);
     // Save the updated member details
     memberRepository.save(member);
+    // Discard the pending authenticator setup now that it is confirmed
+    clearPendingAuthenticatorSetup(emailAddress, mfaType);
 
     return localizer.of(ConfirmMfaSetupResponse.of());
   }
 
   /**
    * Validates Multi-Factor Authentication (MFA) setup code for the specified user and MFA type.
-   * Uses the provided verification code to validate and clear the setup OTP if validation succeeds.
+   * The setup OTP is consumed if validation succeeds.
    *
    * @param username The username or email address of the user for whom MFA setup code is being validated.
    * @param code The verification code for MFA setup validation.
    * @param mfaType The type of MFA for which the code is being validated.
    */
   protected void validateEmailOrPhoneMfaSetupCode(final String username, final String code, final MfaType mfaType) {
-    final String verificationKey = getMfaSetupCacheKey(username, mfaType);
     // Verify the code through email or phone verification type
-    validateEmailOrPhoneVerificationCode(verificationKey, code);
-    // Clear the otp if the verification of the code pass
-    clearMfaSetupOtp(username, mfaType);
+    validateEmailOrPhoneVerificationCode(OtpPurpose.mfaSetup(mfaType), username, code);
   }
 
   /**
-   * <p>Validate a code like OTP by checking if it exists in the DB or cache for example {@link CacheService} and confirm if it is equal to the code saved in
-   * the store.</p>
+   * <p>Validate a code like OTP by verifying and consuming it in the {@link OtpStoreService}. Every failed attempt
+   * counts towards the lockout of the user.</p>
    *
-   * @param verificationKey the key to check for the existence of the verification code and the validity of the code associated with it
-   * @param code the code to validate against the code saved and associated with the verification key
+   * @param otpPurpose the flow the code was issued for
+   * @param username the user the code was issued to
+   * @param code the code to validate against the code issued to the user
    */
-  protected void validateEmailOrPhoneVerificationCode(final String verificationKey, final String code) {
-    // Check if the verification code exists
-    if (!cacheService.exists(verificationKey)) {
-      throw ExpiredVerificationCodeException.of(code);
-    }
-    // Check if the provided verification code is valid and equal to the saved verification code
-    if (!cacheService.get(verificationKey).equals(code)) {
-      throw new InvalidVerificationCodeException(code);
-    }
-  }
+  protected void validateEmailOrPhoneVerificationCode(final OtpPurpose otpPurpose, final String username, final String code) {
+    final OtpVerification otpVerification = otpStoreService.verifyAndConsume(otpPurpose, username, code);
 
-  /**
-   * Clears the MFA setup OTP for the specified user and MFA type.
-   *
-   * @param username the username of the user for whom the MFA setup OTP is to be cleared.
-   * @param mfaType  the type of MFA for which the OTP is to be cleared.
-   */
-  protected void clearMfaSetupOtp(final String username, final MfaType mfaType) {
-    // Delete the OTP from the cache for the given username and MFA type
-    cacheService.delete(getMfaSetupCacheKey(username, mfaType));
+    switch (otpVerification.status()) {
+      case VALID -> { }
+      // Check if the verification code exists
+      case EXPIRED -> throw ExpiredVerificationCodeException.of(code);
+      // Check if the user is locked out after too many failed attempts
+      case LOCKED -> throw RateLimitExceededException.of(Math.max(1, otpVerification.retryAfter().toSeconds()));
+      // The provided verification code is not equal to the saved verification code
+      default -> throw new InvalidVerificationCodeException(code);
+    }
   }
 
   /**
@@ -349,8 +358,7 @@ public class MfaServiceImpl implements MfaService {
    */
   @Override
   public void validateEmailOrPhoneMfaVerificationCode(final String username, final String code) {
-    final String verificationKey = getMfaAuthenticationCacheKey(username);
-    validateEmailOrPhoneVerificationCode(verificationKey, code);
+    validateEmailOrPhoneVerificationCode(OtpPurpose.MFA_AUTHENTICATION, username, code);
   }
 
   /**
@@ -508,7 +516,7 @@ public class MfaServiceImpl implements MfaService {
       case EMAIL -> saveAndSendMfaVerificationCodeRequest(member, VerificationType.EMAIL, MfaType.EMAIL);
       case PHONE -> saveAndSendMfaVerificationCodeRequest(member, VerificationType.PHONE, MfaType.PHONE);
       case AUTHENTICATOR -> {
-        final MfaAuthenticatorSecurityInfo mfaAuthenticator = generateAuthenticatorSecretDetails();
+        final MfaAuthenticatorSecurityInfo mfaAuthenticator = getOrGenerateAuthenticatorSecretDetails(member.getEmailAddress());
         setupMfaResponse.setSecret(mfaAuthenticator.getSecret());
         setupMfaResponse.setQrCode(mfaAuthenticator.getQrCode());
       }
@@ -517,7 +525,7 @@ public class MfaServiceImpl implements MfaService {
   }
 
   /**
-   * Saves the MFA setup OTP or verification code temporarily in the cache and sends a verification code request.
+   * Saves the MFA setup OTP or verification code temporarily in the OTP store and sends a verification code request.
    *
    * @param member the member for whom the verification code is being sent
    * @param verificationType the type of verification (e.g., EMAIL or SMS)
@@ -532,23 +540,61 @@ public class MfaServiceImpl implements MfaService {
     final MfaSetupVerificationRequest mfaVerificationRequest = MfaSetupVerificationRequest
         .of(otpCode, user.getFirstName(), user.getLastName(), user.getEmailAddress(), user.getPhoneNumber(), verificationType);
 
-    // Send MFA verification code request
-    profileRequestPublisher.publishMessage(PublishMessageRequest.of(mfaVerificationRequest));
-
     // Save OTP or verification code temporarily
     saveMfaSetupOtpOrVerificationCodeTemporarily(member.getEmailAddress(), otpCode, mfaType);
+
+    // Send MFA verification code request
+    profileRequestPublisher.publishMessage(PublishMessageRequest.of(mfaVerificationRequest));
   }
 
   /**
-   * Saves the MFA setup OTP or verification code temporarily in the cache.
+   * Saves the MFA setup OTP or verification code temporarily in the OTP store.
    *
    * @param username the username of the user for whom the code is being saved
    * @param otp the OTP or verification code to be saved
    * @param mfaType the MFA type for which the code is being saved
    */
   protected void saveMfaSetupOtpOrVerificationCodeTemporarily(final String username, final String otp, final MfaType mfaType) {
-    final String key = getMfaSetupCacheKey(username, mfaType);
-    cacheService.set(key, otp, Duration.ofMinutes(5));
+    otpStoreService.reissue(OtpPurpose.mfaSetup(mfaType), username, otp);
+  }
+
+  /**
+   * Returns the pending authenticator setup of the user, or generates and keeps a new one.
+   *
+   * <p>A pending setup holds the secret and its rendered QR code for the configured time, so repeated setup
+   * requests return the same secret without rendering the QR code again. Both are encrypted while cached, since
+   * the QR code embeds the secret as well, and are kept with their expiry in a single write.</p>
+   *
+   * @param username the username of the user setting up the authenticator
+   * @return the MfaAuthenticatorSecurityInfo containing QR code data URI and secret key
+   */
+  protected MfaAuthenticatorSecurityInfo getOrGenerateAuthenticatorSecretDetails(final String username) {
+    final String key = getMfaAuthenticatorSetupCacheKey(username);
+    // Reuse the pending setup if one exists
+    final MfaAuthenticatorSecurityInfo pendingSetup = cacheService.get(key, MfaAuthenticatorSecurityInfo.class);
+    if (nonNull(pendingSetup)) {
+      return MfaAuthenticatorSecurityInfo.of(secretCipher.decrypt(pendingSetup.getQrCode()), secretCipher.decrypt(pendingSetup.getSecret()));
+    }
+
+    // Generate a new setup and keep it encrypted until it is confirmed or expires
+    final MfaAuthenticatorSecurityInfo mfaAuthenticator = generateAuthenticatorSecretDetails();
+    final MfaAuthenticatorSecurityInfo encryptedSetup = MfaAuthenticatorSecurityInfo.of(
+      secretCipher.encrypt(mfaAuthenticator.getQrCode()),
+      secretCipher.encrypt(mfaAuthenticator.getSecret()));
+    cacheService.set(key, encryptedSetup, qrCodeProperties.getPendingSetupTtl());
+    return mfaAuthenticator;
+  }
+
+  /**
+   * Removes the pending authenticator setup of the user if the confirmed MFA type is the authenticator.
+   *
+   * @param username the username of the user who confirmed the setup
+   * @param mfaType the MFA type that was confirmed
+   */
+  protected void clearPendingAuthenticatorSetup(final String username, final MfaType mfaType) {
+    if (MfaType.isAuthenticator(mfaType)) {
+      cacheService.delete(getMfaAuthenticatorSetupCacheKey(username));
+    }
   }
 
   /**
@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
 
 import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
 @Getter
 @Setter
@@ -25,7 +25,8 @@ import static jakarta.persistence.GenerationType.IDENTITY;
 public class Notification extends FleenFeenEntity {
 
   @Id
-  @GeneratedValue(strategy = IDENTITY)
+  @GeneratedValue(strategy = SEQUENCE, generator = "notification_id_generator")
+  @SequenceGenerator(name = "notification_id_generator", sequenceName = "notification_notification_id_seq", allocationSize = 50)
   @Column(name = "notification_id", nullable = false, updatable = false, unique = true)
   private Long notificationId;
 
@@ -9,12 +9,14 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-  @Query("SELECT n FROM Notification n WHERE n.notificationId IS NOT NULL AND n.receiverId = :receiverId ORDER BY n.createdOn DESC")
-  Page<Notification> findMany(@Param("receiverId") Long receiverId, Pageable pageable);
+  @Query("SELECT n FROM Notification n WHERE n.notificationId IS NOT NULL AND n.receiverId = :receiverId AND n.createdOn >= :since ORDER BY n.createdOn DESC")
+  Page<Notification> findMany(@Param("receiverId") Long receiverId, @Param("since") LocalDateTime since, Pageable pageable);
 
   @Modifying
-  @Query("UPDATE Notification n SET n.notificationStatus = :status WHERE n.receiverId = :receiverId AND n.notificationStatus = :unreadStatus")
-  void markAllAsRead(@Param("status")NotificationStatus notificationStatus, @Param("unreadStatus") NotificationStatus unreadStatus, @Param("receiverId") Long receiverId);
+  @Query("UPDATE Notification n SET n.notificationStatus = :status WHERE n.receiverId = :receiverId AND n.notificationStatus = :unreadStatus AND n.createdOn >= :since")
+  void markAllAsRead(@Param("status")NotificationStatus notificationStatus, @Param("unreadStatus") NotificationStatus unreadStatus, @Param("receiverId") Long receiverId, @Param("since") LocalDateTime since);
 }
@@ -2,6 +2,7 @@ package com.fleencorp.feen.notification.service.impl;
 
 import com.fleencorp.base.model.request.search.SearchRequest;
 import com.fleencorp.base.model.view.search.SearchResult;
+import com.fleencorp.feen.common.configuration.datasource.PartitionMaintenanceProperties;
 import com.fleencorp.feen.notification.constant.NotificationStatus;
 import com.fleencorp.feen.notification.constant.NotificationType;
 import com.fleencorp.feen.notification.exception.core.NotificationNotFoundException;
@@ -13,20 +14,23 @@ import com.fleencorp.feen.notification.repository.NotificationRepository;
 import com.fleencorp.feen.notification.service.NotificationService;
 import com.fleencorp.feen.shared.security.RegisteredUser;
 import com.fleencorp.localizer.service.Localizer;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.EnumMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.function.Function;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 
 import static com.fleencorp.base.util.FleenUtil.toSearchResult;
 import static com.fleencorp.feen.notification.constant.NotificationType.*;
 import static com.fleencorp.feen.notification.model.response.NotificationResponse.toNotificationResponse;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 /**
@@ -39,22 +43,36 @@ import static java.util.Objects.nonNull;
 @Service
 public class NotificationServiceImpl implements NotificationService {
 
+  private static final Map<NotificationType, BiFunction<NotificationMessageService, Notification, String>> MESSAGE_HANDLERS = createMessageHandlers();
+  private static final long RENDERED_MESSAGE_CACHE_MAX_ENTRIES = 10_000;
+  private static final long RENDERED_MESSAGE_CACHE_TTL_MINUTES = 30;
+  private static final String NOTIFICATION_TABLE = "notification";
+
   private final NotificationMessageService notificationMessageService;
   private final NotificationRepository notificationRepository;
   private final Localizer localizer;
+  private final PartitionMaintenanceProperties partitionProperties;
+  private final Cache<RenderedMessageKey, String> renderedMessages;
 
   /**
    * Constructs a new {@code NotificationServiceImpl} with the given notification repository.
    *
    * @param notificationRepository the {@link NotificationRepository} used to perform CRUD operations on notifications
+   * @param partitionProperties the retention of the notification partitions, which bounds the notifications queried
    */
   public NotificationServiceImpl(
       final NotificationMessageService notificationMessageService,
       final NotificationRepository notificationRepository,
-      final Localizer localizer) {
+      final Localizer localizer,
+      final PartitionMaintenanceProperties partitionProperties) {
     this.notificationMessageService = notificationMessageService;
     this.notificationRepository = notificationRepository;
     this.localizer = localizer;
+    this.partitionProperties = partitionProperties;
+    this.renderedMessages = CacheBuilder.newBuilder()
+      .maximumSize(RENDERED_MESSAGE_CACHE_MAX_ENTRIES)
+      .expireAfterAccess(RENDERED_MESSAGE_CACHE_TTL_MINUTES, TimeUnit.MINUTES)
+      .build();
   }
 
   /**
@@ -62,7 +80,8 @@ public class NotificationServiceImpl implements NotificationService {
    * converting them into {@link NotificationResponse} objects and packaging them into a {@link NotificationSearchResult}.
    *
    * <p>This method queries the {@link NotificationRepository} to find notifications based on the {@link SearchRequest}'s
-   * pagination settings. It then converts the list of {@link Notification} objects to a list of {@link NotificationResponse} objects.
+   * pagination settings, looking only at the months the notifications are retained for so the older partitions are
+   * pruned from the query. It then converts the list of {@link Notification} objects to a list of {@link NotificationResponse} objects.
    * Finally, it returns a {@link NotificationSearchResult} containing the responses and pagination details.
    * If no notifications are found, an empty search result is returned.</p>
    *
@@ -74,7 +93,7 @@ public class NotificationServiceImpl implements NotificationService {
   @Override
   public NotificationSearchResult findNotifications(final SearchRequest searchRequest, final RegisteredUser user) {
     // Find a list of notifications based on the page details in the search request
-    final Page<Notification> page = notificationRepository.findMany(user.getId(), searchRequest.getPage());
+    final Page<Notification> page = notificationRepository.findMany(user.getId(), retainedSince(), searchRequest.getPage());
     // Convert the notifications to a list of notification responses
     final List<NotificationResponse> notificationResponses = toNotificationResponses(page.getContent());
     // Create a search result
@@ -138,17 +157,28 @@ public class NotificationServiceImpl implements NotificationService {
   /**
    * Marks all notifications for the specified user as read.
    *
+   * <p>Only the notifications of the retained months are updated, so the update is pruned to their partitions.</p>
+   *
    * @param user the user whose notifications are to be marked as read.
    * @return a {@link ReadNotificationResponse} indicating the result of the operation.
    */
   @Override
   public ReadNotificationResponse markAllAsRead(final RegisteredUser user) {
     // Mark all notifications currently unread as now read for the given user
-    notificationRepository.markAllAsRead(NotificationStatus.read(), NotificationStatus.unread(), user.getId());
+    notificationRepository.markAllAsRead(NotificationStatus.read(), NotificationStatus.unread(), user.getId(), retainedSince());
     // Return a response indicating that the notifications have been marked as read
     return localizer.of(ReadNotificationResponse.of());
   }
 
+  /**
+   * Returns the start of the oldest month whose notifications are still retained.
+   *
+   * @return the lower bound of {@code created_on} for the notification queries
+   */
+  private LocalDateTime retainedSince() {
+    return partitionProperties.retainedSince(NOTIFICATION_TABLE);
+  }
+
   /**
    * Converts a list of {@link Notification} objects into a list of {@link NotificationResponse} objects,
    * each containing the appropriate message.
@@ -174,11 +204,8 @@ public class NotificationServiceImpl implements NotificationService {
   /**
    * Creates a {@link NotificationResponse} object from a {@link Notification} and sets the appropriate message.
    *
-   * <p>This method converts the given {@link Notification} into a {@link NotificationResponse} and retrieves
-   * a message handler for the notification type. If a message handler is found, it generates the message
-   * using the handler and sets it in the {@link NotificationResponse}.</p>
-   *
-   * <p>The message handler is selected based on the {@link NotificationType} of the provided notification.</p>
+   * <p>This method converts the given {@link Notification} into a {@link NotificationResponse} and renders
+   * its message with the handler of its notification type, if there is one.</p>
    *
    * @param notification the {@link Notification} object to be converted into a response.
    * @return a {@link NotificationResponse} with the generated message if applicable.
@@ -186,54 +213,89 @@ public class NotificationServiceImpl implements NotificationService {
   public NotificationResponse createNotificationResponseWithMessage(final Notification notification) {
     // Convert notification to response
     final NotificationResponse notificationResponse = toNotificationResponse(notification);
-    // Get the appropriate message handler
-    final Function<Notification, String> messageHandler = messageHandlers().get(notification.getNotificationType());
 
-    // If message handler is present, set the message in the response
-    if (nonNull(messageHandler) && nonNull(notificationResponse)) {
-      notificationResponse.setMessage(messageHandler.apply(notification));
+    // If a message can be rendered for the notification, set it in the response
+    if (nonNull(notificationResponse)) {
+      final String message = renderMessage(notification);
+      if (nonNull(message)) {
+        notificationResponse.setMessage(message);
+      }
     }
 
     return notificationResponse;
   }
 
   /**
-   * Provides a mapping of {@link NotificationType} to corresponding message handling functions.
+   * Renders the message of a notification in the locale of the current request.
+   *
+   * <p>The text of a notification never changes once it is saved, so the rendered message of a saved
+   * notification is cached per notification and locale. A user paging through the notification feed
+   * therefore formats each notification once per locale.</p>
+   *
+   * @param notification the notification to render the message of
+   * @return the rendered message, or {@code null} if the notification type has no message handler
+   */
+  protected String renderMessage(final Notification notification) {
+    final BiFunction<NotificationMessageService, Notification, String> messageHandler = MESSAGE_HANDLERS.get(notification.getNotificationType());
+    if (isNull(messageHandler)) {
+      return null;
+    }
+
+    if (isNull(notification.getNotificationId())) {
+      return messageHandler.apply(notificationMessageService, notification);
+    }
+
+    final RenderedMessageKey cacheKey = new RenderedMessageKey(notification.getNotificationId(), LocaleContextHolder.getLocale());
+    final String cachedMessage = renderedMessages.getIfPresent(cacheKey);
+    if (nonNull(cachedMessage)) {
+      return cachedMessage;
+    }
+
+    final String message = messageHandler.apply(notificationMessageService, notification);
+    if (nonNull(message)) {
+      renderedMessages.put(cacheKey, message);
+    }
+    return message;
+  }
+
+  /**
+   * Creates the mapping of {@link NotificationType} to corresponding message handling functions.
    *
-   * <p>This method creates and returns a map where each {@link NotificationType} is associated with
-   * a function that generates the appropriate message for a given notification. Each message is
-   * generated using the appropriate method from the {@link NotificationMessageService}.</p>
+   * <p>Each {@link NotificationType} is associated with the method of the {@link NotificationMessageService}
+   * that generates its message. The mapping is built once and shared by every call.</p>
    *
    * @return a map that associates each {@link NotificationType} with its respective message handler.
    */
-  protected Map<NotificationType, Function<Notification, String>> messageHandlers() {
-    final Map<NotificationType, Function<Notification, String>> messageHandlers = new EnumMap<>(NotificationType.class);
+  private static Map<NotificationType, BiFunction<NotificationMessageService, Notification, String>> createMessageHandlers() {
+    final Map<NotificationType, BiFunction<NotificationMessageService, Notification, String>> messageHandlers = new EnumMap<>(NotificationType.class);
 
     // Mapping NotificationTypes to corresponding message handling functions
     // Handling requests to join a chat space
-    messageHandlers.put(requestToJoinChatSpaceApproved(), notificationMessageService::ofApprovedRequestToJoinChatSpace);
-    messageHandlers.put(requestToJoinChatSpaceDisapproved(), notificationMessageService::ofDisapprovedRequestToJoinChatSpace);
-    messageHandlers.put(requestToJoinChatSpaceReceived(), notificationMessageService::ofReceivedRequestToJoinChatSpace);
+    messageHandlers.put(requestToJoinChatSpaceApproved(), NotificationMessageService::ofApprovedRequestToJoinChatSpace);
+    messageHandlers.put(requestToJoinChatSpaceDisapproved(), NotificationMessageService::ofDisapprovedRequestToJoinChatSpace);
+    messageHandlers.put(requestToJoinChatSpaceReceived(), NotificationMessageService::ofReceivedRequestToJoinChatSpace);
 
     // Handling requests to join an event
-    messageHandlers.put(requestToJoinEventApproved(), notificationMessageService::ofApprovedRequestToJoinEvent);
-    messageHandlers.put(requestToJoinEventDisapproved(), notificationMessageService::ofDisapprovedRequestToJoinEvent);
-    messageHandlers.put(requestToJoinEventReceived(), notificationMessageService::ofReceivedRequestToJoinEvent);
+    messageHandlers.put(requestToJoinEventApproved(), NotificationMessageService::ofApprovedRequestToJoinEvent);
+    messageHandlers.put(requestToJoinEventDisapproved(), NotificationMessageService::ofDisapprovedRequestToJoinEvent);
+    messageHandlers.put(requestToJoinEventReceived(), NotificationMessageService::ofReceivedRequestToJoinEvent);
 
     // Handling requests to join a live broadcast
-    messageHandlers.put(requestToJoinLiveBroadcastApproved(), notificationMessageService::ofApprovedRequestToJoinLiveBroadcast);
-    messageHandlers.put(requestToJoinLiveBroadcastDisapproved(), notificationMessageService::ofDisapprovedRequestToJoinLiveBroadcast);
-    messageHandlers.put(requestToJoinLiveBroadcastReceived(), notificationMessageService::ofReceivedRequestToJoinLiveBroadcast);
+    messageHandlers.put(requestToJoinLiveBroadcastApproved(), NotificationMessageService::ofApprovedRequestToJoinLiveBroadcast);
+    messageHandlers.put(requestToJoinLiveBroadcastDisapproved(), NotificationMessageService::ofDisapprovedRequestToJoinLiveBroadcast);
+    messageHandlers.put(requestToJoinLiveBroadcastReceived(), NotificationMessageService::ofReceivedRequestToJoinLiveBroadcast);
 
     // Handling contact sharing requests
-    messageHandlers.put(shareContactRequestApproved(), notificationMessageService::ofApprovedShareContactRequest);
-    messageHandlers.put(shareContactRequestDisapproved(), notificationMessageService::ofDisapprovedShareContactRequest);
-    messageHandlers.put(shareContactRequestReceived(), notificationMessageService::ofReceivedShareContactRequest);
+    messageHandlers.put(shareContactRequestApproved(), NotificationMessageService::ofApprovedShareContactRequest);
+    messageHandlers.put(shareContactRequestDisapproved(), NotificationMessageService::ofDisapprovedShareContactRequest);
+    messageHandlers.put(shareContactRequestReceived(), NotificationMessageService::ofReceivedShareContactRequest);
 
     // Handling notifications related to user following
-    messageHandlers.put(userFollowing(), notificationMessageService::ofUserFollowing);
+    messageHandlers.put(userFollowing(), NotificationMessageService::ofUserFollowing);
 
-    return messageHandlers;
+    return Collections.unmodifiableMap(messageHandlers);
   }
 
+  private record RenderedMessageKey(Long notificationId, Locale locale) {}
+
 }
@@ -1,6 +1,7 @@
 package com.fleencorp.feen.poll.controller;
 
 import com.fleencorp.base.resolver.SearchParam;
+import com.fleencorp.feen.common.aspect.RateLimit;
 import com.fleencorp.feen.common.exception.FailedOperationException;
 import com.fleencorp.feen.poll.exception.option.PollOptionNotFoundException;
 import com.fleencorp.feen.poll.exception.poll.PollNotFoundException;
@@ -72,6 +73,7 @@ public class PollVoteController {
     @ApiResponse(responseCode = "400", description = "Voting not allowed because the poll does not support multiple-choice voting",
       content = @Content(schema = @Schema(implementation = PollVotingNoMultipleChoiceException.class)))
   })
+  @RateLimit(name = "poll-vote", capacity = 30, refillPeriodSeconds = 60)
   @PostMapping(value = "/vote/{pollId}")
   public PollVoteResponse votePoll(
       @Parameter(description = "ID of the poll to vote on", required = true)
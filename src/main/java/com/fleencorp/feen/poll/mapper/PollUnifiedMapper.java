@@ -9,7 +9,7 @@ import com.fleencorp.feen.poll.model.info.IsVotedInfo;
 import com.fleencorp.feen.poll.model.info.TotalPollVoteEntriesInfo;
 import com.fleencorp.feen.poll.model.response.core.PollOptionResponse;
 import com.fleencorp.feen.poll.model.response.core.PollResponse;
-import com.fleencorp.feen.user.model.domain.Member;
+import com.fleencorp.feen.shared.member.contract.IsAMember;
 import com.fleencorp.feen.user.model.response.UserResponse;
 
 import java.util.Collection;
@@ -32,7 +32,7 @@ public interface PollUnifiedMapper {
     PollOptionEntriesHolder pollOptionEntriesHolder,
     Collection<Long> votedPollOptionIds);
 
-  Collection<UserResponse> toPollVoteResponses(Collection<Member> entries);
+  Collection<UserResponse> toPollVoteResponses(Collection<? extends IsAMember> entries);
 
   TotalPollVoteEntriesInfo toTotalPollVoteEntriesInfo(Integer pollVoteEntries);
 }
@@ -12,7 +12,7 @@ import com.fleencorp.feen.poll.model.info.IsVotedInfo;
 import com.fleencorp.feen.poll.model.info.TotalPollVoteEntriesInfo;
 import com.fleencorp.feen.poll.model.response.core.PollOptionResponse;
 import com.fleencorp.feen.poll.model.response.core.PollResponse;
-import com.fleencorp.feen.user.model.domain.Member;
+import com.fleencorp.feen.shared.member.contract.IsAMember;
 import com.fleencorp.feen.user.model.response.UserResponse;
 import org.springframework.stereotype.Component;
 
@@ -66,7 +66,7 @@ public class PollUnifiedMapperImpl implements PollUnifiedMapper {
   }
 
   @Override
-  public Collection<UserResponse> toPollVoteResponses(Collection<Member> entries) {
+  public Collection<UserResponse> toPollVoteResponses(Collection<? extends IsAMember> entries) {
     return pollMapper.toPollVoteResponses(entries);
   }
 
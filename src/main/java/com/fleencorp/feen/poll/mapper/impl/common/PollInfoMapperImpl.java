@@ -2,6 +2,7 @@ package com.fleencorp.feen.poll.mapper.impl.common;
 
 import com.fleencorp.feen.common.model.info.IsDeletedInfo;
 import com.fleencorp.feen.mapper.impl.BaseMapper;
+import com.fleencorp.feen.mapper.impl.info.LocalizedInfoRegistry;
 import com.fleencorp.feen.mapper.info.ToInfoMapper;
 import com.fleencorp.feen.poll.constant.*;
 import com.fleencorp.feen.poll.constant.core.PollVisibility;
@@ -14,12 +15,23 @@ import org.springframework.stereotype.Component;
 public class PollInfoMapperImpl extends BaseMapper implements PollInfoMapper {
 
   private final ToInfoMapper toInfoMapper;
+  private final LocalizedInfoRegistry localizedInfoRegistry;
 
   public PollInfoMapperImpl(
       final ToInfoMapper toInfoMapper,
-      final MessageSource messageSource) {
+      final MessageSource messageSource,
+      final LocalizedInfoRegistry localizedInfoRegistry) {
     super(messageSource);
     this.toInfoMapper = toInfoMapper;
+    this.localizedInfoRegistry = localizedInfoRegistry;
+
+    localizedInfoRegistry.register(IsVotedInfo.class, IsVoted.class, isVoted ->
+      IsVotedInfo.of(isVoted == IsVoted.YES,
+        translate(isVoted.getMessageCode()),
+        translate(isVoted.getMessageCode2()),
+        translate(isVoted.getMessageCode3()),
+        translate(isVoted.getMessageCode4())
+      ));
   }
 
   /**
@@ -70,19 +82,14 @@ public class PollInfoMapperImpl extends BaseMapper implements PollInfoMapper {
    * message codes associated with the vote state. This allows for richer UI feedback such as
    * subtitles, descriptions, or tooltips.</p>
    *
+   * <p>The instance is shared from the {@link LocalizedInfoRegistry} and must not be modified.</p>
+   *
    * @param voted true if the user has voted, false otherwise
    * @return a {@link IsVotedInfo} with the vote flag and four localized message values
    */
   @Override
   public IsVotedInfo toIsVotedInfo(final boolean voted) {
-    final IsVoted isVoted = IsVoted.by(voted);
-
-    return IsVotedInfo.of(voted,
-      translate(isVoted.getMessageCode()),
-      translate(isVoted.getMessageCode2()),
-      translate(isVoted.getMessageCode3()),
-      translate(isVoted.getMessageCode4())
-    );
+    return localizedInfoRegistry.get(IsVotedInfo.class, IsVoted.by(voted));
   }
 
   /**
@@ -19,6 +19,7 @@ import com.fleencorp.feen.poll.model.response.core.PollOptionResponse;
 import com.fleencorp.feen.poll.model.response.core.PollResponse;
 import com.fleencorp.feen.poll.model.response.core.PollStatResponse;
 import com.fleencorp.feen.poll.model.response.core.PollVoteResponse;
+import com.fleencorp.feen.shared.member.contract.IsAMember;
 import com.fleencorp.feen.user.model.domain.Member;
 import com.fleencorp.feen.user.model.response.UserResponse;
 import org.springframework.context.MessageSource;
@@ -255,7 +256,7 @@ public final class PollMapperImpl extends BaseMapper implements PollMapper {
   }
 
   /**
-   * Converts a collection of {@link Member} objects into a collection of {@link UserResponse} DTOs.
+   * Converts a collection of {@link IsAMember} objects into a collection of {@link UserResponse} DTOs.
    *
    * <p>If the input collection is {@code null}, an empty list is returned. Null members within the
    * collection are filtered out. Each valid member is mapped to a {@link UserResponse} using
@@ -265,7 +266,7 @@ public final class PollMapperImpl extends BaseMapper implements PollMapper {
    * @return a collection of {@link UserResponse} objects representing the poll voters
    */
   @Override
-  public Collection<UserResponse> toPollVoteResponses(final Collection<Member> entries) {
+  public Collection<UserResponse> toPollVoteResponses(final Collection<? extends IsAMember> entries) {
     return Optional.ofNullable(entries)
       .orElseGet(Collections::emptyList)
       .stream()
@@ -273,7 +274,7 @@ public final class PollMapperImpl extends BaseMapper implements PollMapper {
       .map(member -> UserResponse.of(
         member.getUsername(),
         member.getFullName(),
-        member.getProfilePhotoUrl()
+        member.getProfilePhoto()
       ))
       .toList();
   }
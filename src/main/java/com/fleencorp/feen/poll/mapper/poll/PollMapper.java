@@ -7,7 +7,7 @@ import com.fleencorp.feen.poll.model.holder.PollResponseEntriesHolder;
 import com.fleencorp.feen.poll.model.info.TotalPollVoteEntriesInfo;
 import com.fleencorp.feen.poll.model.response.core.PollOptionResponse;
 import com.fleencorp.feen.poll.model.response.core.PollResponse;
-import com.fleencorp.feen.user.model.domain.Member;
+import com.fleencorp.feen.shared.member.contract.IsAMember;
 import com.fleencorp.feen.user.model.response.UserResponse;
 
 import java.util.Collection;
@@ -23,7 +23,7 @@ public interface PollMapper {
 
   Collection<PollOptionResponse> toPollOptionResponses(Collection<PollOption> entries, PollOptionEntriesHolder pollOptionEntriesHolder, Collection<Long> votedPollOptionIds);
 
-  Collection<UserResponse> toPollVoteResponses(Collection<Member> entries);
+  Collection<UserResponse> toPollVoteResponses(Collection<? extends IsAMember> entries);
 
   TotalPollVoteEntriesInfo toTotalPollVoteEntriesInfo(Integer pollVoteEntries);
 }
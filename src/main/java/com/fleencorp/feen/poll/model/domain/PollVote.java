@@ -16,7 +16,8 @@ import lombok.*;
 public class PollVote extends FleenFeenEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "poll_vote_id_generator")
+  @SequenceGenerator(name = "poll_vote_id_generator", sequenceName = "poll_vote_vote_id_seq", allocationSize = 50)
   @Column(name = "vote_id", nullable = false, updatable = false, unique = true)
   private Long pollVoteId;
 
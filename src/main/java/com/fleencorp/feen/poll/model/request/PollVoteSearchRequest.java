@@ -20,6 +20,9 @@ public class PollVoteSearchRequest extends SearchRequest {
   @JsonProperty("option_id")
   private String pollOptionId;
 
+  @JsonProperty("with_total")
+  private Boolean withTotal;
+
   public boolean hasOptionId() {
     return nonNull(pollOptionId) && !pollOptionId.isEmpty();
   }
@@ -27,4 +30,8 @@ public class PollVoteSearchRequest extends SearchRequest {
   public Long getPollOptionId() {
     return Long.parseLong(pollOptionId);
   }
+
+  public boolean includesTotal(final boolean byDefault) {
+    return nonNull(withTotal) ? withTotal : byDefault;
+  }
 }
@@ -93,7 +93,7 @@ public class PollSearchServiceImpl implements PollSearchService {
    * @return a {@link GetDataRequiredToCreatePoll} object containing localized information about poll visibilities
    */
   @Override
-  @Cacheable("dataToCreatePoll")
+  @Cacheable(value = "dataToCreatePoll", sync = true)
   public GetDataRequiredToCreatePoll getDataRequiredToCreatePoll() {
     final Map<PollVisibility, PollVisibilityInfo> availablePollVisibilities =
       Stream.of(PollVisibility.values())
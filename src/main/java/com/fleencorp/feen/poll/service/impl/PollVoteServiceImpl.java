@@ -20,6 +20,8 @@ import com.fleencorp.feen.poll.model.search.PollVoteSearchResult;
 import com.fleencorp.feen.poll.service.PollOperationsService;
 import com.fleencorp.feen.poll.service.PollSearchService;
 import com.fleencorp.feen.poll.service.PollVoteService;
+import com.fleencorp.feen.shared.member.contract.IsAMember;
+import com.fleencorp.feen.shared.poll.service.PollQueryService;
 import com.fleencorp.feen.shared.security.RegisteredUser;
 import com.fleencorp.feen.user.exception.member.MemberNotFoundException;
 import com.fleencorp.feen.user.model.domain.Member;
@@ -45,6 +47,7 @@ public class PollVoteServiceImpl implements PollVoteService {
   private final MemberService memberService;
   private final PollOperationsService pollOperationsService;
   private final PollSearchService pollSearchService;
+  private final PollQueryService pollQueryService;
   private final PollUnifiedMapper pollUnifiedMapper;
   private final Localizer localizer;
 
@@ -52,11 +55,13 @@ public class PollVoteServiceImpl implements PollVoteService {
       final MemberService memberService,
       final PollOperationsService pollOperationsService,
       final PollSearchService pollSearchService,
+      final PollQueryService pollQueryService,
       final PollUnifiedMapper pollUnifiedMapper,
       final Localizer localizer) {
     this.memberService = memberService;
     this.pollOperationsService = pollOperationsService;
     this.pollSearchService = pollSearchService;
+    this.pollQueryService = pollQueryService;
     this.pollUnifiedMapper = pollUnifiedMapper;
     this.localizer = localizer;
   }
@@ -68,9 +73,8 @@ public class PollVoteServiceImpl implements PollVoteService {
       .orElseThrow(PollNotFoundException.of(pollId));
 
     final Pageable pageable = searchRequest.getPage();
-    final Page<Member> page = searchRequest.hasOptionId()
-      ? pollOperationsService.findVoters(pollId, searchRequest.getPollOptionId(), pageable)
-      : pollOperationsService.findVoters(pollId, pageable);
+    final Long pollOptionId = searchRequest.hasOptionId() ? searchRequest.getPollOptionId() : null;
+    final Page<IsAMember> page = pollQueryService.findVoters(pollId, pollOptionId, pageable, searchRequest.includesTotal(true));
 
     final Collection<UserResponse> voteResponses = poll.isAnonymous()
       ? pollUnifiedMapper.toPollVoteResponses(page.getContent())
@@ -1,7 +1,10 @@
 package com.fleencorp.feen.security;
 
 import com.fleencorp.feen.common.filter.JwtAuthenticationFilter;
+import com.fleencorp.feen.security.password.BoundedPasswordEncoder;
+import com.fleencorp.feen.security.properties.PasswordHashingProperties;
 import com.fleencorp.feen.security.provider.CustomAuthenticationProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -78,9 +81,21 @@ public class SecurityConfiguration {
     return http.build();
   }
 
+  /**
+   * Provides the application's {@link PasswordEncoder}.
+   *
+   * <p>Hashing is performed by a {@link BCryptPasswordEncoder} with the configured cost factor, but every
+   * operation is dispatched to a dedicated bounded executor so that bursts of sign-ins or sign-ups cannot
+   * occupy all request threads.</p>
+   *
+   * @param passwordHashingProperties the cost factor and executor sizing
+   * @param meterRegistry the registry used to publish hashing metrics
+   * @return the bounded password encoder
+   */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(final PasswordHashingProperties passwordHashingProperties, final MeterRegistry meterRegistry) {
+    final PasswordEncoder delegate = new BCryptPasswordEncoder(passwordHashingProperties.getStrength());
+    return new BoundedPasswordEncoder(delegate, passwordHashingProperties, meterRegistry);
   }
 
   @Bean
@@ -0,0 +1,176 @@
+package com.fleencorp.feen.security.password;
+
+import com.fleencorp.feen.security.properties.PasswordHashingProperties;
+import com.fleencorp.feen.user.exception.authentication.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * A {@link PasswordEncoder} that runs every hashing operation on a dedicated, bounded executor.
+ *
+ * <p>Password hashing is deliberately CPU-expensive. Running it directly on request threads means a
+ * burst of sign-ins or sign-ups can occupy every servlet thread and starve unrelated endpoints. This
+ * encoder admits at most {@code poolSize} concurrent hashes plus {@code queueCapacity} waiting tasks;
+ * anything beyond that is rejected immediately with a {@link PasswordHashingUnavailableException},
+ * which is translated to a {@code 503 Service Unavailable} response.</p>
+ *
+ * <p>The following metrics are recorded:</p>
+ * <ul>
+ *   <li>{@code password.hashing.latency} - time spent hashing, tagged by operation</li>
+ *   <li>{@code password.hashing.queue.wait} - time a task waited for a free hashing thread</li>
+ *   <li>{@code password.hashing.rejected} - tasks rejected because the executor was saturated or timed out</li>
+ *   <li>{@code password.hashing.queue.size} - number of tasks currently waiting</li>
+ * </ul>
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  private static final String OPERATION_TAG = "operation";
+  private static final String ENCODE_OPERATION = "encode";
+  private static final String MATCHES_OPERATION = "matches";
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final long maxWaitMillis;
+
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Timer queueWaitTimer;
+  private final Counter rejectedCounter;
+
+  /**
+   * Creates a new {@link BoundedPasswordEncoder}.
+   *
+   * @param delegate the encoder that performs the actual hashing
+   * @param properties the pool size, queue capacity and wait configuration
+   * @param meterRegistry the registry used to publish hashing metrics
+   */
+  public BoundedPasswordEncoder(
+      final PasswordEncoder delegate,
+      final PasswordHashingProperties properties,
+      final MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.maxWaitMillis = properties.getMaxWait().toMillis();
+
+    final int poolSize = properties.getEffectivePoolSize();
+    this.executor = new ThreadPoolExecutor(
+      poolSize,
+      poolSize,
+      0L,
+      TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+      new CustomizableThreadFactory("password-hashing-"),
+      new ThreadPoolExecutor.AbortPolicy()
+    );
+
+    this.encodeTimer = Timer.builder("password.hashing.latency")
+      .tag(OPERATION_TAG, ENCODE_OPERATION)
+      .register(meterRegistry);
+    this.matchesTimer = Timer.builder("password.hashing.latency")
+      .tag(OPERATION_TAG, MATCHES_OPERATION)
+      .register(meterRegistry);
+    this.queueWaitTimer = Timer.builder("password.hashing.queue.wait")
+      .register(meterRegistry);
+    this.rejectedCounter = Counter.builder("password.hashing.rejected")
+      .register(meterRegistry);
+    Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+      .register(meterRegistry);
+  }
+
+  /**
+   * Encodes the raw password on the hashing executor.
+   *
+   * @param rawPassword the password to encode
+   * @return the encoded password
+   * @throws PasswordHashingUnavailableException if the executor is saturated or the task times out
+   */
+  @Override
+  public String encode(final CharSequence rawPassword) {
+    return submit(encodeTimer, () -> delegate.encode(rawPassword));
+  }
+
+  /**
+   * Verifies the raw password against the encoded password on the hashing executor.
+   *
+   * @param rawPassword the raw password to verify
+   * @param encodedPassword the stored encoded password
+   * @return {@code true} if the passwords match, {@code false} otherwise
+   * @throws PasswordHashingUnavailableException if the executor is saturated or the task times out
+   */
+  @Override
+  public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+    return submit(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  /**
+   * Determines whether the encoded password was produced with a weaker cost factor than the one
+   * currently configured. This only parses the hash header and runs on the caller's thread.
+   *
+   * @param encodedPassword the stored encoded password
+   * @return {@code true} if the password should be rehashed
+   */
+  @Override
+  public boolean upgradeEncoding(final String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  /**
+   * Submits a hashing task and waits for its result on the calling thread.
+   *
+   * <p>The queue wait and execution time are recorded separately so that saturation can be told apart
+   * from a cost factor that is simply too high for the hardware.</p>
+   *
+   * @param latencyTimer the timer recording time spent hashing
+   * @param task the hashing work
+   * @param <T> the result type
+   * @return the result of the hashing task
+   */
+  protected <T> T submit(final Timer latencyTimer, final Supplier<T> task) {
+    final long submittedAt = System.nanoTime();
+    final Future<T> future;
+
+    try {
+      future = executor.submit(() -> {
+        queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        return latencyTimer.record(task);
+      });
+    } catch (final RejectedExecutionException ex) {
+      rejectedCounter.increment();
+      throw PasswordHashingUnavailableException.of();
+    }
+
+    try {
+      return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+    } catch (final TimeoutException ex) {
+      future.cancel(true);
+      rejectedCounter.increment();
+      throw PasswordHashingUnavailableException.of();
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      throw PasswordHashingUnavailableException.of();
+    } catch (final ExecutionException ex) {
+      if (ex.getCause() instanceof final RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  /**
+   * Shuts down the hashing executor when the application context closes.
+   */
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+}
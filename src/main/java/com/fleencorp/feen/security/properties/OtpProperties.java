@@ -0,0 +1,35 @@
+package com.fleencorp.feen.security.properties;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * <p>Configuration properties for the one-time verification code store.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "otp")
+public class OtpProperties {
+
+  /**
+   * Number of failed verification attempts allowed before the subject is locked out.
+   */
+  private Integer maxAttempts = 5;
+
+  /**
+   * How long a subject stays locked out after exhausting its attempts.
+   */
+  private Duration lockout = Duration.ofMinutes(15);
+
+  /**
+   * Minimum time between two codes sent to the same subject on a resend.
+   */
+  private Duration resendCooldown = Duration.ofSeconds(30);
+}
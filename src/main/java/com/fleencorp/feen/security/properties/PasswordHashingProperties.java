@@ -0,0 +1,58 @@
+package com.fleencorp.feen.security.properties;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * <p>Configuration properties for the dedicated password hashing executor.
+ * These properties control the cost factor of the hashing algorithm and how much
+ * hashing work the application is willing to admit at any one time.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "password.hashing")
+public class PasswordHashingProperties {
+
+  /**
+   * BCrypt cost factor (log rounds) used when encoding new passwords.
+   * Existing hashes with a lower cost are rehashed on the next successful login.
+   */
+  private Integer strength = 10;
+
+  /**
+   * Number of threads dedicated to hashing. A value of zero or less sizes the pool
+   * to the number of available processors.
+   */
+  private Integer poolSize = 0;
+
+  /**
+   * Maximum number of hashing tasks allowed to wait for a free thread before new
+   * requests are rejected.
+   */
+  private Integer queueCapacity = 64;
+
+  /**
+   * Maximum time a request thread waits for its hashing task to complete.
+   */
+  private Duration maxWait = Duration.ofSeconds(5);
+
+  /**
+   * Resolves the effective pool size, falling back to the number of available processors.
+   *
+   * @return the number of hashing threads to create
+   */
+  public int getEffectivePoolSize() {
+    return nonNull(poolSize) && poolSize > 0
+      ? poolSize
+      : Runtime.getRuntime().availableProcessors();
+  }
+}
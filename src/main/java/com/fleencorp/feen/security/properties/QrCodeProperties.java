@@ -0,0 +1,47 @@
+package com.fleencorp.feen.security.properties;
+
+import com.fleencorp.feen.verification.constant.QrCodeFormat;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * <p>Configuration properties for rendering the QR codes shown during authenticator MFA setup.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "qr-code")
+public class QrCodeProperties {
+
+  /**
+   * Format of the QR code data URI returned to clients.
+   */
+  private QrCodeFormat format = QrCodeFormat.SVG;
+
+  /**
+   * Size in pixels of a single module when rendering a PNG.
+   */
+  private Integer pngModuleSize = 6;
+
+  /**
+   * Number of blank modules around the code.
+   */
+  private Integer quietZone = 4;
+
+  /**
+   * Error correction level of the code, one of L, M, Q or H.
+   */
+  private String errorCorrection = "M";
+
+  /**
+   * How long a pending authenticator setup, with its secret and QR code, is kept so that repeated setup
+   * requests reuse it instead of rendering a new code.
+   */
+  private Duration pendingSetupTtl = Duration.ofMinutes(10);
+}
@@ -1,5 +1,7 @@
 package com.fleencorp.feen.security.provider;
 
+import com.fleencorp.feen.shared.security.RegisteredUser;
+import com.fleencorp.feen.user.repository.MemberRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -30,6 +32,7 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
 
   private final UserDetailsService userDetailsService;
   private final PasswordEncoder passwordEncoder;
+  private final MemberRepository memberRepository;
 
   /**
    * <p>Constructs a CustomAuthenticationProvider with the specified UserDetailsService
@@ -37,11 +40,14 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
    *
    * @param userDetailsService The service used to load user details.
    * @param passwordEncoder    The encoder used to verify passwords.
+   * @param memberRepository   The repository used to store upgraded password hashes.
    */
   public CustomAuthenticationProvider(@Lazy final UserDetailsService userDetailsService,
-                                      @Lazy final PasswordEncoder passwordEncoder) {
+                                      @Lazy final PasswordEncoder passwordEncoder,
+                                      @Lazy final MemberRepository memberRepository) {
     this.userDetailsService = userDetailsService;
     this.passwordEncoder = passwordEncoder;
+    this.memberRepository = memberRepository;
   }
 
   /**
@@ -58,11 +64,34 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
 
     final UserDetails user = userDetailsService.loadUserByUsername(emailAddress);
     if (passwordEncoder.matches(password, user.getPassword())) {
+      rehashPasswordIfRequired(user, password);
       return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
     }
     return null;
   }
 
+  /**
+   * <p>Rehashes the user's password with the currently configured cost factor if the stored hash
+   * was created with a weaker one.</p>
+   *
+   * <p>The raw password is only available at login, so this is the only place a transparent upgrade
+   * can happen. A failure to store the new hash is logged and does not fail the authentication.</p>
+   *
+   * @param user     The authenticated user whose stored hash is checked.
+   * @param password The raw password that was just verified.
+   */
+  protected void rehashPasswordIfRequired(final UserDetails user, final String password) {
+    if (user instanceof final RegisteredUser registeredUser && passwordEncoder.upgradeEncoding(user.getPassword())) {
+      try {
+        final String encodedPassword = passwordEncoder.encode(password);
+        memberRepository.updatePassword(registeredUser.getId(), encodedPassword);
+        registeredUser.setPassword(encodedPassword);
+      } catch (final RuntimeException ex) {
+        log.warn("Unable to rehash password for user {}: {}", registeredUser.getId(), ex.getMessage());
+      }
+    }
+  }
+
   /**
    * <p>Indicates whether this AuthenticationProvider implementation supports the
    * specified authentication token type.</p>
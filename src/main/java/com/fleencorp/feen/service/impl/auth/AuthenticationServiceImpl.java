@@ -3,7 +3,6 @@ package com.fleencorp.feen.service.impl.auth;
 import com.fleencorp.feen.common.event.model.base.PublishMessageRequest;
 import com.fleencorp.feen.common.event.publisher.ProfileRequestPublisher;
 import com.fleencorp.feen.common.exception.FailedOperationException;
-import com.fleencorp.feen.common.service.impl.cache.CacheService;
 import com.fleencorp.feen.country.model.domain.Country;
 import com.fleencorp.feen.country.model.response.CountryResponse;
 import com.fleencorp.feen.country.model.search.CountrySearchResult;
@@ -39,8 +38,10 @@ import com.fleencorp.feen.user.repository.MemberRepository;
 import com.fleencorp.feen.user.service.authentication.AuthenticationService;
 import com.fleencorp.feen.user.service.authentication.PasswordService;
 import com.fleencorp.feen.user.service.member.MemberService;
+import com.fleencorp.feen.verification.constant.OtpPurpose;
 import com.fleencorp.feen.verification.constant.VerificationType;
 import com.fleencorp.feen.verification.repository.ProfileTokenRepository;
+import com.fleencorp.feen.verification.service.OtpStoreService;
 import com.fleencorp.localizer.service.Localizer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -53,15 +54,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static com.fleencorp.base.util.ExceptionUtil.checkIsNull;
-import static com.fleencorp.feen.common.service.impl.cache.CacheKeyService.getMfaAuthenticationCacheKey;
-import static com.fleencorp.feen.common.service.impl.cache.CacheKeyService.getSignUpVerificationCacheKey;
 import static com.fleencorp.feen.user.util.UserAuthoritiesUtil.getPreAuthenticatedAuthorities;
 import static com.fleencorp.feen.user.util.UserAuthoritiesUtil.getUserPreVerifiedAuthorities;
 import static com.fleencorp.feen.verification.service.OtpService.generateOtp;
@@ -73,7 +71,7 @@ import static java.util.Objects.requireNonNull;
  *
  * <p>This service provides authentication-related functionality, including user authentication,
  * password management, multi-factor authentication (MFA), and token management. It utilizes
- * various injected services such as {@link AuthenticationManager}, {@link CacheService},
+ * various injected services such as {@link AuthenticationManager}, {@link OtpStoreService},
  * {@link MfaService}, {@link TokenService}, and {@link MemberRepository} to perform these
  * operations. Additionally, it manages roles, user profiles, and localized responses.</p>
  *
@@ -90,7 +88,7 @@ public class AuthenticationServiceImpl implements AuthenticationService,
 
   private final AuthenticationManager authenticationManager;
   private final MemberService memberService;
-  private final CacheService cacheService;
+  private final OtpStoreService otpStoreService;
   private final CountryService countryService;
   private final RoleService roleService;
   private final TokenService tokenService;
@@ -105,7 +103,7 @@ public class AuthenticationServiceImpl implements AuthenticationService,
    * Constructs an instance of {@link AuthenticationServiceImpl} with the provided dependencies.
    *
    * <p>This constructor initializes the service with various components necessary for managing
-   * authentication, such as the {@link AuthenticationManager}, {@link CacheService}, {@link CountryService},
+   * authentication, such as the {@link AuthenticationManager}, {@link OtpStoreService}, {@link CountryService},
    * {@link MfaService}, {@link RoleService}, {@link TokenService}, {@link MemberRepository},
    * {@link PasswordEncoder}, {@link ProfileRequestPublisher}, {@link ProfileTokenRepository},
    * and {@link Localizer}. These dependencies are injected to facilitate authentication
@@ -113,7 +111,7 @@ public class AuthenticationServiceImpl implements AuthenticationService,
    *
    * @param authenticationManager the manager responsible for processing authentication requests.
    * @param memberService the service for managing members and profile information
-   * @param cacheService the service handling cache operations.
+   * @param otpStoreService the service storing one-time verification codes.
    * @param countryService the service providing country-related data and operations.
    * @param roleService the service managing user roles.
    * @param tokenService the service handling token generation and validation.
@@ -126,7 +124,7 @@ public class AuthenticationServiceImpl implements AuthenticationService,
    */
   public AuthenticationServiceImpl(
       final AuthenticationManager authenticationManager,
-      final CacheService cacheService,
+      final OtpStoreService otpStoreService,
       final CountryService countryService,
       @Lazy final MemberService memberService,
       final RoleService roleService,
@@ -138,7 +136,7 @@ public class AuthenticationServiceImpl implements AuthenticationService,
       final Localizer localizer,
       @Value("${origin-domain}") final String originDomain) {
     this.authenticationManager = authenticationManager;
-    this.cacheService = cacheService;
+    this.otpStoreService = otpStoreService;
     this.countryService = countryService;
     this.memberService = memberService;
     this.roleService = roleService;
@@ -261,9 +259,9 @@ public class AuthenticationServiceImpl implements AuthenticationService,
   /**
    * Handles the verification process and saves authentication tokens for the user.
    *
-   * <p>This method generates a one-time password (OTP) for user verification and sends a sign-up
-   * verification message to the user. It also temporarily saves the OTP and stores the access
-   * and refresh tokens in the repository or cache.</p>
+   * <p>This method generates a one-time password (OTP) for user verification, temporarily saves it
+   * and sends a sign-up verification message to the user. It also stores the access and refresh
+   * tokens in the repository or cache.</p>
    *
    * @param user the {@link RegisteredUser} for whom the verification and token handling will be done
    * @param verificationType the type of verification to be performed (e.g., email, phone)
@@ -272,10 +270,10 @@ public class AuthenticationServiceImpl implements AuthenticationService,
    */
   protected void handleVerificationAndTokens(final RegisteredUser user, final VerificationType verificationType, final String accessToken, final String refreshToken) {
     final String otpCode = generateOtp();
-    // Send sign up verification message to user
-    sendSignUpVerificationMessage(otpCode, verificationType, user);
     // Save sign-up verification code temporarily
     saveSignUpVerificationCodeTemporarily(user.getUsername(), otpCode);
+    // Send sign up verification message to user
+    sendSignUpVerificationMessage(otpCode, verificationType, user);
     // Save authentication tokens for the user
     saveAuthenticationTokensToRepositoryOrCache(user.getUsername(), accessToken, refreshToken);
   }
@@ -571,7 +569,7 @@ public class AuthenticationServiceImpl implements AuthenticationService,
   }
 
   /**
-   * Saves the sign-up verification code temporarily in the cache.
+   * Saves the sign-up verification code temporarily in the OTP store.
    * The verification code is associated with the provided username and expires after 5 minutes.
    *
    * @param username         The username for which the verification code is saved.
@@ -579,13 +577,13 @@ public class AuthenticationServiceImpl implements AuthenticationService,
    */
   @Override
   public void saveSignUpVerificationCodeTemporarily(final String username, final String verificationCode) {
-    cacheService.set(getSignUpVerificationCacheKey(username), verificationCode, Duration.ofMinutes(5));
+    otpStoreService.issue(OtpPurpose.SIGN_UP, username, verificationCode);
   }
 
   /**
-   * Saves the MFA verification code temporarily in the cache.
+   * Saves the MFA verification code temporarily in the OTP store.
    *
-   * <p>Sets the MFA verification code for the specified username in the cache with a temporary
+   * <p>Issues the MFA verification code for the specified username in the OTP store with a temporary
    * duration of 5 minutes.</p>
    *
    * @param username the username for which the MFA verification code is saved
@@ -593,7 +591,7 @@ public class AuthenticationServiceImpl implements AuthenticationService,
    */
   @Override
   public void saveMfaVerificationCodeTemporarily(final String username, final String verificationCode) {
-    cacheService.set(getMfaAuthenticationCacheKey(username), verificationCode, Duration.ofMinutes(5));
+    otpStoreService.issue(OtpPurpose.MFA_AUTHENTICATION, username, verificationCode);
   }
 
   /**
@@ -683,10 +681,10 @@ public class AuthenticationServiceImpl implements AuthenticationService,
   private void handleProfileYetToBeVerified(final SignInResponse signInResponse, final RegisteredUser user) {
     // Generate a one-time password (OTP)
     final String otpCode = generateOtp();
+    // Save the OTP code temporarily in the store
+    saveSignUpVerificationCodeTemporarily(user.getUsername(), otpCode);
     // Create a pre-verification request with the OTP
     sendSignUpVerificationMessage(otpCode, VerificationType.EMAIL, user);
-    // Save the OTP code temporarily in the cache
-    saveSignUpVerificationCodeTemporarily(user.getUsername(), otpCode);
     // Configure pre-verification authorities based on user role
     configureAuthoritiesOrRolesForUserYetToCompleteSignUp(user, retrieveRoleForUserYetToCompleteSignUp(user));
     // Initialize sign-in details for the user
@@ -816,8 +814,8 @@ public class AuthenticationServiceImpl implements AuthenticationService,
    * Handles the multi-factor authentication (MFA) verification process for the user.
    *
    * <p>This method checks if the user's MFA type is either email or phone-based. If so,
-   * it generates an OTP code, sends the MFA verification message to the user,
-   * and temporarily saves the verification code for future validation.</p>
+   * it generates an OTP code, temporarily saves the verification code for future validation
+   * and sends the MFA verification message to the user.</p>
    *
    * @param user the user for whom the MFA verification process is being handled
    */
@@ -826,10 +824,10 @@ public class AuthenticationServiceImpl implements AuthenticationService,
     if (isMfaTypeByEmailOrPhone(user.getMfaType())) {
       // Generate a one-time password (OTP) for verification
       final String otpCode = generateOtp();
-      // Send the MFA verification message to the user
-      sendMfaVerificationMessage(user, otpCode);
       // Temporarily save the generated OTP for future validation
       saveMfaVerificationCodeTemporarily(user.getUsername(), otpCode);
+      // Send the MFA verification message to the user
+      sendMfaVerificationMessage(user, otpCode);
     }
   }
 
@@ -1,5 +1,6 @@
 package com.fleencorp.feen.service.impl.external.aws.ses;
 
+import com.fleencorp.feen.common.aspect.ConcurrencyLimit;
 import com.fleencorp.feen.model.dto.aws.VerifyEmailIdentityDto;
 import com.fleencorp.feen.model.response.external.aws.VerifyEmailIdentityResponse;
 import com.fleencorp.localizer.service.Localizer;
@@ -8,6 +9,7 @@ import software.amazon.awssdk.services.ses.SesClient;
 import software.amazon.awssdk.services.ses.model.VerifyEmailIdentityRequest;
 
 @Service
+@ConcurrencyLimit(name = "ses")
 public class SesService {
 
   private final SesClient sesClient;
@@ -1,6 +1,7 @@
 package com.fleencorp.feen.service.impl.external.google.calendar;
 
 import com.fleencorp.feen.calendar.model.request.calendar.*;
+import com.fleencorp.feen.common.aspect.ConcurrencyLimit;
 import com.fleencorp.feen.common.aspect.MeasureExecutionTime;
 import com.fleencorp.feen.common.constant.external.google.calendar.ConferenceSolutionType;
 import com.fleencorp.feen.common.exception.UnableToCompleteOperationException;
@@ -43,6 +44,7 @@ import static java.util.Objects.requireNonNull;
  */
 @Service
 @Slf4j
+@ConcurrencyLimit(name = "google-calendar")
 public class GoogleCalendarServiceImpl implements GoogleCalendarService {
 
   private final GoogleCalendarUpdateService googleCalendarUpdateService;
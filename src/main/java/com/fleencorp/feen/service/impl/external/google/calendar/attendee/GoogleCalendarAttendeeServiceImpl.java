@@ -4,6 +4,7 @@ import com.fleencorp.feen.calendar.model.request.event.create.AddNewEventAttende
 import com.fleencorp.feen.calendar.model.request.event.create.AddNewEventAttendeesRequest;
 import com.fleencorp.feen.calendar.model.request.event.read.RetrieveCalendarEventRequest;
 import com.fleencorp.feen.calendar.model.request.event.update.NotAttendingEventRequest;
+import com.fleencorp.feen.common.aspect.ConcurrencyLimit;
 import com.fleencorp.feen.common.aspect.MeasureExecutionTime;
 import com.fleencorp.feen.common.constant.external.google.calendar.event.EventAttendeeDecisionToJoin;
 import com.fleencorp.feen.common.constant.external.google.calendar.event.EventSendUpdate;
@@ -62,6 +63,7 @@ import static java.util.Objects.nonNull;
  */
 @Service
 @Slf4j
+@ConcurrencyLimit(name = "google-calendar")
 public class GoogleCalendarAttendeeServiceImpl implements GoogleCalendarAttendeeService {
 
   @Getter
@@ -2,6 +2,7 @@ package com.fleencorp.feen.service.impl.external.google.calendar.event;
 
 import com.fleencorp.feen.calendar.model.request.event.read.ListCalendarEventRequest;
 import com.fleencorp.feen.calendar.model.request.event.read.RetrieveCalendarEventRequest;
+import com.fleencorp.feen.common.aspect.ConcurrencyLimit;
 import com.fleencorp.feen.common.aspect.MeasureExecutionTime;
 import com.fleencorp.feen.common.service.report.ReporterService;
 import com.fleencorp.feen.model.response.external.google.calendar.event.GoogleListCalendarEventResponse;
@@ -24,6 +25,7 @@ import static java.util.Objects.nonNull;
 
 @Service
 @Slf4j
+@ConcurrencyLimit(name = "google-calendar")
 public class GoogleCalendarEventSearchServiceImpl implements GoogleCalendarEventSearchService {
 
   private final Calendar calendar;
@@ -4,6 +4,7 @@ import com.fleencorp.feen.calendar.model.request.event.create.CreateCalendarEven
 import com.fleencorp.feen.calendar.model.request.event.create.CreateInstantCalendarEventRequest;
 import com.fleencorp.feen.calendar.model.request.event.read.RetrieveCalendarEventRequest;
 import com.fleencorp.feen.calendar.model.request.event.update.*;
+import com.fleencorp.feen.common.aspect.ConcurrencyLimit;
 import com.fleencorp.feen.common.aspect.MeasureExecutionTime;
 import com.fleencorp.feen.common.constant.external.google.calendar.event.EventSendUpdate;
 import com.fleencorp.feen.common.constant.external.google.calendar.event.EventStatus;
@@ -62,6 +63,7 @@ import static java.util.Objects.requireNonNull;
  */
 @Service
 @Slf4j
+@ConcurrencyLimit(name = "google-calendar")
 public class GoogleCalendarEventServiceImpl implements GoogleCalendarEventService {
 
   private static final String DEFAULT_CONFERENCE_SOLUTION_NAME = "Google Meet";
@@ -1,6 +1,7 @@
 package com.fleencorp.feen.service.impl.external.google.calendar.update;
 
 import com.fleencorp.feen.calendar.model.request.calendar.ShareCalendarWithUserRequest;
+import com.fleencorp.feen.common.aspect.ConcurrencyLimit;
 import com.fleencorp.feen.common.aspect.MeasureExecutionTime;
 import com.fleencorp.feen.common.exception.UnableToCompleteOperationException;
 import com.fleencorp.feen.common.service.report.ReporterService;
@@ -34,6 +35,7 @@ import static java.util.Objects.nonNull;
  */
 @Slf4j
 @Component
+@ConcurrencyLimit(name = "google-calendar")
 public class GoogleCalendarUpdateServiceImpl implements GoogleCalendarUpdateService {
 
   private final ReporterService reporterService;
@@ -3,6 +3,7 @@ package com.fleencorp.feen.service.impl.external.google.chat;
 import com.fleencorp.feen.chat.space.model.request.external.membership.AddChatSpaceMemberRequest;
 import com.fleencorp.feen.chat.space.model.request.external.membership.RemoveChatSpaceMemberRequest;
 import com.fleencorp.feen.chat.space.model.request.external.membership.RetrieveChatSpaceMemberRequest;
+import com.fleencorp.feen.common.aspect.ConcurrencyLimit;
 import com.fleencorp.feen.common.aspect.MeasureExecutionTime;
 import com.fleencorp.feen.common.exception.UnableToCompleteOperationException;
 import com.fleencorp.feen.common.service.report.ReporterService;
@@ -32,6 +33,7 @@ import static java.util.Objects.nonNull;
  */
 @Slf4j
 @Component
+@ConcurrencyLimit(name = "google-chat")
 public class GoogleChatMemberServiceImpl implements GoogleChatMemberService {
 
   private final ChatServiceClient chatService;
@@ -5,6 +5,7 @@ import com.fleencorp.feen.chat.space.model.request.external.core.DeleteChatSpace
 import com.fleencorp.feen.chat.space.model.request.external.core.RetrieveChatSpaceRequest;
 import com.fleencorp.feen.chat.space.model.request.external.core.UpdateChatSpaceRequest;
 import com.fleencorp.feen.chat.space.model.request.external.message.GoogleChatSpaceMessageRequest;
+import com.fleencorp.feen.common.aspect.ConcurrencyLimit;
 import com.fleencorp.feen.common.aspect.MeasureExecutionTime;
 import com.fleencorp.feen.common.constant.external.google.chat.space.ChatSpaceField;
 import com.fleencorp.feen.common.exception.UnableToCompleteOperationException;
@@ -44,6 +45,7 @@ import static java.util.Objects.requireNonNull;
  */
 @Slf4j
 @Component
+@ConcurrencyLimit(name = "google-chat")
 public class GoogleChatServiceImpl implements GoogleChatService {
 
   private final GoogleChatUpdateService googleChatUpdateService;
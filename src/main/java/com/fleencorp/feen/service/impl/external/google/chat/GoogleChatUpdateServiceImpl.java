@@ -1,6 +1,7 @@
 package com.fleencorp.feen.service.impl.external.google.chat;
 
 import com.fleencorp.feen.chat.space.model.request.external.core.CreateChatSpaceRequest;
+import com.fleencorp.feen.common.aspect.ConcurrencyLimit;
 import com.fleencorp.feen.common.aspect.MeasureExecutionTime;
 import com.fleencorp.feen.common.service.report.ReporterService;
 import com.fleencorp.feen.service.external.google.chat.GoogleChatUpdateService;
@@ -22,6 +23,7 @@ import static com.fleencorp.feen.service.impl.external.google.chat.GoogleChatSer
  * @version 1.0
  */
 @Component
+@ConcurrencyLimit(name = "google-chat")
 public class GoogleChatUpdateServiceImpl implements GoogleChatUpdateService {
 
   private final ChatServiceClient chatService;
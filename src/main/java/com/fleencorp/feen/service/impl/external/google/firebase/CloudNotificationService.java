@@ -1,11 +1,13 @@
 package com.fleencorp.feen.service.impl.external.google.firebase;
 
+import com.fleencorp.feen.common.aspect.ConcurrencyLimit;
 import com.google.firebase.messaging.*;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
 
 @Service
+@ConcurrencyLimit(name = "firebase")
 public class CloudNotificationService {
 
   private final FirebaseMessaging firebaseMessaging;
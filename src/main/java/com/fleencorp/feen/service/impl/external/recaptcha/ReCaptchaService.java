@@ -2,7 +2,15 @@ package com.fleencorp.feen.service.impl.external.recaptcha;
 
 import com.fleencorp.feen.adapter.google.recaptcha.model.response.ReCaptchaResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface ReCaptchaService {
 
-  ReCaptchaResponse verifyReCaptcha(String reCaptchaToken);
+  ReCaptchaResponse verifyReCaptcha(String reCaptchaToken, String clientIpAddress);
+
+  CompletableFuture<ReCaptchaResponse> verifyReCaptchaAsync(String reCaptchaToken, String clientIpAddress);
+
+  boolean isReCaptchaEnabled();
+
+  boolean isReCaptchaValid(ReCaptchaResponse reCaptchaResponse);
 }
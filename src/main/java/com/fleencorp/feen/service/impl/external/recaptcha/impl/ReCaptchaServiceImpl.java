@@ -2,30 +2,189 @@ package com.fleencorp.feen.service.impl.external.recaptcha.impl;
 
 import com.fleencorp.feen.adapter.google.recaptcha.ReCaptchaAdapter;
 import com.fleencorp.feen.adapter.google.recaptcha.model.response.ReCaptchaResponse;
-import com.fleencorp.feen.common.aspect.MeasureExecutionTime;
+import com.fleencorp.feen.common.configuration.external.google.recaptcha.ReCaptchaProperties;
 import com.fleencorp.feen.service.impl.external.recaptcha.ReCaptchaService;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Verifies reCAPTCHA tokens with Google without holding request threads.
+ *
+ * <p>Each verification runs on a virtual thread and is exposed as a {@link CompletableFuture}, so callers
+ * can start it early and only wait for the verdict when they need it. Verdicts are cached by a digest of
+ * the token and the address of the client for a few seconds: a client retrying the same request gets the
+ * original verdict instead of a duplicate-token rejection from Google, and concurrent requests with the same
+ * token share a single call. A token replayed from another address is verified again, and so rejected by
+ * Google. Failed calls are not cached.</p>
+ *
+ * <p>The latency of every call to Google is recorded in {@code recaptcha.verification.latency}, tagged
+ * with the outcome {@code valid}, {@code invalid} or {@code error}. Cache hits are counted in
+ * {@code recaptcha.verification.cache.hits}.</p>
+ */
 @Slf4j
 @Service
-public class ReCaptchaServiceImpl implements ReCaptchaService {
+public class ReCaptchaServiceImpl implements ReCaptchaService, DisposableBean {
+
+  private static final String LATENCY_METRIC = "recaptcha.verification.latency";
+  private static final String CACHE_HITS_METRIC = "recaptcha.verification.cache.hits";
+  private static final String OUTCOME_TAG = "outcome";
 
   private final ReCaptchaAdapter reCaptchaAdapter;
+  private final MeterRegistry meterRegistry;
+  private final ExecutorService executor;
+  private final Cache<String, CompletableFuture<ReCaptchaResponse>> verdicts;
+  private final float scoreThreshold;
 
-  public ReCaptchaServiceImpl(final ReCaptchaAdapter reCaptchaAdapter) {
+  public ReCaptchaServiceImpl(
+      final ReCaptchaAdapter reCaptchaAdapter,
+      final ReCaptchaProperties reCaptchaProperties,
+      final MeterRegistry meterRegistry,
+      @Value("${google.web.recaptcha-score-threshold}") final String scoreThreshold) {
     this.reCaptchaAdapter = reCaptchaAdapter;
+    this.meterRegistry = meterRegistry;
+    this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    this.verdicts = CacheBuilder.newBuilder()
+      .maximumSize(reCaptchaProperties.getVerdictCacheMaxEntries())
+      .expireAfterWrite(reCaptchaProperties.getVerdictCacheTtl().toMillis(), TimeUnit.MILLISECONDS)
+      .build();
+    this.scoreThreshold = parseScoreThreshold(scoreThreshold);
   }
 
   /**
    * It verifies the validity of the reCaptcha details
    *
    * @param reCaptchaToken the token to check and validate in the ReCaptcha service
+   * @param clientIpAddress the address of the client that sent the token
    * @return the results of the token verification
    */
   @Override
-  @MeasureExecutionTime
-  public ReCaptchaResponse verifyReCaptcha(final String reCaptchaToken) {
-    return reCaptchaAdapter.verifyRecaptcha(reCaptchaToken);
+  public ReCaptchaResponse verifyReCaptcha(final String reCaptchaToken, final String clientIpAddress) {
+    return verifyReCaptchaAsync(reCaptchaToken, clientIpAddress).join();
+  }
+
+  /**
+   * Starts the verification of the token, or returns the verdict already cached or in flight for it and the client.
+   *
+   * @param reCaptchaToken the token to check and validate in the ReCaptcha service
+   * @param clientIpAddress the address of the client that sent the token
+   * @return a future completed with the results of the token verification
+   */
+  @Override
+  public CompletableFuture<ReCaptchaResponse> verifyReCaptchaAsync(final String reCaptchaToken, final String clientIpAddress) {
+    if (isNull(reCaptchaToken) || reCaptchaToken.isBlank()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final String key = digest(reCaptchaToken, clientIpAddress);
+    final CompletableFuture<ReCaptchaResponse> cached = verdicts.getIfPresent(key);
+    if (nonNull(cached) && !cached.isCompletedExceptionally()) {
+      meterRegistry.counter(CACHE_HITS_METRIC).increment();
+      return cached;
+    }
+    if (nonNull(cached)) {
+      // A call that failed before it was stored in the cache outlives its own removal
+      verdicts.asMap().remove(key, cached);
+    }
+
+    try {
+      return verdicts.get(key, () -> callReCaptcha(key, reCaptchaToken));
+    } catch (final ExecutionException ex) {
+      return CompletableFuture.failedFuture(ex.getCause());
+    }
+  }
+
+  /**
+   * Checks if the reCAPTCHA feature is enabled, which is the case when a positive score threshold is configured.
+   *
+   * @return {@code true} if the reCAPTCHA feature is enabled, {@code false} otherwise.
+   */
+  @Override
+  public boolean isReCaptchaEnabled() {
+    return scoreThreshold > 0;
+  }
+
+  /**
+   * Checks if the reCAPTCHA response is valid based on the configured threshold.
+   *
+   * @param reCaptchaResponse The reCAPTCHA response to validate.
+   * @return {@code true} if the reCAPTCHA response is valid, {@code false} otherwise.
+   */
+  @Override
+  public boolean isReCaptchaValid(final ReCaptchaResponse reCaptchaResponse) {
+    return nonNull(reCaptchaResponse) && reCaptchaResponse.isSuccess() && reCaptchaResponse.getScore() >= scoreThreshold;
+  }
+
+  /**
+   * Calls Google on a virtual thread and records the latency by outcome. A failed call is removed from the
+   * cache so that the next attempt retries it.
+   *
+   * @param key the digest of the token and client used as the cache key
+   * @param reCaptchaToken the token to verify
+   * @return a future completed with the results of the token verification
+   */
+  protected CompletableFuture<ReCaptchaResponse> callReCaptcha(final String key, final String reCaptchaToken) {
+    final CompletableFuture<ReCaptchaResponse> future = CompletableFuture.supplyAsync(() -> {
+      final Timer.Sample sample = Timer.start(meterRegistry);
+      try {
+        final ReCaptchaResponse response = reCaptchaAdapter.verifyRecaptcha(reCaptchaToken);
+        sample.stop(meterRegistry.timer(LATENCY_METRIC, OUTCOME_TAG, isReCaptchaValid(response) ? "valid" : "invalid"));
+        return response;
+      } catch (final RuntimeException ex) {
+        sample.stop(meterRegistry.timer(LATENCY_METRIC, OUTCOME_TAG, "error"));
+        throw ex;
+      }
+    }, executor);
+
+    future.whenComplete((response, error) -> {
+      if (nonNull(error)) {
+        log.warn("ReCaptcha verification failed: {}", error.getMessage());
+        verdicts.asMap().remove(key, future);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Shuts down the verification executor when the application context closes.
+   */
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  private static String digest(final String reCaptchaToken, final String clientIpAddress) {
+    try {
+      final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      messageDigest.update(String.valueOf(clientIpAddress).getBytes(StandardCharsets.UTF_8));
+      // Separates the address from the token so that no two pairs hash the same input
+      messageDigest.update((byte) 0);
+      final byte[] hashed = messageDigest.digest(reCaptchaToken.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(hashed);
+    } catch (final NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static float parseScoreThreshold(final String scoreThreshold) {
+    return isNull(scoreThreshold) || scoreThreshold.isBlank() ? 0 : Float.parseFloat(scoreThreshold);
   }
 }
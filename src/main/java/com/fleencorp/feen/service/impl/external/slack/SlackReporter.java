@@ -2,6 +2,7 @@ package com.fleencorp.feen.service.impl.external.slack;
 
 import com.fleencorp.feen.adapter.slack.SlackAdapter;
 import com.fleencorp.feen.adapter.slack.model.enums.SlackColor;
+import com.fleencorp.feen.common.aspect.ConcurrencyLimit;
 import com.fleencorp.feen.common.configuration.external.slack.SlackProperties;
 import com.fleencorp.feen.common.constant.base.ReportMessageType;
 import com.fleencorp.feen.common.service.report.ReporterService;
@@ -27,6 +28,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 @Qualifier("slack")
+@ConcurrencyLimit(name = "slack")
 public class SlackReporter implements ReporterService {
 
   private final SlackAdapter slackAdapter;
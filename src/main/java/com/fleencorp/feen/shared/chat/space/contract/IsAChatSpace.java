@@ -2,8 +2,11 @@ package com.fleencorp.feen.shared.chat.space.contract;
 
 import com.fleencorp.feen.chat.space.constant.core.ChatSpaceStatus;
 import com.fleencorp.feen.chat.space.constant.core.ChatSpaceVisibility;
+import com.fleencorp.feen.common.constant.mask.MaskedChatSpaceUri;
 import com.fleencorp.feen.model.contract.HasTitle;
 
+import java.time.LocalDateTime;
+
 import static java.util.Objects.nonNull;
 
 public interface IsAChatSpace extends HasTitle {
@@ -22,10 +25,16 @@ public interface IsAChatSpace extends HasTitle {
 
   String getSpaceLink();
 
+  MaskedChatSpaceUri getMaskedSpaceLink();
+
   Long getOrganizerId();
 
   String getOrganizerName();
 
+  String getOrganizerEmail();
+
+  String getOrganizerPhone();
+
   ChatSpaceVisibility getSpaceVisibility();
 
   ChatSpaceStatus getStatus();
@@ -42,8 +51,14 @@ public interface IsAChatSpace extends HasTitle {
 
   String getSlug();
 
+  LocalDateTime getCreatedOn();
+
+  LocalDateTime getUpdatedOn();
+
   boolean isOrganizer(Long memberId);
 
+  boolean isPrivate();
+
   default boolean isDeleted() {
     return nonNull(getDeleted()) && getDeleted();
   }
@@ -2,11 +2,15 @@ package com.fleencorp.feen.shared.chat.space.model;
 
 import com.fleencorp.feen.chat.space.constant.core.ChatSpaceStatus;
 import com.fleencorp.feen.chat.space.constant.core.ChatSpaceVisibility;
+import com.fleencorp.feen.common.constant.mask.MaskedChatSpaceUri;
 import com.fleencorp.feen.shared.chat.space.contract.IsAChatSpace;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 @Getter
 @Setter
@@ -23,6 +27,8 @@ public class ChatSpaceData implements IsAChatSpace {
   private String spaceLink;
   private Long organizerId;
   private String organizerName;
+  private String organizerEmail;
+  private String organizerPhone;
   private ChatSpaceVisibility spaceVisibility;
   private ChatSpaceStatus status;
   private Integer totalMembers;
@@ -31,6 +37,33 @@ public class ChatSpaceData implements IsAChatSpace {
   private Integer bookmarkCount;
   private Integer shareCount;
   private String slug;
+  private LocalDateTime createdOn;
+  private LocalDateTime updatedOn;
+
+  /**
+   * Decrypts the space link on first access when the row was read with its cipher text.
+   */
+  @Getter(AccessLevel.NONE)
+  private Supplier<String> deferredSpaceLink;
+
+  @Override
+  public String getSpaceLink() {
+    if (isNull(spaceLink) && nonNull(deferredSpaceLink)) {
+      spaceLink = deferredSpaceLink.get();
+    }
+    return spaceLink;
+  }
+
+  @Override
+  public MaskedChatSpaceUri getMaskedSpaceLink() {
+    final String link = getSpaceLink();
+    return nonNull(link) ? MaskedChatSpaceUri.of(link) : null;
+  }
+
+  @Override
+  public boolean isPrivate() {
+    return ChatSpaceVisibility.isPrivate(spaceVisibility);
+  }
 
   public static ChatSpaceData empty() {
     return new ChatSpaceData();
@@ -27,4 +27,70 @@ public final class ChatSpaceQueryConstant {
     JOIN member m ON cs.member_id = m.member_id
     WHERE cs.chat_space_id = :id
     """;
+
+  /**
+   * The columns a chat space list renders. Only the name and contact details of the organizer are joined, and the
+   * space link is read as cipher text and only decrypted if the list asks for it.
+   */
+  private static final String CHAT_SPACE_LIST_COLUMNS = """
+    SELECT
+      cs.chat_space_id          AS chatSpaceId,
+      cs.title                  AS title,
+      cs.description            AS description,
+      cs.tags                   AS tags,
+      cs.guidelines_or_rules    AS guidelinesOrRules,
+      cs.space_link             AS spaceLink,
+      cs.member_id              AS organizerId,
+      CONCAT(m.first_name, ' ', m.last_name) AS organizerName,
+      m.email_address           AS organizerEmail,
+      m.phone_number            AS organizerPhone,
+      cs.space_visibility       AS spaceVisibility,
+      cs.space_status           AS status,
+      cs.total_members          AS totalMembers,
+      cs.is_deleted             AS deleted,
+      cs.like_count             AS likeCount,
+      cs.bookmark_count         AS bookmarkCount,
+      cs.share_count            AS shareCount,
+      cs.slug                   AS slug,
+      cs.created_on             AS createdOn,
+      cs.updated_on             AS updatedOn
+    FROM chat_space cs
+    JOIN member m ON cs.member_id = m.member_id
+    """;
+
+  private static final String COUNT_CHAT_SPACES = """
+    SELECT COUNT(*)
+    FROM chat_space cs
+    """;
+
+  private static final String CHAT_SPACES_BY_DATE_BETWEEN = """
+    WHERE cs.created_on BETWEEN :startDate AND :endDate
+      AND cs.space_status = :status
+    """;
+
+  private static final String CHAT_SPACES_BY_TITLE = """
+    WHERE cs.title = :title
+      AND cs.space_status = :status
+    """;
+
+  private static final String CHAT_SPACES_BY_STATUS = """
+    WHERE cs.space_status = :status
+    """;
+
+  private static final String ORDER_BY_UPDATED_ON = """
+    ORDER BY cs.updated_on DESC
+    LIMIT :limit OFFSET :offset
+    """;
+
+  public static final String FIND_CHAT_SPACES_BY_DATE_BETWEEN = CHAT_SPACE_LIST_COLUMNS + CHAT_SPACES_BY_DATE_BETWEEN + ORDER_BY_UPDATED_ON;
+
+  public static final String COUNT_CHAT_SPACES_BY_DATE_BETWEEN = COUNT_CHAT_SPACES + CHAT_SPACES_BY_DATE_BETWEEN;
+
+  public static final String FIND_CHAT_SPACES_BY_TITLE = CHAT_SPACE_LIST_COLUMNS + CHAT_SPACES_BY_TITLE + ORDER_BY_UPDATED_ON;
+
+  public static final String COUNT_CHAT_SPACES_BY_TITLE = COUNT_CHAT_SPACES + CHAT_SPACES_BY_TITLE;
+
+  public static final String FIND_CHAT_SPACES_BY_STATUS = CHAT_SPACE_LIST_COLUMNS + CHAT_SPACES_BY_STATUS + ORDER_BY_UPDATED_ON;
+
+  public static final String COUNT_CHAT_SPACES_BY_STATUS = COUNT_CHAT_SPACES + CHAT_SPACES_BY_STATUS;
 }
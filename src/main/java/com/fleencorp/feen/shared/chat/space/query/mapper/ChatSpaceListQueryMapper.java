@@ -0,0 +1,89 @@
+package com.fleencorp.feen.shared.chat.space.query.mapper;
+
+import com.fleencorp.feen.chat.space.constant.core.ChatSpaceStatus;
+import com.fleencorp.feen.chat.space.constant.core.ChatSpaceVisibility;
+import com.fleencorp.feen.shared.chat.space.model.ChatSpaceData;
+import com.fleencorp.feen.shared.common.crypto.DeferredDecryptor;
+import com.fleencorp.feen.shared.common.jdbc.Column;
+import com.fleencorp.feen.shared.common.jdbc.ColumnLayout;
+import com.fleencorp.feen.shared.common.jdbc.EnumLookup;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRow;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRowMapper;
+
+import java.sql.SQLException;
+
+/**
+ * Maps the rows of the chat space list queries, which select only the columns a list renders. The space link is
+ * kept encrypted until it is first read.
+ */
+public final class ChatSpaceListQueryMapper extends IndexedRowMapper<ChatSpaceData> {
+
+  private static final ColumnLayout LAYOUT = ColumnLayout.create();
+  private static final Column CHAT_SPACE_ID = LAYOUT.column("chatSpaceId");
+  private static final Column TITLE = LAYOUT.column("title");
+  private static final Column DESCRIPTION = LAYOUT.column("description");
+  private static final Column TAGS = LAYOUT.column("tags");
+  private static final Column GUIDELINES_OR_RULES = LAYOUT.column("guidelinesOrRules");
+  private static final Column SPACE_LINK = LAYOUT.column("spaceLink");
+  private static final Column ORGANIZER_ID = LAYOUT.column("organizerId");
+  private static final Column ORGANIZER_NAME = LAYOUT.column("organizerName");
+  private static final Column ORGANIZER_EMAIL = LAYOUT.column("organizerEmail");
+  private static final Column ORGANIZER_PHONE = LAYOUT.column("organizerPhone");
+  private static final Column SPACE_VISIBILITY = LAYOUT.column("spaceVisibility");
+  private static final Column STATUS = LAYOUT.column("status");
+  private static final Column TOTAL_MEMBERS = LAYOUT.column("totalMembers");
+  private static final Column DELETED = LAYOUT.column("deleted");
+  private static final Column LIKE_COUNT = LAYOUT.column("likeCount");
+  private static final Column BOOKMARK_COUNT = LAYOUT.column("bookmarkCount");
+  private static final Column SHARE_COUNT = LAYOUT.column("shareCount");
+  private static final Column SLUG = LAYOUT.column("slug");
+  private static final Column CREATED_ON = LAYOUT.column("createdOn");
+  private static final Column UPDATED_ON = LAYOUT.column("updatedOn");
+
+  private static final EnumLookup<ChatSpaceVisibility> SPACE_VISIBILITIES = EnumLookup.of(ChatSpaceVisibility.class);
+  private static final EnumLookup<ChatSpaceStatus> STATUSES = EnumLookup.of(ChatSpaceStatus.class);
+
+  private final DeferredDecryptor deferredDecryptor;
+
+  private ChatSpaceListQueryMapper(final DeferredDecryptor deferredDecryptor) {
+    super(LAYOUT);
+    this.deferredDecryptor = deferredDecryptor;
+  }
+
+  public static ChatSpaceListQueryMapper of(final DeferredDecryptor deferredDecryptor) {
+    return new ChatSpaceListQueryMapper(deferredDecryptor);
+  }
+
+  @Override
+  protected ChatSpaceData map(IndexedRow row) throws SQLException {
+    final ChatSpaceData chatSpace = new ChatSpaceData();
+
+    chatSpace.setChatSpaceId(row.getLong(CHAT_SPACE_ID));
+    chatSpace.setTitle(row.getString(TITLE));
+    chatSpace.setDescription(row.getString(DESCRIPTION));
+    chatSpace.setTags(row.getString(TAGS));
+    chatSpace.setGuidelinesOrRules(row.getString(GUIDELINES_OR_RULES));
+    chatSpace.setDeferredSpaceLink(deferredDecryptor.defer(row.getString(SPACE_LINK)));
+
+    chatSpace.setOrganizerId(row.getLong(ORGANIZER_ID));
+    chatSpace.setOrganizerName(row.getString(ORGANIZER_NAME));
+    chatSpace.setOrganizerEmail(row.getString(ORGANIZER_EMAIL));
+    chatSpace.setOrganizerPhone(row.getString(ORGANIZER_PHONE));
+
+    chatSpace.setSpaceVisibility(row.getEnum(SPACE_VISIBILITY, SPACE_VISIBILITIES));
+    chatSpace.setStatus(row.getEnum(STATUS, STATUSES));
+
+    chatSpace.setTotalMembers(row.getInt(TOTAL_MEMBERS));
+    chatSpace.setDeleted(row.getBoolean(DELETED));
+
+    chatSpace.setLikeCount(row.getInt(LIKE_COUNT));
+    chatSpace.setBookmarkCount(row.getInt(BOOKMARK_COUNT));
+    chatSpace.setShareCount(row.getInt(SHARE_COUNT));
+    chatSpace.setSlug(row.getString(SLUG));
+
+    chatSpace.setCreatedOn(row.getLocalDateTime(CREATED_ON));
+    chatSpace.setUpdatedOn(row.getLocalDateTime(UPDATED_ON));
+
+    return chatSpace;
+  }
+}
@@ -1,56 +1,58 @@
 package com.fleencorp.feen.shared.chat.space.query.mapper;
 
 import com.fleencorp.feen.shared.chat.space.model.ChatSpaceMemberData;
-import org.springframework.jdbc.core.RowMapper;
+import com.fleencorp.feen.shared.common.jdbc.Column;
+import com.fleencorp.feen.shared.common.jdbc.ColumnLayout;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRow;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRowMapper;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public final class ChatSpaceMemberQueryMapper implements RowMapper<ChatSpaceMemberData> {
-
-  private ChatSpaceMemberQueryMapper() {}
+public final class ChatSpaceMemberQueryMapper extends IndexedRowMapper<ChatSpaceMemberData> {
+
+  private static final ColumnLayout LAYOUT = ColumnLayout.create();
+  private static final Column CHAT_SPACE_MEMBER_ID = LAYOUT.column("chatSpaceMemberId");
+  private static final Column PARENT_EXTERNAL_ID_OR_NAME = LAYOUT.column("parentExternalIdOrName");
+  private static final Column EXTERNAL_ID_OR_NAME = LAYOUT.column("externalIdOrName");
+  private static final Column CHAT_SPACE_ID = LAYOUT.column("chatSpaceId");
+  private static final Column MEMBER_ID = LAYOUT.column("memberId");
+  private static final Column HAS_LEFT = LAYOUT.column("hasLeft");
+  private static final Column REMOVED = LAYOUT.column("removed");
+  private static final Column MEMBER_COMMENT = LAYOUT.column("memberComment");
+  private static final Column SPACE_ADMIN_COMMENT = LAYOUT.column("spaceAdminComment");
+  private static final Column EMAIL_ADDRESS = LAYOUT.column("emailAddress");
+  private static final Column FULL_NAME = LAYOUT.column("fullName");
+  private static final Column USERNAME = LAYOUT.column("username");
+  private static final Column PROFILE_PHOTO = LAYOUT.column("profilePhoto");
+
+  private ChatSpaceMemberQueryMapper() {
+    super(LAYOUT);
+  }
 
   public static ChatSpaceMemberQueryMapper of() {
     return new ChatSpaceMemberQueryMapper();
   }
 
   @Override
-  public ChatSpaceMemberData mapRow(ResultSet rs, int rowNum) throws SQLException {
+  protected ChatSpaceMemberData map(IndexedRow row) throws SQLException {
     final ChatSpaceMemberData chatSpaceMember = new ChatSpaceMemberData();
 
-    Long chatSpaceMemberId = rs.getLong("chatSpaceMemberId");
-    String parentExternalIdOrName = rs.getString("parentExternalIdOrName");
-    String externalIdOrName = rs.getString("externalIdOrName");
-    Long chatSpaceId = rs.getLong("chatSpaceId");
-    Long memberId = rs.getLong("memberId");
-
-    Boolean left = rs.getBoolean("hasLeft");
-    Boolean removed = rs.getBoolean("removed");
-
-    String memberComment = rs.getString("memberComment");
-    String spaceAdminComment = rs.getString("spaceAdminComment");
-    String emailAddress = rs.getString("emailAddress");
-    String fullName = rs.getString("fullName");
-    String username = rs.getString("username");
-    String profilePhoto = rs.getString("profilePhoto");
-
-    chatSpaceMember.setChatSpaceMemberId(chatSpaceMemberId);
-    chatSpaceMember.setParentExternalIdOrName(parentExternalIdOrName);
-    chatSpaceMember.setExternalIdOrName(externalIdOrName);
-    chatSpaceMember.setChatSpaceId(chatSpaceId);
-    chatSpaceMember.setMemberId(memberId);
-
-    chatSpaceMember.setLeft(left);
-    chatSpaceMember.setRemoved(removed);
-
-    chatSpaceMember.setMemberComment(memberComment);
-    chatSpaceMember.setSpaceAdminComment(spaceAdminComment);
-    chatSpaceMember.setEmailAddress(emailAddress);
-    chatSpaceMember.setFullName(fullName);
-    chatSpaceMember.setUsername(username);
-    chatSpaceMember.setProfilePhoto(profilePhoto);
+    chatSpaceMember.setChatSpaceMemberId(row.getLong(CHAT_SPACE_MEMBER_ID));
+    chatSpaceMember.setParentExternalIdOrName(row.getString(PARENT_EXTERNAL_ID_OR_NAME));
+    chatSpaceMember.setExternalIdOrName(row.getString(EXTERNAL_ID_OR_NAME));
+    chatSpaceMember.setChatSpaceId(row.getLong(CHAT_SPACE_ID));
+    chatSpaceMember.setMemberId(row.getLong(MEMBER_ID));
+
+    chatSpaceMember.setLeft(row.getBoolean(HAS_LEFT));
+    chatSpaceMember.setRemoved(row.getBoolean(REMOVED));
+
+    chatSpaceMember.setMemberComment(row.getString(MEMBER_COMMENT));
+    chatSpaceMember.setSpaceAdminComment(row.getString(SPACE_ADMIN_COMMENT));
+    chatSpaceMember.setEmailAddress(row.getString(EMAIL_ADDRESS));
+    chatSpaceMember.setFullName(row.getString(FULL_NAME));
+    chatSpaceMember.setUsername(row.getString(USERNAME));
+    chatSpaceMember.setProfilePhoto(row.getString(PROFILE_PHOTO));
 
     return chatSpaceMember;
   }
 }
-
@@ -3,71 +3,72 @@ package com.fleencorp.feen.shared.chat.space.query.mapper;
 import com.fleencorp.feen.chat.space.constant.core.ChatSpaceStatus;
 import com.fleencorp.feen.chat.space.constant.core.ChatSpaceVisibility;
 import com.fleencorp.feen.shared.chat.space.model.ChatSpaceData;
-import org.springframework.jdbc.core.RowMapper;
+import com.fleencorp.feen.shared.common.jdbc.Column;
+import com.fleencorp.feen.shared.common.jdbc.ColumnLayout;
+import com.fleencorp.feen.shared.common.jdbc.EnumLookup;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRow;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRowMapper;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public final class ChatSpaceQueryMapper implements RowMapper<ChatSpaceData> {
-
-  private ChatSpaceQueryMapper() {}
+public final class ChatSpaceQueryMapper extends IndexedRowMapper<ChatSpaceData> {
+
+  private static final ColumnLayout LAYOUT = ColumnLayout.create();
+  private static final Column CHAT_SPACE_ID = LAYOUT.column("chatSpaceId");
+  private static final Column EXTERNAL_ID_OR_NAME = LAYOUT.column("externalIdOrName");
+  private static final Column TITLE = LAYOUT.column("title");
+  private static final Column DESCRIPTION = LAYOUT.column("description");
+  private static final Column TAGS = LAYOUT.column("tags");
+  private static final Column GUIDELINES_OR_RULES = LAYOUT.column("guidelinesOrRules");
+  private static final Column SPACE_LINK = LAYOUT.column("spaceLink");
+  private static final Column ORGANIZER_ID = LAYOUT.column("organizerId");
+  private static final Column ORGANIZER_NAME = LAYOUT.column("organizerName");
+  private static final Column SPACE_VISIBILITY = LAYOUT.column("spaceVisibility");
+  private static final Column STATUS = LAYOUT.column("status");
+  private static final Column TOTAL_MEMBERS = LAYOUT.column("totalMembers");
+  private static final Column DELETED = LAYOUT.column("deleted");
+  private static final Column LIKE_COUNT = LAYOUT.column("likeCount");
+  private static final Column BOOKMARK_COUNT = LAYOUT.column("bookmarkCount");
+  private static final Column SHARE_COUNT = LAYOUT.column("shareCount");
+  private static final Column SLUG = LAYOUT.column("slug");
+
+  private static final EnumLookup<ChatSpaceVisibility> SPACE_VISIBILITIES = EnumLookup.of(ChatSpaceVisibility.class);
+  private static final EnumLookup<ChatSpaceStatus> STATUSES = EnumLookup.of(ChatSpaceStatus.class);
+
+  private ChatSpaceQueryMapper() {
+    super(LAYOUT);
+  }
 
   public static ChatSpaceQueryMapper of() {
     return new ChatSpaceQueryMapper();
   }
 
   @Override
-  public ChatSpaceData mapRow(ResultSet rs, int rowNum) throws SQLException {
+  protected ChatSpaceData map(IndexedRow row) throws SQLException {
     final ChatSpaceData chatSpace = new ChatSpaceData();
 
-    Long chatSpaceId = rs.getLong("chatSpaceId");
-    String externalIdOrName = rs.getString("externalIdOrName");
-    String title = rs.getString("title");
-    String description = rs.getString("description");
-    String tags = rs.getString("tags");
-    String guidelinesOrRules = rs.getString("guidelinesOrRules");
-    String spaceLink = rs.getString("spaceLink");
-
-    Long organizerId = rs.getLong("organizerId");
-    String organizerName = rs.getString("organizerName");
-
-    String spaceVisibilityValue = rs.getString("spaceVisibility");
-    String statusValue = rs.getString("status");
-
-    Integer totalMembers = rs.getInt("totalMembers");
-    Boolean deleted = rs.getBoolean("deleted");
+    chatSpace.setChatSpaceId(row.getLong(CHAT_SPACE_ID));
+    chatSpace.setExternalIdOrName(row.getString(EXTERNAL_ID_OR_NAME));
+    chatSpace.setTitle(row.getString(TITLE));
+    chatSpace.setDescription(row.getString(DESCRIPTION));
+    chatSpace.setTags(row.getString(TAGS));
+    chatSpace.setGuidelinesOrRules(row.getString(GUIDELINES_OR_RULES));
+    chatSpace.setSpaceLink(row.getString(SPACE_LINK));
 
-    Integer likeCount = rs.getInt("likeCount");
-    Integer bookmarkCount = rs.getInt("bookmarkCount");
-    Integer shareCount = rs.getInt("shareCount");
-    String slug = rs.getString("slug");
+    chatSpace.setOrganizerId(row.getLong(ORGANIZER_ID));
+    chatSpace.setOrganizerName(row.getString(ORGANIZER_NAME));
 
-    ChatSpaceVisibility spaceVisibility = ChatSpaceVisibility.valueOf(spaceVisibilityValue);
-    ChatSpaceStatus status = ChatSpaceStatus.valueOf(statusValue);
+    chatSpace.setSpaceVisibility(row.getEnum(SPACE_VISIBILITY, SPACE_VISIBILITIES));
+    chatSpace.setStatus(row.getEnum(STATUS, STATUSES));
 
-    chatSpace.setChatSpaceId(chatSpaceId);
-    chatSpace.setExternalIdOrName(externalIdOrName);
-    chatSpace.setTitle(title);
-    chatSpace.setDescription(description);
-    chatSpace.setTags(tags);
-    chatSpace.setGuidelinesOrRules(guidelinesOrRules);
-    chatSpace.setSpaceLink(spaceLink);
+    chatSpace.setTotalMembers(row.getInt(TOTAL_MEMBERS));
+    chatSpace.setDeleted(row.getBoolean(DELETED));
 
-    chatSpace.setOrganizerId(organizerId);
-    chatSpace.setOrganizerName(organizerName);
-
-    chatSpace.setSpaceVisibility(spaceVisibility);
-    chatSpace.setStatus(status);
-
-    chatSpace.setTotalMembers(totalMembers);
-    chatSpace.setDeleted(deleted);
-
-    chatSpace.setLikeCount(likeCount);
-    chatSpace.setBookmarkCount(bookmarkCount);
-    chatSpace.setShareCount(shareCount);
-    chatSpace.setSlug(slug);
+    chatSpace.setLikeCount(row.getInt(LIKE_COUNT));
+    chatSpace.setBookmarkCount(row.getInt(BOOKMARK_COUNT));
+    chatSpace.setShareCount(row.getInt(SHARE_COUNT));
+    chatSpace.setSlug(row.getString(SLUG));
 
     return chatSpace;
   }
 }
-
@@ -1,9 +1,14 @@
 package com.fleencorp.feen.shared.chat.space.service;
 
 import com.fleencorp.feen.chat.space.constant.core.ChatSpaceRequestToJoinStatus;
+import com.fleencorp.feen.chat.space.constant.core.ChatSpaceStatus;
 import com.fleencorp.feen.shared.chat.space.contract.IsAChatSpace;
 import com.fleencorp.feen.shared.chat.space.contract.IsAChatSpaceMember;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface ChatSpaceQueryService {
@@ -16,4 +21,10 @@ public interface ChatSpaceQueryService {
     Long memberId,
     ChatSpaceRequestToJoinStatus requestToJoinStatus
   );
+
+  Page<IsAChatSpace> findChatSpacesByDateBetween(LocalDateTime startDate, LocalDateTime endDate, ChatSpaceStatus status, Pageable pageable, boolean withTotal);
+
+  Page<IsAChatSpace> findChatSpacesByTitle(String title, ChatSpaceStatus status, Pageable pageable, boolean withTotal);
+
+  Page<IsAChatSpace> findChatSpaces(ChatSpaceStatus status, Pageable pageable, boolean withTotal);
 }
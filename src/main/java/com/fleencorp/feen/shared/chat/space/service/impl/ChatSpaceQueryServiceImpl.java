@@ -1,34 +1,56 @@
 package com.fleencorp.feen.shared.chat.space.service.impl;
 
 import com.fleencorp.feen.chat.space.constant.core.ChatSpaceRequestToJoinStatus;
+import com.fleencorp.feen.chat.space.constant.core.ChatSpaceStatus;
 import com.fleencorp.feen.shared.chat.space.contract.IsAChatSpace;
 import com.fleencorp.feen.shared.chat.space.contract.IsAChatSpaceMember;
 import com.fleencorp.feen.shared.chat.space.model.ChatSpaceData;
 import com.fleencorp.feen.shared.chat.space.model.ChatSpaceMemberData;
 import com.fleencorp.feen.shared.chat.space.query.constant.ChatSpaceMemberQueryConstant;
 import com.fleencorp.feen.shared.chat.space.query.constant.ChatSpaceQueryConstant;
+import com.fleencorp.feen.shared.chat.space.query.mapper.ChatSpaceListQueryMapper;
 import com.fleencorp.feen.shared.chat.space.query.mapper.ChatSpaceMemberQueryMapper;
 import com.fleencorp.feen.shared.chat.space.query.mapper.ChatSpaceQueryMapper;
 import com.fleencorp.feen.shared.chat.space.service.ChatSpaceQueryService;
+import com.fleencorp.feen.shared.common.crypto.DeferredDecryptor;
+import com.fleencorp.feen.shared.common.pagination.SearchCountCache;
 import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static com.fleencorp.feen.shared.common.pagination.PageSlices.lookAheadLimit;
+import static com.fleencorp.feen.shared.common.pagination.PageSlices.toPage;
+import static com.fleencorp.feen.shared.common.pagination.PageSlices.toSlice;
+
 @Service
+@Transactional(readOnly = true)
 public class ChatSpaceQueryServiceImpl implements ChatSpaceQueryService {
 
+  private final DeferredDecryptor deferredDecryptor;
   private final EntityManager entityManager;
   private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+  private final SearchCountCache searchCountCache;
 
   public ChatSpaceQueryServiceImpl(
+      final DeferredDecryptor deferredDecryptor,
       final EntityManager entityManager,
-      final NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+      final NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+      final SearchCountCache searchCountCache) {
+    this.deferredDecryptor = deferredDecryptor;
     this.entityManager = entityManager;
     this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    this.searchCountCache = searchCountCache;
   }
 
   @Override
@@ -69,4 +91,76 @@ public class ChatSpaceQueryServiceImpl implements ChatSpaceQueryService {
       .findFirst();
   }
 
+  @Override
+  public Page<IsAChatSpace> findChatSpacesByDateBetween(LocalDateTime startDate, LocalDateTime endDate, ChatSpaceStatus status, Pageable pageable, boolean withTotal) {
+    final MapSqlParameterSource params = new MapSqlParameterSource()
+      .addValue("startDate", startDate)
+      .addValue("endDate", endDate)
+      .addValue("status", status.name());
+
+    return findChatSpacePage(
+      ChatSpaceQueryConstant.FIND_CHAT_SPACES_BY_DATE_BETWEEN,
+      ChatSpaceQueryConstant.COUNT_CHAT_SPACES_BY_DATE_BETWEEN,
+      params,
+      pageable,
+      withTotal
+    );
+  }
+
+  @Override
+  public Page<IsAChatSpace> findChatSpacesByTitle(String title, ChatSpaceStatus status, Pageable pageable, boolean withTotal) {
+    final MapSqlParameterSource params = new MapSqlParameterSource()
+      .addValue("title", title)
+      .addValue("status", status.name());
+
+    return findChatSpacePage(
+      ChatSpaceQueryConstant.FIND_CHAT_SPACES_BY_TITLE,
+      ChatSpaceQueryConstant.COUNT_CHAT_SPACES_BY_TITLE,
+      params,
+      pageable,
+      withTotal
+    );
+  }
+
+  @Override
+  public Page<IsAChatSpace> findChatSpaces(ChatSpaceStatus status, Pageable pageable, boolean withTotal) {
+    final MapSqlParameterSource params = new MapSqlParameterSource()
+      .addValue("status", status.name());
+
+    return findChatSpacePage(
+      ChatSpaceQueryConstant.FIND_CHAT_SPACES_BY_STATUS,
+      ChatSpaceQueryConstant.COUNT_CHAT_SPACES_BY_STATUS,
+      params,
+      pageable,
+      withTotal
+    );
+  }
+
+  /**
+   * Runs a chat space list query for one page. The matching chat spaces are only counted when a total is wanted
+   * and the page alone does not tell it, and the count is served from the {@link SearchCountCache}.
+   */
+  @SuppressWarnings("unchecked")
+  private Page<IsAChatSpace> findChatSpacePage(String query, String countQuery, MapSqlParameterSource params, Pageable pageable, boolean withTotal) {
+    final Map<String, Object> filters = new LinkedHashMap<>(params.getValues());
+    params.addValue("limit", lookAheadLimit(pageable));
+    params.addValue("offset", pageable.getOffset());
+
+    List<ChatSpaceData> results = namedParameterJdbcTemplate.query(
+      query,
+      params,
+      ChatSpaceListQueryMapper.of(deferredDecryptor)
+    );
+
+    final Slice<IsAChatSpace> slice = toSlice((List<IsAChatSpace>) (List<?>) results, pageable);
+    if (!withTotal) {
+      return toPage(slice);
+    }
+
+    return toPage(slice, () -> searchCountCache.count(
+      countQuery,
+      filters,
+      () -> namedParameterJdbcTemplate.queryForObject(countQuery, params, Long.class)
+    ));
+  }
 }
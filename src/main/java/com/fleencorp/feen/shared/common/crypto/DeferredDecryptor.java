@@ -0,0 +1,46 @@
+package com.fleencorp.feen.shared.common.crypto;
+
+import com.fleencorp.base.converter.impl.security.StringCryptoConverter;
+import com.google.common.base.Suppliers;
+import jakarta.persistence.AttributeConverter;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+
+/**
+ * DeferredDecryptor decrypts columns encrypted with {@link StringCryptoConverter} that are read through the JDBC
+ * projections instead of through Hibernate.
+ *
+ * <p>A projection keeps the cipher text of the row and only decrypts it the first time the value is asked for, so
+ * a list that never renders an encrypted field never pays for decrypting it. The converter is obtained the same
+ * way Hibernate obtains it for the entities, so both paths share the same key.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Component
+public class DeferredDecryptor {
+
+  private final AttributeConverter<String, String> converter;
+
+  public DeferredDecryptor(final AutowireCapableBeanFactory beanFactory) {
+    this.converter = beanFactory.getBeanProvider(StringCryptoConverter.class)
+      .getIfAvailable(() -> beanFactory.createBean(StringCryptoConverter.class));
+  }
+
+  /**
+   * Wraps the cipher text of a column in a supplier that decrypts it once, on first use.
+   *
+   * @param cipherText the value of the column as stored in the database
+   * @return a supplier of the decrypted value, which supplies {@code null} if the column is {@code null}
+   */
+  public Supplier<String> defer(final String cipherText) {
+    if (isNull(cipherText)) {
+      return () -> null;
+    }
+    return Suppliers.memoize(() -> converter.convertToEntityAttribute(cipherText));
+  }
+}
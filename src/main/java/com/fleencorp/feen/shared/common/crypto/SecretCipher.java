@@ -0,0 +1,47 @@
+package com.fleencorp.feen.shared.common.crypto;
+
+import com.fleencorp.base.converter.impl.security.StringCryptoConverter;
+import jakarta.persistence.AttributeConverter;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * SecretCipher encrypts secrets kept outside the database, such as in Redis, the same way
+ * {@link StringCryptoConverter} encrypts the columns of the entities.
+ *
+ * <p>The converter is obtained the same way Hibernate obtains it for the entities, so a secret encrypted here can
+ * be stored in an encrypted column as is once decrypted, and both share the same key.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Component
+public class SecretCipher {
+
+  private final AttributeConverter<String, String> converter;
+
+  public SecretCipher(final AutowireCapableBeanFactory beanFactory) {
+    this.converter = beanFactory.getBeanProvider(StringCryptoConverter.class)
+      .getIfAvailable(() -> beanFactory.createBean(StringCryptoConverter.class));
+  }
+
+  /**
+   * Encrypts the secret.
+   *
+   * @param plainText the secret to encrypt
+   * @return the cipher text, or {@code null} if the secret is {@code null}
+   */
+  public String encrypt(final String plainText) {
+    return converter.convertToDatabaseColumn(plainText);
+  }
+
+  /**
+   * Decrypts a secret encrypted with {@link #encrypt(String)}.
+   *
+   * @param cipherText the cipher text to decrypt
+   * @return the secret, or {@code null} if the cipher text is {@code null}
+   */
+  public String decrypt(final String cipherText) {
+    return converter.convertToEntityAttribute(cipherText);
+  }
+}
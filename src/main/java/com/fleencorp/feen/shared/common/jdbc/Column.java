@@ -0,0 +1,12 @@
+package com.fleencorp.feen.shared.common.jdbc;
+
+/**
+ * A column declared in a {@link ColumnLayout}, identified by its label in the query and by its slot in the layout.
+ *
+ * @param label the label of the column as aliased in the query
+ * @param slot the position of the column in the layout that declared it
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record Column(String label, int slot) {}
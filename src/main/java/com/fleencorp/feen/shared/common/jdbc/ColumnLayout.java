@@ -0,0 +1,80 @@
+package com.fleencorp.feen.shared.common.jdbc;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * ColumnLayout declares the columns a row mapper reads and resolves them to their indexes in a result set.
+ *
+ * <p>A mapper declares its layout once, as static fields, and the layout is resolved against the
+ * {@link ResultSetMetaData} of each query before its first row is mapped. Every row is then read by index, so the
+ * label of a column is looked up once per query instead of once per row.</p>
+ *
+ * <p>Labels are matched without regard to case, as PostgreSQL folds the unquoted aliases of a query to lower
+ * case.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public final class ColumnLayout {
+
+  private final List<String> labels = new ArrayList<>();
+  private final Map<String, Integer> slots = new HashMap<>();
+
+  private ColumnLayout() {}
+
+  public static ColumnLayout create() {
+    return new ColumnLayout();
+  }
+
+  /**
+   * Declares a column of the layout. Declaring the same label twice returns the same column.
+   *
+   * @param label the label of the column as aliased in the query
+   * @return the column, to be read from an {@link IndexedRow}
+   */
+  public synchronized Column column(final String label) {
+    final String key = normalize(label);
+    final Integer existing = slots.get(key);
+    if (nonNull(existing)) {
+      return new Column(label, existing);
+    }
+
+    final int slot = labels.size();
+    labels.add(label);
+    slots.put(key, slot);
+    return new Column(label, slot);
+  }
+
+  /**
+   * Resolves the declared columns against the columns of a result set.
+   *
+   * @param metaData the metadata of the result set
+   * @return the index in the result set of every declared column, by slot, or {@code 0} if the result set does not
+   *         have the column
+   * @throws SQLException if the metadata cannot be read
+   */
+  int[] resolve(final ResultSetMetaData metaData) throws SQLException {
+    final int[] indexes = new int[labels.size()];
+    final int columnCount = metaData.getColumnCount();
+
+    for (int index = 1; index <= columnCount; index++) {
+      final Integer slot = slots.get(normalize(metaData.getColumnLabel(index)));
+      if (nonNull(slot) && indexes[slot] == 0) {
+        indexes[slot] = index;
+      }
+    }
+    return indexes;
+  }
+
+  private static String normalize(final String label) {
+    return label.toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,52 @@
+package com.fleencorp.feen.shared.common.jdbc;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * EnumLookup is a table of the constants of an enum by name, built once so that mapping a column to an enum is a
+ * single map lookup.
+ *
+ * <p>A value is matched to the constant of the same name, or of the same name in upper case, and values that match
+ * no constant map to {@code null}, as {@code parseEnumOrNull} does.</p>
+ *
+ * @param <E> the type of the enum
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+  private final Map<String, E> constants;
+
+  private EnumLookup(final Class<E> type) {
+    final E[] values = type.getEnumConstants();
+    this.constants = HashMap.newHashMap(values.length);
+    for (final E value : values) {
+      constants.put(value.name(), value);
+    }
+  }
+
+  public static <E extends Enum<E>> EnumLookup<E> of(final Class<E> type) {
+    return new EnumLookup<>(type);
+  }
+
+  /**
+   * Returns the constant named by the given value.
+   *
+   * @param value the name of the constant, as stored in the column
+   * @return the constant, or {@code null} if the value is {@code null} or names no constant
+   */
+  public E of(final String value) {
+    if (isNull(value)) {
+      return null;
+    }
+
+    final E constant = constants.get(value);
+    return nonNull(constant) ? constant : constants.get(value.toUpperCase(Locale.ROOT));
+  }
+}
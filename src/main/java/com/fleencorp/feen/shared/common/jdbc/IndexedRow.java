@@ -0,0 +1,66 @@
+package com.fleencorp.feen.shared.common.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static java.util.Objects.isNull;
+
+/**
+ * IndexedRow reads the current row of a result set by the indexes its {@link ColumnLayout} resolved for it.
+ *
+ * <p>The getters return what the {@link ResultSet} getter of the same name returns, so a {@code null} number is
+ * read as {@code 0} and a {@code null} boolean as {@code false}. Reading a column the result set does not have
+ * fails as reading it by label would.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public final class IndexedRow {
+
+  private final ResultSet resultSet;
+  private final int[] indexes;
+
+  IndexedRow(final ResultSet resultSet, final int[] indexes) {
+    this.resultSet = resultSet;
+    this.indexes = indexes;
+  }
+
+  public String getString(final Column column) throws SQLException {
+    return resultSet.getString(indexOf(column));
+  }
+
+  public long getLong(final Column column) throws SQLException {
+    return resultSet.getLong(indexOf(column));
+  }
+
+  public int getInt(final Column column) throws SQLException {
+    return resultSet.getInt(indexOf(column));
+  }
+
+  public boolean getBoolean(final Column column) throws SQLException {
+    return resultSet.getBoolean(indexOf(column));
+  }
+
+  public <T> T getObject(final Column column, final Class<T> type) throws SQLException {
+    return resultSet.getObject(indexOf(column), type);
+  }
+
+  public LocalDateTime getLocalDateTime(final Column column) throws SQLException {
+    final Timestamp timestamp = resultSet.getTimestamp(indexOf(column));
+    return isNull(timestamp) ? null : timestamp.toLocalDateTime();
+  }
+
+  public <E extends Enum<E>> E getEnum(final Column column, final EnumLookup<E> lookup) throws SQLException {
+    return lookup.of(resultSet.getString(indexOf(column)));
+  }
+
+  private int indexOf(final Column column) throws SQLException {
+    final int index = indexes[column.slot()];
+    if (index == 0) {
+      throw new SQLException("The column " + column.label() + " was not found in this ResultSet.");
+    }
+    return index;
+  }
+}
@@ -0,0 +1,49 @@
+package com.fleencorp.feen.shared.common.jdbc;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Base class of the row mappers that read their columns by index.
+ *
+ * <p>The {@link ColumnLayout} of the mapper is resolved against the metadata of the result set before its first row
+ * is mapped, and again only if the mapper is handed the rows of another result set.</p>
+ *
+ * <p>A mapper is stateful, as it keeps the result set it resolved its layout for, and is not safe for use by more
+ * than one thread. Create a new mapper for each query rather than sharing one instance.</p>
+ *
+ * @param <T> the type each row is mapped to
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public abstract class IndexedRowMapper<T> implements RowMapper<T> {
+
+  private final ColumnLayout layout;
+  private ResultSet resolvedResultSet;
+  private IndexedRow row;
+
+  protected IndexedRowMapper(final ColumnLayout layout) {
+    this.layout = layout;
+  }
+
+  @Override
+  public final T mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+    if (rs != resolvedResultSet) {
+      row = new IndexedRow(rs, layout.resolve(rs.getMetaData()));
+      resolvedResultSet = rs;
+    }
+    return map(row);
+  }
+
+  /**
+   * Maps the current row.
+   *
+   * @param row the current row of the result set
+   * @return the mapped row
+   * @throws SQLException if a column cannot be read
+   */
+  protected abstract T map(IndexedRow row) throws SQLException;
+}
@@ -0,0 +1,86 @@
+package com.fleencorp.feen.shared.common.pagination;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * PageSlices builds pages of search results without counting every matching row.
+ *
+ * <p>A list query asks for one row more than the page size, see {@link #lookAheadLimit(Pageable)}. Whether that
+ * extra row came back tells if there is a next page, which is all a {@link Slice} needs. Results are still handed
+ * on as a {@link Page}, since that is what the search results are built from. When no total is wanted the total
+ * of the page is a lower bound: the rows up to the end of the page, plus one when there is a next page.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public final class PageSlices {
+
+  private PageSlices() {}
+
+  /**
+   * Returns the number of rows a list query fetches for the given page, which is one more than the page size.
+   *
+   * @param pageable the requested page
+   * @return the limit of the list query
+   */
+  public static int lookAheadLimit(final Pageable pageable) {
+    return pageable.getPageSize() + 1;
+  }
+
+  /**
+   * Turns the rows of a list query limited by {@link #lookAheadLimit(Pageable)} into a slice of the page size.
+   *
+   * @param rows the rows returned by the query
+   * @param pageable the requested page
+   * @param <T> the type of the rows
+   * @return the slice, which has a next slice if the query returned more rows than the page size
+   */
+  public static <T> Slice<T> toSlice(final List<T> rows, final Pageable pageable) {
+    final boolean hasNext = rows.size() > pageable.getPageSize();
+    final List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+    return new SliceImpl<>(content, pageable, hasNext);
+  }
+
+  /**
+   * Returns the slice as a page whose total is the lower bound of the rows seen so far.
+   *
+   * @param slice the slice of results
+   * @param <T> the type of the results
+   * @return the page of results
+   */
+  public static <T> Page<T> toPage(final Slice<T> slice) {
+    return new PageImpl<>(slice.getContent(), slice.getPageable(), lowerBound(slice));
+  }
+
+  /**
+   * Returns the slice as a page with the total given by the supplier. The total is only asked for when the slice
+   * does not tell it already, that is when it is followed by another slice or is past the last row.
+   *
+   * @param slice the slice of results
+   * @param total the supplier of the total, usually a cached count
+   * @param <T> the type of the results
+   * @return the page of results
+   */
+  public static <T> Page<T> toPage(final Slice<T> slice, final LongSupplier total) {
+    if (isLast(slice)) {
+      return toPage(slice);
+    }
+    return new PageImpl<>(slice.getContent(), slice.getPageable(), Math.max(total.getAsLong(), lowerBound(slice)));
+  }
+
+  private static boolean isLast(final Slice<?> slice) {
+    return !slice.hasNext() && (slice.hasContent() || slice.getPageable().getOffset() == 0);
+  }
+
+  private static long lowerBound(final Slice<?> slice) {
+    final long seen = slice.getPageable().getOffset() + slice.getNumberOfElements();
+    return slice.hasNext() ? seen + 1 : seen;
+  }
+}
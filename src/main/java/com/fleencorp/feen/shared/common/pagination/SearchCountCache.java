@@ -0,0 +1,57 @@
+package com.fleencorp.feen.shared.common.pagination;
+
+import com.google.common.hash.Hashing;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+/**
+ * SearchCountCache keeps the totals shown by the search endpoints in the {@code searchCounts} cache.
+ *
+ * <p>An entry is keyed by the count query and the filters it runs with, and is counted again once it expires.
+ * The expiry of the cache is therefore the freshness bound of every total: a total is at most as old as the TTL
+ * of the cache plus its local TTL, and rows created or removed in the meantime only show up once it has
+ * expired.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Component
+public class SearchCountCache {
+
+  public static final String SEARCH_COUNTS = "searchCounts";
+
+  private final CacheManager cacheManager;
+
+  public SearchCountCache(final CacheManager cacheManager) {
+    this.cacheManager = cacheManager;
+  }
+
+  /**
+   * Returns the cached total of the given count query, counting it if the cached total is missing or expired.
+   *
+   * @param countQuery the SQL counting the matching rows
+   * @param filters the values the count query runs with
+   * @param counter runs the count query
+   * @return the total, or {@code 0} if the count query returned nothing
+   */
+  public long count(final String countQuery, final Object filters, final Supplier<Long> counter) {
+    final Cache cache = cacheManager.getCache(SEARCH_COUNTS);
+    final Number total = isNull(cache)
+      ? counter.get()
+      : cache.<Number>get(keyOf(countQuery, filters), counter::get);
+
+    return isNull(total) ? 0 : total.longValue();
+  }
+
+  private static String keyOf(final String countQuery, final Object filters) {
+    return Hashing.murmur3_128()
+      .hashString(countQuery + '|' + filters, UTF_8)
+      .toString();
+  }
+}
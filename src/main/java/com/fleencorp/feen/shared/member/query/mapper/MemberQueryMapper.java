@@ -1,69 +1,72 @@
 package com.fleencorp.feen.shared.member.query.mapper;
 
 import com.fleencorp.feen.mfa.constant.MfaType;
+import com.fleencorp.feen.shared.common.jdbc.Column;
+import com.fleencorp.feen.shared.common.jdbc.ColumnLayout;
+import com.fleencorp.feen.shared.common.jdbc.EnumLookup;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRow;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRowMapper;
 import com.fleencorp.feen.shared.member.model.MemberData;
 import com.fleencorp.feen.user.constant.profile.ProfileStatus;
 import com.fleencorp.feen.user.constant.profile.ProfileVerificationStatus;
-import org.springframework.jdbc.core.RowMapper;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public final class MemberQueryMapper implements RowMapper<MemberData> {
-
-  private MemberQueryMapper() {}
+public final class MemberQueryMapper extends IndexedRowMapper<MemberData> {
+
+  private static final ColumnLayout LAYOUT = ColumnLayout.create();
+  private static final Column MEMBER_ID = LAYOUT.column("memberId");
+  private static final Column COUNTRY = LAYOUT.column("country");
+  private static final Column USERNAME = LAYOUT.column("username");
+  private static final Column FIRST_NAME = LAYOUT.column("firstName");
+  private static final Column LAST_NAME = LAYOUT.column("lastName");
+  private static final Column FULL_NAME = LAYOUT.column("fullName");
+  private static final Column PASSWORD = LAYOUT.column("password");
+  private static final Column PHONE_NUMBER = LAYOUT.column("phoneNumber");
+  private static final Column EMAIL_ADDRESS = LAYOUT.column("emailAddress");
+  private static final Column PROFILE_PHOTO = LAYOUT.column("profilePhoto");
+  private static final Column MFA_ENABLED = LAYOUT.column("mfaEnabled");
+  private static final Column PHONE_NUMBER_VERIFIED = LAYOUT.column("phoneNumberVerified");
+  private static final Column EMAIL_ADDRESS_VERIFIED = LAYOUT.column("emailAddressVerified");
+  private static final Column MFA_TYPE = LAYOUT.column("mfaType");
+  private static final Column PROFILE_STATUS = LAYOUT.column("profileStatus");
+  private static final Column PROFILE_VERIFICATION_STATUS = LAYOUT.column("profileVerificationStatus");
+
+  private static final EnumLookup<MfaType> MFA_TYPES = EnumLookup.of(MfaType.class);
+  private static final EnumLookup<ProfileStatus> PROFILE_STATUSES = EnumLookup.of(ProfileStatus.class);
+  private static final EnumLookup<ProfileVerificationStatus> PROFILE_VERIFICATION_STATUSES = EnumLookup.of(ProfileVerificationStatus.class);
+
+  private MemberQueryMapper() {
+    super(LAYOUT);
+  }
 
   public static MemberQueryMapper of() {
     return new MemberQueryMapper();
   }
 
   @Override
-  public MemberData mapRow(ResultSet rs, int rowNum) throws SQLException {
+  protected MemberData map(IndexedRow row) throws SQLException {
     final MemberData member = new MemberData();
 
-    Long memberId = rs.getLong("memberId");
-    String country = rs.getString("country");
-    String username = rs.getString("username");
-    String firstName = rs.getString("firstName");
-    String lastName = rs.getString("lastName");
-    String fullName = rs.getString("fullName");
-
-    String password = rs.getString("password");
-    String phoneNumber = rs.getString("phoneNumber");
-    String emailAddress = rs.getString("emailAddress");
-    String profilePhoto = rs.getString("profilePhoto");
-
-    boolean mfaEnabled = rs.getBoolean("mfaEnabled");
-    boolean phoneNumberVerified = rs.getBoolean("phoneNumberVerified");
-    boolean emailAddressVerified = rs.getBoolean("emailAddressVerified");
-
-    String mfaTypeValue = rs.getString("mfaType");
-    String profileStatusValue = rs.getString("profileStatus");
-    String profileVerificationStatusValue = rs.getString("profileVerificationStatus");
-
-    MfaType mfaType = MfaType.of(mfaTypeValue);
-    ProfileStatus profileStatus = ProfileStatus.of(profileStatusValue);
-    ProfileVerificationStatus profileVerificationStatus = ProfileVerificationStatus.of(profileVerificationStatusValue);
-
-    member.setMemberId(memberId);
-    member.setCountry(country);
-    member.setUsername(username);
-    member.setFirstName(firstName);
-    member.setLastName(lastName);
-    member.setFullName(fullName);
-
-    member.setPassword(password);
-    member.setPhoneNumber(phoneNumber);
-    member.setEmailAddress(emailAddress);
-    member.setProfilePhoto(profilePhoto);
-
-    member.setMfaEnabled(mfaEnabled);
-    member.setPhoneNumberVerified(phoneNumberVerified);
-    member.setEmailAddressVerified(emailAddressVerified);
-
-    member.setMfaType(mfaType);
-    member.setProfileStatus(profileStatus);
-    member.setVerificationStatus(profileVerificationStatus);
+    member.setMemberId(row.getLong(MEMBER_ID));
+    member.setCountry(row.getString(COUNTRY));
+    member.setUsername(row.getString(USERNAME));
+    member.setFirstName(row.getString(FIRST_NAME));
+    member.setLastName(row.getString(LAST_NAME));
+    member.setFullName(row.getString(FULL_NAME));
+
+    member.setPassword(row.getString(PASSWORD));
+    member.setPhoneNumber(row.getString(PHONE_NUMBER));
+    member.setEmailAddress(row.getString(EMAIL_ADDRESS));
+    member.setProfilePhoto(row.getString(PROFILE_PHOTO));
+
+    member.setMfaEnabled(row.getBoolean(MFA_ENABLED));
+    member.setPhoneNumberVerified(row.getBoolean(PHONE_NUMBER_VERIFIED));
+    member.setEmailAddressVerified(row.getBoolean(EMAIL_ADDRESS_VERIFIED));
+
+    member.setMfaType(row.getEnum(MFA_TYPE, MFA_TYPES));
+    member.setProfileStatus(row.getEnum(PROFILE_STATUS, PROFILE_STATUSES));
+    member.setVerificationStatus(row.getEnum(PROFILE_VERIFICATION_STATUS, PROFILE_VERIFICATION_STATUSES));
 
     return member;
   }
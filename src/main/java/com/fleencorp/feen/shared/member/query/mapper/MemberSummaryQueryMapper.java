@@ -0,0 +1,45 @@
+package com.fleencorp.feen.shared.member.query.mapper;
+
+import com.fleencorp.feen.shared.common.jdbc.Column;
+import com.fleencorp.feen.shared.common.jdbc.ColumnLayout;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRow;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRowMapper;
+import com.fleencorp.feen.shared.member.model.MemberData;
+
+import java.sql.SQLException;
+
+/**
+ * Maps the rows of the queries that list members, which select only the name and profile photo of each member.
+ */
+public final class MemberSummaryQueryMapper extends IndexedRowMapper<MemberData> {
+
+  private static final ColumnLayout LAYOUT = ColumnLayout.create();
+  private static final Column MEMBER_ID = LAYOUT.column("memberId");
+  private static final Column USERNAME = LAYOUT.column("username");
+  private static final Column FIRST_NAME = LAYOUT.column("firstName");
+  private static final Column LAST_NAME = LAYOUT.column("lastName");
+  private static final Column FULL_NAME = LAYOUT.column("fullName");
+  private static final Column PROFILE_PHOTO = LAYOUT.column("profilePhoto");
+
+  private MemberSummaryQueryMapper() {
+    super(LAYOUT);
+  }
+
+  public static MemberSummaryQueryMapper of() {
+    return new MemberSummaryQueryMapper();
+  }
+
+  @Override
+  protected MemberData map(IndexedRow row) throws SQLException {
+    final MemberData member = new MemberData();
+
+    member.setMemberId(row.getLong(MEMBER_ID));
+    member.setUsername(row.getString(USERNAME));
+    member.setFirstName(row.getString(FIRST_NAME));
+    member.setLastName(row.getString(LAST_NAME));
+    member.setFullName(row.getString(FULL_NAME));
+    member.setProfilePhoto(row.getString(PROFILE_PHOTO));
+
+    return member;
+  }
+}
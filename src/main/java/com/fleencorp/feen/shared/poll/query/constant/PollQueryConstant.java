@@ -17,5 +17,31 @@ public final class PollQueryConstant {
     FROM poll p
     WHERE p.deleted = FALSE
     """;
-}
 
+  private static final String VOTERS_OF_POLL = """
+    FROM poll_vote pv
+    JOIN member m ON pv.member_id = m.member_id
+    WHERE pv.poll_id = :pollId
+      AND (CAST(:optionId AS BIGINT) IS NULL OR pv.option_id = :optionId)
+    """;
+
+  /**
+   * The voters of a poll, or of one of its options, with only the details a voter list renders.
+   */
+  public static final String FIND_POLL_VOTERS = """
+    SELECT DISTINCT
+      m.member_id               AS memberId,
+      m.username                AS username,
+      m.first_name              AS firstName,
+      m.last_name               AS lastName,
+      CONCAT(m.first_name, ' ', m.last_name) AS fullName,
+      m.profile_photo_url       AS profilePhoto
+    """ + VOTERS_OF_POLL + """
+    ORDER BY m.member_id
+    LIMIT :limit OFFSET :offset
+    """;
+
+  public static final String COUNT_POLL_VOTERS = """
+    SELECT COUNT(DISTINCT pv.member_id)
+    """ + VOTERS_OF_POLL;
+}
@@ -1,42 +1,46 @@
 package com.fleencorp.feen.shared.poll.query.mapper;
 
+import com.fleencorp.feen.shared.common.jdbc.Column;
+import com.fleencorp.feen.shared.common.jdbc.ColumnLayout;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRow;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRowMapper;
 import com.fleencorp.feen.shared.poll.model.PollData;
-import org.springframework.jdbc.core.RowMapper;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public final class PollQueryMapper implements RowMapper<PollData> {
+public final class PollQueryMapper extends IndexedRowMapper<PollData> {
 
-  private PollQueryMapper() {}
+  private static final ColumnLayout LAYOUT = ColumnLayout.create();
+  private static final Column POLL_ID = LAYOUT.column("pollId");
+  private static final Column QUESTION = LAYOUT.column("question");
+  private static final Column DESCRIPTION = LAYOUT.column("description");
+  private static final Column AUTHOR_ID = LAYOUT.column("authorId");
+  private static final Column PARENT_ID = LAYOUT.column("parentId");
+  private static final Column PARENT_TITLE = LAYOUT.column("parentTitle");
+  private static final Column STREAM_ID = LAYOUT.column("streamId");
+  private static final Column CHAT_SPACE_ID = LAYOUT.column("chatSpaceId");
+
+  private PollQueryMapper() {
+    super(LAYOUT);
+  }
 
   public static PollQueryMapper of() {
     return new PollQueryMapper();
   }
 
   @Override
-  public PollData mapRow(ResultSet rs, int rowNum) throws SQLException {
+  protected PollData map(IndexedRow row) throws SQLException {
     final PollData poll = new PollData();
 
-    Long pollId = rs.getLong("pollId");
-    String question = rs.getString("question");
-    String description = rs.getString("description");
-    Long authorId = rs.getLong("authorId");
-    Long parentId = rs.getLong("parentId");
-    String parentTitle = rs.getString("parentTitle");
-    Long streamId = rs.getLong("streamId");
-    Long chatSpaceId = rs.getLong("chatSpaceId");
-
-    poll.setPollId(pollId);
-    poll.setQuestion(question);
-    poll.setDescription(description);
-    poll.setAuthorId(authorId);
-    poll.setParentId(parentId);
-    poll.setParentTitle(parentTitle);
-    poll.setStreamId(streamId);
-    poll.setChatSpaceId(chatSpaceId);
+    poll.setPollId(row.getLong(POLL_ID));
+    poll.setQuestion(row.getString(QUESTION));
+    poll.setDescription(row.getString(DESCRIPTION));
+    poll.setAuthorId(row.getLong(AUTHOR_ID));
+    poll.setParentId(row.getLong(PARENT_ID));
+    poll.setParentTitle(row.getString(PARENT_TITLE));
+    poll.setStreamId(row.getLong(STREAM_ID));
+    poll.setChatSpaceId(row.getLong(CHAT_SPACE_ID));
 
     return poll;
   }
 }
-
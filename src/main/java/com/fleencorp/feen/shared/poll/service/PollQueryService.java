@@ -1,10 +1,15 @@
 package com.fleencorp.feen.shared.poll.service;
 
+import com.fleencorp.feen.shared.member.contract.IsAMember;
 import com.fleencorp.feen.shared.poll.contract.IsAPoll;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.Optional;
 
 public interface PollQueryService {
 
   Optional<IsAPoll> findPollById(Long pollId);
+
+  Page<IsAMember> findVoters(Long pollId, Long pollOptionId, Pageable pageable, boolean withTotal);
 }
@@ -1,29 +1,48 @@
 package com.fleencorp.feen.shared.poll.service.impl;
 
+import com.fleencorp.feen.shared.common.pagination.SearchCountCache;
+import com.fleencorp.feen.shared.member.contract.IsAMember;
+import com.fleencorp.feen.shared.member.model.MemberData;
+import com.fleencorp.feen.shared.member.query.mapper.MemberSummaryQueryMapper;
 import com.fleencorp.feen.shared.poll.contract.IsAPoll;
 import com.fleencorp.feen.shared.poll.model.PollData;
 import com.fleencorp.feen.shared.poll.query.constant.PollQueryConstant;
 import com.fleencorp.feen.shared.poll.query.mapper.PollQueryMapper;
 import com.fleencorp.feen.shared.poll.service.PollQueryService;
 import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Types;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static com.fleencorp.feen.shared.common.pagination.PageSlices.lookAheadLimit;
+import static com.fleencorp.feen.shared.common.pagination.PageSlices.toPage;
+import static com.fleencorp.feen.shared.common.pagination.PageSlices.toSlice;
+
 @Service
+@Transactional(readOnly = true)
 public class PollQueryServiceImpl implements PollQueryService {
 
   private final EntityManager entityManager;
   private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+  private final SearchCountCache searchCountCache;
 
   public PollQueryServiceImpl(
       final EntityManager entityManager,
-      final NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+      final NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+      final SearchCountCache searchCountCache) {
     this.entityManager = entityManager;
     this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    this.searchCountCache = searchCountCache;
   }
 
   @Override
@@ -41,4 +60,32 @@ public class PollQueryServiceImpl implements PollQueryService {
       .map(IsAPoll.class::cast)
       .findFirst();
   }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Page<IsAMember> findVoters(Long pollId, Long pollOptionId, Pageable pageable, boolean withTotal) {
+    final MapSqlParameterSource params = new MapSqlParameterSource()
+      .addValue("pollId", pollId)
+      .addValue("optionId", pollOptionId, Types.BIGINT);
+    final Map<String, Object> filters = new LinkedHashMap<>(params.getValues());
+    params.addValue("limit", lookAheadLimit(pageable));
+    params.addValue("offset", pageable.getOffset());
+
+    List<MemberData> results = namedParameterJdbcTemplate.query(
+      PollQueryConstant.FIND_POLL_VOTERS,
+      params,
+      MemberSummaryQueryMapper.of()
+    );
+
+    final Slice<IsAMember> slice = toSlice((List<IsAMember>) (List<?>) results, pageable);
+    if (!withTotal) {
+      return toPage(slice);
+    }
+
+    return toPage(slice, () -> searchCountCache.count(
+      PollQueryConstant.COUNT_POLL_VOTERS,
+      filters,
+      () -> namedParameterJdbcTemplate.queryForObject(PollQueryConstant.COUNT_POLL_VOTERS, params, Long.class)
+    ));
+  }
 }
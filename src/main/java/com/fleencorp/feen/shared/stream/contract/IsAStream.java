@@ -1,6 +1,5 @@
 package com.fleencorp.feen.shared.stream.contract;
 
-import com.fleencorp.feen.common.constant.mask.MaskedStreamLinkUri;
 import com.fleencorp.feen.model.contract.HasTitle;
 import com.fleencorp.feen.stream.constant.core.*;
 
@@ -38,7 +37,7 @@ public interface IsAStream extends HasTitle {
 
   LocalDateTime getScheduledEndDate();
 
-  MaskedStreamLinkUri getMaskedStreamLink();
+  String getMaskedStreamLink();
 
   String getOtherDetails();
 
@@ -3,13 +3,16 @@ package com.fleencorp.feen.shared.stream.model;
 import com.fleencorp.feen.common.constant.mask.MaskedStreamLinkUri;
 import com.fleencorp.feen.shared.stream.contract.IsAStream;
 import com.fleencorp.feen.stream.constant.core.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.function.Supplier;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 @Getter
@@ -56,14 +59,32 @@ public class StreamData implements IsAStream {
 
   private String externalSpaceIdOrName;
 
+  /**
+   * Decrypts the stream link on first access when the row was read with its cipher text.
+   */
+  @Getter(AccessLevel.NONE)
+  private Supplier<String> deferredStreamLink;
+
+  @Override
+  public String getStreamLink() {
+    if (isNull(streamLink) && nonNull(deferredStreamLink)) {
+      streamLink = deferredStreamLink.get();
+    }
+    return streamLink;
+  }
+
   @Override
-  public MaskedStreamLinkUri getMaskedStreamLink() {
-    return MaskedStreamLinkUri.of(streamLink, streamSource);
+  public String getMaskedStreamLink() {
+    return MaskedStreamLinkUri.maskedLinkOf(getStreamLink(), streamSource);
   }
 
   @Override
   public StreamTimeType getStreamSchedule() {
-    return null;
+    final LocalDateTime now = LocalDateTime.now();
+    if (isNull(scheduledStartDate) || now.isBefore(scheduledStartDate)) {
+      return StreamTimeType.UPCOMING;
+    }
+    return now.isAfter(scheduledStartDate) ? StreamTimeType.PAST : StreamTimeType.LIVE;
   }
 
   @Override
@@ -171,4 +171,173 @@ public final class StreamQueryConstant {
         ORDER BY fs.scheduled_start_date DESC
         """;
 
+  /**
+   * The columns a stream list renders. The external id, chat space, creation type and thumbnail are left out, and
+   * the stream link is read as cipher text and only decrypted if the list asks for it.
+   */
+  private static final String STREAM_LIST_COLUMNS = """
+    SELECT
+      s.stream_id                   AS streamId,
+      s.title                       AS title,
+      s.description                 AS description,
+      s.tags                        AS tags,
+      s.location                    AS location,
+      s.total_speakers              AS totalSpeakers,
+      s.total_attendees             AS totalAttendees,
+      s.bookmark_count              AS bookmarkCount,
+      s.like_count                  AS likeCount,
+      s.share_count                 AS shareCount,
+      s.timezone                    AS timezone,
+      s.scheduled_start_date        AS scheduledStartDate,
+      s.scheduled_end_date          AS scheduledEndDate,
+      s.stream_link                 AS streamLink,
+      s.other_details               AS otherDetails,
+      s.other_link                  AS otherLink,
+      s.group_or_organization_name  AS groupOrOrganizationName,
+      s.music_link                  AS musicLink,
+      s.source                      AS streamSource,
+      s.type                        AS streamType,
+      s.visibility                  AS streamVisibility,
+      s.status                      AS streamStatus,
+      s.organizer_name              AS organizerName,
+      s.organizer_email             AS organizerEmail,
+      s.organizer_phone             AS organizerPhone,
+      s.member_id                   AS memberId,
+      s.is_deleted                  AS deleted,
+      s.made_for_kids               AS forKids,
+      s.slug                        AS slug,
+      s.created_on                  AS createdOn,
+      s.updated_on                  AS updatedOn
+    FROM stream s
+    """;
+
+  private static final String COUNT_STREAMS = """
+    SELECT COUNT(*)
+    FROM stream s
+    """;
+
+  private static final String STREAMS_BY_DATE_BETWEEN = """
+    WHERE s.created_on BETWEEN :startDate AND :endDate
+      AND s.status = :status
+    """;
+
+  private static final String STREAMS_BY_TITLE = """
+    WHERE s.title = :title
+      AND s.status = :status
+    """;
+
+  private static final String STREAMS_BY_STATUS = """
+    WHERE s.status = :status
+    """;
+
+  private static final String UPCOMING_STREAMS = """
+    WHERE s.type = :streamType
+      AND s.scheduled_start_date > :currentDate
+      AND (CAST(:title AS TEXT) IS NULL OR LOWER(s.title) LIKE :title)
+    """;
+
+  private static final String PAST_STREAMS = """
+    WHERE s.type = :streamType
+      AND s.scheduled_start_date < :currentDate
+      AND (CAST(:title AS TEXT) IS NULL OR LOWER(s.title) LIKE :title)
+    """;
+
+  private static final String LIVE_STREAMS = """
+    WHERE s.type = :streamType
+      AND s.scheduled_start_date < :currentDate
+      AND s.scheduled_end_date > :currentDate
+      AND (CAST(:title AS TEXT) IS NULL OR LOWER(s.title) LIKE :title)
+    """;
+
+  private static final String STREAMS_BY_MEMBER = """
+    WHERE s.member_id = :memberId
+      AND (CAST(:title AS TEXT) IS NULL OR s.title = :title)
+      AND (CAST(:visibility AS TEXT) IS NULL OR s.visibility = :visibility)
+      AND (CAST(:startDate AS TIMESTAMP) IS NULL OR s.created_on BETWEEN :startDate AND :endDate)
+    """;
+
+  private static final String STREAMS_ATTENDED_BY_MEMBER = """
+    WHERE EXISTS (
+        SELECT 1
+        FROM stream_attendee sa
+        WHERE sa.stream_id = s.stream_id
+          AND sa.member_id = :memberId
+      )
+      AND (CAST(:title AS TEXT) IS NULL OR LOWER(s.title) LIKE :title)
+      AND (CAST(:startDate AS TIMESTAMP) IS NULL OR s.scheduled_start_date BETWEEN :startDate AND :endDate)
+    """;
+
+  private static final String STREAMS_ATTENDED_TOGETHER = """
+    WHERE EXISTS (
+        SELECT 1
+        FROM stream_attendee sa1
+        WHERE sa1.stream_id = s.stream_id
+          AND sa1.member_id = :memberId
+      )
+      AND EXISTS (
+        SELECT 1
+        FROM stream_attendee sa2
+        WHERE sa2.stream_id = s.stream_id
+          AND sa2.member_id = :otherMemberId
+      )
+    """;
+
+  private static final String STREAMS_BY_CHAT_SPACE = """
+    WHERE s.chat_space_id = :chatSpaceId
+    """;
+
+  private static final String ORDER_BY_UPDATED_ON = """
+    ORDER BY s.updated_on DESC
+    LIMIT :limit OFFSET :offset
+    """;
+
+  private static final String ORDER_BY_SCHEDULED_START_DATE = """
+    ORDER BY s.scheduled_start_date ASC
+    LIMIT :limit OFFSET :offset
+    """;
+
+  private static final String ORDER_BY_SCHEDULED_START_DATE_DESC = """
+    ORDER BY s.scheduled_start_date DESC
+    LIMIT :limit OFFSET :offset
+    """;
+
+  public static final String FIND_STREAMS_BY_DATE_BETWEEN = STREAM_LIST_COLUMNS + STREAMS_BY_DATE_BETWEEN + ORDER_BY_UPDATED_ON;
+
+  public static final String COUNT_STREAMS_BY_DATE_BETWEEN = COUNT_STREAMS + STREAMS_BY_DATE_BETWEEN;
+
+  public static final String FIND_STREAMS_BY_TITLE = STREAM_LIST_COLUMNS + STREAMS_BY_TITLE + ORDER_BY_UPDATED_ON;
+
+  public static final String COUNT_STREAMS_BY_TITLE = COUNT_STREAMS + STREAMS_BY_TITLE;
+
+  public static final String FIND_STREAMS_BY_STATUS = STREAM_LIST_COLUMNS + STREAMS_BY_STATUS + ORDER_BY_UPDATED_ON;
+
+  public static final String COUNT_STREAMS_BY_STATUS = COUNT_STREAMS + STREAMS_BY_STATUS;
+
+  public static final String FIND_UPCOMING_STREAMS = STREAM_LIST_COLUMNS + UPCOMING_STREAMS + ORDER_BY_SCHEDULED_START_DATE;
+
+  public static final String COUNT_UPCOMING_STREAMS = COUNT_STREAMS + UPCOMING_STREAMS;
+
+  public static final String FIND_PAST_STREAMS = STREAM_LIST_COLUMNS + PAST_STREAMS + ORDER_BY_SCHEDULED_START_DATE;
+
+  public static final String COUNT_PAST_STREAMS = COUNT_STREAMS + PAST_STREAMS;
+
+  public static final String FIND_LIVE_STREAMS = STREAM_LIST_COLUMNS + LIVE_STREAMS + ORDER_BY_SCHEDULED_START_DATE;
+
+  public static final String COUNT_LIVE_STREAMS = COUNT_STREAMS + LIVE_STREAMS;
+
+  public static final String FIND_STREAMS_BY_MEMBER = STREAM_LIST_COLUMNS + STREAMS_BY_MEMBER + ORDER_BY_UPDATED_ON;
+
+  public static final String COUNT_STREAMS_BY_MEMBER = COUNT_STREAMS + STREAMS_BY_MEMBER;
+
+  public static final String FIND_STREAMS_ATTENDED_BY_MEMBER = STREAM_LIST_COLUMNS + STREAMS_ATTENDED_BY_MEMBER + ORDER_BY_SCHEDULED_START_DATE_DESC;
+
+  public static final String COUNT_STREAMS_ATTENDED_BY_MEMBER = COUNT_STREAMS + STREAMS_ATTENDED_BY_MEMBER;
+
+  public static final String FIND_STREAMS_ATTENDED_TOGETHER = STREAM_LIST_COLUMNS + STREAMS_ATTENDED_TOGETHER + ORDER_BY_SCHEDULED_START_DATE_DESC;
+
+  public static final String COUNT_STREAMS_ATTENDED_TOGETHER = COUNT_STREAMS + STREAMS_ATTENDED_TOGETHER;
+
+  public static final String FIND_STREAMS_BY_CHAT_SPACE = STREAM_LIST_COLUMNS + STREAMS_BY_CHAT_SPACE + ORDER_BY_UPDATED_ON;
+
+  public static final String COUNT_STREAMS_BY_CHAT_SPACE = COUNT_STREAMS + STREAMS_BY_CHAT_SPACE;
 }
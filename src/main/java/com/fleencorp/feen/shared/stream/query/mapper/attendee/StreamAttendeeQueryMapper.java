@@ -1,45 +1,63 @@
 package com.fleencorp.feen.shared.stream.query.mapper.attendee;
 
+import com.fleencorp.feen.shared.common.jdbc.Column;
+import com.fleencorp.feen.shared.common.jdbc.ColumnLayout;
+import com.fleencorp.feen.shared.common.jdbc.EnumLookup;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRow;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRowMapper;
 import com.fleencorp.feen.shared.stream.model.StreamAttendeeData;
 import com.fleencorp.feen.stream.constant.attendee.StreamAttendeeRequestToJoinStatus;
-import org.springframework.jdbc.core.RowMapper;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public final class StreamAttendeeQueryMapper implements RowMapper<StreamAttendeeData> {
-
-  private StreamAttendeeQueryMapper() {}
+public final class StreamAttendeeQueryMapper extends IndexedRowMapper<StreamAttendeeData> {
+
+  private static final ColumnLayout LAYOUT = ColumnLayout.create();
+  private static final Column ATTENDEE_ID = LAYOUT.column("attendeeId");
+  private static final Column STREAM_ID = LAYOUT.column("streamId");
+  private static final Column MEMBER_ID = LAYOUT.column("memberId");
+  private static final Column REQUEST_TO_JOIN_STATUS = LAYOUT.column("requestToJoinStatus");
+  private static final Column ATTENDING = LAYOUT.column("attending");
+  private static final Column A_SPEAKER = LAYOUT.column("aSpeaker");
+  private static final Column IS_ORGANIZER = LAYOUT.column("isOrganizer");
+  private static final Column ATTENDEE_COMMENT = LAYOUT.column("attendeeComment");
+  private static final Column ORGANIZER_COMMENT = LAYOUT.column("organizerComment");
+  private static final Column EMAIL_ADDRESS = LAYOUT.column("emailAddress");
+  private static final Column FULL_NAME = LAYOUT.column("fullName");
+  private static final Column USERNAME = LAYOUT.column("username");
+  private static final Column PROFILE_PHOTO = LAYOUT.column("profilePhoto");
+
+  private static final EnumLookup<StreamAttendeeRequestToJoinStatus> REQUEST_TO_JOIN_STATUSES = EnumLookup.of(StreamAttendeeRequestToJoinStatus.class);
+
+  private StreamAttendeeQueryMapper() {
+    super(LAYOUT);
+  }
 
   public static StreamAttendeeQueryMapper of() {
     return new StreamAttendeeQueryMapper();
   }
 
   @Override
-  public StreamAttendeeData mapRow(ResultSet rs, int rowNum) throws SQLException {
+  protected StreamAttendeeData map(IndexedRow row) throws SQLException {
     StreamAttendeeData attendee = new StreamAttendeeData();
 
-    attendee.setAttendeeId(rs.getLong("attendeeId"));
-    attendee.setStreamId(rs.getLong("streamId"));
-    attendee.setMemberId(rs.getLong("memberId"));
+    attendee.setAttendeeId(row.getLong(ATTENDEE_ID));
+    attendee.setStreamId(row.getLong(STREAM_ID));
+    attendee.setMemberId(row.getLong(MEMBER_ID));
 
-    final String requestToJoinStatusValue = rs.getString("requestToJoinStatus");
-    final StreamAttendeeRequestToJoinStatus requestToJoinStatus = StreamAttendeeRequestToJoinStatus.of(requestToJoinStatusValue);
+    attendee.setRequestToJoinStatus(row.getEnum(REQUEST_TO_JOIN_STATUS, REQUEST_TO_JOIN_STATUSES));
+    attendee.setAttending(row.getBoolean(ATTENDING));
+    attendee.setASpeaker(row.getBoolean(A_SPEAKER));
+    attendee.setIsOrganizer(row.getBoolean(IS_ORGANIZER));
 
-    attendee.setRequestToJoinStatus(requestToJoinStatus);
-    attendee.setAttending(rs.getBoolean("attending"));
-    attendee.setASpeaker(rs.getBoolean("aSpeaker"));
-    attendee.setIsOrganizer(rs.getBoolean("isOrganizer"));
+    attendee.setAttendeeComment(row.getString(ATTENDEE_COMMENT));
+    attendee.setOrganizerComment(row.getString(ORGANIZER_COMMENT));
 
-    attendee.setAttendeeComment(rs.getString("attendeeComment"));
-    attendee.setOrganizerComment(rs.getString("organizerComment"));
-
-    attendee.setEmailAddress(rs.getString("emailAddress"));
-    attendee.setFullName(rs.getString("fullName"));
-    attendee.setUsername(rs.getString("username"));
-    attendee.setProfilePhoto(rs.getString("profilePhoto"));
+    attendee.setEmailAddress(row.getString(EMAIL_ADDRESS));
+    attendee.setFullName(row.getString(FULL_NAME));
+    attendee.setUsername(row.getString(USERNAME));
+    attendee.setProfilePhoto(row.getString(PROFILE_PHOTO));
 
     return attendee;
   }
 }
-
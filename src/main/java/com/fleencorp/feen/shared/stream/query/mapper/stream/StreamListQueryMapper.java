@@ -0,0 +1,114 @@
+package com.fleencorp.feen.shared.stream.query.mapper.stream;
+
+import com.fleencorp.feen.shared.common.crypto.DeferredDecryptor;
+import com.fleencorp.feen.shared.common.jdbc.Column;
+import com.fleencorp.feen.shared.common.jdbc.ColumnLayout;
+import com.fleencorp.feen.shared.common.jdbc.EnumLookup;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRow;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRowMapper;
+import com.fleencorp.feen.shared.stream.model.StreamData;
+import com.fleencorp.feen.stream.constant.core.*;
+
+import java.sql.SQLException;
+
+/**
+ * Maps the rows of the stream list queries, which select only the columns a list renders. The stream link is
+ * kept encrypted until it is first read.
+ */
+public final class StreamListQueryMapper extends IndexedRowMapper<StreamData> {
+
+  private static final ColumnLayout LAYOUT = ColumnLayout.create();
+  private static final Column STREAM_ID = LAYOUT.column("streamId");
+  private static final Column TITLE = LAYOUT.column("title");
+  private static final Column DESCRIPTION = LAYOUT.column("description");
+  private static final Column TAGS = LAYOUT.column("tags");
+  private static final Column LOCATION = LAYOUT.column("location");
+  private static final Column TOTAL_SPEAKERS = LAYOUT.column("totalSpeakers");
+  private static final Column TOTAL_ATTENDEES = LAYOUT.column("totalAttendees");
+  private static final Column BOOKMARK_COUNT = LAYOUT.column("bookmarkCount");
+  private static final Column LIKE_COUNT = LAYOUT.column("likeCount");
+  private static final Column SHARE_COUNT = LAYOUT.column("shareCount");
+  private static final Column TIMEZONE = LAYOUT.column("timezone");
+  private static final Column SCHEDULED_START_DATE = LAYOUT.column("scheduledStartDate");
+  private static final Column SCHEDULED_END_DATE = LAYOUT.column("scheduledEndDate");
+  private static final Column STREAM_LINK = LAYOUT.column("streamLink");
+  private static final Column OTHER_DETAILS = LAYOUT.column("otherDetails");
+  private static final Column OTHER_LINK = LAYOUT.column("otherLink");
+  private static final Column GROUP_OR_ORGANIZATION_NAME = LAYOUT.column("groupOrOrganizationName");
+  private static final Column MUSIC_LINK = LAYOUT.column("musicLink");
+  private static final Column STREAM_SOURCE = LAYOUT.column("streamSource");
+  private static final Column STREAM_TYPE = LAYOUT.column("streamType");
+  private static final Column STREAM_VISIBILITY = LAYOUT.column("streamVisibility");
+  private static final Column STREAM_STATUS = LAYOUT.column("streamStatus");
+  private static final Column ORGANIZER_NAME = LAYOUT.column("organizerName");
+  private static final Column ORGANIZER_EMAIL = LAYOUT.column("organizerEmail");
+  private static final Column ORGANIZER_PHONE = LAYOUT.column("organizerPhone");
+  private static final Column MEMBER_ID = LAYOUT.column("memberId");
+  private static final Column DELETED = LAYOUT.column("deleted");
+  private static final Column FOR_KIDS = LAYOUT.column("forKids");
+  private static final Column SLUG = LAYOUT.column("slug");
+  private static final Column CREATED_ON = LAYOUT.column("createdOn");
+  private static final Column UPDATED_ON = LAYOUT.column("updatedOn");
+
+  private static final EnumLookup<StreamSource> STREAM_SOURCES = EnumLookup.of(StreamSource.class);
+  private static final EnumLookup<StreamType> STREAM_TYPES = EnumLookup.of(StreamType.class);
+  private static final EnumLookup<StreamVisibility> STREAM_VISIBILITIES = EnumLookup.of(StreamVisibility.class);
+  private static final EnumLookup<StreamStatus> STREAM_STATUSES = EnumLookup.of(StreamStatus.class);
+
+  private final DeferredDecryptor deferredDecryptor;
+
+  private StreamListQueryMapper(final DeferredDecryptor deferredDecryptor) {
+    super(LAYOUT);
+    this.deferredDecryptor = deferredDecryptor;
+  }
+
+  public static StreamListQueryMapper of(final DeferredDecryptor deferredDecryptor) {
+    return new StreamListQueryMapper(deferredDecryptor);
+  }
+
+  @Override
+  protected StreamData map(IndexedRow row) throws SQLException {
+    StreamData stream = new StreamData();
+
+    stream.setStreamId(row.getLong(STREAM_ID));
+    stream.setTitle(row.getString(TITLE));
+    stream.setDescription(row.getString(DESCRIPTION));
+    stream.setTags(row.getString(TAGS));
+    stream.setLocation(row.getString(LOCATION));
+
+    stream.setTotalSpeakers(row.getInt(TOTAL_SPEAKERS));
+    stream.setTotalAttendees(row.getInt(TOTAL_ATTENDEES));
+    stream.setBookmarkCount(row.getInt(BOOKMARK_COUNT));
+    stream.setLikeCount(row.getInt(LIKE_COUNT));
+    stream.setShareCount(row.getInt(SHARE_COUNT));
+
+    stream.setTimezone(row.getString(TIMEZONE));
+    stream.setScheduledStartDate(row.getLocalDateTime(SCHEDULED_START_DATE));
+    stream.setScheduledEndDate(row.getLocalDateTime(SCHEDULED_END_DATE));
+
+    stream.setDeferredStreamLink(deferredDecryptor.defer(row.getString(STREAM_LINK)));
+    stream.setOtherDetails(row.getString(OTHER_DETAILS));
+    stream.setOtherLink(row.getString(OTHER_LINK));
+    stream.setGroupOrOrganizationName(row.getString(GROUP_OR_ORGANIZATION_NAME));
+    stream.setMusicLink(row.getString(MUSIC_LINK));
+
+    stream.setStreamSource(row.getEnum(STREAM_SOURCE, STREAM_SOURCES));
+    stream.setStreamType(row.getEnum(STREAM_TYPE, STREAM_TYPES));
+    stream.setStreamVisibility(row.getEnum(STREAM_VISIBILITY, STREAM_VISIBILITIES));
+    stream.setStreamStatus(row.getEnum(STREAM_STATUS, STREAM_STATUSES));
+
+    stream.setOrganizerName(row.getString(ORGANIZER_NAME));
+    stream.setOrganizerEmail(row.getString(ORGANIZER_EMAIL));
+    stream.setOrganizerPhone(row.getString(ORGANIZER_PHONE));
+    stream.setMemberId(row.getLong(MEMBER_ID));
+
+    stream.setDeleted(row.getBoolean(DELETED));
+    stream.setForKids(row.getBoolean(FOR_KIDS));
+    stream.setSlug(row.getString(SLUG));
+
+    stream.setCreatedOn(row.getLocalDateTime(CREATED_ON));
+    stream.setUpdatedOn(row.getLocalDateTime(UPDATED_ON));
+
+    return stream;
+  }
+}
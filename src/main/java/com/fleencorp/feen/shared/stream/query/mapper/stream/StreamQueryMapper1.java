@@ -1,27 +1,34 @@
 package com.fleencorp.feen.shared.stream.query.mapper.stream;
 
+import com.fleencorp.feen.shared.common.jdbc.Column;
+import com.fleencorp.feen.shared.common.jdbc.ColumnLayout;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRow;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRowMapper;
 import com.fleencorp.feen.shared.stream.model.StreamData;
-import org.springframework.jdbc.core.RowMapper;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public final class StreamQueryMapper1 implements RowMapper<StreamData> {
+public final class StreamQueryMapper1 extends IndexedRowMapper<StreamData> {
 
-  private StreamQueryMapper1() {}
+  private static final ColumnLayout LAYOUT = ColumnLayout.create();
+  private static final Column STREAM_ID = LAYOUT.column("streamId");
+  private static final Column TITLE = LAYOUT.column("title");
+
+  private StreamQueryMapper1() {
+    super(LAYOUT);
+  }
 
   public static StreamQueryMapper1 of() {
     return new StreamQueryMapper1();
   }
 
   @Override
-  public StreamData mapRow(ResultSet rs, int rowNum) throws SQLException {
+  protected StreamData map(IndexedRow row) throws SQLException {
     StreamData stream = new StreamData();
 
-    stream.setStreamId(rs.getLong("streamId"));
-    stream.setTitle(rs.getString("title"));
+    stream.setStreamId(row.getLong(STREAM_ID));
+    stream.setTitle(row.getString(TITLE));
 
     return stream;
   }
 }
-
@@ -1,28 +1,36 @@
 package com.fleencorp.feen.shared.stream.query.mapper.stream;
 
+import com.fleencorp.feen.shared.common.jdbc.Column;
+import com.fleencorp.feen.shared.common.jdbc.ColumnLayout;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRow;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRowMapper;
 import com.fleencorp.feen.shared.stream.model.StreamData;
-import org.springframework.jdbc.core.RowMapper;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public final class StreamQueryMapper2 implements RowMapper<StreamData> {
+public final class StreamQueryMapper2 extends IndexedRowMapper<StreamData> {
 
-  private StreamQueryMapper2() {}
+  private static final ColumnLayout LAYOUT = ColumnLayout.create();
+  private static final Column STREAM_ID = LAYOUT.column("streamId");
+  private static final Column TITLE = LAYOUT.column("title");
+  private static final Column EXTERNAL_SPACE_ID_OR_NAME = LAYOUT.column("externalSpaceIdOrName");
+
+  private StreamQueryMapper2() {
+    super(LAYOUT);
+  }
 
   public static StreamQueryMapper2 of() {
     return new StreamQueryMapper2();
   }
 
   @Override
-  public StreamData mapRow(ResultSet rs, int rowNum) throws SQLException {
+  protected StreamData map(IndexedRow row) throws SQLException {
     StreamData stream = new StreamData();
 
-    stream.setStreamId(rs.getLong("streamId"));
-    stream.setTitle(rs.getString("title"));
-    stream.setExternalId(rs.getString("externalSpaceIdOrName"));
+    stream.setStreamId(row.getLong(STREAM_ID));
+    stream.setTitle(row.getString(TITLE));
+    stream.setExternalId(row.getString(EXTERNAL_SPACE_ID_OR_NAME));
 
     return stream;
   }
 }
-
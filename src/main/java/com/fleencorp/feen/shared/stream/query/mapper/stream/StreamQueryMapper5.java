@@ -1,81 +1,116 @@
 package com.fleencorp.feen.shared.stream.query.mapper.stream;
 
+import com.fleencorp.feen.shared.common.jdbc.Column;
+import com.fleencorp.feen.shared.common.jdbc.ColumnLayout;
+import com.fleencorp.feen.shared.common.jdbc.EnumLookup;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRow;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRowMapper;
 import com.fleencorp.feen.shared.stream.model.StreamData;
 import com.fleencorp.feen.stream.constant.core.*;
-import org.springframework.jdbc.core.RowMapper;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public final class StreamQueryMapper5 implements RowMapper<StreamData> {
-
-  private StreamQueryMapper5() {}
+public final class StreamQueryMapper5 extends IndexedRowMapper<StreamData> {
+
+  private static final ColumnLayout LAYOUT = ColumnLayout.create();
+  private static final Column STREAM_ID = LAYOUT.column("streamId");
+  private static final Column EXTERNAL_ID = LAYOUT.column("externalId");
+  private static final Column CHAT_SPACE_ID = LAYOUT.column("chatSpaceId");
+  private static final Column TITLE = LAYOUT.column("title");
+  private static final Column DESCRIPTION = LAYOUT.column("description");
+  private static final Column TAGS = LAYOUT.column("tags");
+  private static final Column LOCATION = LAYOUT.column("location");
+  private static final Column TOTAL_SPEAKERS = LAYOUT.column("totalSpeakers");
+  private static final Column TOTAL_ATTENDEES = LAYOUT.column("totalAttendees");
+  private static final Column BOOKMARK_COUNT = LAYOUT.column("bookmarkCount");
+  private static final Column LIKE_COUNT = LAYOUT.column("likeCount");
+  private static final Column SHARE_COUNT = LAYOUT.column("shareCount");
+  private static final Column TIMEZONE = LAYOUT.column("timezone");
+  private static final Column SCHEDULED_START_DATE = LAYOUT.column("scheduledStartDate");
+  private static final Column SCHEDULED_END_DATE = LAYOUT.column("scheduledEndDate");
+  private static final Column STREAM_LINK = LAYOUT.column("streamLink");
+  private static final Column OTHER_DETAILS = LAYOUT.column("otherDetails");
+  private static final Column OTHER_LINK = LAYOUT.column("otherLink");
+  private static final Column GROUP_OR_ORGANIZATION_NAME = LAYOUT.column("groupOrOrganizationName");
+  private static final Column MUSIC_LINK = LAYOUT.column("musicLink");
+  private static final Column STREAM_SOURCE = LAYOUT.column("streamSource");
+  private static final Column STREAM_TYPE = LAYOUT.column("streamType");
+  private static final Column STREAM_CREATION_TYPE = LAYOUT.column("streamCreationType");
+  private static final Column STREAM_VISIBILITY = LAYOUT.column("streamVisibility");
+  private static final Column STREAM_STATUS = LAYOUT.column("streamStatus");
+  private static final Column ORGANIZER_NAME = LAYOUT.column("organizerName");
+  private static final Column ORGANIZER_EMAIL = LAYOUT.column("organizerEmail");
+  private static final Column ORGANIZER_PHONE = LAYOUT.column("organizerPhone");
+  private static final Column MEMBER_ID = LAYOUT.column("memberId");
+  private static final Column DELETED = LAYOUT.column("deleted");
+  private static final Column FOR_KIDS = LAYOUT.column("forKids");
+  private static final Column SLUG = LAYOUT.column("slug");
+  private static final Column CREATED_ON = LAYOUT.column("createdOn");
+  private static final Column UPDATED_ON = LAYOUT.column("updatedOn");
+  private static final Column EXTERNAL_SPACE_ID_OR_NAME = LAYOUT.column("externalSpaceIdOrName");
+
+  private static final EnumLookup<StreamSource> STREAM_SOURCES = EnumLookup.of(StreamSource.class);
+  private static final EnumLookup<StreamType> STREAM_TYPES = EnumLookup.of(StreamType.class);
+  private static final EnumLookup<StreamCreationType> STREAM_CREATION_TYPES = EnumLookup.of(StreamCreationType.class);
+  private static final EnumLookup<StreamVisibility> STREAM_VISIBILITIES = EnumLookup.of(StreamVisibility.class);
+  private static final EnumLookup<StreamStatus> STREAM_STATUSES = EnumLookup.of(StreamStatus.class);
+
+  private StreamQueryMapper5() {
+    super(LAYOUT);
+  }
 
   public static StreamQueryMapper5 of() {
     return new StreamQueryMapper5();
   }
 
   @Override
-  public StreamData mapRow(ResultSet rs, int rowNum) throws SQLException {
+  protected StreamData map(IndexedRow row) throws SQLException {
     StreamData stream = new StreamData();
 
-    stream.setStreamId(rs.getLong("streamId"));
-    stream.setExternalId(rs.getString("externalId"));
-    stream.setChatSpaceId(rs.getLong("chatSpaceId"));
-    stream.setTitle(rs.getString("title"));
-    stream.setDescription(rs.getString("description"));
-    stream.setTags(rs.getString("tags"));
-    stream.setLocation(rs.getString("location"));
-
-    stream.setTotalSpeakers(rs.getInt("totalSpeakers"));
-    stream.setTotalAttendees(rs.getInt("totalAttendees"));
-    stream.setBookmarkCount(rs.getInt("bookmarkCount"));
-    stream.setLikeCount(rs.getInt("likeCount"));
-    stream.setShareCount(rs.getInt("shareCount"));
-
-    stream.setTimezone(rs.getString("timezone"));
-    stream.setScheduledStartDate(rs.getTimestamp("scheduledStartDate").toLocalDateTime());
-    stream.setScheduledEndDate(rs.getTimestamp("scheduledEndDate").toLocalDateTime());
-
-    stream.setOtherDetails(rs.getString("otherDetails"));
-    stream.setOtherLink(rs.getString("otherLink"));
-    stream.setGroupOrOrganizationName(rs.getString("groupOrOrganizationName"));
-    stream.setMusicLink(rs.getString("musicLink"));
-
-    final String streamSourceValue = rs.getString("streamSource");
-    final String streamTypeValue = rs.getString("streamType");
-    final String streamCreationTypeValue = rs.getString("streamCreationType");
-    final String streamVisibilityValue = rs.getString("streamVisibility");
-    final String streamStatusValue = rs.getString("streamStatus");
-
-    final StreamSource streamSource = StreamSource.of(streamSourceValue);
-    final StreamType streamType = StreamType.of(streamTypeValue);
-    final StreamCreationType streamCreationType = StreamCreationType.of(streamCreationTypeValue);
-    final StreamVisibility streamVisibility = StreamVisibility.of(streamVisibilityValue);
-    final StreamStatus streamStatus = StreamStatus.of(streamStatusValue);
-
-    stream.setStreamSource(streamSource);
-    stream.setStreamType(streamType);
-    stream.setStreamCreationType(streamCreationType);
-    stream.setStreamVisibility(streamVisibility);
-    stream.setStreamStatus(streamStatus);
-
-    stream.setDeleted(rs.getBoolean("deleted"));
-    stream.setForKids(rs.getBoolean("forKids"));
-
-    stream.setOrganizerName(rs.getString("organizerName"));
-    stream.setOrganizerEmail(rs.getString("organizerEmail"));
-    stream.setOrganizerPhone(rs.getString("organizerPhone"));
-    stream.setMemberId(rs.getLong("memberId"));
-
-    stream.setStreamLink(rs.getString("streamLink"));
-    stream.setCreatedOn(rs.getTimestamp("createdOn").toLocalDateTime());
-    stream.setUpdatedOn(rs.getTimestamp("updatedOn").toLocalDateTime());
-    stream.setSlug(rs.getString("slug"));
-
-    stream.setExternalSpaceIdOrName(rs.getString("externalSpaceIdOrName"));
+    stream.setStreamId(row.getLong(STREAM_ID));
+    stream.setExternalId(row.getString(EXTERNAL_ID));
+    stream.setChatSpaceId(row.getLong(CHAT_SPACE_ID));
+    stream.setTitle(row.getString(TITLE));
+    stream.setDescription(row.getString(DESCRIPTION));
+    stream.setTags(row.getString(TAGS));
+    stream.setLocation(row.getString(LOCATION));
+
+    stream.setTotalSpeakers(row.getInt(TOTAL_SPEAKERS));
+    stream.setTotalAttendees(row.getInt(TOTAL_ATTENDEES));
+    stream.setBookmarkCount(row.getInt(BOOKMARK_COUNT));
+    stream.setLikeCount(row.getInt(LIKE_COUNT));
+    stream.setShareCount(row.getInt(SHARE_COUNT));
+
+    stream.setTimezone(row.getString(TIMEZONE));
+    stream.setScheduledStartDate(row.getLocalDateTime(SCHEDULED_START_DATE));
+    stream.setScheduledEndDate(row.getLocalDateTime(SCHEDULED_END_DATE));
+
+    stream.setOtherDetails(row.getString(OTHER_DETAILS));
+    stream.setOtherLink(row.getString(OTHER_LINK));
+    stream.setGroupOrOrganizationName(row.getString(GROUP_OR_ORGANIZATION_NAME));
+    stream.setMusicLink(row.getString(MUSIC_LINK));
+
+    stream.setStreamSource(row.getEnum(STREAM_SOURCE, STREAM_SOURCES));
+    stream.setStreamType(row.getEnum(STREAM_TYPE, STREAM_TYPES));
+    stream.setStreamCreationType(row.getEnum(STREAM_CREATION_TYPE, STREAM_CREATION_TYPES));
+    stream.setStreamVisibility(row.getEnum(STREAM_VISIBILITY, STREAM_VISIBILITIES));
+    stream.setStreamStatus(row.getEnum(STREAM_STATUS, STREAM_STATUSES));
+
+    stream.setDeleted(row.getBoolean(DELETED));
+    stream.setForKids(row.getBoolean(FOR_KIDS));
+
+    stream.setOrganizerName(row.getString(ORGANIZER_NAME));
+    stream.setOrganizerEmail(row.getString(ORGANIZER_EMAIL));
+    stream.setOrganizerPhone(row.getString(ORGANIZER_PHONE));
+    stream.setMemberId(row.getLong(MEMBER_ID));
+
+    stream.setStreamLink(row.getString(STREAM_LINK));
+    stream.setCreatedOn(row.getLocalDateTime(CREATED_ON));
+    stream.setUpdatedOn(row.getLocalDateTime(UPDATED_ON));
+    stream.setSlug(row.getString(SLUG));
+
+    stream.setExternalSpaceIdOrName(row.getString(EXTERNAL_SPACE_ID_OR_NAME));
 
     return stream;
   }
 }
-
@@ -4,9 +4,12 @@ import com.fleencorp.feen.shared.stream.contract.IsAStream;
 import com.fleencorp.feen.shared.stream.contract.IsAttendee;
 import com.fleencorp.feen.stream.constant.attendee.StreamAttendeeRequestToJoinStatus;
 import com.fleencorp.feen.stream.constant.core.StreamStatus;
+import com.fleencorp.feen.stream.constant.core.StreamType;
+import com.fleencorp.feen.stream.constant.core.StreamVisibility;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Optional;
 
@@ -33,4 +36,24 @@ public interface StreamQueryService {
     Collection<StreamStatus> includedStatuses,
     Pageable pageable
   );
+
+  Page<IsAStream> findStreamsByDateBetween(LocalDateTime startDate, LocalDateTime endDate, StreamStatus status, Pageable pageable, boolean withTotal);
+
+  Page<IsAStream> findStreamsByTitle(String title, StreamStatus status, Pageable pageable, boolean withTotal);
+
+  Page<IsAStream> findStreams(StreamStatus status, Pageable pageable, boolean withTotal);
+
+  Page<IsAStream> findUpcomingStreams(String title, LocalDateTime currentDate, StreamType streamType, Pageable pageable, boolean withTotal);
+
+  Page<IsAStream> findPastStreams(String title, LocalDateTime currentDate, StreamType streamType, Pageable pageable, boolean withTotal);
+
+  Page<IsAStream> findLiveStreams(String title, LocalDateTime currentDate, StreamType streamType, Pageable pageable, boolean withTotal);
+
+  Page<IsAStream> findStreamsByMember(Long memberId, String title, StreamVisibility visibility, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+  Page<IsAStream> findStreamsAttendedByMember(Long memberId, String title, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+  Page<IsAStream> findStreamsAttendedTogether(Long memberId, Long otherMemberId, Pageable pageable);
+
+  Page<IsAStream> findStreamsByChatSpace(Long chatSpaceId, Pageable pageable);
 }
@@ -1,5 +1,7 @@
 package com.fleencorp.feen.shared.stream.service.impl;
 
+import com.fleencorp.feen.shared.common.crypto.DeferredDecryptor;
+import com.fleencorp.feen.shared.common.pagination.SearchCountCache;
 import com.fleencorp.feen.shared.stream.contract.IsAStream;
 import com.fleencorp.feen.shared.stream.contract.IsAttendee;
 import com.fleencorp.feen.shared.stream.model.StreamAttendeeData;
@@ -7,6 +9,7 @@ import com.fleencorp.feen.shared.stream.model.StreamData;
 import com.fleencorp.feen.shared.stream.query.constant.StreamAttendeeQueryConstant;
 import com.fleencorp.feen.shared.stream.query.constant.StreamQueryConstant;
 import com.fleencorp.feen.shared.stream.query.mapper.attendee.StreamAttendeeQueryMapper;
+import com.fleencorp.feen.shared.stream.query.mapper.stream.StreamListQueryMapper;
 import com.fleencorp.feen.shared.stream.query.mapper.stream.StreamQueryMapper1;
 import com.fleencorp.feen.shared.stream.query.mapper.stream.StreamQueryMapper2;
 import com.fleencorp.feen.shared.stream.query.mapper.stream.StreamQueryMapper4;
@@ -14,31 +17,55 @@ import com.fleencorp.feen.shared.stream.query.mapper.stream.StreamQueryMapper5;
 import com.fleencorp.feen.shared.stream.service.StreamQueryService;
 import com.fleencorp.feen.stream.constant.attendee.StreamAttendeeRequestToJoinStatus;
 import com.fleencorp.feen.stream.constant.core.StreamStatus;
+import com.fleencorp.feen.stream.constant.core.StreamType;
+import com.fleencorp.feen.stream.constant.core.StreamVisibility;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
-import static com.fleencorp.feen.shared.stream.query.constant.StreamQueryConstant.FIND_STREAMS_CREATED_BY_MEMBER;
+import static com.fleencorp.feen.shared.common.pagination.PageSlices.lookAheadLimit;
+import static com.fleencorp.feen.shared.common.pagination.PageSlices.toPage;
+import static com.fleencorp.feen.shared.common.pagination.PageSlices.toSlice;
+import static com.fleencorp.feen.shared.stream.query.constant.StreamQueryConstant.*;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 @Service("sharedStreamQueryService")
+@Transactional(readOnly = true)
 public class StreamQueryServiceImpl implements StreamQueryService {
 
+  private static final String CURRENT_DATE = "currentDate";
+
+  private final DeferredDecryptor deferredDecryptor;
   private final EntityManager entityManager;
   private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+  private final SearchCountCache searchCountCache;
 
   public StreamQueryServiceImpl(
+      final DeferredDecryptor deferredDecryptor,
       final EntityManager entityManager,
-      final NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+      final NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+      final SearchCountCache searchCountCache) {
+    this.deferredDecryptor = deferredDecryptor;
     this.entityManager = entityManager;
     this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    this.searchCountCache = searchCountCache;
   }
 
   @Override
@@ -143,4 +170,144 @@ public class StreamQueryServiceImpl implements StreamQueryService {
     );
   }
 
+  @Override
+  public Page<IsAStream> findStreamsByDateBetween(LocalDateTime startDate, LocalDateTime endDate, StreamStatus status, Pageable pageable, boolean withTotal) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+      .addValue("startDate", startDate)
+      .addValue("endDate", endDate)
+      .addValue("status", status.name());
+
+    return findStreamPage(FIND_STREAMS_BY_DATE_BETWEEN, COUNT_STREAMS_BY_DATE_BETWEEN, params, pageable, withTotal);
+  }
+
+  @Override
+  public Page<IsAStream> findStreamsByTitle(String title, StreamStatus status, Pageable pageable, boolean withTotal) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+      .addValue("title", title)
+      .addValue("status", status.name());
+
+    return findStreamPage(FIND_STREAMS_BY_TITLE, COUNT_STREAMS_BY_TITLE, params, pageable, withTotal);
+  }
+
+  @Override
+  public Page<IsAStream> findStreams(StreamStatus status, Pageable pageable, boolean withTotal) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+      .addValue("status", status.name());
+
+    return findStreamPage(FIND_STREAMS_BY_STATUS, COUNT_STREAMS_BY_STATUS, params, pageable, withTotal);
+  }
+
+  @Override
+  public Page<IsAStream> findUpcomingStreams(String title, LocalDateTime currentDate, StreamType streamType, Pageable pageable, boolean withTotal) {
+    return findStreamPage(FIND_UPCOMING_STREAMS, COUNT_UPCOMING_STREAMS, scheduleParams(title, currentDate, streamType), pageable, withTotal);
+  }
+
+  @Override
+  public Page<IsAStream> findPastStreams(String title, LocalDateTime currentDate, StreamType streamType, Pageable pageable, boolean withTotal) {
+    return findStreamPage(FIND_PAST_STREAMS, COUNT_PAST_STREAMS, scheduleParams(title, currentDate, streamType), pageable, withTotal);
+  }
+
+  @Override
+  public Page<IsAStream> findLiveStreams(String title, LocalDateTime currentDate, StreamType streamType, Pageable pageable, boolean withTotal) {
+    return findStreamPage(FIND_LIVE_STREAMS, COUNT_LIVE_STREAMS, scheduleParams(title, currentDate, streamType), pageable, withTotal);
+  }
+
+  @Override
+  public Page<IsAStream> findStreamsByMember(Long memberId, String title, StreamVisibility visibility, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+      .addValue("memberId", memberId)
+      .addValue("title", title, Types.VARCHAR)
+      .addValue("visibility", nonNull(visibility) ? visibility.name() : null, Types.VARCHAR)
+      .addValue("startDate", startDate, Types.TIMESTAMP)
+      .addValue("endDate", endDate, Types.TIMESTAMP);
+
+    return findExactStreamPage(FIND_STREAMS_BY_MEMBER, COUNT_STREAMS_BY_MEMBER, params, pageable);
+  }
+
+  @Override
+  public Page<IsAStream> findStreamsAttendedByMember(Long memberId, String title, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+      .addValue("memberId", memberId)
+      .addValue("title", titlePatternOf(title), Types.VARCHAR)
+      .addValue("startDate", startDate, Types.TIMESTAMP)
+      .addValue("endDate", endDate, Types.TIMESTAMP);
+
+    return findExactStreamPage(FIND_STREAMS_ATTENDED_BY_MEMBER, COUNT_STREAMS_ATTENDED_BY_MEMBER, params, pageable);
+  }
+
+  @Override
+  public Page<IsAStream> findStreamsAttendedTogether(Long memberId, Long otherMemberId, Pageable pageable) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+      .addValue("memberId", memberId)
+      .addValue("otherMemberId", otherMemberId);
+
+    return findExactStreamPage(FIND_STREAMS_ATTENDED_TOGETHER, COUNT_STREAMS_ATTENDED_TOGETHER, params, pageable);
+  }
+
+  @Override
+  public Page<IsAStream> findStreamsByChatSpace(Long chatSpaceId, Pageable pageable) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+      .addValue("chatSpaceId", chatSpaceId);
+
+    return findExactStreamPage(FIND_STREAMS_BY_CHAT_SPACE, COUNT_STREAMS_BY_CHAT_SPACE, params, pageable);
+  }
+
+  /**
+   * Runs a stream list query for one page. The matching streams are only counted when a total is wanted and the
+   * page alone does not tell it, and the count is served from the {@link SearchCountCache}. The current date the
+   * schedule queries run with is keyed to the minute, otherwise every request would count again under a key of its own.
+   */
+  private Page<IsAStream> findStreamPage(String query, String countQuery, MapSqlParameterSource params, Pageable pageable, boolean withTotal) {
+    final Map<String, Object> filters = new LinkedHashMap<>(params.getValues());
+    filters.computeIfPresent(CURRENT_DATE, (_, currentDate) -> ((LocalDateTime) currentDate).truncatedTo(ChronoUnit.MINUTES));
+
+    final Slice<IsAStream> slice = findStreamSlice(query, params, pageable);
+    if (!withTotal) {
+      return toPage(slice);
+    }
+
+    return toPage(slice, () -> searchCountCache.count(
+      countQuery,
+      filters,
+      () -> namedParameterJdbcTemplate.queryForObject(countQuery, params, Long.class)
+    ));
+  }
+
+  /**
+   * Runs the stream list query of a member or a chat space for one page. The total is counted on every request
+   * rather than served from the {@link SearchCountCache}, so the streams a member creates or joins show up in it
+   * at once.
+   */
+  private Page<IsAStream> findExactStreamPage(String query, String countQuery, MapSqlParameterSource params, Pageable pageable) {
+    final Slice<IsAStream> slice = findStreamSlice(query, params, pageable);
+    return toPage(slice, () -> {
+      final Long total = namedParameterJdbcTemplate.queryForObject(countQuery, params, Long.class);
+      return isNull(total) ? 0 : total;
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private Slice<IsAStream> findStreamSlice(String query, MapSqlParameterSource params, Pageable pageable) {
+    params.addValue("limit", lookAheadLimit(pageable));
+    params.addValue("offset", pageable.getOffset());
+
+    List<StreamData> results = namedParameterJdbcTemplate.query(
+      query,
+      params,
+      StreamListQueryMapper.of(deferredDecryptor)
+    );
+
+    return toSlice((List<IsAStream>) (List<?>) results, pageable);
+  }
+
+  private static String titlePatternOf(String title) {
+    return isNull(title) ? null : "%" + title.toLowerCase(Locale.ROOT) + "%";
+  }
+
+  private static MapSqlParameterSource scheduleParams(String title, LocalDateTime currentDate, StreamType streamType) {
+    return new MapSqlParameterSource()
+      .addValue("title", titlePatternOf(title), Types.VARCHAR)
+      .addValue(CURRENT_DATE, currentDate)
+      .addValue("streamType", nonNull(streamType) ? streamType.name() : null, Types.VARCHAR);
+  }
 }
@@ -1,5 +1,6 @@
 package com.fleencorp.feen.softask.controller.vote;
 
+import com.fleencorp.feen.common.aspect.RateLimit;
 import com.fleencorp.feen.common.exception.FailedOperationException;
 import com.fleencorp.feen.shared.security.RegisteredUser;
 import com.fleencorp.feen.softask.exception.core.SoftAskNotFoundException;
@@ -47,6 +48,7 @@ public class SoftAskVoteController {
     @ApiResponse(responseCode = "400", description = "Failed operation",
       content = @Content(schema = @Schema(implementation = FailedOperationException.class)))
   })
+  @RateLimit(name = "soft-ask-vote", capacity = 30, refillPeriodSeconds = 60)
   @PutMapping(value = "")
   public SoftAskVoteUpdateResponse vote(
     @Parameter(description = "Soft ask vote details", required = true)
@@ -1,121 +1,118 @@
 package com.fleencorp.feen.softask.dao.mapper;
 
 import com.fleencorp.feen.common.constant.location.LocationVisibility;
+import com.fleencorp.feen.shared.common.jdbc.Column;
+import com.fleencorp.feen.shared.common.jdbc.ColumnLayout;
+import com.fleencorp.feen.shared.common.jdbc.EnumLookup;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRow;
+import com.fleencorp.feen.shared.common.jdbc.IndexedRowMapper;
 import com.fleencorp.feen.softask.constant.core.SoftAskParentType;
 import com.fleencorp.feen.softask.constant.core.SoftAskStatus;
 import com.fleencorp.feen.softask.constant.core.SoftAskVisibility;
 import com.fleencorp.feen.softask.constant.other.MoodTag;
 import com.fleencorp.feen.softask.model.domain.SoftAsk;
 import com.fleencorp.feen.softask.model.projection.SoftAskWithDetail;
-import org.springframework.jdbc.core.RowMapper;
 
 import java.math.BigDecimal;
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.LocalDateTime;
 
-public class SoftAskWithDetailMapper implements RowMapper<SoftAskWithDetail> {
+public class SoftAskWithDetailMapper extends IndexedRowMapper<SoftAskWithDetail> {
+
+  private static final ColumnLayout LAYOUT = ColumnLayout.create();
+  private static final Column SOFT_ASK_ID = LAYOUT.column("softAskId");
+  private static final Column TITLE = LAYOUT.column("title");
+  private static final Column DESCRIPTION = LAYOUT.column("description");
+  private static final Column TAGS = LAYOUT.column("tags");
+  private static final Column LINK = LAYOUT.column("link");
+  private static final Column PARENT_ID = LAYOUT.column("parentId");
+  private static final Column PARENT_TITLE = LAYOUT.column("parentTitle");
+  private static final Column PARENT_TYPE = LAYOUT.column("parentType");
+  private static final Column VISIBILITY = LAYOUT.column("visibility");
+  private static final Column STATUS = LAYOUT.column("status");
+  private static final Column LOCATION_VISIBILITY = LAYOUT.column("locationVisibility");
+  private static final Column MOOD_TAG = LAYOUT.column("moodTag");
+  private static final Column CHAT_SPACE_ID = LAYOUT.column("chatSpaceId");
+  private static final Column POLL_ID = LAYOUT.column("pollId");
+  private static final Column STREAM_ID = LAYOUT.column("streamId");
+  private static final Column AUTHOR_ID = LAYOUT.column("authorId");
+  private static final Column GEOHASH = LAYOUT.column("geohash");
+  private static final Column GEOHASH_PREFIX = LAYOUT.column("geohashPrefix");
+  private static final Column DELETED = LAYOUT.column("deleted");
+  private static final Column VISIBLE = LAYOUT.column("visible");
+  private static final Column BOOKMARK_COUNT = LAYOUT.column("bookmarkCount");
+  private static final Column PARTICIPANT_COUNT = LAYOUT.column("participantCount");
+  private static final Column REPLY_COUNT = LAYOUT.column("replyCount");
+  private static final Column SHARE_COUNT = LAYOUT.column("shareCount");
+  private static final Column VOTE_COUNT = LAYOUT.column("voteCount");
+  private static final Column LATITUDE = LAYOUT.column("latitude");
+  private static final Column LONGITUDE = LAYOUT.column("longitude");
+  private static final Column SLUG = LAYOUT.column("slug");
+  private static final Column CREATED_ON = LAYOUT.column("createdOn");
+  private static final Column UPDATED_ON = LAYOUT.column("updatedOn");
+  private static final Column PARTICIPANT_ID = LAYOUT.column("participantId");
+  private static final Column USERNAME = LAYOUT.column("username");
+  private static final Column DISPLAY_NAME = LAYOUT.column("displayName");
+  private static final Column AVATAR = LAYOUT.column("avatar");
+  private static final Column DISTANCE = LAYOUT.column("distance");
+
+  private static final EnumLookup<SoftAskParentType> PARENT_TYPES = EnumLookup.of(SoftAskParentType.class);
+  private static final EnumLookup<SoftAskVisibility> VISIBILITIES = EnumLookup.of(SoftAskVisibility.class);
+  private static final EnumLookup<SoftAskStatus> STATUSES = EnumLookup.of(SoftAskStatus.class);
+  private static final EnumLookup<LocationVisibility> LOCATION_VISIBILITIES = EnumLookup.of(LocationVisibility.class);
+  private static final EnumLookup<MoodTag> MOOD_TAGS = EnumLookup.of(MoodTag.class);
+
+  public SoftAskWithDetailMapper() {
+    super(LAYOUT);
+  }
 
   @Override
-  public SoftAskWithDetail mapRow(ResultSet rs, int rowNum) throws SQLException {
-
-    Long softAskId = rs.getLong("softAskId");
-    String title = rs.getString("title");
-    String description = rs.getString("description");
-    String tags = rs.getString("tags");
-    String link = rs.getString("link");
-    Long parentId = rs.getLong("parentId");
-    String parentTitle = rs.getString("parentTitle");
-
-    String parentTypeValue = rs.getString("parentType");
-    String visibilityValue = rs.getString("visibility");
-    String statusValue = rs.getString("status");
-    String locationVisibilityValue = rs.getString("locationVisibility");
-    String moodTagValue = rs.getString("moodTag");
-
-    Long chatSpaceId = rs.getLong("chatSpaceId");
-    Long pollId = rs.getLong("pollId");
-    Long streamId = rs.getLong("streamId");
-    Long authorId = rs.getLong("authorId");
-
-    String geoHash = rs.getString("geohash");
-    String geoHashPrefix = rs.getString("geohashPrefix");
-
-    Boolean deleted = rs.getBoolean("deleted");
-    Boolean visible = rs.getBoolean("visible");
-
-    Integer bookmarkCount = rs.getInt("bookmarkCount");
-    Integer participantCount = rs.getInt("participantCount");
-    Integer replyCount = rs.getInt("replyCount");
-    Integer shareCount = rs.getInt("shareCount");
-    Integer voteCount = rs.getInt("voteCount");
-
-    BigDecimal latitude = rs.getObject("latitude", BigDecimal.class);
-    BigDecimal longitude = rs.getObject("longitude", BigDecimal.class);
-
-    String slug = rs.getString("slug");
-
-    LocalDateTime createdOn = rs.getTimestamp("createdOn").toLocalDateTime();
-    LocalDateTime updatedOn = rs.getTimestamp("updatedOn").toLocalDateTime();
-
+  protected SoftAskWithDetail map(IndexedRow row) throws SQLException {
     SoftAsk softAsk = new SoftAsk();
-    softAsk.setSoftAskId(softAskId);
-    softAsk.setTitle(title);
-    softAsk.setDescription(description);
-    softAsk.setTags(tags);
-    softAsk.setLink(link);
-    softAsk.setParentId(parentId);
-    softAsk.setParentTitle(parentTitle);
-
-    SoftAskParentType parentType = SoftAskParentType.of(parentTypeValue);
-    SoftAskVisibility visibility = SoftAskVisibility.of(visibilityValue);
-    SoftAskStatus status = SoftAskStatus.of(statusValue);
-    LocationVisibility locationVisibility = LocationVisibility.of(locationVisibilityValue);
-    MoodTag moodTag = MoodTag.of(moodTagValue);
-
-    softAsk.setSoftAskParentType(parentType);
-    softAsk.setSoftAskVisibility(visibility);
-    softAsk.setSoftAskStatus(status);
-    softAsk.setLocationVisibility(locationVisibility);
-    softAsk.setMoodTag(moodTag);
-
-    softAsk.setChatSpaceId(chatSpaceId);
-    softAsk.setPollId(pollId);
-    softAsk.setStreamId(streamId);
-    softAsk.setAuthorId(authorId);
-
-    softAsk.setGeoHash(geoHash);
-    softAsk.setGeoHashPrefix(geoHashPrefix);
-
-    softAsk.setDeleted(deleted);
-    softAsk.setVisible(visible);
-
-    softAsk.setBookmarkCount(bookmarkCount);
-    softAsk.setParticipantCount(participantCount);
-    softAsk.setReplyCount(replyCount);
-    softAsk.setShareCount(shareCount);
-    softAsk.setVoteCount(voteCount);
-
-    softAsk.setLatitude(latitude);
-    softAsk.setLongitude(longitude);
-    softAsk.setSlug(slug);
-
-    softAsk.setCreatedOn(createdOn);
-    softAsk.setUpdatedOn(updatedOn);
-
-    Long participantId = rs.getLong("participantId");
-    String username = rs.getString("username");
-    String displayName = rs.getString("displayName");
-    String avatar = rs.getString("avatar");
-    Double distance = rs.getObject("distance", Double.class);
+    softAsk.setSoftAskId(row.getLong(SOFT_ASK_ID));
+    softAsk.setTitle(row.getString(TITLE));
+    softAsk.setDescription(row.getString(DESCRIPTION));
+    softAsk.setTags(row.getString(TAGS));
+    softAsk.setLink(row.getString(LINK));
+    softAsk.setParentId(row.getLong(PARENT_ID));
+    softAsk.setParentTitle(row.getString(PARENT_TITLE));
+
+    softAsk.setSoftAskParentType(row.getEnum(PARENT_TYPE, PARENT_TYPES));
+    softAsk.setSoftAskVisibility(row.getEnum(VISIBILITY, VISIBILITIES));
+    softAsk.setSoftAskStatus(row.getEnum(STATUS, STATUSES));
+    softAsk.setLocationVisibility(row.getEnum(LOCATION_VISIBILITY, LOCATION_VISIBILITIES));
+    softAsk.setMoodTag(row.getEnum(MOOD_TAG, MOOD_TAGS));
+
+    softAsk.setChatSpaceId(row.getLong(CHAT_SPACE_ID));
+    softAsk.setPollId(row.getLong(POLL_ID));
+    softAsk.setStreamId(row.getLong(STREAM_ID));
+    softAsk.setAuthorId(row.getLong(AUTHOR_ID));
+
+    softAsk.setGeoHash(row.getString(GEOHASH));
+    softAsk.setGeoHashPrefix(row.getString(GEOHASH_PREFIX));
+
+    softAsk.setDeleted(row.getBoolean(DELETED));
+    softAsk.setVisible(row.getBoolean(VISIBLE));
+
+    softAsk.setBookmarkCount(row.getInt(BOOKMARK_COUNT));
+    softAsk.setParticipantCount(row.getInt(PARTICIPANT_COUNT));
+    softAsk.setReplyCount(row.getInt(REPLY_COUNT));
+    softAsk.setShareCount(row.getInt(SHARE_COUNT));
+    softAsk.setVoteCount(row.getInt(VOTE_COUNT));
+
+    softAsk.setLatitude(row.getObject(LATITUDE, BigDecimal.class));
+    softAsk.setLongitude(row.getObject(LONGITUDE, BigDecimal.class));
+    softAsk.setSlug(row.getString(SLUG));
+
+    softAsk.setCreatedOn(row.getLocalDateTime(CREATED_ON));
+    softAsk.setUpdatedOn(row.getLocalDateTime(UPDATED_ON));
 
     return new SoftAskWithDetail(
       softAsk,
-      participantId,
-      username,
-      displayName,
-      avatar,
-      distance
+      row.getLong(PARTICIPANT_ID),
+      row.getString(USERNAME),
+      row.getString(DISPLAY_NAME),
+      row.getString(AVATAR),
+      row.getObject(DISTANCE, Double.class)
     );
   }
 }
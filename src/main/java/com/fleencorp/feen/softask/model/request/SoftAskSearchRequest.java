@@ -38,6 +38,9 @@ public class SoftAskSearchRequest extends SearchRequest {
   @DecimalMax(value = "180.0", message = "{user.location.longitude.DecimalMax}")
   protected Double longitude;
 
+  @JsonProperty("with_total")
+  protected Boolean withTotal;
+
   @JsonProperty(access = JsonProperty.Access.READ_ONLY)
   private IsAMember author;
 
@@ -65,6 +68,10 @@ public class SoftAskSearchRequest extends SearchRequest {
     return nonNull(parentId);
   }
 
+  public boolean includesTotal(final boolean byDefault) {
+    return nonNull(withTotal) ? withTotal : byDefault;
+  }
+
   public boolean hasLatitudeAndLongitude() {
     return nonNull(latitude) && nonNull(longitude);
   }
@@ -1,5 +1,6 @@
 package com.fleencorp.feen.softask.realtime.service.impl;
 
+import com.fleencorp.feen.common.aspect.ConcurrencyLimit;
 import com.fleencorp.feen.softask.realtime.model.Counters;
 import com.fleencorp.feen.softask.realtime.service.FirebaseRealTimeService;
 import com.google.firebase.FirebaseApp;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Service;
 import java.util.Map;
 
 @Service
+@ConcurrencyLimit(name = "firebase")
 public class FirebaseRealTimeServiceImpl implements FirebaseRealTimeService {
 
   private final DatabaseReference dbRef;
@@ -5,10 +5,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SoftAskParticipantDetailRepository extends JpaRepository<SoftAskParticipantDetail, Long> {
 
   @Query("SELECT sau FROM SoftAskParticipantDetail sau WHERE sau.softAskId = :softAskId AND sau.userId = :userId")
   Optional<SoftAskParticipantDetail> findBySoftAskIdAndUserId(@Param("softAskId") Long softAskId, @Param("userId") Long userId);
+
+  @Query("SELECT sau FROM SoftAskParticipantDetail sau WHERE sau.softAskId = :softAskId AND sau.userId IN (:userIds)")
+  List<SoftAskParticipantDetail> findBySoftAskIdAndUserIdIn(@Param("softAskId") Long softAskId, @Param("userIds") Collection<Long> userIds);
 }
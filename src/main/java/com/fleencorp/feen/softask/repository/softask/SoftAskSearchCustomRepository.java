@@ -10,8 +10,9 @@ public interface SoftAskSearchCustomRepository {
     Double latitude,
     Double longitude,
     Double radiusKm,
-    Pageable pageable
+    Pageable pageable,
+    boolean withTotal
   );
 
-  Page<SoftAskWithDetail> findByAuthor(Long authorId, Pageable pageable);
+  Page<SoftAskWithDetail> findByAuthor(Long authorId, Pageable pageable, boolean withTotal);
 }
@@ -1,24 +1,31 @@
 package com.fleencorp.feen.softask.repository.softask.impl;
 
+import com.fleencorp.feen.shared.common.pagination.SearchCountCache;
 import com.fleencorp.feen.softask.dao.mapper.SoftAskWithDetailMapper;
 import com.fleencorp.feen.softask.model.projection.SoftAskWithDetail;
 import com.fleencorp.feen.softask.repository.softask.SoftAskSearchCustomRepository;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.fleencorp.feen.shared.common.pagination.PageSlices.lookAheadLimit;
+import static com.fleencorp.feen.shared.common.pagination.PageSlices.toPage;
+import static com.fleencorp.feen.shared.common.pagination.PageSlices.toSlice;
+
 @Repository
 public class SoftAskSearchCustomRepositoryImpl implements SoftAskSearchCustomRepository {
 
   private final JdbcTemplate jdbcTemplate;
+  private final SearchCountCache searchCountCache;
 
-  public SoftAskSearchCustomRepositoryImpl(JdbcTemplate jdbcTemplate) {
+  public SoftAskSearchCustomRepositoryImpl(JdbcTemplate jdbcTemplate, SearchCountCache searchCountCache) {
     this.jdbcTemplate = jdbcTemplate;
+    this.searchCountCache = searchCountCache;
   }
 
   @Override
@@ -26,7 +33,8 @@ public class SoftAskSearchCustomRepositoryImpl implements SoftAskSearchCustomRep
     Double latitude,
     Double longitude,
     Double radiusKm,
-    Pageable pageable) {
+    Pageable pageable,
+    boolean withTotal) {
 
     List<Object> dataParams = new ArrayList<>();
     List<Object> countParams = new ArrayList<>();
@@ -111,9 +119,6 @@ public class SoftAskSearchCustomRepositoryImpl implements SoftAskSearchCustomRep
       dataParams.add(radiusKm);
     }
 
-    // Total count
-    Long total = jdbcTemplate.queryForObject(countQueryBuilder.toString(), Long.class, countParams.toArray());
-
     // ORDER BY using COALESCE
     dataQueryBuilder.append("""
         ORDER BY
@@ -130,9 +135,9 @@ public class SoftAskSearchCustomRepositoryImpl implements SoftAskSearchCustomRep
     dataParams.add(longitude);
     dataParams.add(latitude);
 
-    // Pagination
+    // Pagination, with one row more than the page to tell whether there is a next page
     dataQueryBuilder.append(" LIMIT ? OFFSET ?");
-    dataParams.add(pageable.getPageSize());
+    dataParams.add(lookAheadLimit(pageable));
     dataParams.add(pageable.getOffset());
 
     List<SoftAskWithDetail> results = jdbcTemplate.query(
@@ -141,11 +146,11 @@ public class SoftAskSearchCustomRepositoryImpl implements SoftAskSearchCustomRep
       dataParams.toArray()
     );
 
-    return new PageImpl<>(results, pageable, total != null ? total : 0);
+    return toSearchPage(results, pageable, withTotal, countQueryBuilder.toString(), countParams);
   }
 
   @Override
-  public Page<SoftAskWithDetail> findByAuthor(Long authorId, Pageable pageable) {
+  public Page<SoftAskWithDetail> findByAuthor(Long authorId, Pageable pageable, boolean withTotal) {
 
     List<Object> params = new ArrayList<>();
     params.add(authorId);
@@ -203,7 +208,7 @@ public class SoftAskSearchCustomRepositoryImpl implements SoftAskSearchCustomRep
       LIMIT ? OFFSET ?
       """;
 
-    params.add(pageable.getPageSize());
+    params.add(lookAheadLimit(pageable));
     params.add(pageable.getOffset());
 
     List<SoftAskWithDetail> results = jdbcTemplate.query(
@@ -219,9 +224,31 @@ public class SoftAskSearchCustomRepositoryImpl implements SoftAskSearchCustomRep
             WHERE sa.author_id = ?
         """;
 
-    Long total = jdbcTemplate.queryForObject(countQuery, Long.class, authorId);
+    return toSearchPage(results, pageable, withTotal, countQuery, List.of(authorId));
+  }
+
+  /**
+   * Turns the rows of a search limited to one row more than the page into a page. The matching soft asks are only
+   * counted when a total is wanted and the rows alone do not tell it, and the count is served from the
+   * {@link SearchCountCache}.
+   */
+  private Page<SoftAskWithDetail> toSearchPage(
+    List<SoftAskWithDetail> results,
+    Pageable pageable,
+    boolean withTotal,
+    String countQuery,
+    List<Object> countParams) {
+
+    Slice<SoftAskWithDetail> slice = toSlice(results, pageable);
+    if (!withTotal) {
+      return toPage(slice);
+    }
 
-    return new PageImpl<>(results, pageable, total != null ? total : 0);
+    return toPage(slice, () -> searchCountCache.count(
+      countQuery,
+      countParams,
+      () -> jdbcTemplate.queryForObject(countQuery, Long.class, countParams.toArray())
+    ));
   }
 
 }
\ No newline at end of file
@@ -14,11 +14,17 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.fleencorp.feen.common.util.common.LoggingUtil.logIfEnabled;
 import static com.fleencorp.feen.softask.mapper.impl.SoftAskCommonMapperImpl.generateRandomNumberForAvatar;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 @Slf4j
@@ -76,9 +82,9 @@ public class SoftAskParticipantDetailServiceImpl implements SoftAskParticipantDe
   /**
    * Retrieves a participant detail for the given soft ask and user, resolving it in three stages.
    *
-   * <p>It first attempts to load the detail from the cache.
-   * If not present, it falls back to retrieving it from the database.
-   * If the detail is not found in the database either, a new one is generated, persisted, cached, and returned.</p>
+   * <p>It first looks the user up through {@link #findParticipantDetails(Long, Collection)}, which reads the
+   * cache and falls back to the database, caching what it loads. If the detail is not found in either, a new
+   * one is generated, persisted, cached, and returned.</p>
    *
    * @param softAskId the identifier of the soft ask
    * @param userId the identifier of the user
@@ -87,25 +93,52 @@ public class SoftAskParticipantDetailServiceImpl implements SoftAskParticipantDe
   @Override
   @Transactional
   public SoftAskParticipantDetail getOrAssignParticipantDetail(final Long softAskId, final Long userId) {
-    return findParticipantDetailInCache(softAskId, userId)
-      .map(this::toSoftAskParticipantDetail)
-      .orElseGet(() -> getFromDbOrGenerate(softAskId, userId));
+    final SoftAskParticipantDetail participantDetail = findParticipantDetails(softAskId, List.of(userId)).get(userId);
+    return nonNull(participantDetail)
+      ? participantDetail
+      : generateAndCacheAndReturnNewDetail(softAskId, userId);
   }
 
   /**
-   * Retrieves a participant detail from the database if it exists, otherwise generates a new one.
+   * Retrieves the existing participant details of several users of the given soft ask.
    *
-   * <p>If a record is found in the repository for the given soft ask and user, it is cached before being returned.
-   * If no record exists, a new participant detail is generated, persisted, cached, and then returned.</p>
+   * <p>All users are first looked up in the cache with a single {@code MGET}. Users missing from the cache are
+   * loaded from the database with one query and written back to the cache with a single pipeline. Users
+   * without a participant detail are left out; none are generated.</p>
    *
    * @param softAskId the identifier of the soft ask
-   * @param userId the identifier of the user
-   * @return an existing or newly generated participant detail
+   * @param userIds the identifiers of the users
+   * @return the participant details keyed by user id
    */
-  private SoftAskParticipantDetail getFromDbOrGenerate(final Long softAskId, final Long userId) {
-    return participantDetailRepository.findBySoftAskIdAndUserId(softAskId, userId)
-      .map(detail -> cacheAndReturnDetail(softAskId, userId, detail))
-      .orElseGet(() -> generateAndCacheAndReturnNewDetail(softAskId, userId));
+  @Override
+  public Map<Long, SoftAskParticipantDetail> findParticipantDetails(final Long softAskId, final Collection<Long> userIds) {
+    final Map<Long, SoftAskParticipantDetail> participantDetails = new HashMap<>();
+    if (isNull(userIds) || userIds.isEmpty()) {
+      return participantDetails;
+    }
+
+    // Look up every user in the cache at once
+    final Map<String, Long> userIdsByCacheKey = userIds.stream()
+      .filter(Objects::nonNull)
+      .distinct()
+      .collect(Collectors.toMap(userId -> generateCacheKey(softAskId, userId), Function.identity()));
+    cacheService.multiGet(userIdsByCacheKey.keySet(), String.class)
+      .forEach((cacheKey, cachedValue) -> participantDetails.put(
+        userIdsByCacheKey.get(cacheKey),
+        toSoftAskParticipantDetail(GeneratedParticipantDetail.getFromCachedValue(cachedValue))
+      ));
+
+    // Load the users missing from the cache and cache them at once
+    final List<Long> missingUserIds = userIdsByCacheKey.values().stream()
+      .filter(userId -> !participantDetails.containsKey(userId))
+      .toList();
+    if (!missingUserIds.isEmpty()) {
+      final List<SoftAskParticipantDetail> loadedDetails = participantDetailRepository.findBySoftAskIdAndUserIdIn(softAskId, missingUserIds);
+      loadedDetails.forEach(detail -> participantDetails.put(detail.getUserId(), detail));
+      cacheDetails(softAskId, loadedDetails);
+    }
+
+    return participantDetails;
   }
 
   /**
@@ -134,55 +167,7 @@ public class SoftAskParticipantDetailServiceImpl implements SoftAskParticipantDe
     participantDetailRepository.save(participantDetail);
     softAskRepository.incrementParticipantCount(softAskId);
 
-    cacheNewDetail(softAskId, userId, username, displayName, avatarUrl);
-    return participantDetail;
-  }
-
-  /**
-   * Retrieves a participant detail from the cache for the given SoftAsk and user.
-   *
-   * <p>The method builds a cache key using {@code softAskId} and {@code userId},
-   * fetches the raw cached value, and converts it into a
-   * {@link GeneratedParticipantDetail} if present.</p>
-   *
-   * @param softAskId the identifier of the SoftAsk session
-   * @param userId    the identifier of the user
-   * @return an {@link Optional} containing the cached participant detail if found,
-   *         otherwise {@link Optional#empty()}
-   */
-  private Optional<GeneratedParticipantDetail> findParticipantDetailInCache(final Long softAskId, final Long userId) {
-    final String cacheKey = generateCacheKey(softAskId, userId);
-    final Object cachedDetail = cacheService.get(cacheKey);
-
-    if (nonNull(cachedDetail)) {
-      final String cachedValue = String.valueOf(cachedDetail);
-      final GeneratedParticipantDetail participantDetail = GeneratedParticipantDetail.getFromCachedValue(cachedValue);
-
-      return Optional.of(participantDetail);
-    }
-
-    return Optional.empty();
-  }
-
-  /**
-   * Caches the given participant detail for the specified SoftAsk and user,
-   * then returns the same detail.
-   *
-   * <p>The participant's username, display name, and avatar URL are extracted and
-   * stored in the cache under a generated key, ensuring faster lookups on
-   * subsequent requests.</p>
-   *
-   * @param softAskId         the identifier of the SoftAsk session
-   * @param userId            the identifier of the user
-   * @param participantDetail the participant detail to cache and return
-   * @return the same {@code SoftAskParticipantDetail} that was provided
-   */
-  private SoftAskParticipantDetail cacheAndReturnDetail(final Long softAskId, final Long userId, SoftAskParticipantDetail participantDetail) {
-    final String username = participantDetail.getUsername();
-    final String displayName = participantDetail.getDisplayName();
-    final String avatarUrl = participantDetail.getAvatarUrl();
-
-    cacheNewDetail(softAskId, userId, username, displayName, avatarUrl);
+    cacheDetails(softAskId, List.of(participantDetail));
     return participantDetail;
   }
 
@@ -227,22 +212,21 @@ public class SoftAskParticipantDetailServiceImpl implements SoftAskParticipantDe
   }
 
   /**
-   * Stores a participant detail in the cache for the given SoftAsk and user.
+   * Stores the given participant details in the cache of the SoftAsk with a single pipeline.
    *
-   * <p>The detail is serialized into a cache value using the provided username,
-   * display name, and avatar, then stored with a TTL under a generated cache key.</p>
+   * <p>Each detail is serialized into a cache value from its username, display name and avatar, then stored
+   * with a TTL under the key of its user.</p>
    *
-   * @param softAskId   the identifier of the SoftAsk session
-   * @param userId      the identifier of the user
-   * @param username    the participant's username
-   * @param displayName the participant's display name
-   * @param avatar      the participant's avatar URL
+   * @param softAskId          the identifier of the SoftAsk session
+   * @param participantDetails the participant details to cache
    */
-  private void cacheNewDetail(final Long softAskId, final Long userId, final String username, final String displayName, final String avatar) {
-    final String cacheKey = generateCacheKey(softAskId, userId);
-    final String detailToCache = GeneratedParticipantDetail.createCacheValue(username, displayName, avatar);
-
-    cacheService.set(cacheKey, detailToCache, CACHE_TTL);
+  private void cacheDetails(final Long softAskId, final Collection<SoftAskParticipantDetail> participantDetails) {
+    final Map<String, String> detailsToCache = new HashMap<>();
+    participantDetails.forEach(detail -> detailsToCache.put(
+      generateCacheKey(softAskId, detail.getUserId()),
+      GeneratedParticipantDetail.createCacheValue(detail.getUsername(), detail.getDisplayName(), detail.getAvatarUrl())
+    ));
+    cacheService.multiSet(detailsToCache, CACHE_TTL);
   }
 
   /**
@@ -23,12 +23,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.List;
 
 @Slf4j
 @Service
+@Transactional(readOnly = true)
 public class SoftAskSearchServiceImpl implements SoftAskSearchService {
 
   private final SoftAskCommonService softAskCommonService;
@@ -121,10 +123,11 @@ public class SoftAskSearchServiceImpl implements SoftAskSearchService {
     final Double latitude = searchRequest.getLatitude();
     final Double longitude = searchRequest.getLongitude();
     final Double defaultRadius = 5000.0;
+    final boolean withTotal = searchRequest.includesTotal(false);
 
     final Page<SoftAskWithDetail> page = searchRequest.isByAuthor()
-      ? softAskSearchCustomRepository.findByAuthor(member.getMemberId(), pageable)
-      : softAskSearchCustomRepository.findMany(latitude, longitude, defaultRadius, pageable);
+      ? softAskSearchCustomRepository.findByAuthor(member.getMemberId(), pageable, withTotal)
+      : softAskSearchCustomRepository.findMany(latitude, longitude, defaultRadius, pageable, withTotal);
 
     return softAskCommonService.processAndReturnSoftAsks(page, member, userOtherDetailHolder);
   }
@@ -2,9 +2,14 @@ package com.fleencorp.feen.softask.service.participant;
 
 import com.fleencorp.feen.softask.model.domain.SoftAskParticipantDetail;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface SoftAskParticipantDetailService {
 
   SoftAskParticipantDetail generateParticipantDetail(Long softAskId, Long userId);
 
   SoftAskParticipantDetail getOrAssignParticipantDetail(Long softAskId, Long userId);
+
+  Map<Long, SoftAskParticipantDetail> findParticipantDetails(Long softAskId, Collection<Long> userIds);
 }
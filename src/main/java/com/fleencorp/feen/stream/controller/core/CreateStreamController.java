@@ -52,7 +52,7 @@ public class CreateStreamController {
       content = @Content(schema = @Schema(implementation = DataForCreateEventResponse.class)))
   })
   @GetMapping(value = "/event/required-data-create")
-  @Cacheable(value = "data-required-to-create-event")
+  @Cacheable(value = "data-required-to-create-event", sync = true)
   public DataForCreateEventResponse getDataCreateEvent() {
     return eventOperationsService.getDataForCreateEvent();
   }
@@ -105,7 +105,7 @@ public class CreateStreamController {
       content = @Content(schema = @Schema(implementation = DataForCreateLiveBroadcastResponse.class)))
   })
   @GetMapping(value = "/live-broadcast/required-data-create")
-  @Cacheable(value = "data-required-to-create-live-broadcast")
+  @Cacheable(value = "data-required-to-create-live-broadcast", sync = true)
   public DataForCreateLiveBroadcastResponse getDataCreateLiveBroadcast() {
     return liveBroadcastService.getDataForCreateLiveBroadcast();
   }
@@ -118,7 +118,7 @@ public class CreateStreamController {
       content = @Content(schema = @Schema(implementation = DataForRescheduleStreamResponse.class)))
   })
   @GetMapping(value = "/required-data-reschedule-stream")
-  @Cacheable(value = "data-required-to-reschedule-stream")
+  @Cacheable(value = "data-required-to-reschedule-stream", sync = true)
   public DataForRescheduleStreamResponse getDataRescheduleStream() {
     return streamOperationsService.getDataForRescheduleStream();
   }
@@ -1,6 +1,7 @@
 package com.fleencorp.feen.stream.controller.core;
 
 import com.fleencorp.feen.calendar.exception.core.CalendarNotFoundException;
+import com.fleencorp.feen.common.aspect.RateLimit;
 import com.fleencorp.feen.common.exception.FailedOperationException;
 import com.fleencorp.feen.shared.security.RegisteredUser;
 import com.fleencorp.feen.stream.exception.core.StreamAlreadyCanceledException;
@@ -63,6 +64,7 @@ public class StreamController {
         @Content(schema = @Schema(implementation = AlreadyApprovedRequestToJoinException.class))
       })
   })
+  @RateLimit(name = "stream-join", capacity = 20, refillPeriodSeconds = 60)
   @PostMapping(value = "/join/{streamId}")
   public JoinStreamResponse joinStream(
       @Parameter(description = "ID of the stream to join", required = true)
@@ -97,6 +99,7 @@ public class StreamController {
         @Content(schema = @Schema(implementation = AlreadyApprovedRequestToJoinException.class))
       })
   })
+  @RateLimit(name = "stream-request-to-join", capacity = 20, refillPeriodSeconds = 60)
   @PostMapping(value = "/request-to-join/{streamId}")
   public RequestToJoinStreamResponse requestToJoinStream(
     @Parameter(description = "ID of the stream to request to join", required = true)
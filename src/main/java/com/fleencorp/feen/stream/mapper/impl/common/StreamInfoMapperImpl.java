@@ -3,6 +3,7 @@ package com.fleencorp.feen.stream.mapper.impl.common;
 import com.fleencorp.feen.common.constant.common.JoinStatus;
 import com.fleencorp.feen.common.model.info.JoinStatusInfo;
 import com.fleencorp.feen.mapper.impl.BaseMapper;
+import com.fleencorp.feen.mapper.impl.info.LocalizedInfoRegistry;
 import com.fleencorp.feen.stream.constant.attendee.AttendeeCount;
 import com.fleencorp.feen.stream.constant.attendee.IsAttending;
 import com.fleencorp.feen.stream.constant.attendee.IsOrganizer;
@@ -33,8 +34,22 @@ import static java.util.Objects.nonNull;
 @Component
 public class StreamInfoMapperImpl extends BaseMapper implements StreamInfoMapper {
 
-  public StreamInfoMapperImpl(final MessageSource messageSource) {
+  private final LocalizedInfoRegistry localizedInfoRegistry;
+
+  public StreamInfoMapperImpl(
+      final MessageSource messageSource,
+      final LocalizedInfoRegistry localizedInfoRegistry) {
     super(messageSource);
+    this.localizedInfoRegistry = localizedInfoRegistry;
+
+    localizedInfoRegistry.register(IsOrganizerInfo.class, IsOrganizer.class, isOrganizer ->
+      IsOrganizerInfo.of(isOrganizer == IsOrganizer.YES, translate(isOrganizer.getMessageCode()), translate(isOrganizer.getMessageCode2())));
+    localizedInfoRegistry.register(StreamAttendeeRequestToJoinStatusInfo.class, StreamAttendeeRequestToJoinStatus.class, requestToJoinStatus ->
+      StreamAttendeeRequestToJoinStatusInfo.of(requestToJoinStatus, translate(requestToJoinStatus.getMessageCode())));
+    localizedInfoRegistry.register(IsAttendingInfo.class, IsAttending.class, isAttending ->
+      IsAttendingInfo.of(isAttending == IsAttending.YES, translate(isAttending.getMessageCode())));
+    localizedInfoRegistry.register(IsASpeakerInfo.class, IsASpeaker.class, isASpeaker ->
+      IsASpeakerInfo.of(isASpeaker == IsASpeaker.YES, translate(isASpeaker.getMessageCode()), translate(isASpeaker.getMessageCode2())));
   }
 
   /**
@@ -52,8 +67,7 @@ public class StreamInfoMapperImpl extends BaseMapper implements StreamInfoMapper
    */
   @Override
   public IsOrganizerInfo toIsOrganizerInfo(final boolean organizer) {
-    final IsOrganizer isOrganizer = IsOrganizer.by(organizer);
-    return IsOrganizerInfo.of(organizer, translate(isOrganizer.getMessageCode()), translate(isOrganizer.getMessageCode2()));
+    return localizedInfoRegistry.get(IsOrganizerInfo.class, IsOrganizer.by(organizer));
   }
 
   /**
@@ -73,11 +87,7 @@ public class StreamInfoMapperImpl extends BaseMapper implements StreamInfoMapper
   @Override
   public JoinStatusInfo toJoinStatusInfo(final JoinStatus joinStatus) {
     if (nonNull(joinStatus)) {
-      return JoinStatusInfo.of(
-        joinStatus,
-        translate(joinStatus.getMessageCode()),
-        translate(joinStatus.getMessageCode2()),
-        translate(joinStatus.getMessageCode3()));
+      return localizedInfoRegistry.get(JoinStatusInfo.class, joinStatus);
     }
 
     return JoinStatusInfo.of();
@@ -100,12 +110,7 @@ public class StreamInfoMapperImpl extends BaseMapper implements StreamInfoMapper
         stream.hasHappened(),
         isAttending);
 
-      return JoinStatusInfo.of(
-        joinStatus,
-        translate(joinStatus.getMessageCode()),
-        translate(joinStatus.getMessageCode2()),
-        translate(joinStatus.getMessageCode3())
-      );
+      return localizedInfoRegistry.get(JoinStatusInfo.class, joinStatus);
     }
 
     return JoinStatusInfo.of();
@@ -150,7 +155,7 @@ public class StreamInfoMapperImpl extends BaseMapper implements StreamInfoMapper
   @Override
   public StreamAttendeeRequestToJoinStatusInfo toRequestToJoinStatusInfo(final StreamAttendeeRequestToJoinStatus requestToJoinStatus) {
     if (nonNull(requestToJoinStatus)) {
-      return StreamAttendeeRequestToJoinStatusInfo.of(requestToJoinStatus, translate(requestToJoinStatus.getMessageCode()));
+      return localizedInfoRegistry.get(StreamAttendeeRequestToJoinStatusInfo.class, requestToJoinStatus);
     }
 
     return StreamAttendeeRequestToJoinStatusInfo.of();
@@ -168,12 +173,7 @@ public class StreamInfoMapperImpl extends BaseMapper implements StreamInfoMapper
    */
   @Override
   public IsAttendingInfo toIsAttendingInfo(final boolean attending) {
-    IsAttending isAttending = IsAttending.by(attending);
-
-    return IsAttendingInfo.of(
-      attending,
-      translate(isAttending.getMessageCode())
-    );
+    return localizedInfoRegistry.get(IsAttendingInfo.class, IsAttending.by(attending));
   }
 
   /**
@@ -189,13 +189,7 @@ public class StreamInfoMapperImpl extends BaseMapper implements StreamInfoMapper
    */
   @Override
   public IsASpeakerInfo toIsASpeakerInfo(final boolean aSpeaker) {
-    final IsASpeaker isASpeaker = IsASpeaker.by(aSpeaker);
-
-    return IsASpeakerInfo.of(
-      aSpeaker,
-      translate(isASpeaker.getMessageCode()),
-      translate(isASpeaker.getMessageCode2())
-    );
+    return localizedInfoRegistry.get(IsASpeakerInfo.class, IsASpeaker.by(aSpeaker));
   }
 
   /**
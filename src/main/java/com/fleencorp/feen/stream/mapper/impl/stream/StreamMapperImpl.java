@@ -1,6 +1,7 @@
 package com.fleencorp.feen.stream.mapper.impl.stream;
 
 import com.fleencorp.feen.common.constant.common.JoinStatus;
+import com.fleencorp.feen.common.constant.mask.MaskedStreamLinkUri;
 import com.fleencorp.feen.common.model.info.IsDeletedInfo;
 import com.fleencorp.feen.common.model.info.IsForKidsInfo;
 import com.fleencorp.feen.common.model.info.JoinStatusInfo;
@@ -62,6 +63,10 @@ public class StreamMapperImpl extends BaseMapper implements StreamMapper {
    */
   @Override
   public StreamResponse toStreamResponse(final IsAStream entry) {
+    return toStreamResponse(entry, true);
+  }
+
+  private StreamResponse toStreamResponse(final IsAStream entry, final boolean withStreamLink) {
     if (nonNull(entry)) {
 
       final StreamResponse response = new StreamResponse();
@@ -72,9 +77,11 @@ public class StreamMapperImpl extends BaseMapper implements StreamMapper {
       response.setLocation(entry.getLocation());
       response.setOtherSchedule(Schedule.of());
 
-      response.setStreamLink(entry.getMaskedStreamLink());
-      response.setStreamLinkUnmasked(entry.getStreamLink());
-      response.setStreamLinkNotMasked(entry.getStreamLink());
+      if (withStreamLink) {
+        response.setStreamLink(entry.getMaskedStreamLink());
+        response.setStreamLinkUnmasked(entry.getStreamLink());
+        response.setStreamLinkNotMasked(entry.getStreamLink());
+      }
 
       response.setIsUpdatable(false);
       response.setAuthorId(entry.getOrganizerId());
@@ -140,7 +147,7 @@ public class StreamMapperImpl extends BaseMapper implements StreamMapper {
       response.setOrganizer(organizer);
 
       final JoinStatus joinStatus = JoinStatus.byStreamStatus(entry.isPrivateOrProtected());
-      final JoinStatusInfo joinStatusInfo = JoinStatusInfo.of(joinStatus, translate(joinStatus.getMessageCode()), translate(joinStatus.getMessageCode2()), translate(joinStatus.getMessageCode3()));
+      final JoinStatusInfo joinStatusInfo = streamInfoMapper.toJoinStatusInfo(joinStatus);
 
       final IsAttendingInfo isAttendingInfo = streamInfoMapper.toIsAttendingInfo(false);
       final IsASpeakerInfo isASpeakerInfo = streamInfoMapper.toIsASpeakerInfo(false);
@@ -171,10 +178,10 @@ public class StreamMapperImpl extends BaseMapper implements StreamMapper {
       final IsASpeakerInfo isASpeakerInfo = streamInfoMapper.toIsASpeakerInfo(true);
 
       final JoinStatus joinStatus = JoinStatus.joinedStream();
-      final JoinStatusInfo joinStatusInfo = JoinStatusInfo.of(joinStatus, translate(joinStatus.getMessageCode()), translate(joinStatus.getMessageCode2()), translate(joinStatus.getMessageCode3()));
+      final JoinStatusInfo joinStatusInfo = streamInfoMapper.toJoinStatusInfo(joinStatus);
 
       final StreamAttendeeRequestToJoinStatus requestToJoinStatus = StreamAttendeeRequestToJoinStatus.approved();
-      final StreamAttendeeRequestToJoinStatusInfo requestToJoinStatusInfo = StreamAttendeeRequestToJoinStatusInfo.of(requestToJoinStatus, translate(requestToJoinStatus.getMessageCode()));
+      final StreamAttendeeRequestToJoinStatusInfo requestToJoinStatusInfo = streamInfoMapper.toRequestToJoinStatusInfo(requestToJoinStatus);
 
       final AttendanceInfo attendanceInfo = AttendanceInfo.of(requestToJoinStatusInfo, joinStatusInfo, isAttendingInfo, isASpeakerInfo);
 
@@ -207,6 +214,9 @@ public class StreamMapperImpl extends BaseMapper implements StreamMapper {
   * <p>This method takes a list of IsAStream entities and converts each entity
   * to a FleenStreamResponse DTO. Null entries are filtered out from the result.</p>
   *
+  * <p>The rows of a list are read with their stream link still encrypted, so the link is masked from its source
+  * alone and the unmasked link is only decrypted for a row whose viewer is allowed to see it.</p>
+  *
   * @param entries the list of IsAStream entities to convert
   * @return a list of FleenStreamResponse DTOs, or an empty list if the input is null or empty
   */
@@ -215,12 +225,19 @@ public class StreamMapperImpl extends BaseMapper implements StreamMapper {
     if (nonNull(entries) && !entries.isEmpty()) {
       return entries.stream()
           .filter(Objects::nonNull)
-          .map(this::toStreamResponse)
+          .map(this::toStreamListResponse)
           .toList();
     }
     return List.of();
   }
 
+  private StreamResponse toStreamListResponse(final IsAStream entry) {
+    final StreamResponse response = toStreamResponse(entry, false);
+    response.setStreamLink(MaskedStreamLinkUri.fullyMaskedLinkOf(entry.getStreamSource()));
+    response.deferStreamLink(entry::getStreamLink);
+    return response;
+  }
+
   @Override
   public List<StreamResponse> toStreamResponsesActual(List<FleenStream> entries) {
     if (nonNull(entries) && !entries.isEmpty()) {
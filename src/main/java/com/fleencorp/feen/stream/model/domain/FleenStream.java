@@ -447,8 +447,8 @@ public class FleenStream extends FleenFeenEntity
     }
   }
 
-  public MaskedStreamLinkUri getMaskedStreamLink() {
-    return MaskedStreamLinkUri.of(streamLink, streamSource);
+  public String getMaskedStreamLink() {
+    return MaskedStreamLinkUri.maskedLinkOf(streamLink, streamSource);
   }
 
   public static FleenStream of(final Long streamId) {
@@ -10,7 +10,7 @@ import lombok.*;
 
 import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 import static java.util.Objects.nonNull;
 
 @Getter
@@ -23,7 +23,8 @@ public class StreamAttendee extends FleenFeenEntity
   implements IsAttendee {
 
   @Id
-  @GeneratedValue(strategy = IDENTITY)
+  @GeneratedValue(strategy = SEQUENCE, generator = "stream_attendee_id_generator")
+  @SequenceGenerator(name = "stream_attendee_id_generator", sequenceName = "stream_attendee_stream_attendee_id_seq", allocationSize = 50)
   @Column(name = "stream_attendee_id", nullable = false, updatable = false, unique = true)
   private Long attendeeId;
 
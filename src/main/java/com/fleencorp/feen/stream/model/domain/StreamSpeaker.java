@@ -6,7 +6,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
@@ -19,7 +19,8 @@ import static java.util.Objects.nonNull;
 public class StreamSpeaker extends FleenFeenEntity {
 
   @Id
-  @GeneratedValue(strategy = IDENTITY)
+  @GeneratedValue(strategy = SEQUENCE, generator = "stream_speaker_id_generator")
+  @SequenceGenerator(name = "stream_speaker_id_generator", sequenceName = "stream_speaker_stream_speaker_id_seq", allocationSize = 50)
   @Column(name = "stream_speaker_id", nullable = false, updatable = false, unique = true)
   private Long speakerId;
 
@@ -46,6 +46,9 @@ public class StreamSearchRequest extends SearchRequest {
   @JsonProperty("another_user_id")
   protected Long anotherUserId;
 
+  @JsonProperty("with_total")
+  protected Boolean withTotal;
+
   public StreamVisibility getVisibility(final StreamVisibility defaultVisibility) {
     final StreamVisibility actualStreamVisibility = StreamVisibility.of(streamVisibility);
     return nonNull(actualStreamVisibility) ? actualStreamVisibility : defaultVisibility;
@@ -68,4 +71,8 @@ public class StreamSearchRequest extends SearchRequest {
   public Member getAnotherUser() {
     return hasAnotherUser() ? Member.of(anotherUserId) : null;
   }
+
+  public boolean includesTotal(final boolean byDefault) {
+    return nonNull(withTotal) ? withTotal : byDefault;
+  }
 }
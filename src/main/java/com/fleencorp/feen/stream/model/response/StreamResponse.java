@@ -4,7 +4,6 @@ import com.fasterxml.jackson.annotation.*;
 import com.fleencorp.feen.bookmark.model.info.BookmarkCountInfo;
 import com.fleencorp.feen.bookmark.model.info.UserBookmarkInfo;
 import com.fleencorp.feen.common.constant.common.JoinStatus;
-import com.fleencorp.feen.common.constant.mask.MaskedStreamLinkUri;
 import com.fleencorp.feen.common.model.info.IsDeletedInfo;
 import com.fleencorp.feen.common.model.info.IsForKidsInfo;
 import com.fleencorp.feen.common.model.info.ParentInfo;
@@ -27,6 +26,7 @@ import com.fleencorp.feen.stream.model.info.speaker.SpeakerCountInfo;
 import com.fleencorp.feen.stream.model.other.Organizer;
 import com.fleencorp.feen.stream.model.other.Schedule;
 import com.fleencorp.feen.stream.model.response.attendee.StreamAttendeeResponse;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -36,8 +36,9 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.function.Supplier;
 
-import static com.fasterxml.jackson.annotation.JsonFormat.Shape.STRING;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 @Getter
@@ -104,9 +105,8 @@ public class StreamResponse extends FleenFeenResponse
   @JsonProperty("is_for_kids_info")
   private IsForKidsInfo forKidsInfo;
 
-  @JsonFormat(shape = STRING)
   @JsonProperty("stream_link")
-  private MaskedStreamLinkUri streamLink;
+  private String streamLink;
 
   @JsonProperty("stream_type_info")
   private StreamTypeInfo streamTypeInfo;
@@ -195,6 +195,14 @@ public class StreamResponse extends FleenFeenResponse
   @JsonIgnore
   public String streamLinkNotMasked;
 
+  /**
+   * Supplies the stream link of a list row, which is only decrypted once a viewer allowed to see it asks for it.
+   */
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private Supplier<String> deferredStreamLink;
+
   @JsonProperty("is_private")
   public boolean isPrivate() {
     return StreamVisibility.isPrivateOrProtected(getVisibility());
@@ -215,9 +223,29 @@ public class StreamResponse extends FleenFeenResponse
   public String getStreamLinkUnmasked() {
     // Disable and reset the unmasked link if the user's join status is not approved
     disableAndResetUnmaskedLinkIfNotApproved();
+    if (isNull(streamLinkUnmasked) && nonNull(deferredStreamLink) && !isJoinNotApproved()) {
+      streamLinkUnmasked = deferredStreamLink.get();
+    }
     return streamLinkUnmasked;
   }
 
+  @JsonIgnore
+  public String getStreamLinkNotMasked() {
+    if (isNull(streamLinkNotMasked) && nonNull(deferredStreamLink)) {
+      streamLinkNotMasked = deferredStreamLink.get();
+    }
+    return streamLinkNotMasked;
+  }
+
+  /**
+   * Sets the unmasked stream link fields from a supplier that is only called when one of them is read.
+   *
+   * @param streamLink supplies the stream link
+   */
+  public void deferStreamLink(final Supplier<String> streamLink) {
+    this.deferredStreamLink = streamLink;
+  }
+
   @JsonIgnore
   public StreamVisibility getVisibility() {
     return nonNull(streamVisibilityInfo) ? streamVisibilityInfo.getVisibility() : null;
@@ -280,9 +308,13 @@ public class StreamResponse extends FleenFeenResponse
    * <p>This operation ensures that users without approval cannot access unmasked stream links.</p>
    */
   public void disableAndResetUnmaskedLinkIfNotApproved() {
-    if (nonNull(getJoinStatus()) && JoinStatus.isNotApproved(getJoinStatus())) {
+    if (isJoinNotApproved()) {
       streamLinkUnmasked = null;
     }
   }
 
+  private boolean isJoinNotApproved() {
+    return nonNull(getJoinStatus()) && JoinStatus.isNotApproved(getJoinStatus());
+  }
+
 }
@@ -8,6 +8,7 @@ import com.fleencorp.feen.review.service.ReviewSearchService;
 import com.fleencorp.feen.shared.member.contract.IsAMember;
 import com.fleencorp.feen.shared.member.service.MemberQueryService;
 import com.fleencorp.feen.shared.security.RegisteredUser;
+import com.fleencorp.feen.shared.stream.contract.IsAStream;
 import com.fleencorp.feen.stream.constant.core.StreamStatus;
 import com.fleencorp.feen.stream.constant.core.StreamTimeType;
 import com.fleencorp.feen.stream.constant.core.StreamType;
@@ -39,6 +40,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
@@ -46,7 +48,6 @@ import java.util.List;
 import java.util.Objects;
 
 import static com.fleencorp.base.util.FleenUtil.toSearchResult;
-import static com.fleencorp.feen.common.util.common.CommonUtil.allNonNull;
 import static com.fleencorp.feen.stream.constant.attendee.StreamAttendeeRequestToJoinStatus.APPROVED;
 import static com.fleencorp.feen.stream.constant.core.StreamVisibility.PUBLIC;
 import static java.util.Objects.nonNull;
@@ -54,6 +55,7 @@ import static java.util.Objects.nonNull;
 
 @Slf4j
 @Service
+@Transactional(readOnly = true)
 public class StreamSearchServiceImpl implements StreamSearchService {
 
   private final MemberQueryService memberQueryService;
@@ -61,6 +63,7 @@ public class StreamSearchServiceImpl implements StreamSearchService {
   private final StreamAttendeeOperationsService streamAttendeeOperationsService;
   private final StreamOperationsService streamOperationsService;
   private final StreamQueryService streamQueryService;
+  private final com.fleencorp.feen.shared.stream.service.StreamQueryService sharedStreamQueryService;
   private final StreamUnifiedMapper streamUnifiedMapper;
   private final Localizer localizer;
 
@@ -70,6 +73,7 @@ public class StreamSearchServiceImpl implements StreamSearchService {
       final StreamAttendeeOperationsService streamAttendeeOperationsService,
       final StreamOperationsService streamOperationsService,
       @Qualifier("streamQueryService") final StreamQueryService streamQueryService,
+      @Qualifier("sharedStreamQueryService") final com.fleencorp.feen.shared.stream.service.StreamQueryService sharedStreamQueryService,
       final StreamUnifiedMapper streamUnifiedMapper,
       final Localizer localizer) {
     this.memberQueryService = memberQueryService;
@@ -77,6 +81,7 @@ public class StreamSearchServiceImpl implements StreamSearchService {
     this.streamAttendeeOperationsService = streamAttendeeOperationsService;
     this.streamOperationsService = streamOperationsService;
     this.streamQueryService = streamQueryService;
+    this.sharedStreamQueryService = sharedStreamQueryService;
     this.streamUnifiedMapper = streamUnifiedMapper;
     this.localizer = localizer;
   }
@@ -123,8 +128,8 @@ public class StreamSearchServiceImpl implements StreamSearchService {
    */
   @Override
   public StreamSearchResult findStreamsPublic(final StreamSearchRequest searchRequest, final StreamTimeType streamTimeType) {
-    final Page<FleenStream> page = findByStreamTimeType(searchRequest, streamTimeType);
-    final List<StreamResponse> streamResponses = streamUnifiedMapper.toStreamResponsesActual(page.getContent());
+    final Page<IsAStream> page = findByStreamTimeType(searchRequest, streamTimeType);
+    final List<StreamResponse> streamResponses = streamUnifiedMapper.toStreamResponses(page.getContent());
 
     return processStreamsCreatedByUserOrAttendedByUserOrAttendedWithAnotherUser(streamResponses, page, searchRequest);
   }
@@ -142,9 +147,9 @@ public class StreamSearchServiceImpl implements StreamSearchService {
    *
    * @param searchRequest the search request containing filters, pagination info, and other parameters for stream retrieval
    * @param streamTimeType the type of stream time (upcoming, past, or live)
-   * @return a paginated result of `FleenStream` objects based on the given search criteria and stream time type
+   * @return a paginated result of the streams based on the given search criteria and stream time type
    */
-  protected Page<FleenStream> findByStreamTimeType(final StreamSearchRequest searchRequest, final StreamTimeType streamTimeType) {
+  protected Page<IsAStream> findByStreamTimeType(final StreamSearchRequest searchRequest, final StreamTimeType streamTimeType) {
     if (StreamTimeType.isUpcoming(streamTimeType)) {
       return getUpcomingStreams(searchRequest);
     } else if (StreamTimeType.isPast(streamTimeType)) {
@@ -176,8 +181,8 @@ public class StreamSearchServiceImpl implements StreamSearchService {
    */
   @Override
   public StreamSearchResult findMyStreams(final StreamSearchRequest searchRequest, final RegisteredUser user) {
-    final Page<FleenStream> page = findMyStreams(searchRequest, user.toMember());
-    final List<StreamResponse> streamResponses = streamUnifiedMapper.toStreamResponsesActual(page.getContent());
+    final Page<IsAStream> page = findMyStreams(searchRequest, user.toMember());
+    final List<StreamResponse> streamResponses = streamUnifiedMapper.toStreamResponses(page.getContent());
 
     return processStreamsAndReturn(streamResponses, searchRequest, user.toMember(), page);
   }
@@ -197,8 +202,8 @@ public class StreamSearchServiceImpl implements StreamSearchService {
     IsAMember member = searchRequest.getAnotherUser();
     member = memberQueryService.findMemberOrThrow(member.getMemberId());
 
-    final Page<FleenStream> page = findMyStreams(searchRequest, member);
-    final List<StreamResponse> streamResponses = streamUnifiedMapper.toStreamResponsesActual(page.getContent());
+    final Page<IsAStream> page = findMyStreams(searchRequest, member);
+    final List<StreamResponse> streamResponses = streamUnifiedMapper.toStreamResponses(page.getContent());
     final StreamSearchResult streamSearchResult = processStreamsAndReturn(streamResponses, searchRequest, member, page);
     final UserCreatedStreamsSearchResult userCreatedStreamsSearchResult = UserCreatedStreamsSearchResult.of(streamSearchResult.getResult(), member.getFullName());
 
@@ -206,38 +211,36 @@ public class StreamSearchServiceImpl implements StreamSearchService {
   }
 
   /**
-   * Retrieves a paginated list of {@link FleenStream} entities owned by the given member,
+   * Retrieves a paginated list of the streams owned by the given member,
    * based on the filtering criteria provided in the {@link StreamSearchRequest}.
    *
    * <p>The method applies conditional logic to determine which filters are present in the request.
-   * If both start and end dates are provided along with stream visibility, it filters by date range and visibility.
-   * If only the date range is provided, it filters by that range alone. If the title and visibility are both set,
-   * it filters streams based on title and visibility. If only the title is present, it filters by title.
+   * If both start and end dates are provided, it filters by date range and, when set, by stream visibility.
+   * Otherwise, if the title is present, it filters by title and, when set, by stream visibility.
    * If no filters are specified, it retrieves all streams created by the member.</p>
    *
+   * <p>The streams are read as list projections, so their attendees are not loaded and their stream link is only
+   * decrypted when it is shown.</p>
+   *
    * @param searchRequest the request containing optional filters such as title, date range, and visibility
    * @param member the member whose owned streams are to be retrieved
-   * @return a paginated list of {@link FleenStream} entities owned by the member
+   * @return a paginated list of the streams owned by the member
    */
-  protected Page<FleenStream> findMyStreams(final StreamSearchRequest searchRequest, final IsAMember member) {
-    final Page<FleenStream> page;
+  protected Page<IsAStream> findMyStreams(final StreamSearchRequest searchRequest, final IsAMember member) {
+    final Page<IsAStream> page;
     final Pageable pageable = searchRequest.getPage();
     final String title = searchRequest.getTitle();
     final LocalDateTime startDateTime = searchRequest.getStartDateTime();
     final LocalDateTime endDateTime = searchRequest.getEndDateTime();
     final StreamVisibility streamVisibility = searchRequest.getVisibility(PUBLIC);
-    final boolean isDateSet = searchRequest.areAllDatesSet();
-
-    if (isDateSet && nonNull(streamVisibility)) {
-      page = streamQueryService.findByDateBetweenAndUser(startDateTime, endDateTime, streamVisibility, member, pageable);
-    } else if (isDateSet) {
-      page = streamQueryService.findByDateBetweenAndUser(startDateTime, endDateTime, member, pageable);
-    } else if (allNonNull(title, streamVisibility)) {
-      page = streamQueryService.findByTitleAndUser(title, streamVisibility, member, pageable);
+    final Long memberId = member.getMemberId();
+
+    if (searchRequest.areAllDatesSet()) {
+      page = sharedStreamQueryService.findStreamsByMember(memberId, null, streamVisibility, startDateTime, endDateTime, pageable);
     } else if (nonNull(title)) {
-      page = streamQueryService.findByTitleAndUser(title, member, pageable);
+      page = sharedStreamQueryService.findStreamsByMember(memberId, title, streamVisibility, null, null, pageable);
     } else {
-      page = streamQueryService.findManyByMe(member, pageable);
+      page = sharedStreamQueryService.findStreamsByMember(memberId, null, null, null, null, pageable);
     }
 
     return page;
@@ -264,15 +267,15 @@ public class StreamSearchServiceImpl implements StreamSearchService {
   @Override
   public StreamSearchResult findStreamsAttendedByUser(final StreamSearchRequest searchRequest, final RegisteredUser user) {
     final Member member = user.toMember();
-    final Page<FleenStream> page = findStreamsAttendedByUser(searchRequest, member);
+    final Page<IsAStream> page = findStreamsAttendedByUser(searchRequest, member);
     // Convert the streams to response views
-    final List<StreamResponse> streamResponses = streamUnifiedMapper.toStreamResponsesActual(page.getContent());
+    final List<StreamResponse> streamResponses = streamUnifiedMapper.toStreamResponses(page.getContent());
     // Create and return the search result
     return processStreamsAndReturn(streamResponses, searchRequest, user.toMember(), page);
   }
 
   /**
-   * Retrieves a paginated list of {@link FleenStream} entities that the given member has attended,
+   * Retrieves a paginated list of the streams that the given member has attended,
    * based on the criteria provided in the {@link StreamSearchRequest}.
    *
    * <p>If both the start and end dates are present in the request, the search is filtered by the
@@ -282,21 +285,22 @@ public class StreamSearchServiceImpl implements StreamSearchService {
    *
    * @param searchRequest the request containing optional filters such as title and date range
    * @param member the member whose attended streams are to be retrieved
-   * @return a paginated list of {@link FleenStream} instances attended by the member
+   * @return a paginated list of the streams attended by the member
    */
-  private Page<FleenStream> findStreamsAttendedByUser(final StreamSearchRequest searchRequest, final Member member) {
-    final Page<FleenStream> page;
+  private Page<IsAStream> findStreamsAttendedByUser(final StreamSearchRequest searchRequest, final Member member) {
+    final Page<IsAStream> page;
     final Pageable pageable = searchRequest.getPage();
     final String title = searchRequest.getTitle();
     final LocalDateTime startDateTime = searchRequest.getStartDateTime();
     final LocalDateTime endDateTime = searchRequest.getEndDateTime();
+    final Long memberId = member.getMemberId();
 
     if (searchRequest.areAllDatesSet()) {
-      page = streamQueryService.findAttendedByDateBetweenAndUser(startDateTime, endDateTime, member, pageable);
+      page = sharedStreamQueryService.findStreamsAttendedByMember(memberId, null, startDateTime, endDateTime, pageable);
     } else if (nonNull(title)) {
-      page = streamQueryService.findAttendedByTitleAndUser(title, member, pageable);
+      page = sharedStreamQueryService.findStreamsAttendedByMember(memberId, title, null, null, pageable);
     } else {
-      page = streamQueryService.findAttendedByUser(member, pageable);
+      page = sharedStreamQueryService.findStreamsAttendedByMember(memberId, null, null, null, pageable);
     }
 
     return page;
@@ -320,17 +324,17 @@ public class StreamSearchServiceImpl implements StreamSearchService {
    */
   @Override
   public MutualStreamAttendanceSearchResult findStreamsAttendedWithAnotherUser(final StreamSearchRequest searchRequest, final RegisteredUser user) {
-    Page<FleenStream> page = new PageImpl<>(List.of());
+    Page<IsAStream> page = new PageImpl<>(List.of());
     final Pageable pageable = searchRequest.getPage();
     final Member member = user.toMember();
     final Member anotherMember = searchRequest.getAnotherUser();
 
     if (searchRequest.hasAnotherUser()) {
       // Retrieve streams attended together by the current user and another user
-      page = streamQueryService.findStreamsAttendedTogether(member, anotherMember, pageable);
+      page = sharedStreamQueryService.findStreamsAttendedTogether(member.getMemberId(), anotherMember.getMemberId(), pageable);
     }
 
-    final List<StreamResponse> streamResponses = streamUnifiedMapper.toStreamResponsesActual(page.getContent());
+    final List<StreamResponse> streamResponses = streamUnifiedMapper.toStreamResponses(page.getContent());
     final StreamSearchResult streamSearchResult = processStreamsAndReturn(streamResponses, searchRequest, member, page);
     final MutualStreamAttendanceSearchResult mutualStreamAttendanceSearchResult = MutualStreamAttendanceSearchResult.of(streamSearchResult.getResult(), member.getFullName());
 
@@ -338,7 +342,7 @@ public class StreamSearchServiceImpl implements StreamSearchService {
   }
 
   /**
-   * Processes a paginated list of {@link FleenStream} entities based on the provided search request
+   * Processes a paginated list of streams based on the provided search request
    * and user context, and returns a localized {@link StreamSearchResult} containing stream details,
    * pagination information, and stream type metadata.
    *
@@ -350,10 +354,10 @@ public class StreamSearchServiceImpl implements StreamSearchService {
    *
    * @param searchRequest the request containing search criteria, including stream type
    * @param member a user or member in the system
-   * @param page the paginated result of {@link FleenStream} entities to be processed
+   * @param page the paginated result of streams to be processed
    * @return a localized {@link StreamSearchResult} containing the processed stream results
    */
-  private StreamSearchResult processStreamsAndReturn(final Collection<StreamResponse> streamResponses, final StreamSearchRequest searchRequest, final IsAMember member, final Page<FleenStream> page) {
+  private StreamSearchResult processStreamsAndReturn(final Collection<StreamResponse> streamResponses, final StreamSearchRequest searchRequest, final IsAMember member, final Page<IsAStream> page) {
     streamOperationsService.processOtherStreamDetails(streamResponses, member);
     final StreamTypeInfo streamTypeInfo = streamUnifiedMapper.toStreamTypeInfo(searchRequest.getStreamType());
 
@@ -378,7 +382,7 @@ public class StreamSearchServiceImpl implements StreamSearchService {
    * @param searchRequest the request object containing search parameters, such as the stream type
    * @return a localized response containing the search result with stream responses and pagination details
    */
-  protected StreamSearchResult processStreamsCreatedByUserOrAttendedByUserOrAttendedWithAnotherUser(final Collection<StreamResponse> streamResponses, final Page<FleenStream> page, final StreamSearchRequest searchRequest) {
+  protected StreamSearchResult processStreamsCreatedByUserOrAttendedByUserOrAttendedWithAnotherUser(final Collection<StreamResponse> streamResponses, final Page<?> page, final StreamSearchRequest searchRequest) {
     if (nonNull(streamResponses)) {
       streamResponses.stream()
         .filter(Objects::nonNull)
@@ -496,21 +500,22 @@ public class StreamSearchServiceImpl implements StreamSearchService {
    * @return a response object containing the list of streams and pagination details
    */
   public StreamResponsesAndPage findStreams(final StreamSearchRequest searchRequest) {
-    final Page<FleenStream> page;
+    final Page<IsAStream> page;
     final Pageable pageable = searchRequest.getPage();
     final String title = searchRequest.getTitle();
     final LocalDateTime startDateTime = searchRequest.getStartDateTime();
     final LocalDateTime endDateTime = searchRequest.getEndDateTime();
+    final boolean withTotal = searchRequest.includesTotal(true);
 
     if (searchRequest.areAllDatesSet()) {
-      page = streamQueryService.findByDateBetween(startDateTime, endDateTime, StreamStatus.ACTIVE, pageable);
+      page = sharedStreamQueryService.findStreamsByDateBetween(startDateTime, endDateTime, StreamStatus.ACTIVE, pageable, withTotal);
     } else if (nonNull(title)) {
-      page = streamQueryService.findByTitle(title, StreamStatus.ACTIVE, pageable);
+      page = sharedStreamQueryService.findStreamsByTitle(title, StreamStatus.ACTIVE, pageable, withTotal);
     } else {
-      page = streamQueryService.findMany(StreamStatus.ACTIVE, pageable);
+      page = sharedStreamQueryService.findStreams(StreamStatus.ACTIVE, pageable, withTotal);
     }
 
-    final List<StreamResponse> streamResponses = streamUnifiedMapper.toStreamResponsesActual(page.getContent());
+    final List<StreamResponse> streamResponses = streamUnifiedMapper.toStreamResponses(page.getContent());
     return StreamResponsesAndPage.of(streamResponses, page);
   }
 
@@ -524,11 +529,8 @@ public class StreamSearchServiceImpl implements StreamSearchService {
    *
    * @return a page of upcoming streams that match the search criteria
    */
-  protected Page<FleenStream> getUpcomingStreams(final StreamSearchRequest searchRequest) {
-    if (nonNull(searchRequest.getQ())) {
-      return streamQueryService.findUpcomingStreamsByTitle(searchRequest.getQ(), LocalDateTime.now(), searchRequest.getStreamType(), searchRequest.getPage());
-    }
-    return streamQueryService.findUpcomingStreams(LocalDateTime.now(), searchRequest.getStreamType(), searchRequest.getPage());
+  protected Page<IsAStream> getUpcomingStreams(final StreamSearchRequest searchRequest) {
+    return sharedStreamQueryService.findUpcomingStreams(searchRequest.getQ(), LocalDateTime.now(), searchRequest.getStreamType(), searchRequest.getPage(), searchRequest.includesTotal(false));
   }
 
   /**
@@ -541,11 +543,8 @@ public class StreamSearchServiceImpl implements StreamSearchService {
    *
    * @return a page of past streams that match the search criteria
    */
-  protected Page<FleenStream> getPastStreams(final StreamSearchRequest searchRequest) {
-    if (nonNull(searchRequest.getQ())) {
-      return streamQueryService.findPastStreamsByTitle(searchRequest.getQ(), LocalDateTime.now(), searchRequest.getStreamType(), searchRequest.getPage());
-    }
-    return streamQueryService.findPastStreams(LocalDateTime.now(), searchRequest.getStreamType(), searchRequest.getPage());
+  protected Page<IsAStream> getPastStreams(final StreamSearchRequest searchRequest) {
+    return sharedStreamQueryService.findPastStreams(searchRequest.getQ(), LocalDateTime.now(), searchRequest.getStreamType(), searchRequest.getPage(), searchRequest.includesTotal(false));
   }
 
   /**
@@ -558,11 +557,8 @@ public class StreamSearchServiceImpl implements StreamSearchService {
    *
    * @return a page of live streams that match the search criteria
    */
-  protected Page<FleenStream> getLiveStreams(final StreamSearchRequest searchRequest) {
-    if (nonNull(searchRequest.getQ())) {
-      return streamQueryService.findLiveStreamsByTitle(searchRequest.getQ(), LocalDateTime.now(), searchRequest.getStreamType(), searchRequest.getPage());
-    }
-    return streamQueryService.findLiveStreams(LocalDateTime.now(), searchRequest.getStreamType(), searchRequest.getPage());
+  protected Page<IsAStream> getLiveStreams(final StreamSearchRequest searchRequest) {
+    return sharedStreamQueryService.findLiveStreams(searchRequest.getQ(), LocalDateTime.now(), searchRequest.getStreamType(), searchRequest.getPage(), searchRequest.includesTotal(false));
   }
 
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.fleencorp.feen.user.controller.authentication;
 
+import com.fleencorp.feen.common.aspect.RateLimit;
+import com.fleencorp.feen.common.constant.ratelimit.RateLimitKeyType;
 import com.fleencorp.feen.common.exception.FailedOperationException;
 import com.fleencorp.feen.model.response.authentication.DataForSignUpResponse;
 import com.fleencorp.feen.model.response.authentication.SignInResponse;
@@ -50,7 +52,7 @@ public class AuthenticationController {
       content = @Content(schema = @Schema(implementation = DataForSignUpResponse.class)))
   })
   @GetMapping(value = "/data-for-sign-up")
-  @Cacheable(value = "data-required-to-sign-up")
+  @Cacheable(value = "data-required-to-sign-up", sync = true)
   public DataForSignUpResponse getDataForSignUp() {
     return authenticationService.getDataForSignUp();
   }
@@ -64,6 +66,7 @@ public class AuthenticationController {
     @ApiResponse(responseCode = "400", description = "Invalid sign-up details provided",
       content = @Content(schema = @Schema(implementation = FailedOperationException.class)))
   })
+  @RateLimit(name = "sign-up", capacity = 5, refillPeriodSeconds = 3600, key = RateLimitKeyType.IP)
   @PostMapping(value = "/sign-up")
   public SignUpResponse signUp(
       @Parameter(description = "Sign-up details for the new user", required = true)
@@ -84,6 +87,7 @@ public class AuthenticationController {
     @ApiResponse(responseCode = "403", description = "Account is either disabled or banned",
       content = @Content(schema = @Schema(oneOf = {DisabledAccountException.class, BannedAccountException.class})))
   })
+  @RateLimit(name = "sign-in", capacity = 10, refillPeriodSeconds = 60, key = RateLimitKeyType.IP)
   @PostMapping(value = "/sign-in")
   public SignInResponse signIn(
       @Parameter(description = "Sign-in credentials of the user", required = true)
@@ -101,6 +105,7 @@ public class AuthenticationController {
     @ApiResponse(responseCode = "404", description = "User not found",
       content = @Content(schema = @Schema(implementation = UserNotFoundException.class)))
   })
+  @RateLimit(name = "forgot-password", capacity = 3, refillPeriodSeconds = 900, key = RateLimitKeyType.IP)
   @PostMapping(value = "/forgot-password")
   public ForgotPasswordResponse forgotPassword(
       @Parameter(description = "Details (email or username) to initiate password reset", required = true)
@@ -120,6 +125,7 @@ public class AuthenticationController {
     @ApiResponse(responseCode = "404", description = "User not found",
       content = @Content(schema = @Schema(implementation = UserNotFoundException.class)))
   })
+  @RateLimit(name = "verify-reset-password-code", capacity = 10, refillPeriodSeconds = 900, key = RateLimitKeyType.IP)
   @PostMapping(value = "/verify-reset-password-code")
   public InitiatePasswordChangeResponse validateResetPasswordCode(
       @Parameter(description = "Details including the reset password code", required = true)
@@ -0,0 +1,36 @@
+package com.fleencorp.feen.user.exception;
+
+import com.fleencorp.feen.common.constant.http.FleenHttpStatus;
+import com.fleencorp.feen.user.exception.authentication.PasswordHashingUnavailableException;
+import com.fleencorp.localizer.model.response.ErrorResponse;
+import com.fleencorp.localizer.service.ErrorLocalizer;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+/**
+ * Translates a saturated password hashing executor into a {@code 503 Service Unavailable} response on any
+ * endpoint that hashes or checks a password, wherever its controller lives.
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PasswordHashingExceptionHandler {
+
+  private final ErrorLocalizer localizer;
+
+  public PasswordHashingExceptionHandler(final ErrorLocalizer localizer) {
+    this.localizer = localizer;
+  }
+
+  @ExceptionHandler(value = {
+    PasswordHashingUnavailableException.class,
+  })
+  @ResponseStatus(value = SERVICE_UNAVAILABLE)
+  public ErrorResponse handleServiceUnavailable(final PasswordHashingUnavailableException e) {
+    return localizer.withStatus(e, FleenHttpStatus.serviceUnavailable());
+  }
+}
@@ -0,0 +1,19 @@
+package com.fleencorp.feen.user.exception.authentication;
+
+import com.fleencorp.localizer.model.exception.LocalizedException;
+
+/**
+ * <p>Thrown when the password hashing executor is saturated and cannot admit more work,
+ * or when a hashing task does not complete within the configured wait time.</p>
+ */
+public class PasswordHashingUnavailableException extends LocalizedException {
+
+  @Override
+  public String getMessageCode() {
+    return "password.hashing.unavailable";
+  }
+
+  public static PasswordHashingUnavailableException of() {
+    return new PasswordHashingUnavailableException();
+  }
+}
@@ -4,8 +4,10 @@ import com.fleencorp.feen.common.model.projection.EmailAddressSelect;
 import com.fleencorp.feen.common.model.projection.PhoneNumberSelect;
 import com.fleencorp.feen.user.model.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -26,4 +28,9 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
   @Query("SELECT new com.fleencorp.feen.common.model.projection.PhoneNumberSelect(m.memberId, m.phoneNumber) FROM Member m WHERE m.phoneNumber = :phoneNumber")
   Optional<PhoneNumberSelect> findPhoneOfMember(@Param("phoneNumber") String phoneNumber);
+
+  @Modifying
+  @Transactional
+  @Query("UPDATE Member m SET m.password = :password WHERE m.memberId = :memberId")
+  void updatePassword(@Param("memberId") Long memberId, @Param("password") String password);
 }
@@ -6,7 +6,6 @@ import com.fleencorp.feen.common.configuration.external.aws.s3.S3BucketNames;
 import com.fleencorp.feen.common.event.model.base.PublishMessageRequest;
 import com.fleencorp.feen.common.event.publisher.ProfileRequestPublisher;
 import com.fleencorp.feen.common.exception.FailedOperationException;
-import com.fleencorp.feen.common.service.impl.cache.CacheService;
 import com.fleencorp.feen.country.model.domain.Country;
 import com.fleencorp.feen.country.service.CountryService;
 import com.fleencorp.feen.service.impl.external.aws.s3.StorageService;
@@ -26,10 +25,12 @@ import com.fleencorp.feen.user.repository.UserProfileRepository;
 import com.fleencorp.feen.user.service.authentication.PasswordService;
 import com.fleencorp.feen.user.service.member.MemberService;
 import com.fleencorp.feen.user.service.member.MemberUpdateService;
+import com.fleencorp.feen.verification.constant.OtpPurpose;
 import com.fleencorp.feen.verification.constant.VerificationType;
 import com.fleencorp.feen.verification.exception.core.ExpiredVerificationCodeException;
 import com.fleencorp.feen.verification.exception.core.InvalidVerificationCodeException;
 import com.fleencorp.feen.verification.exception.core.VerificationFailedException;
+import com.fleencorp.feen.verification.service.OtpStoreService;
 import com.fleencorp.feen.verification.service.VerificationService;
 import com.fleencorp.localizer.service.Localizer;
 import lombok.extern.slf4j.Slf4j;
@@ -37,13 +38,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.util.List;
 
 import static com.fleencorp.base.util.ExceptionUtil.checkIsFalse;
 import static com.fleencorp.base.util.ExceptionUtil.checkIsNull;
-import static com.fleencorp.feen.common.service.impl.cache.CacheKeyService.getUpdateEmailCacheKey;
-import static com.fleencorp.feen.common.service.impl.cache.CacheKeyService.getUpdatePhoneNumberCacheKey;
 import static com.fleencorp.feen.verification.service.OtpService.getRandomSixDigitOtp;
 import static java.util.Objects.nonNull;
 
@@ -58,7 +56,7 @@ import static java.util.Objects.nonNull;
 @Service
 public class MemberUpdateServiceImpl implements MemberUpdateService, PasswordService {
 
-  private final CacheService cacheService;
+  private final OtpStoreService otpStoreService;
   private final CountryService countryService;
   private final StorageService storageService;
   private final VerificationService verificationService;
@@ -74,10 +72,10 @@ public class MemberUpdateServiceImpl implements MemberUpdateService, PasswordSer
    * Constructs a new instance of {@code MemberServiceImpl} with the specified dependencies.
    *
    * <p>This constructor initializes the service with the required components to perform member-related
-   * operations, including caching, country-related services, file storage, verification,
+   * operations, including verification code storage, country-related services, file storage, verification,
    * repository access, localization, password encoding, profile publishing, and user mapping.</p>
    *
-   * @param cacheService            the service used for caching member data
+   * @param otpStoreService         the service storing one-time verification codes
    * @param countryService          the service providing country-related operations
    * @param storageService          the service for handling file storage operations
    * @param verificationService     the service responsible for verifying members
@@ -90,7 +88,7 @@ public class MemberUpdateServiceImpl implements MemberUpdateService, PasswordSer
    * @param s3BucketNames           the configuration class for managing S3 bucket names
    */
   public MemberUpdateServiceImpl(
-      final CacheService cacheService,
+      final OtpStoreService otpStoreService,
       final CountryService countryService,
       final StorageService storageService,
       final VerificationService verificationService,
@@ -101,7 +99,7 @@ public class MemberUpdateServiceImpl implements MemberUpdateService, PasswordSer
       final ProfileRequestPublisher profileRequestPublisher,
       final UserMapper userMapper,
       final S3BucketNames s3BucketNames) {
-    this.cacheService = cacheService;
+    this.otpStoreService = otpStoreService;
     this.countryService = countryService;
     this.storageService = storageService;
     this.verificationService = verificationService;
@@ -211,13 +209,13 @@ public class MemberUpdateServiceImpl implements MemberUpdateService, PasswordSer
 
     // Generate a random six-digit OTP (One-Time Password)
     final String code = getRandomSixDigitOtp();
+    // Save the generated verification code for the member
+    saveUpdateEmailOrPhoneVerificationCode(verificationType, member, code);
     // Create a profile update verification request with the generated code
     final ProfileUpdateVerificationRequest profileUpdateVerificationRequest = createProfileUpdateVerificationRequest(code, verificationType, user);
     // Publish the message to the profile request publisher
     profileRequestPublisher.publishMessage(PublishMessageRequest.of(profileUpdateVerificationRequest));
 
-    // Save the generated verification code for the member
-    saveUpdateEmailOrPhoneVerificationCode(verificationType, member, code);
     // Create the response
     final SendUpdateEmailOrPhoneVerificationCodeResponse emailOrPhoneVerificationCodeResponse = SendUpdateEmailOrPhoneVerificationCodeResponse.of();
     // Return the response indicating successful sending of the verification code
@@ -238,23 +236,19 @@ public class MemberUpdateServiceImpl implements MemberUpdateService, PasswordSer
   public UpdateEmailAddressResponse updateEmailAddress(final ConfirmUpdateEmailAddressDto updateEmailAddressDto, final RegisteredUser user) {
     // Get the current user's email address
     final String username = user.getEmailAddress();
-    // Generate the cache key for the email update verification
-    final String verificationKey = getUpdateEmailCacheKey(username);
     // Retrieve the verification code from the DTO
     final String code = updateEmailAddressDto.getVerificationCode();
 
+    // Verify the email address to update is not used by another user, before the code is consumed
+    verifyEmailIsNotUsedByAnotherUser(updateEmailAddressDto, user);
     // Validate the provided verification code
-    verificationService.validateVerificationCode(verificationKey, code);
+    verificationService.validateVerificationCode(OtpPurpose.UPDATE_EMAIL, username, code);
     // Retrieve the member associated with the user's email address
     final Member member = findMember(user.getEmailAddress());
-    // Verify the email address to update is not used by another user
-    verifyEmailIsNotUsedByAnotherUser(updateEmailAddressDto, user);
     // Update the member's email address and mark the email as verified
     member.updateAndVerifyEmail(updateEmailAddressDto.getEmailAddress());
     // Save the updated member information
     memberRepository.save(member);
-    // Clear the OTP associated with the email update process
-    clearUpdateEmailAddressOtp(username);
 
     // Return the response indicating successful email address update
     return localizer.of(UpdateEmailAddressResponse.of());
@@ -289,23 +283,19 @@ public class MemberUpdateServiceImpl implements MemberUpdateService, PasswordSer
       PhoneNumberAlreadyExistsException {
     // Get the current user's email address
     final String username = user.getEmailAddress();
-    // Generate the cache key for the phone number update verification
-    final String verificationKey = getUpdatePhoneNumberCacheKey(username);
     // Retrieve the verification code from the DTO
     final String code = updatePhoneNumberDto.getVerificationCode();
 
+    // Verify the phone number to update is not used by another user, before the code is consumed
+    verifyPhoneNumberIsNotUsedByAnotherUser(updatePhoneNumberDto, user);
     // Validate the provided verification code
-    verificationService.validateVerificationCode(verificationKey, code);
+    verificationService.validateVerificationCode(OtpPurpose.UPDATE_PHONE_NUMBER, username, code);
     // Retrieve the member associated with the user's email address
     final Member member = findMember(user.getEmailAddress());
-    // Verify the phone number to update is not used by another user
-    verifyPhoneNumberIsNotUsedByAnotherUser(updatePhoneNumberDto, user);
     // Update the member's phone number and mark the phone number as verified
     member.updateAndVerifyPhone(updatePhoneNumberDto.getPhoneNumber());
     // Save the updated member information
     memberRepository.save(member);
-    // Clear the OTP associated with the phone number update process
-    clearUpdatePhoneNumberOtp(username);
 
     // Return the response indicating successful phone number update
     return localizer.of(UpdatePhoneNumberResponse.of());
@@ -494,7 +484,7 @@ public class MemberUpdateServiceImpl implements MemberUpdateService, PasswordSer
    * @param otp a random code associated with the user's identifier during the update email process
    */
   protected void saveUpdateEmailOtp(final String subject, final String otp) {
-    cacheService.set(getUpdateEmailCacheKey(subject), otp, Duration.ofMinutes(3));
+    otpStoreService.reissue(OtpPurpose.UPDATE_EMAIL, subject, otp);
   }
 
   /**
@@ -504,26 +494,7 @@ public class MemberUpdateServiceImpl implements MemberUpdateService, PasswordSer
    * @param otp a random code associated with the user's identifier during the update phone number process
    */
   public void saveUpdatePhoneNumberOtp(final String subject, final String otp) {
-    cacheService.set(getUpdatePhoneNumberCacheKey(subject), otp, Duration.ofMinutes(3));
-  }
-
-
-  /**
-   * Remove the user's update email otp after successful update of the user's email address.
-   *
-   * @param username the user's identifier associated with the update email otp or code
-   */
-  protected void clearUpdateEmailAddressOtp(final String username) {
-    cacheService.delete(getUpdateEmailCacheKey(username));
-  }
-
-  /**
-   * Remove the user's update phone otp after successful update of the user's phone number.
-   *
-   * @param username the user's identifier associated with the update phone otp or code
-   */
-  protected void clearUpdatePhoneNumberOtp(final String username) {
-    cacheService.delete(getUpdatePhoneNumberCacheKey(username));
+    otpStoreService.reissue(OtpPurpose.UPDATE_PHONE_NUMBER, subject, otp);
   }
 
   /**
@@ -224,7 +224,7 @@ public class UserProfilePublicServiceImpl implements UserProfilePublicService {
    *
    * <p>This method processes the results of the streams and chat spaces the user is associated with,
    * organizes them into response objects, and sets them in the provided {@link UserProfileResponse}.
-   * The results are localized before being added to the response.</p>
+   * The results are localized along with the response once it is complete.</p>
    *
    * @param userCreatedStreams the streams created by the user
    * @param mutualAttendedStreams the streams attended by both the user and the target user
@@ -245,10 +245,6 @@ public class UserProfilePublicServiceImpl implements UserProfilePublicService {
     final MutualChatSpaceMembershipSearchResult mutualChatSpaceMembershipSearchResult = MutualChatSpaceMembershipSearchResult.of(mutualChatSpaceMembershipSearchResultView, targetUserFullName);
     final MutualStreamAttendanceSearchResult mutualStreamAttendanceSearchResult = MutualStreamAttendanceSearchResult.of(mutualStreamAttendanceSearchResultView, targetUserFullName);
 
-    localizer.of(userCreatedStreamsSearchResult);
-    localizer.of(mutualStreamAttendanceSearchResult);
-    localizer.of(mutualChatSpaceMembershipSearchResult);
-
     userProfileResponse.setMutualChatSpaceMembershipSearchResult(mutualChatSpaceMembershipSearchResult);
     userProfileResponse.setMutualStreamAttendanceSearchResult(mutualStreamAttendanceSearchResult);
     userProfileResponse.setUserCreatedStreamsSearchResult(userCreatedStreamsSearchResult);
@@ -258,7 +254,7 @@ public class UserProfilePublicServiceImpl implements UserProfilePublicService {
    * Finds and sets follower and following search result details for the given member, and attaches them to the user profile response.
    *
    * <p>This method initializes a new {@link SearchRequest} and retrieves both followers and followings of the given {@code member}.
-   * The results are localized and then set on the provided {@code userProfileResponse}.</p>
+   * The results are set on the provided {@code userProfileResponse} and localized along with it.</p>
    *
    * @param member               the member whose follower and following data is being retrieved
    * @param userProfileResponse  the response object to populate with follower and following search results
@@ -268,9 +264,6 @@ public class UserProfilePublicServiceImpl implements UserProfilePublicService {
     final FollowerSearchResult followerSearchResult = followerService.getFollowers(searchRequest);
     final FollowingSearchResult followingSearchResult = followerService.getFollowings(searchRequest);
 
-    localizer.of(followerSearchResult);
-    localizer.of(followingSearchResult);
-
     userProfileResponse.setFollowerSearchResult(followerSearchResult);
     userProfileResponse.setFollowingSearchResult(followingSearchResult);
   }
@@ -0,0 +1,47 @@
+package com.fleencorp.feen.verification.constant;
+
+import com.fleencorp.feen.mfa.constant.MfaType;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Enumeration of the flows that issue one-time verification codes.
+ *
+ * <p>Each purpose has its own key space in the OTP store and its own validity period, so a code
+ * issued for one flow can never be used to complete another.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Getter
+public enum OtpPurpose {
+
+  SIGN_UP("sign-up", Duration.ofMinutes(5)),
+  MFA_AUTHENTICATION("mfa-authentication", Duration.ofMinutes(5)),
+  MFA_SETUP_EMAIL("mfa-setup-email", Duration.ofMinutes(5)),
+  MFA_SETUP_PHONE("mfa-setup-phone", Duration.ofMinutes(5)),
+  RESET_PASSWORD("reset-password", Duration.ofMinutes(3)),
+  UPDATE_EMAIL("update-email", Duration.ofMinutes(3)),
+  UPDATE_PHONE_NUMBER("update-phone-number", Duration.ofMinutes(3));
+
+  private final String value;
+  private final Duration ttl;
+
+  OtpPurpose(
+      final String value,
+      final Duration ttl) {
+    this.value = value;
+    this.ttl = ttl;
+  }
+
+  /**
+   * Resolves the MFA setup purpose matching the given MFA type.
+   *
+   * @param mfaType the MFA type being set up
+   * @return {@link #MFA_SETUP_EMAIL} for email, {@link #MFA_SETUP_PHONE} otherwise
+   */
+  public static OtpPurpose mfaSetup(final MfaType mfaType) {
+    return MfaType.isEmail(mfaType) ? MFA_SETUP_EMAIL : MFA_SETUP_PHONE;
+  }
+}
@@ -0,0 +1,27 @@
+package com.fleencorp.feen.verification.constant;
+
+/**
+ * Outcome of checking a submitted one-time code against the OTP store.
+ */
+public enum OtpVerificationStatus {
+
+  /**
+   * The code matched and has been consumed.
+   */
+  VALID,
+
+  /**
+   * The code did not match. The stored code remains usable until the attempts are exhausted.
+   */
+  INVALID,
+
+  /**
+   * No code exists for the subject, or it has expired.
+   */
+  EXPIRED,
+
+  /**
+   * Too many failed attempts were made and the subject is locked out.
+   */
+  LOCKED
+}
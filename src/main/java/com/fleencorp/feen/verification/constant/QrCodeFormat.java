@@ -0,0 +1,22 @@
+package com.fleencorp.feen.verification.constant;
+
+import lombok.Getter;
+
+/**
+ * Enumeration of the image formats a QR code can be rendered to.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Getter
+public enum QrCodeFormat {
+
+  SVG("image/svg+xml"),
+  PNG("image/png");
+
+  private final String mediaType;
+
+  QrCodeFormat(final String mediaType) {
+    this.mediaType = mediaType;
+  }
+}
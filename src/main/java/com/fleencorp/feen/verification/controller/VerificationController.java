@@ -1,5 +1,6 @@
 package com.fleencorp.feen.verification.controller;
 
+import com.fleencorp.feen.common.aspect.RateLimit;
 import com.fleencorp.feen.model.response.authentication.ResendSignUpVerificationCodeResponse;
 import com.fleencorp.feen.model.response.authentication.SignUpResponse;
 import com.fleencorp.feen.model.response.security.ChangePasswordResponse;
@@ -38,6 +39,7 @@ public class VerificationController {
     return verificationService.completeSignUp(completeSignUpDto, user);
   }
 
+  @RateLimit(name = "resend-sign-up-verification-code", capacity = 3, refillPeriodSeconds = 600)
   @PostMapping(value = "/resend-sign-up-verification-code")
   public ResendSignUpVerificationCodeResponse resendSignUpVerificationCode(
       @Valid @RequestBody final ResendSignUpVerificationCodeDto resendSignUpVerificationCodeDto,
@@ -0,0 +1,31 @@
+package com.fleencorp.feen.verification.model.otp;
+
+import com.fleencorp.feen.verification.constant.OtpVerificationStatus;
+
+import java.time.Duration;
+
+/**
+ * The result of verifying a one-time code.
+ *
+ * @param status the outcome of the verification
+ * @param attemptsLeft the number of attempts left before lockout, only meaningful when the code is invalid
+ * @param retryAfter how long the subject is locked out for, zero unless locked
+ */
+public record OtpVerification(OtpVerificationStatus status, long attemptsLeft, Duration retryAfter) {
+
+  public static OtpVerification of(final OtpVerificationStatus status) {
+    return new OtpVerification(status, 0, Duration.ZERO);
+  }
+
+  public static OtpVerification invalid(final long attemptsLeft) {
+    return new OtpVerification(OtpVerificationStatus.INVALID, attemptsLeft, Duration.ZERO);
+  }
+
+  public static OtpVerification locked(final Duration retryAfter) {
+    return new OtpVerification(OtpVerificationStatus.LOCKED, 0, retryAfter);
+  }
+
+  public boolean isValid() {
+    return status == OtpVerificationStatus.VALID;
+  }
+}
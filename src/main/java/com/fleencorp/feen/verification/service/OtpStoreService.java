@@ -0,0 +1,24 @@
+package com.fleencorp.feen.verification.service;
+
+import com.fleencorp.feen.verification.constant.OtpPurpose;
+import com.fleencorp.feen.verification.model.otp.OtpVerification;
+
+/**
+ * Service interface for storing and verifying one-time verification codes.
+ *
+ * <p>Codes are kept per {@link OtpPurpose} and subject, hashed at rest, and verified atomically so that
+ * a code can only be used once and a subject is locked out after too many failed attempts.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public interface OtpStoreService {
+
+  void issue(OtpPurpose otpPurpose, String subject, String code);
+
+  void reissue(OtpPurpose otpPurpose, String subject, String code);
+
+  OtpVerification verifyAndConsume(OtpPurpose otpPurpose, String subject, String code);
+
+  void invalidate(OtpPurpose otpPurpose, String subject);
+}
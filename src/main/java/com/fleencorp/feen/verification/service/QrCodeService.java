@@ -0,0 +1,18 @@
+package com.fleencorp.feen.verification.service;
+
+import com.fleencorp.feen.verification.constant.QrCodeFormat;
+
+/**
+ * Service interface for rendering QR codes.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public interface QrCodeService {
+
+  byte[] render(String content, QrCodeFormat format);
+
+  String toDataUri(String content, QrCodeFormat format);
+
+  String toDataUri(String content);
+}
@@ -1,7 +1,7 @@
 package com.fleencorp.feen.verification.service;
 
 import com.fleencorp.feen.common.exception.FailedOperationException;
-import com.fleencorp.feen.common.service.impl.cache.CacheService;
+import com.fleencorp.feen.common.exception.RateLimitExceededException;
 import com.fleencorp.feen.mfa.model.dto.ConfirmMfaVerificationCodeDto;
 import com.fleencorp.feen.mfa.model.dto.ResendMfaVerificationCodeDto;
 import com.fleencorp.feen.mfa.model.response.ResendMfaVerificationCodeResponse;
@@ -15,47 +15,39 @@ import com.fleencorp.feen.shared.security.RegisteredUser;
 import com.fleencorp.feen.user.exception.authentication.InvalidAuthenticationException;
 import com.fleencorp.feen.user.exception.user.UserNotFoundException;
 import com.fleencorp.feen.user.model.dto.authentication.*;
+import com.fleencorp.feen.verification.constant.OtpPurpose;
 import com.fleencorp.feen.verification.exception.core.*;
-
-import static com.fleencorp.base.util.ExceptionUtil.checkIsNull;
-import static java.util.Objects.nonNull;
+import com.fleencorp.feen.verification.model.otp.OtpVerification;
 
 public interface VerificationService {
 
   /**
-   * Validates the provided verification code against the stored code.
+   * Validates the provided verification code against the code issued for the given purpose.
    *
-   * <p>This method checks if the verification key is null, if the key exists in the cache,
-   * and if the stored code matches the provided code. It throws appropriate exceptions if
-   * validation fails.</p>
+   * <p>The code is checked and consumed atomically by the {@link OtpStoreService}, so a valid code can
+   * only be used once. Each failed attempt counts towards the lockout of the subject.</p>
    *
-   * @param verificationKey the key used to retrieve the verification code from the cache
-   * @param code            the verification code to validate
-   * @throws VerificationFailedException    if the verification key is null
-   * @throws ExpiredVerificationCodeException if the verification key does not exist in the cache
+   * @param otpPurpose the flow the code was issued for
+   * @param subject    the user the code was issued to
+   * @param code       the verification code to validate
+   * @throws VerificationFailedException    if the subject or code is null
+   * @throws ExpiredVerificationCodeException if no code exists for the subject or it has expired
    * @throws InvalidVerificationCodeException if the stored code does not match the provided code
+   * @throws RateLimitExceededException if the subject is locked out after too many failed attempts
    */
-  default void validateVerificationCode(final String verificationKey, final String code) {
-    // Check if the verification key is null
-    checkIsNull(verificationKey, VerificationFailedException::new);
-
-    // Check if the verification key exists in the cache
-    if (!(getCacheService().exists(verificationKey))) {
-      throw ExpiredVerificationCodeException.of(code);
-    }
-
-    // Retrieve the existing code from the cache
-    final String existingCode = (String) getCacheService().get(verificationKey);
-    // Check if the verification key is null
-    checkIsNull(existingCode, InvalidVerificationCodeException.of(code));
+  default void validateVerificationCode(final OtpPurpose otpPurpose, final String subject, final String code) {
+    // Verify and consume the code in the store
+    final OtpVerification otpVerification = getOtpStoreService().verifyAndConsume(otpPurpose, subject, code);
 
-    // Check if the existing code is null or does not match the provided code
-    if (!(nonNull(existingCode) && existingCode.equals(code))) {
-      throw new InvalidVerificationCodeException(code);
+    switch (otpVerification.status()) {
+      case VALID -> { }
+      case EXPIRED -> throw ExpiredVerificationCodeException.of(code);
+      case LOCKED -> throw RateLimitExceededException.of(Math.max(1, otpVerification.retryAfter().toSeconds()));
+      default -> throw new InvalidVerificationCodeException(code);
     }
   }
 
-  CacheService getCacheService();
+  OtpStoreService getOtpStoreService();
 
   SignUpResponse completeSignUp(CompleteSignUpDto completeSignUpDto, RegisteredUser user) throws AlreadySignedUpException, VerificationFailedException, FailedOperationException;
 
@@ -2,11 +2,7 @@ package com.fleencorp.feen.verification.service.impl;
 
 import com.fleencorp.feen.common.exception.UnableToCompleteOperationException;
 import com.fleencorp.feen.verification.service.OtpService;
-import com.google.zxing.BarcodeFormat;
-import com.google.zxing.MultiFormatWriter;
-import com.google.zxing.WriterException;
-import com.google.zxing.client.j2se.MatrixToImageWriter;
-import com.google.zxing.common.BitMatrix;
+import com.fleencorp.feen.verification.service.QrCodeService;
 import de.taimos.totp.TOTP;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.binary.Base32;
@@ -14,11 +10,8 @@ import org.apache.commons.codec.binary.Hex;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.net.URLEncoder;
 import java.security.SecureRandom;
-import java.util.Base64;
 
 import static com.fleencorp.feen.common.util.common.LoggingUtil.logIfEnabled;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -41,6 +34,12 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 @Primary
 public class OtpServiceImpl implements OtpService {
 
+  private final QrCodeService qrCodeService;
+
+  public OtpServiceImpl(final QrCodeService qrCodeService) {
+    this.qrCodeService = qrCodeService;
+  }
+
   /**
    * Generates a random secret key to be used for OTP (One-Time Password) generation.
    *
@@ -123,57 +122,14 @@ public class OtpServiceImpl implements OtpService {
 
   /**
    * Generates a Data URI containing QR code image data for the provided OTP authentication URL,
-   * with specified dimensions.
-   *
-   * @param googleOTPAuthURL The OTP authentication URL generated by Google Authenticator.
-   * @param height            The height of the QR code image.
-   * @param width             The width of the QR code image.
-   * @return A Data URI string containing the QR code image data.
-   * @throws WriterException if an error occurs while encoding the QR code.
-   * @throws IOException     if an I/O error occurs.
-   */
-  protected String getQRImageDataURI(final String googleOTPAuthURL, final int height, final int width) throws WriterException, IOException {
-    final byte[] imageBytes = getQRImageBytes(googleOTPAuthURL, height, width);
-    final String base64Image = Base64.getEncoder().encodeToString(imageBytes);
-    return "data:image/png;base64," + base64Image;
-  }
-
-
-  /**
-   * Generates a Data URI containing QR code image data for the provided OTP authentication URL,
-   * with default dimensions of 300x300 pixels.
+   * in the format configured for the {@link QrCodeService}.
    *
    * @param googleOTPAuthURL The OTP authentication URL generated by Google Authenticator.
    * @return A Data URI string containing the QR code image data.
    */
   @Override
   public String getQRImageDataURI(final String googleOTPAuthURL) {
-    try {
-      return getQRImageDataURI(googleOTPAuthURL, 300, 300);
-    } catch (final WriterException | IOException ex) {
-      logIfEnabled(log::isErrorEnabled, () -> log.error("Error has occurred. Reason: {}", ex.getMessage()));
-    }
-    return null;
-  }
-
-
-  /**
-   * Generates a byte array containing QR code image data for the provided OTP authentication URL,
-   * with specified dimensions.
-   *
-   * @param googleOTPAuthURL The OTP authentication URL generated by Google Authenticator.
-   * @param height            The height of the QR code image.
-   * @param width             The width of the QR code image.
-   * @return A byte array containing the QR code image data.
-   * @throws WriterException if an error occurs while encoding the QR code.
-   * @throws IOException     if an I/O error occurs.
-   */
-  protected byte[] getQRImageBytes(final String googleOTPAuthURL, final int height, final int width) throws WriterException, IOException {
-    final BitMatrix matrix = new MultiFormatWriter().encode(googleOTPAuthURL, BarcodeFormat.QR_CODE, width, height);
-    try (final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-      MatrixToImageWriter.writeToStream(matrix, "png", out);
-      return out.toByteArray();
-    }
+    return qrCodeService.toDataUri(googleOTPAuthURL);
   }
 
 }
@@ -0,0 +1,213 @@
+package com.fleencorp.feen.verification.service.impl;
+
+import com.fleencorp.feen.common.exception.RateLimitExceededException;
+import com.fleencorp.feen.security.properties.OtpProperties;
+import com.fleencorp.feen.verification.constant.OtpPurpose;
+import com.fleencorp.feen.verification.constant.OtpVerificationStatus;
+import com.fleencorp.feen.verification.exception.core.VerificationFailedException;
+import com.fleencorp.feen.verification.model.otp.OtpVerification;
+import com.fleencorp.feen.verification.service.OtpStoreService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+
+import static com.fleencorp.feen.common.service.impl.cache.CacheKeyService.getOtpCacheKey;
+import static java.util.Objects.isNull;
+
+/**
+ * Redis backed implementation of {@link OtpStoreService}.
+ *
+ * <p>Each code lives in a Redis hash holding the hash of the code, the number of failed attempts, the
+ * earliest time a new code may be resent and, once the attempts are exhausted, the end of the lockout.
+ * Issuing and verifying are each a single Lua script call, so the check of the code, the increment of the
+ * attempts and the deletion of a used code cannot interleave between concurrent requests or nodes.</p>
+ *
+ * <p>Only a SHA-256 digest of the code salted with its key is stored, so codes cannot be read back from
+ * Redis, and a code issued for one purpose or subject never matches another.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class OtpStoreServiceImpl implements OtpStoreService {
+
+  private static final String OTP_ISSUE_SCRIPT = "scripts/redis/otp-issue.lua";
+  private static final String OTP_VERIFY_SCRIPT = "scripts/redis/otp-verify.lua";
+
+  private final StringRedisTemplate redisTemplate;
+  private final OtpProperties otpProperties;
+  private final RedisScript<List> issueScript;
+  private final RedisScript<List> verifyScript;
+
+  /**
+   * Constructs a new OtpStoreServiceImpl.
+   *
+   * @param redisTemplate the template used to execute the OTP scripts
+   * @param otpProperties the attempt, lockout and resend configuration
+   */
+  public OtpStoreServiceImpl(
+      final StringRedisTemplate redisTemplate,
+      final OtpProperties otpProperties) {
+    this.redisTemplate = redisTemplate;
+    this.otpProperties = otpProperties;
+    this.issueScript = createScript(OTP_ISSUE_SCRIPT);
+    this.verifyScript = createScript(OTP_VERIFY_SCRIPT);
+  }
+
+  /**
+   * Issues a new code for the subject, replacing any code previously issued for the same purpose.
+   *
+   * <p>The resend cooldown is not enforced, since this is used when a flow starts. Endpoints a client can call
+   * again at will use {@link #reissue(OtpPurpose, String, String)} instead. The failed attempts of a code that is
+   * still live are carried over to the new one, and a subject that is locked out cannot be issued a new code
+   * until the lockout ends.</p>
+   *
+   * @param otpPurpose the flow the code is issued for
+   * @param subject the user the code is issued to
+   * @param code the plain code sent to the user
+   * @throws RateLimitExceededException if the subject is locked out
+   */
+  @Override
+  public void issue(final OtpPurpose otpPurpose, final String subject, final String code) {
+    store(otpPurpose, subject, code, false);
+  }
+
+  /**
+   * Issues a new code for the subject on an explicit resend, enforcing the resend cooldown.
+   *
+   * <p>Used by every endpoint a client can call repeatedly to be sent a code. The failed attempts of a code that
+   * is still live are carried over to the new one.</p>
+   *
+   * @param otpPurpose the flow the code is issued for
+   * @param subject the user the code is issued to
+   * @param code the plain code sent to the user
+   * @throws RateLimitExceededException if the cooldown has not elapsed or the subject is locked out
+   */
+  @Override
+  public void reissue(final OtpPurpose otpPurpose, final String subject, final String code) {
+    store(otpPurpose, subject, code, true);
+  }
+
+  /**
+   * Verifies the submitted code and consumes it when it matches.
+   *
+   * <p>A failed attempt is counted against the stored code. Once the configured number of attempts is
+   * reached the code is discarded and the subject is locked out for the configured duration.</p>
+   *
+   * @param otpPurpose the flow the code was issued for
+   * @param subject the user the code was issued to
+   * @param code the code submitted by the user
+   * @return the outcome of the verification
+   * @throws VerificationFailedException if the subject or code is missing
+   */
+  @Override
+  public OtpVerification verifyAndConsume(final OtpPurpose otpPurpose, final String subject, final String code) {
+    if (isNull(subject) || isNull(code)) {
+      throw new VerificationFailedException();
+    }
+
+    final String key = getOtpCacheKey(otpPurpose, subject);
+    final List<?> result = redisTemplate.execute(
+      verifyScript,
+      List.of(key),
+      hash(key, code),
+      String.valueOf(otpProperties.getMaxAttempts()),
+      String.valueOf(otpProperties.getLockout().toMillis())
+    );
+
+    final long status = getStatus(result);
+    final long detail = getDetail(result);
+
+    return switch ((int) status) {
+      case 1 -> OtpVerification.of(OtpVerificationStatus.VALID);
+      case -1 -> OtpVerification.invalid(detail);
+      case -2 -> OtpVerification.locked(Duration.ofMillis(detail));
+      default -> OtpVerification.of(OtpVerificationStatus.EXPIRED);
+    };
+  }
+
+  /**
+   * Removes any code issued to the subject for the given purpose.
+   *
+   * @param otpPurpose the flow the code was issued for
+   * @param subject the user the code was issued to
+   */
+  @Override
+  public void invalidate(final OtpPurpose otpPurpose, final String subject) {
+    redisTemplate.delete(getOtpCacheKey(otpPurpose, subject));
+  }
+
+  /**
+   * Runs the issue script and translates a cooldown or lockout into a {@link RateLimitExceededException}.
+   *
+   * @param otpPurpose the flow the code is issued for
+   * @param subject the user the code is issued to
+   * @param code the plain code sent to the user
+   * @param enforceCooldown whether the resend cooldown applies
+   */
+  protected void store(final OtpPurpose otpPurpose, final String subject, final String code, final boolean enforceCooldown) {
+    final String key = getOtpCacheKey(otpPurpose, subject);
+    final List<?> result = redisTemplate.execute(
+      issueScript,
+      List.of(key),
+      hash(key, code),
+      String.valueOf(otpPurpose.getTtl().toMillis()),
+      String.valueOf(otpProperties.getResendCooldown().toMillis()),
+      enforceCooldown ? "1" : "0"
+    );
+
+    if (getStatus(result) < 0) {
+      final long retryAfterSeconds = Math.max(1, Duration.ofMillis(getDetail(result)).toSeconds());
+      log.info("OTP for {} not issued, retry after {}s", otpPurpose, retryAfterSeconds);
+      throw RateLimitExceededException.of(retryAfterSeconds);
+    }
+  }
+
+  /**
+   * Computes the digest stored in place of the plain code.
+   *
+   * @param key the key of the code, used as a salt
+   * @param code the plain code
+   * @return the hex encoded SHA-256 digest of the key and code
+   */
+  protected static String hash(final String key, final String code) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      final byte[] hashed = digest.digest(key.concat(":").concat(code).getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(hashed);
+    } catch (final NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static long getStatus(final List<?> result) {
+    return isNull(result) || result.isEmpty() ? 0 : toLong(result.get(0));
+  }
+
+  private static long getDetail(final List<?> result) {
+    return isNull(result) || result.size() < 2 ? 0 : toLong(result.get(1));
+  }
+
+  private static long toLong(final Object value) {
+    return value instanceof final Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+  }
+
+  private static RedisScript<List> createScript(final String path) {
+    final DefaultRedisScript<List> script = new DefaultRedisScript<>();
+    script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+    script.setResultType(List.class);
+    return script;
+  }
+}
@@ -0,0 +1,246 @@
+package com.fleencorp.feen.verification.service.impl;
+
+import com.fleencorp.feen.common.exception.UnableToCompleteOperationException;
+import com.fleencorp.feen.security.properties.QrCodeProperties;
+import com.fleencorp.feen.verification.constant.QrCodeFormat;
+import com.fleencorp.feen.verification.service.QrCodeService;
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import static com.fleencorp.feen.common.util.common.LoggingUtil.logIfEnabled;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Renders QR codes to SVG or PNG without going through {@code java.awt}.
+ *
+ * <p>The code is encoded once by ZXing into a matrix with one entry per module. From there:</p>
+ * <ul>
+ *   <li>SVG output is a single path with one sub-path per horizontal run of dark modules, which is usually
+ *   smaller than the equivalent PNG and scales to any size on the client.</li>
+ *   <li>PNG output is a 1-bit grayscale image written directly from the matrix. Scanlines are assembled in one
+ *   buffer sized for the image and compressed with a {@link Deflater} that is ended as soon as the image is
+ *   written, so no {@code BufferedImage} or intermediate streams are allocated and no native memory is held
+ *   between requests, whichever thread they run on.</li>
+ * </ul>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class QrCodeServiceImpl implements QrCodeService {
+
+  private static final byte[] PNG_SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+  private static final byte[] IHDR = "IHDR".getBytes(US_ASCII);
+  private static final byte[] IDAT = "IDAT".getBytes(US_ASCII);
+  private static final byte[] IEND = "IEND".getBytes(US_ASCII);
+
+  private static final int INITIAL_COMPRESSED_LENGTH = 8 * 1024;
+
+  private final QrCodeProperties qrCodeProperties;
+  private final Map<EncodeHintType, Object> hints;
+
+  public QrCodeServiceImpl(final QrCodeProperties qrCodeProperties) {
+    this.qrCodeProperties = qrCodeProperties;
+    this.hints = new EnumMap<>(EncodeHintType.class);
+    this.hints.put(EncodeHintType.CHARACTER_SET, UTF_8.name());
+    this.hints.put(EncodeHintType.MARGIN, qrCodeProperties.getQuietZone());
+    this.hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.valueOf(qrCodeProperties.getErrorCorrection()));
+  }
+
+  /**
+   * Renders the content as a QR code in the given format.
+   *
+   * @param content the text to encode
+   * @param format the image format to render to
+   * @return the encoded image
+   * @throws UnableToCompleteOperationException if the content cannot be encoded
+   */
+  @Override
+  public byte[] render(final String content, final QrCodeFormat format) {
+    final BitMatrix matrix = encode(content);
+    return switch (format) {
+      case SVG -> renderSvg(matrix).getBytes(UTF_8);
+      case PNG -> renderPng(matrix, qrCodeProperties.getPngModuleSize());
+    };
+  }
+
+  /**
+   * Renders the content as a QR code in the given format and wraps it in a base64 data URI.
+   *
+   * @param content the text to encode
+   * @param format the image format to render to
+   * @return the data URI of the image
+   */
+  @Override
+  public String toDataUri(final String content, final QrCodeFormat format) {
+    return "data:" + format.getMediaType() + ";base64," + Base64.getEncoder().encodeToString(render(content, format));
+  }
+
+  /**
+   * Renders the content as a QR code in the configured format and wraps it in a base64 data URI.
+   *
+   * @param content the text to encode
+   * @return the data URI of the image
+   */
+  @Override
+  public String toDataUri(final String content) {
+    return toDataUri(content, qrCodeProperties.getFormat());
+  }
+
+  /**
+   * Encodes the content into a matrix with exactly one entry per module, including the quiet zone.
+   *
+   * @param content the text to encode
+   * @return the module matrix
+   */
+  protected BitMatrix encode(final String content) {
+    try {
+      return new QRCodeWriter().encode(content, BarcodeFormat.QR_CODE, 0, 0, hints);
+    } catch (final WriterException ex) {
+      logIfEnabled(log::isErrorEnabled, () -> log.error("Error occurred while encoding QR code. Reason: {}", ex.getMessage()));
+      throw new UnableToCompleteOperationException();
+    }
+  }
+
+  /**
+   * Renders the matrix as an SVG document made of one path, with a sub-path for each horizontal run of dark modules.
+   *
+   * @param matrix the module matrix
+   * @return the SVG document
+   */
+  protected static String renderSvg(final BitMatrix matrix) {
+    final int size = matrix.getWidth();
+    final StringBuilder svg = new StringBuilder(size * size);
+    svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 ").append(size).append(' ').append(size)
+      .append("\" shape-rendering=\"crispEdges\"><path fill=\"#fff\" d=\"M0 0h").append(size).append('v').append(size)
+      .append("H0z\"/><path d=\"");
+
+    for (int y = 0; y < size; y++) {
+      int x = 0;
+      while (x < size) {
+        if (!matrix.get(x, y)) {
+          x++;
+          continue;
+        }
+        final int start = x;
+        while (x < size && matrix.get(x, y)) {
+          x++;
+        }
+        final int length = x - start;
+        svg.append('M').append(start).append(' ').append(y)
+          .append('h').append(length).append("v1h-").append(length).append('z');
+      }
+    }
+
+    return svg.append("\"/></svg>").toString();
+  }
+
+  /**
+   * Renders the matrix as a 1-bit grayscale PNG.
+   *
+   * @param matrix the module matrix
+   * @param moduleSize the size in pixels of one module
+   * @return the PNG image
+   */
+  protected static byte[] renderPng(final BitMatrix matrix, final int moduleSize) {
+    final int modules = matrix.getWidth();
+    final int size = modules * moduleSize;
+    // One filter byte followed by one bit per pixel
+    final int rowLength = 1 + (size + 7) / 8;
+    final byte[] raw = new byte[rowLength * size];
+
+    int offset = 0;
+    for (int y = 0; y < modules; y++) {
+      final int rowStart = offset;
+      // Filter type none, then a white row
+      raw[rowStart] = 0;
+      Arrays.fill(raw, rowStart + 1, rowStart + rowLength, (byte) 0xFF);
+
+      for (int x = 0; x < modules; x++) {
+        if (matrix.get(x, y)) {
+          final int end = (x + 1) * moduleSize;
+          for (int px = x * moduleSize; px < end; px++) {
+            raw[rowStart + 1 + (px >>> 3)] &= (byte) ~(0x80 >>> (px & 7));
+          }
+        }
+      }
+      offset += rowLength;
+
+      // Every pixel row of a module row is identical
+      for (int repeat = 1; repeat < moduleSize; repeat++) {
+        System.arraycopy(raw, rowStart, raw, offset, rowLength);
+        offset += rowLength;
+      }
+    }
+
+    byte[] compressed = new byte[INITIAL_COMPRESSED_LENGTH];
+    int compressedLength = 0;
+    final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+    try {
+      deflater.setInput(raw, 0, offset);
+      deflater.finish();
+      while (!deflater.finished()) {
+        if (compressedLength == compressed.length) {
+          // Grow the buffer, keeping what has been compressed so far
+          compressed = Arrays.copyOf(compressed, compressed.length * 2);
+        }
+        compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+      }
+    } finally {
+      // Frees the native zlib memory now instead of whenever the deflater is collected
+      deflater.end();
+    }
+
+    final byte[] png = new byte[PNG_SIGNATURE.length + (12 + 13) + (12 + compressedLength) + 12];
+    System.arraycopy(PNG_SIGNATURE, 0, png, 0, PNG_SIGNATURE.length);
+    int position = PNG_SIGNATURE.length;
+
+    final byte[] header = new byte[13];
+    writeInt(header, 0, size);
+    writeInt(header, 4, size);
+    // Bit depth 1, grayscale, deflate, adaptive filtering, no interlace
+    header[8] = 1;
+    position = writeChunk(png, position, IHDR, header, header.length);
+    position = writeChunk(png, position, IDAT, compressed, compressedLength);
+    writeChunk(png, position, IEND, header, 0);
+    return png;
+  }
+
+  /**
+   * Writes a PNG chunk made of its length, type, data and CRC.
+   *
+   * @return the position after the chunk
+   */
+  private static int writeChunk(final byte[] target, final int position, final byte[] type, final byte[] data, final int length) {
+    writeInt(target, position, length);
+    System.arraycopy(type, 0, target, position + 4, 4);
+    System.arraycopy(data, 0, target, position + 8, length);
+
+    final CRC32 crc = new CRC32();
+    crc.update(target, position + 4, 4 + length);
+    writeInt(target, position + 8 + length, (int) crc.getValue());
+    return position + 12 + length;
+  }
+
+  private static void writeInt(final byte[] target, final int position, final int value) {
+    target[position] = (byte) (value >>> 24);
+    target[position + 1] = (byte) (value >>> 16);
+    target[position + 2] = (byte) (value >>> 8);
+    target[position + 3] = (byte) value;
+  }
+}
@@ -3,7 +3,7 @@ package com.fleencorp.feen.verification.service.impl;
 import com.fleencorp.feen.common.event.model.base.PublishMessageRequest;
 import com.fleencorp.feen.common.event.service.PublisherService;
 import com.fleencorp.feen.common.exception.FailedOperationException;
-import com.fleencorp.feen.common.service.impl.cache.CacheService;
+import com.fleencorp.feen.common.exception.RateLimitExceededException;
 import com.fleencorp.feen.mfa.constant.MfaType;
 import com.fleencorp.feen.mfa.model.dto.ConfirmMfaVerificationCodeDto;
 import com.fleencorp.feen.mfa.model.dto.ResendMfaVerificationCodeDto;
@@ -32,10 +32,13 @@ import com.fleencorp.feen.user.model.request.authentication.ForgotPasswordReques
 import com.fleencorp.feen.user.repository.MemberRepository;
 import com.fleencorp.feen.user.service.UsernameService;
 import com.fleencorp.feen.user.service.authentication.PasswordService;
+import com.fleencorp.feen.verification.constant.OtpPurpose;
 import com.fleencorp.feen.verification.constant.VerificationType;
 import com.fleencorp.feen.verification.exception.core.*;
 import com.fleencorp.feen.verification.model.domain.ProfileToken;
+import com.fleencorp.feen.verification.model.otp.OtpVerification;
 import com.fleencorp.feen.verification.repository.ProfileTokenRepository;
+import com.fleencorp.feen.verification.service.OtpStoreService;
 import com.fleencorp.feen.verification.service.VerificationService;
 import com.fleencorp.localizer.service.Localizer;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -44,14 +47,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 import static com.fleencorp.base.util.ExceptionUtil.checkIsNull;
 import static com.fleencorp.base.util.ExceptionUtil.checkIsNullAny;
 import static com.fleencorp.base.util.datetime.DateTimeUtil.addMinutesFromNow;
-import static com.fleencorp.feen.common.service.impl.cache.CacheKeyService.*;
 import static com.fleencorp.feen.verification.service.OtpService.generateOtp;
 import static com.fleencorp.feen.verification.service.OtpService.getRandomSixDigitOtp;
 import static java.util.Objects.isNull;
@@ -62,7 +63,7 @@ public class VerificationServiceImpl implements PasswordService,
   VerificationService {
 
   private final AuthenticationServiceImpl authenticationService;
-  private final CacheService cacheService;
+  private final OtpStoreService otpStoreService;
   private final MfaService mfaService;
   private final RoleService roleService;
   private final TokenService tokenService;
@@ -75,7 +76,7 @@ public class VerificationServiceImpl implements PasswordService,
 
   public VerificationServiceImpl(
       @Lazy final AuthenticationServiceImpl authenticationService,
-      final CacheService cacheService,
+      final OtpStoreService otpStoreService,
       final MfaService mfaService,
       final RoleService roleService,
       final TokenService tokenService,
@@ -86,7 +87,7 @@ public class VerificationServiceImpl implements PasswordService,
       @Qualifier("profile-request-pub") final PublisherService publisherService,
       final Localizer localizer) {
     this.authenticationService = authenticationService;
-    this.cacheService = cacheService;
+    this.otpStoreService = otpStoreService;
     this.mfaService = mfaService;
     this.roleService = roleService;
     this.tokenService = tokenService;
@@ -99,8 +100,8 @@ public class VerificationServiceImpl implements PasswordService,
   }
 
   @Override
-  public CacheService getCacheService() {
-    return cacheService;
+  public OtpStoreService getOtpStoreService() {
+    return otpStoreService;
   }
 
   @Override
@@ -114,8 +115,7 @@ public class VerificationServiceImpl implements PasswordService,
    *
    * <p>This method validates the sign-up verification code provided by the user, retrieves the member
    * details, checks if the sign-up process is already completed, assigns default roles, verifies and
-   * updates the member details, initializes authentication and context for the new user, clears the
-   * temporary sign-up verification code, generates access and refresh tokens, and sends a completed
+   * updates the member details, initializes authentication and context for the new user, generates access and refresh tokens, and sends a completed
    * sign-up verification code.</p>
    *
    * @param completeSignUpDto the DTO containing the sign-up completion details
@@ -148,8 +148,6 @@ public class VerificationServiceImpl implements PasswordService,
 
     // Initialize authentication and context for the new user
     final RegisteredUser newUser = authenticationService.initializeAuthenticationAndContext(member);
-    // Clear temporary sign-up verification code
-    clearSignUpVerificationCodeSavedTemporarily(username);
     // Set user timezone after authentication
     authenticationService.setUserTimezoneAfterAuthentication(user);
 
@@ -168,8 +166,8 @@ public class VerificationServiceImpl implements PasswordService,
   /**
    * Validates the sign-up verification code for a given username.
    *
-   * <p>This method checks if the provided username or code is null, retrieves the verification key,
-   * and then validates the verification code against the stored code using the validateVerificationCode method.</p>
+   * <p>This method checks if the provided username or code is null, and then validates and consumes the
+   * verification code issued for the sign-up using the validateVerificationCode method.</p>
    *
    * @param username the username for which the verification code is being validated
    * @param code     the verification code to validate
@@ -181,10 +179,8 @@ public class VerificationServiceImpl implements PasswordService,
       throw new VerificationFailedException();
     }
 
-    // Retrieve the verification key from the cache
-    final String verificationKey = getSignUpVerificationCacheKey(username);
-    // Validate the verification code using the retrieved key
-    validateVerificationCode(verificationKey, code);
+    // Validate and consume the verification code issued for the sign-up
+    validateVerificationCode(OtpPurpose.SIGN_UP, username, code);
   }
 
   /**
@@ -298,20 +294,6 @@ public class VerificationServiceImpl implements PasswordService,
     return userRoles;
   }
 
-  /**
-   * Clears the sign-up verification code saved temporarily for the specified username.
-   *
-   * <p>Deletes the verification code stored in the cache for the given username.</p>
-   *
-   * @param username the username for which the sign-up verification code should be cleared
-   */
-  private void clearSignUpVerificationCodeSavedTemporarily(final String username) {
-    // Retrieve the cache key for the sign-up verification code
-    final String key = getSignUpVerificationCacheKey(username);
-    // Delete the verification code from the cache
-    cacheService.delete(key);
-  }
-
   /**
    * Generates an access token for the specified user with a status of {@link AuthenticationStatus#COMPLETED}.
    *
@@ -388,9 +370,9 @@ public class VerificationServiceImpl implements PasswordService,
   /**
    * Resends the sign-up verification code to the user.
    *
-   * <p>This method generates a new OTP, prepares a request to resend the sign-up verification code
-   * with user details, publishes the request to a profile request publisher, and saves the newly generated
-   * verification code temporarily for the user.</p>
+   * <p>This method generates a new OTP, replaces the previous verification code of the user subject to the
+   * resend cooldown, prepares a request to resend the sign-up verification code with user details and
+   * publishes the request to a profile request publisher.</p>
    *
    * @param resendSignUpVerificationCodeDto the DTO containing details for resending the verification code
    * @param user the authenticated user requesting to resend the verification code
@@ -407,10 +389,10 @@ public class VerificationServiceImpl implements PasswordService,
 
     // Prepare the request to resend the sign-up verification code
     final VerificationType verificationType = resendSignUpVerificationCodeDto.getVerificationType();
+    // Replace the previous verification code, subject to the resend cooldown
+    otpStoreService.reissue(OtpPurpose.SIGN_UP, user.getUsername(), otpCode);
     // Send sign up verification message to user
     authenticationService.sendSignUpVerificationMessage(otpCode, verificationType, user);
-    // Save the newly generated verification code temporarily for the user
-    authenticationService.saveSignUpVerificationCodeTemporarily(user.getUsername(), otpCode);
     // Create the response
     final ResendSignUpVerificationCodeResponse resendSignUpVerificationCodeResponse = ResendSignUpVerificationCodeResponse.of();
     // Return response indicating the successful initiation of code resend
@@ -442,9 +424,9 @@ public class VerificationServiceImpl implements PasswordService,
   /**
    * Resends the MFA (Multi-Factor Authentication) verification code to the user.
    *
-   * <p>This method generates a new OTP, prepares a request to resend the MFA verification code
-   * with user details, publishes the request to a profile request publisher, and saves the newly generated
-   * verification code temporarily for the user.</p>
+   * <p>This method generates a new OTP, replaces the previous verification code of the user subject to the
+   * resend cooldown, prepares a request to resend the MFA verification code with user details and
+   * publishes the request to a profile request publisher.</p>
    *
    * @param resendMfaVerificationCodeDto the DTO containing details for resending the MFA verification code
    * @param user the authenticated user requesting to resend the MFA verification code
@@ -455,10 +437,10 @@ public class VerificationServiceImpl implements PasswordService,
     // Generate a new OTP
     final String otpCode = generateOtp();
 
+    // Replace the previous verification code, subject to the resend cooldown
+    otpStoreService.reissue(OtpPurpose.MFA_AUTHENTICATION, user.getUsername(), otpCode);
     // Prepare the request to resend the MFA verification code
     sendResendMfaVerificationMessage(resendMfaVerificationCodeDto, user, otpCode);
-    // Save the newly generated verification code temporarily for the user
-    authenticationService.saveMfaVerificationCodeTemporarily(user.getUsername(), otpCode);
     // Create the response
     final ResendMfaVerificationCodeResponse resendMfaVerificationCodeResponse = ResendMfaVerificationCodeResponse.of();
     // Return response indicating the successful initiation of code resend
@@ -509,8 +491,6 @@ public class VerificationServiceImpl implements PasswordService,
     final String accessToken = tokenService.createAccessToken(authenticatedUser, AuthenticationStatus.COMPLETED);
     final String refreshToken = tokenService.createRefreshToken(authenticatedUser);
 
-    // Clear temporarily saved MFA verification code
-    clearMfaVerificationCodeSavedTemporarily(username);
     // Save authentication tokens to repository or cache
     authenticationService.saveAuthenticationTokensToRepositoryOrCache(username, accessToken, refreshToken);
     // Return SignInResponse with access and refresh tokens
@@ -535,19 +515,6 @@ public class VerificationServiceImpl implements PasswordService,
     }
   }
 
-  /**
-   * Clears the temporarily saved MFA (Multi-Factor Authentication) verification code
-   * from the cache associated with the given username.
-   *
-   * @param username the username associated with the MFA verification code to clear
-   */
-  private void clearMfaVerificationCodeSavedTemporarily(final String username) {
-    // Retrieve the cache key for the sign-up verification code
-    final String key = getMfaAuthenticationCacheKey(username);
-    // Delete the verification code from the cache
-    cacheService.delete(key);
-  }
-
   /**
    * Validates the reset password code provided by the user and initiates the password change process.
    *
@@ -564,15 +531,13 @@ public class VerificationServiceImpl implements PasswordService,
     // Fetch the member by email address or throw an exception if not found
     final Member member = authenticationService.getMemberDetails(emailAddress);
 
-    // Validate the provided verification code against the stored profile token and reset code
-    validateProfileTokenAndResetPasswordCode(emailAddress, resetPasswordDto.getVerificationCode());
+    // Validate and consume the reset password code issued to the user
+    validateResetPasswordCode(emailAddress, resetPasswordDto.getVerificationCode());
     // Initialize the user's authentication and security context
     final RegisteredUser user = authenticationService.initializeAuthenticationAndContext(member);
     // Generate a new reset password token for the user
     final String resetPasswordToken = tokenService.createResetPasswordToken(user);
 
-    // Clear any temporarily saved OTP for the user
-    clearResetPasswordOtpSavedTemporarily(user.getUsername());
     // Save the new reset password token for the user
     tokenService.saveResetPasswordToken(user.getUsername(), resetPasswordToken);
     // Return a localized response with the reset password token
@@ -580,76 +545,28 @@ public class VerificationServiceImpl implements PasswordService,
   }
 
   /**
-   * Validates the profile token and reset password code for a given email address.
-   *
-   * @param emailAddress            the email address associated with the profile token
-   * @param verificationTokenOrCode the verification token or code to validate
-   * @throws ResetPasswordCodeInvalidException if the profile token or reset password code is invalid
-   * @throws ResetPasswordCodeExpiredException if the reset password token has expired
-   */
-  protected void validateProfileTokenAndResetPasswordCode(final String emailAddress, final String verificationTokenOrCode) {
-    // Find the profile token associated with the email address
-    final ProfileToken profileToken = findProfileToken(emailAddress);
-    // Validate the provided verification token or code against the profile token
-    validateProfileTokenAndVerificationCode(verificationTokenOrCode, profileToken);
-    // Verify that the reset password token associated with the profile token has not expired
-    verifyResetPasswordTokenHasNotExpired(profileToken);
-  }
-
-  /**
-   * Finds the profile token associated with the given email address.
+   * Validates and consumes the reset password code issued to the given email address.
    *
-   * @param emailAddress the email address associated with the profile token
-   * @return the profile token found
-   * @throws ResetPasswordCodeInvalidException if no profile token exists for the email address
-   */
-  protected ProfileToken findProfileToken(final String emailAddress) {
-    // Get the profile token and If no profile token exists, throw an exception indicating invalid reset password code.
-    return profileTokenRepository.findByEmailAddress(emailAddress)
-      .orElseThrow(ResetPasswordCodeInvalidException.of());
-  }
-
-  /**
-   * Validates the profile token and verification code.
+   * <p>The code is verified by the {@link OtpStoreService}, which counts failed attempts and locks the
+   * user out once they are exhausted, so the six-digit code cannot be guessed by brute force.</p>
    *
-   * @param verificationTokenOrCode the verification token or code provided by the user
-   * @param profileToken the profile token containing the reset password token to validate against
-   * @throws ResetPasswordCodeInvalidException if the reset password token in the profile token is null
-   *                                          or does not match the provided verification token or code
+   * @param emailAddress the email address the reset password code was issued to
+   * @param code the reset password code provided by the user
+   * @throws ResetPasswordCodeInvalidException if the reset password code is invalid
+   * @throws ResetPasswordCodeExpiredException if the reset password code has expired
    */
-  protected void validateProfileTokenAndVerificationCode(final String verificationTokenOrCode, final ProfileToken profileToken) {
-    // Check if the provided token or code matches the reset password token in the profile token.
-    if (profileToken.isResetPasswordTokenInValid(verificationTokenOrCode)) {
-      throw new ResetPasswordCodeInvalidException();
-    }
-  }
+  protected void validateResetPasswordCode(final String emailAddress, final String code) {
+    // Verify and consume the code in the store
+    final OtpVerification otpVerification = otpStoreService.verifyAndConsume(OtpPurpose.RESET_PASSWORD, emailAddress, code);
 
-  /**
-   * Verifies that the reset password token has not expired.
-   *
-   * <p>This method checks if the provided {@code profileToken} exists and if its
-   * reset password token has expired. If the token has expired, it throws a
-   * {@link ResetPasswordCodeExpiredException}.</p>
-   *
-   * @param profileToken the profile token to be verified for expiry
-   * @throws ResetPasswordCodeExpiredException if the reset password token has expired
-   */
-  protected void verifyResetPasswordTokenHasNotExpired(final ProfileToken profileToken) {
-    // Check if the reset password token has expired.
-    if (nonNull(profileToken) && profileToken.isResetPasswordTokenExpired()) {
-      throw new ResetPasswordCodeExpiredException();
+    switch (otpVerification.status()) {
+      case VALID -> { }
+      case EXPIRED -> throw new ResetPasswordCodeExpiredException();
+      case LOCKED -> throw RateLimitExceededException.of(Math.max(1, otpVerification.retryAfter().toSeconds()));
+      default -> throw new ResetPasswordCodeInvalidException();
     }
   }
 
-  /**
-   * Clears the saved reset password OTP (One-Time Password) from the cache.
-   *
-   * @param username the username for which the OTP was saved
-   */
-  protected void clearResetPasswordOtpSavedTemporarily(final String username) {
-    cacheService.delete(getResetPasswordCacheKey(username));
-  }
-
   /**
    * Initiates the password reset process for a user based on their email address.
    *
@@ -676,12 +593,12 @@ public class VerificationServiceImpl implements PasswordService,
 
     // Generate and save reset password OTP for the user
     generateAndSaveResetPasswordToken(emailAddress, member, otpCode);
+    // Issue the reset password OTP in the store before it is sent
+    otpStoreService.reissue(OtpPurpose.RESET_PASSWORD, member.getEmailAddress(), otpCode);
     // Create a FleenUser object from basic member details
     final RegisteredUser user = RegisteredUser.fromMemberBasic(member);
     // Send forgot password verification message
     sendForgotPasswordMessage(otpCode, user, verificationType);
-    // Save reset password OTP in cache or storage
-    saveResetPasswordOtpTemporarily(member.getEmailAddress(), otpCode);
     // Return response with email address and phone number for confirmation
     return localizer.of(ForgotPasswordResponse.of(emailAddress, user.getPhoneNumber()));
   }
@@ -728,19 +645,6 @@ public class VerificationServiceImpl implements PasswordService,
     publisherService.publishMessage(PublishMessageRequest.of(forgotPasswordRequest));
   }
 
-  /**
-   * Saves a reset password OTP (One-Time Password) in the cache for a specified duration.
-   *
-   * <p>This method sets the OTP associated with the username in the cache service
-   * using the cache key derived from the username. The OTP remains valid for 3 minutes.</p>
-   *
-   * @param username the username for which the OTP is generated
-   * @param otp      the OTP generated for password reset
-   */
-  protected void saveResetPasswordOtpTemporarily(final String username, final String otp) {
-    cacheService.set(getResetPasswordCacheKey(username), otp, Duration.ofMinutes(3));
-  }
-
   /**
    * Changes the password for the authenticated user.
    *
@@ -0,0 +1,241 @@
+--liquibase formatted sql
+
+
+
+--changeset alamu:add_index_stream_attendee_stream_status
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'stream_attendee' AND indexname = 'idx_stream_attendee_stream_status';
+
+CREATE INDEX idx_stream_attendee_stream_status
+  ON stream_attendee (stream_id, request_to_join_status, is_attending);
+
+--rollback DROP INDEX IF EXISTS idx_stream_attendee_stream_status;
+
+
+
+--changeset alamu:add_index_stream_attendee_member_stream
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'stream_attendee' AND indexname = 'idx_stream_attendee_member_stream';
+
+CREATE INDEX idx_stream_attendee_member_stream
+  ON stream_attendee (member_id, stream_id);
+
+--rollback DROP INDEX IF EXISTS idx_stream_attendee_member_stream;
+
+
+
+--changeset alamu:add_index_chat_space_member_space_status
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'chat_space_member' AND indexname = 'idx_chat_space_member_space_status';
+
+CREATE INDEX idx_chat_space_member_space_status
+  ON chat_space_member (chat_space_id, request_to_join_status);
+
+--rollback DROP INDEX IF EXISTS idx_chat_space_member_space_status;
+
+
+
+--changeset alamu:add_index_chat_space_member_member_space
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'chat_space_member' AND indexname = 'idx_chat_space_member_member_space';
+
+CREATE INDEX idx_chat_space_member_member_space
+  ON chat_space_member (member_id, chat_space_id);
+
+--rollback DROP INDEX IF EXISTS idx_chat_space_member_member_space;
+
+
+
+--changeset alamu:add_index_notification_receiver_created_on
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'notification' AND indexname = 'idx_notification_receiver_created_on';
+
+CREATE INDEX idx_notification_receiver_created_on
+  ON notification (receiver_id, created_on DESC);
+
+--rollback DROP INDEX IF EXISTS idx_notification_receiver_created_on;
+
+
+
+--changeset alamu:add_index_likes_member_parent_type
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'likes' AND indexname = 'idx_likes_member_parent_type';
+
+CREATE INDEX idx_likes_member_parent_type
+  ON likes (member_id, like_parent_type, like_type, updated_on DESC);
+
+--rollback DROP INDEX IF EXISTS idx_likes_member_parent_type;
+
+
+
+--changeset alamu:add_index_bookmarks_member_parent_type
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'bookmarks' AND indexname = 'idx_bookmarks_member_parent_type';
+
+CREATE INDEX idx_bookmarks_member_parent_type
+  ON bookmarks (member_id, parent_type, type, updated_on DESC);
+
+--rollback DROP INDEX IF EXISTS idx_bookmarks_member_parent_type;
+
+
+
+--changeset alamu:add_index_follower_following_followed
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'follower' AND indexname = 'idx_follower_following_followed';
+
+CREATE INDEX idx_follower_following_followed
+  ON follower (following_id, followed_id);
+
+--rollback DROP INDEX IF EXISTS idx_follower_following_followed;
+
+
+
+--changeset alamu:add_index_follower_followed_following
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'follower' AND indexname = 'idx_follower_followed_following';
+
+CREATE INDEX idx_follower_followed_following
+  ON follower (followed_id, following_id);
+
+--rollback DROP INDEX IF EXISTS idx_follower_followed_following;
+
+
+
+--changeset alamu:add_index_poll_author_updated_on
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'poll' AND indexname = 'idx_poll_author_updated_on';
+
+CREATE INDEX idx_poll_author_updated_on
+  ON poll (author_id, updated_on DESC);
+
+--rollback DROP INDEX IF EXISTS idx_poll_author_updated_on;
+
+
+
+--changeset alamu:add_index_poll_option_poll
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'poll_option' AND indexname = 'idx_poll_option_poll';
+
+CREATE INDEX idx_poll_option_poll
+  ON poll_option (poll_id);
+
+--rollback DROP INDEX IF EXISTS idx_poll_option_poll;
+
+
+
+--changeset alamu:add_index_poll_vote_option
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'poll_vote' AND indexname = 'idx_poll_vote_option';
+
+CREATE INDEX idx_poll_vote_option
+  ON poll_vote (option_id);
+
+--rollback DROP INDEX IF EXISTS idx_poll_vote_option;
+
+
+
+--changeset alamu:add_index_review_stream_created_on
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'review' AND indexname = 'idx_review_stream_created_on';
+
+CREATE INDEX idx_review_stream_created_on
+  ON review (stream_id, created_on DESC);
+
+--rollback DROP INDEX IF EXISTS idx_review_stream_created_on;
+
+
+
+--changeset alamu:add_index_review_parent_type
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'review' AND indexname = 'idx_review_parent_type';
+
+CREATE INDEX idx_review_parent_type
+  ON review (parent_id, parent_type);
+
+--rollback DROP INDEX IF EXISTS idx_review_parent_type;
+
+
+
+--changeset alamu:add_index_stream_member_scheduled_start
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'stream' AND indexname = 'idx_stream_member_scheduled_start';
+
+CREATE INDEX idx_stream_member_scheduled_start
+  ON stream (member_id, scheduled_start_date DESC);
+
+--rollback DROP INDEX IF EXISTS idx_stream_member_scheduled_start;
+
+
+
+--changeset alamu:add_index_stream_type_scheduled_start
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'stream' AND indexname = 'idx_stream_type_scheduled_start';
+
+CREATE INDEX idx_stream_type_scheduled_start
+  ON stream (type, scheduled_start_date);
+
+--rollback DROP INDEX IF EXISTS idx_stream_type_scheduled_start;
+
+
+
+--changeset alamu:add_index_soft_ask_author_updated_on
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'soft_ask' AND indexname = 'idx_soft_ask_author_updated_on';
+
+CREATE INDEX idx_soft_ask_author_updated_on
+  ON soft_ask (author_id, updated_on DESC);
+
+--rollback DROP INDEX IF EXISTS idx_soft_ask_author_updated_on;
+
+
+
+--changeset alamu:add_index_soft_ask_reply_soft_ask_parent
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'soft_ask_reply' AND indexname = 'idx_soft_ask_reply_soft_ask_parent';
+
+CREATE INDEX idx_soft_ask_reply_soft_ask_parent
+  ON soft_ask_reply (soft_ask_id, parent_reply_id, updated_on DESC);
+
+--rollback DROP INDEX IF EXISTS idx_soft_ask_reply_soft_ask_parent;
+
+
+
+--changeset alamu:add_index_soft_ask_reply_author_updated_on
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'soft_ask_reply' AND indexname = 'idx_soft_ask_reply_author_updated_on';
+
+CREATE INDEX idx_soft_ask_reply_author_updated_on
+  ON soft_ask_reply (author_id, updated_on DESC);
+
+--rollback DROP INDEX IF EXISTS idx_soft_ask_reply_author_updated_on;
+
+
+
+--changeset alamu:add_index_soft_ask_votes_member_type
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'soft_ask_votes' AND indexname = 'idx_soft_ask_votes_member_type';
+
+CREATE INDEX idx_soft_ask_votes_member_type
+  ON soft_ask_votes (member_id, type, updated_on DESC);
+
+--rollback DROP INDEX IF EXISTS idx_soft_ask_votes_member_type;
@@ -0,0 +1,158 @@
+--liquibase formatted sql
+
+
+
+--changeset alamu:create_schema_archive
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.schemata WHERE schema_name = 'archive';
+
+CREATE SCHEMA archive;
+
+--rollback DROP SCHEMA IF EXISTS archive;
+
+
+
+--changeset alamu:create_function_create_monthly_partitions splitStatements:false runOnChange:true
+
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent_table TEXT, from_month DATE, months_ahead INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+  partition_start DATE := date_trunc('month', from_month)::DATE;
+  last_start DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => months_ahead))::DATE;
+  partition_end DATE;
+  partition_name TEXT;
+  default_partition TEXT := parent_table || '_default';
+  created INTEGER := 0;
+BEGIN
+  -- Instances that run the maintenance at the same time wait for each other instead of racing on the same names
+  PERFORM pg_advisory_xact_lock(hashtext('partition_maintenance:' || parent_table));
+
+  WHILE partition_start <= last_start LOOP
+    partition_end := (partition_start + INTERVAL '1 month')::DATE;
+    partition_name := format('%s_y%sm%s', parent_table, to_char(partition_start, 'YYYY'), to_char(partition_start, 'MM'));
+
+    IF to_regclass(partition_name) IS NULL THEN
+      -- Rows of the month that landed in the default partition are moved before the month is attached
+      EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name, parent_table);
+      IF to_regclass(default_partition) IS NOT NULL THEN
+        EXECUTE format('WITH moved AS (DELETE FROM %I WHERE created_on >= %L AND created_on < %L RETURNING *) INSERT INTO %I SELECT * FROM moved',
+          default_partition, partition_start, partition_end, partition_name);
+      END IF;
+      EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        parent_table, partition_name, partition_start, partition_end);
+      created := created + 1;
+    END IF;
+
+    partition_start := partition_end;
+  END LOOP;
+
+  RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+--rollback DROP FUNCTION IF EXISTS create_monthly_partitions(TEXT, DATE, INTEGER);
+
+
+
+--changeset alamu:create_function_detach_partitions_older_than splitStatements:false runOnChange:true
+
+CREATE OR REPLACE FUNCTION detach_partitions_older_than(parent_table TEXT, retention_months INTEGER, archive_schema TEXT)
+RETURNS INTEGER AS $$
+DECLARE
+  cutoff DATE := (date_trunc('month', CURRENT_DATE) - make_interval(months => retention_months))::DATE;
+  partition_name TEXT;
+  detached INTEGER := 0;
+BEGIN
+  PERFORM pg_advisory_xact_lock(hashtext('partition_maintenance:' || parent_table));
+
+  FOR partition_name IN
+    SELECT child.relname
+    FROM pg_inherits i
+    JOIN pg_class parent ON i.inhparent = parent.oid
+    JOIN pg_class child ON i.inhrelid = child.oid
+    WHERE parent.relname = parent_table
+      AND child.relname ~ ('^' || parent_table || '_y[0-9]{4}m[0-9]{2}$')
+    ORDER BY child.relname
+  LOOP
+    -- The month of a partition is part of its name, and all of it is older than the cutoff once the month is
+    IF to_date(right(partition_name, 8), '"y"YYYY"m"MM') < cutoff THEN
+      EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, partition_name);
+      EXECUTE format('ALTER TABLE %I SET SCHEMA %I', partition_name, archive_schema);
+      detached := detached + 1;
+    END IF;
+  END LOOP;
+
+  RETURN detached;
+END;
+$$ LANGUAGE plpgsql;
+
+--rollback DROP FUNCTION IF EXISTS detach_partitions_older_than(TEXT, INTEGER, TEXT);
+
+
+
+--changeset alamu:partition_notification_by_created_on splitStatements:false
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_partitioned_table pt JOIN pg_class c ON pt.partrelid = c.oid WHERE c.relname = 'notification';
+
+ALTER SEQUENCE notification_notification_id_seq OWNED BY NONE;
+ALTER TABLE notification RENAME TO notification_legacy;
+ALTER TABLE notification_legacy RENAME CONSTRAINT notification_pkey TO notification_legacy_pkey;
+DROP INDEX IF EXISTS idx_notification_receiver_created_on;
+
+CREATE TABLE notification (
+  LIKE notification_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+  CONSTRAINT notification_pkey PRIMARY KEY (notification_id, created_on)
+) PARTITION BY RANGE (created_on);
+
+ALTER TABLE notification
+  ADD CONSTRAINT notification_fk_receiver_id
+    FOREIGN KEY (receiver_id) REFERENCES member (member_id) ON DELETE CASCADE,
+  ADD CONSTRAINT notification_fk_initiator_or_requester_id
+    FOREIGN KEY (initiator_or_requester_id) REFERENCES member (member_id) ON DELETE CASCADE,
+  ADD CONSTRAINT notification_fk_recipient_id
+    FOREIGN KEY (recipient_id) REFERENCES member (member_id) ON DELETE CASCADE,
+  ADD CONSTRAINT notification_fk_share_contact_request_id
+    FOREIGN KEY (share_contact_request_id) REFERENCES share_contact_request (share_contact_request_id) ON DELETE SET NULL,
+  ADD CONSTRAINT notification_fk_stream_id
+    FOREIGN KEY (stream_id) REFERENCES stream (stream_id) ON DELETE SET NULL,
+  ADD CONSTRAINT notification_fk_stream_attendee_id
+    FOREIGN KEY (stream_attendee_id) REFERENCES stream_attendee (stream_attendee_id) ON DELETE SET NULL,
+  ADD CONSTRAINT notification_fk_chat_space_id
+    FOREIGN KEY (chat_space_id) REFERENCES chat_space (chat_space_id) ON DELETE SET NULL,
+  ADD CONSTRAINT notification_fk_chat_space_member_id
+    FOREIGN KEY (chat_space_member_id) REFERENCES chat_space_member (chat_space_member_id) ON DELETE SET NULL,
+  ADD CONSTRAINT notification_fk_follower_id
+    FOREIGN KEY (follower_id) REFERENCES follower (follower_id) ON DELETE SET NULL;
+
+CREATE INDEX idx_notification_receiver_created_on
+  ON notification (receiver_id, created_on DESC);
+
+CREATE INDEX idx_notification_receiver_unread
+  ON notification (receiver_id, created_on)
+  WHERE notification_status = 'UNREAD';
+
+CREATE TABLE notification_default PARTITION OF notification DEFAULT;
+
+SELECT create_monthly_partitions(
+  'notification',
+  COALESCE((SELECT MIN(created_on) FROM notification_legacy), CURRENT_TIMESTAMP)::DATE,
+  3);
+
+INSERT INTO notification SELECT * FROM notification_legacy;
+
+DROP TABLE notification_legacy;
+ALTER SEQUENCE notification_notification_id_seq OWNED BY notification.notification_id;
+
+--rollback ALTER SEQUENCE notification_notification_id_seq OWNED BY NONE;
+--rollback ALTER TABLE notification RENAME TO notification_partitioned;
+--rollback ALTER TABLE notification_partitioned RENAME CONSTRAINT notification_pkey TO notification_partitioned_pkey;
+--rollback DROP INDEX IF EXISTS idx_notification_receiver_created_on;
+--rollback DROP INDEX IF EXISTS idx_notification_receiver_unread;
+--rollback CREATE TABLE notification (LIKE notification_partitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS, CONSTRAINT notification_pkey PRIMARY KEY (notification_id));
+--rollback INSERT INTO notification SELECT * FROM notification_partitioned;
+--rollback DROP TABLE notification_partitioned;
+--rollback ALTER TABLE notification ADD CONSTRAINT notification_fk_receiver_id FOREIGN KEY (receiver_id) REFERENCES member (member_id) ON DELETE CASCADE, ADD CONSTRAINT notification_fk_initiator_or_requester_id FOREIGN KEY (initiator_or_requester_id) REFERENCES member (member_id) ON DELETE CASCADE, ADD CONSTRAINT notification_fk_recipient_id FOREIGN KEY (recipient_id) REFERENCES member (member_id) ON DELETE CASCADE, ADD CONSTRAINT notification_fk_share_contact_request_id FOREIGN KEY (share_contact_request_id) REFERENCES share_contact_request (share_contact_request_id) ON DELETE SET NULL, ADD CONSTRAINT notification_fk_stream_id FOREIGN KEY (stream_id) REFERENCES stream (stream_id) ON DELETE SET NULL, ADD CONSTRAINT notification_fk_stream_attendee_id FOREIGN KEY (stream_attendee_id) REFERENCES stream_attendee (stream_attendee_id) ON DELETE SET NULL, ADD CONSTRAINT notification_fk_chat_space_id FOREIGN KEY (chat_space_id) REFERENCES chat_space (chat_space_id) ON DELETE SET NULL, ADD CONSTRAINT notification_fk_chat_space_member_id FOREIGN KEY (chat_space_member_id) REFERENCES chat_space_member (chat_space_member_id) ON DELETE SET NULL, ADD CONSTRAINT notification_fk_follower_id FOREIGN KEY (follower_id) REFERENCES follower (follower_id) ON DELETE SET NULL;
+--rollback CREATE INDEX idx_notification_receiver_created_on ON notification (receiver_id, created_on DESC);
+--rollback ALTER SEQUENCE notification_notification_id_seq OWNED BY notification.notification_id;
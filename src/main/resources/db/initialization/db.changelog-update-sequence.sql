@@ -0,0 +1,45 @@
+--liquibase formatted sql
+
+
+
+--changeset alamu:update_sequence_poll_vote_increment
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_sequences WHERE schemaname = 'public' AND sequencename = 'poll_vote_vote_id_seq' AND increment_by = 50;
+
+ALTER SEQUENCE poll_vote_vote_id_seq INCREMENT BY 50;
+
+--rollback ALTER SEQUENCE poll_vote_vote_id_seq INCREMENT BY 1;
+
+
+
+--changeset alamu:update_sequence_stream_attendee_increment
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_sequences WHERE schemaname = 'public' AND sequencename = 'stream_attendee_stream_attendee_id_seq' AND increment_by = 50;
+
+ALTER SEQUENCE stream_attendee_stream_attendee_id_seq INCREMENT BY 50;
+
+--rollback ALTER SEQUENCE stream_attendee_stream_attendee_id_seq INCREMENT BY 1;
+
+
+
+--changeset alamu:update_sequence_stream_speaker_increment
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_sequences WHERE schemaname = 'public' AND sequencename = 'stream_speaker_stream_speaker_id_seq' AND increment_by = 50;
+
+ALTER SEQUENCE stream_speaker_stream_speaker_id_seq INCREMENT BY 50;
+
+--rollback ALTER SEQUENCE stream_speaker_stream_speaker_id_seq INCREMENT BY 1;
+
+
+
+--changeset alamu:update_sequence_notification_increment
+
+--preconditions onFail:MARK_RAN onError:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM pg_sequences WHERE schemaname = 'public' AND sequencename = 'notification_notification_id_seq' AND increment_by = 50;
+
+ALTER SEQUENCE notification_notification_id_seq INCREMENT BY 50;
+
+--rollback ALTER SEQUENCE notification_notification_id_seq INCREMENT BY 1;
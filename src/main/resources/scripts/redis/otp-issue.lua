@@ -0,0 +1,46 @@
+-- Issues a one-time code.
+--
+-- The failed attempts of a code that is still live are carried over to its replacement, so asking for a new
+-- code does not reset the attempts left before the lockout.
+--
+-- KEYS[1]  code key
+-- ARGV[1]  hash of the code
+-- ARGV[2]  time to live in milliseconds
+-- ARGV[3]  resend cooldown in milliseconds
+-- ARGV[4]  1 to enforce the resend cooldown, 0 to ignore it
+--
+-- Returns { status, wait in milliseconds }
+--   status  1  code issued
+--   status -1  resend cooldown has not elapsed
+--   status -2  subject is locked out after too many failed attempts
+
+local key = KEYS[1]
+local hash = ARGV[1]
+local ttl = tonumber(ARGV[2])
+local cooldown = tonumber(ARGV[3])
+local enforce_cooldown = tonumber(ARGV[4])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', key, 'locked_until', 'resend_at', 'hash', 'attempts')
+local locked_until = tonumber(state[1]) or 0
+local resend_at = tonumber(state[2]) or 0
+local attempts = 0
+if state[3] then
+  attempts = tonumber(state[4]) or 0
+end
+
+if locked_until > now then
+  return { -2, locked_until - now }
+end
+
+if enforce_cooldown == 1 and resend_at > now then
+  return { -1, resend_at - now }
+end
+
+redis.call('DEL', key)
+redis.call('HSET', key, 'hash', hash, 'attempts', attempts, 'resend_at', tostring(now + cooldown))
+redis.call('PEXPIRE', key, ttl)
+
+return { 1, 0 }
@@ -0,0 +1,47 @@
+-- Verifies and consumes a one-time code.
+--
+-- KEYS[1]  code key
+-- ARGV[1]  hash of the submitted code
+-- ARGV[2]  maximum number of failed attempts before lockout
+-- ARGV[3]  lockout duration in milliseconds
+--
+-- Returns { status, detail }
+--   status  1  code is valid and has been consumed
+--   status  0  no code exists or it has expired
+--   status -1  code is invalid, detail is the number of attempts left
+--   status -2  subject is locked out, detail is the remaining lockout in milliseconds
+
+local key = KEYS[1]
+local hash = ARGV[1]
+local max_attempts = tonumber(ARGV[2])
+local lockout = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', key, 'hash', 'locked_until')
+local stored_hash = state[1]
+local locked_until = tonumber(state[2]) or 0
+
+if locked_until > now then
+  return { -2, locked_until - now }
+end
+
+if not stored_hash then
+  return { 0, 0 }
+end
+
+if stored_hash == hash then
+  redis.call('DEL', key)
+  return { 1, 0 }
+end
+
+local attempts = redis.call('HINCRBY', key, 'attempts', 1)
+if attempts >= max_attempts then
+  redis.call('HDEL', key, 'hash')
+  redis.call('HSET', key, 'locked_until', tostring(now + lockout))
+  redis.call('PEXPIRE', key, lockout)
+  return { -2, lockout }
+end
+
+return { -1, max_attempts - attempts }
@@ -0,0 +1,53 @@
+-- Token bucket rate limiter.
+--
+-- KEYS[1]  bucket key
+-- ARGV[1]  bucket capacity
+-- ARGV[2]  tokens added per refill period
+-- ARGV[3]  refill period in milliseconds
+-- ARGV[4]  tokens requested
+-- ARGV[5]  extra tokens a node may lease for local consumption when the bucket is well above the limit
+--
+-- Returns { allowed (1/0), tokens granted (requested + lease), tokens remaining, retry after in milliseconds }
+
+local key = KEYS[1]
+local capacity = tonumber(ARGV[1])
+local refill_tokens = tonumber(ARGV[2])
+local refill_period = tonumber(ARGV[3])
+local requested = tonumber(ARGV[4])
+local lease = tonumber(ARGV[5])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local last = tonumber(bucket[2])
+
+if tokens == nil then
+  tokens = capacity
+  last = now
+end
+
+local elapsed = math.max(0, now - last)
+tokens = math.min(capacity, tokens + (elapsed * refill_tokens / refill_period))
+
+local allowed = 0
+local granted = 0
+local retry_after = 0
+
+if tokens >= requested then
+  allowed = 1
+  granted = requested
+  -- Only hand out a local lease when the client is clearly under its limit
+  if lease > 0 and (tokens - requested) >= (lease * 2) then
+    granted = granted + lease
+  end
+  tokens = tokens - granted
+else
+  retry_after = math.ceil((requested - tokens) * refill_period / refill_tokens)
+end
+
+redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', tostring(now))
+redis.call('PEXPIRE', key, math.ceil(capacity * refill_period / refill_tokens) + 1000)
+
+return { allowed, granted, math.floor(tokens), retry_after }
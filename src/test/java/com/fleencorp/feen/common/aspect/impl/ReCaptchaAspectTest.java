@@ -0,0 +1,160 @@
+package com.fleencorp.feen.common.aspect.impl;
+
+import com.fleencorp.feen.adapter.google.recaptcha.model.response.ReCaptchaResponse;
+import com.fleencorp.feen.common.configuration.external.google.recaptcha.ReCaptchaProperties;
+import com.fleencorp.feen.service.impl.external.recaptcha.ReCaptchaService;
+import com.fleencorp.feen.service.impl.external.recaptcha.impl.ReCaptchaAttemptService;
+import com.fleencorp.feen.user.exception.recaptcha.InvalidReCaptchaException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.fleencorp.feen.common.interceptor.ReCaptchaVerificationInterceptor.RECAPTCHA_HEADER_KEY;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReCaptchaAspectTest {
+
+  private static final String TOKEN = "recaptcha-token";
+  private static final String CLIENT = "203.0.113.10";
+  private static final String RESULT = "handled";
+
+  private ReCaptchaService reCaptchaService;
+  private ReCaptchaAttemptService reCaptchaAttemptService;
+  private ReCaptchaProperties properties;
+  private SimpleMeterRegistry meterRegistry;
+  private ReCaptchaAspect reCaptchaAspect;
+  private ProceedingJoinPoint joinPoint;
+
+  @BeforeEach
+  void setUp() throws Throwable {
+    reCaptchaService = mock(ReCaptchaService.class);
+    reCaptchaAttemptService = new ReCaptchaAttemptService();
+    properties = new ReCaptchaProperties();
+    properties.setMaxWait(Duration.ofMillis(50));
+    meterRegistry = new SimpleMeterRegistry();
+    reCaptchaAspect = new ReCaptchaAspect(reCaptchaService, reCaptchaAttemptService, properties, meterRegistry);
+
+    joinPoint = mock(ProceedingJoinPoint.class);
+    when(joinPoint.proceed()).thenReturn(RESULT);
+    when(reCaptchaService.isReCaptchaEnabled()).thenReturn(true);
+
+    final MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setRemoteAddr(CLIENT);
+    request.addHeader(RECAPTCHA_HEADER_KEY, TOKEN);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @DisplayName("Ensure a request with a valid verdict is handled")
+  @Test
+  void ensure_valid_verdict_is_allowed() throws Throwable {
+    // GIVEN
+    verdict(CompletableFuture.completedFuture(response(true)));
+    when(reCaptchaService.isReCaptchaValid(any())).thenReturn(true);
+
+    // WHEN
+    final Object result = reCaptchaAspect.verifyReCaptcha(joinPoint);
+
+    // ASSERT
+    assertEquals(RESULT, result);
+    assertEquals(1, decisions("allowed"));
+  }
+
+  @DisplayName("Ensure a request is rejected when Google does not answer in time and the policy is fail-closed")
+  @Test
+  void ensure_timeout_is_rejected_when_fail_closed() throws Throwable {
+    // GIVEN
+    properties.setFailOpen(false);
+    verdict(new CompletableFuture<>());
+
+    // WHEN & ASSERT
+    assertThrows(InvalidReCaptchaException.class, () -> reCaptchaAspect.verifyReCaptcha(joinPoint));
+    verify(joinPoint, never()).proceed();
+    assertEquals(1, decisions("fail-closed"));
+  }
+
+  @DisplayName("Ensure a request is handled when Google does not answer in time and the policy is fail-open")
+  @Test
+  void ensure_timeout_is_allowed_when_fail_open() throws Throwable {
+    // GIVEN
+    properties.setFailOpen(true);
+    verdict(new CompletableFuture<>());
+
+    // WHEN
+    final Object result = reCaptchaAspect.verifyReCaptcha(joinPoint);
+
+    // ASSERT
+    assertEquals(RESULT, result);
+    assertEquals(1, decisions("fail-open"));
+  }
+
+  @DisplayName("Ensure a failed call to Google follows the fail-closed policy")
+  @Test
+  void ensure_failed_call_is_rejected_when_fail_closed() throws Throwable {
+    // GIVEN
+    properties.setFailOpen(false);
+    verdict(CompletableFuture.failedFuture(new IllegalStateException("Google unavailable")));
+
+    // WHEN & ASSERT
+    assertThrows(InvalidReCaptchaException.class, () -> reCaptchaAspect.verifyReCaptcha(joinPoint));
+    assertEquals(1, decisions("fail-closed"));
+  }
+
+  @DisplayName("Ensure a failed call to Google follows the fail-open policy")
+  @Test
+  void ensure_failed_call_is_allowed_when_fail_open() throws Throwable {
+    // GIVEN
+    properties.setFailOpen(true);
+    verdict(CompletableFuture.failedFuture(new IllegalStateException("Google unavailable")));
+
+    // WHEN
+    final Object result = reCaptchaAspect.verifyReCaptcha(joinPoint);
+
+    // ASSERT
+    assertEquals(RESULT, result);
+    assertEquals(1, decisions("fail-open"));
+  }
+
+  @DisplayName("Ensure a blocked client is rejected without a verdict from Google")
+  @Test
+  void ensure_blocked_client_is_rejected_before_verification() throws Throwable {
+    // GIVEN
+    for (int attempt = 0; attempt < 3; attempt++) {
+      reCaptchaAttemptService.reCaptchaFailed(CLIENT);
+    }
+
+    // WHEN & ASSERT
+    assertThrows(InvalidReCaptchaException.class, () -> reCaptchaAspect.verifyReCaptcha(joinPoint));
+    verify(reCaptchaService, never()).verifyReCaptchaAsync(any(), any());
+    verify(joinPoint, never()).proceed();
+    assertEquals(1, decisions("blocked"));
+  }
+
+  private void verdict(final CompletableFuture<ReCaptchaResponse> verification) {
+    when(reCaptchaService.verifyReCaptchaAsync(TOKEN, CLIENT)).thenReturn(verification);
+  }
+
+  private double decisions(final String outcome) {
+    return meterRegistry.counter("recaptcha.verification.decisions", "outcome", outcome).count();
+  }
+
+  private static ReCaptchaResponse response(final boolean success) {
+    return new ReCaptchaResponse(success, "localhost", "sign_in", success ? 0.9f : 0, null, List.of());
+  }
+}
@@ -0,0 +1,132 @@
+package com.fleencorp.feen.common.configuration.async;
+
+import com.fleencorp.feen.common.configuration.async.ConcurrencyLimiter.Permit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency of requests that hand a call to a slow integration to {@code @Async}, under the executor
+ * {@link AsyncConfig} used before and the one it uses with virtual threads.
+ *
+ * <p>Every benchmark thread stands in for a request thread of the servlet container. A request blocks for
+ * {@code requestWorkMillis} on work of its own and submits one call to the integration, which is stood in for by
+ * a sleep of {@code integrationLatencyMillis}. {@code pool} is the thread pool of 10 to 20 threads with a queue of
+ * 50 that runs a task on the caller once the queue is full, so once the integration slows down the requests themselves
+ * start to wait on it. {@code virtual} runs every task on a virtual thread of its own, with the calls to the
+ * integration bounded by the {@link ConcurrencyLimiter}, so requests never wait on it and the calls the integration
+ * cannot keep up with wait on their parked virtual threads instead.</p>
+ *
+ * <p>The sample time mode reports the percentiles of the request latency, of which the tail is the one to compare.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(64)
+@Fork(1)
+public class AsyncExecutorLoadBenchmark {
+
+  private static final String INTEGRATION = "slow-integration";
+
+  @Param({"pool", "virtual"})
+  public String executor;
+
+  @Param({"500"})
+  public long integrationLatencyMillis;
+
+  @Param({"10"})
+  public long requestWorkMillis;
+
+  @Param({"20"})
+  public int maxConcurrent;
+
+  private Executor asyncExecutor;
+  private ConcurrencyLimiter concurrencyLimiter;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+    properties.setMaxConcurrent(maxConcurrent);
+    properties.setAcquireTimeout(Duration.ofMinutes(5));
+    concurrencyLimiter = new ConcurrencyLimiter(properties, new SimpleMeterRegistry());
+
+    if ("virtual".equals(executor)) {
+      final SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("async-thread-");
+      virtualExecutor.setVirtualThreads(true);
+      asyncExecutor = virtualExecutor;
+    } else {
+      final ThreadPoolTaskExecutor poolExecutor = new ThreadPoolTaskExecutor();
+      poolExecutor.setCorePoolSize(10);
+      poolExecutor.setMaxPoolSize(20);
+      poolExecutor.setQueueCapacity(50);
+      poolExecutor.setThreadNamePrefix("async-thread-");
+      poolExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+      poolExecutor.initialize();
+      asyncExecutor = poolExecutor;
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (asyncExecutor instanceof final ThreadPoolTaskExecutor poolExecutor) {
+      poolExecutor.shutdown();
+    } else if (asyncExecutor instanceof final SimpleAsyncTaskExecutor virtualExecutor) {
+      virtualExecutor.close();
+    }
+  }
+
+  @Benchmark
+  public void handleRequest() {
+    sleep(requestWorkMillis);
+    asyncExecutor.execute(this::callIntegration);
+  }
+
+  private void callIntegration() {
+    if ("virtual".equals(executor)) {
+      try (Permit _ = concurrencyLimiter.acquire(INTEGRATION)) {
+        sleep(integrationLatencyMillis);
+      }
+    } else {
+      sleep(integrationLatencyMillis);
+    }
+  }
+
+  private static void sleep(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(AsyncExecutorLoadBenchmark.class.getSimpleName())
+      .build())
+      .run();
+  }
+}
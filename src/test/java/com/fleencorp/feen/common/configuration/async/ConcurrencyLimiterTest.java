@@ -0,0 +1,134 @@
+package com.fleencorp.feen.common.configuration.async;
+
+import com.fleencorp.feen.common.configuration.async.ConcurrencyLimiter.Permit;
+import com.fleencorp.feen.common.exception.FailedOperationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyLimiterTest {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  @TempDir
+  Path recordingDirectory;
+
+  @DisplayName("Ensure virtual threads calling an integration never exceed its limit nor pin their carrier")
+  @Test
+  void ensure_limit_is_enforced_without_pinning() throws Exception {
+    // GIVEN
+    final ConcurrencyLimiter limiter = limiter(5, Duration.ofSeconds(10));
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+
+    // WHEN
+    final List<RecordedEvent> pinnedEvents = recordPinning(() -> {
+      try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        for (int i = 0; i < 100; i++) {
+          executor.submit(() -> {
+            try (Permit _ = limiter.acquire("slack")) {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              Thread.sleep(10);
+              running.decrementAndGet();
+            }
+            return null;
+          });
+        }
+      }
+    });
+
+    // ASSERT
+    assertTrue(maxRunning.get() <= 5, "At most 5 calls may run at once but " + maxRunning.get() + " did");
+    assertEquals(List.of(), pinnedEvents.stream().map(event -> String.valueOf(event.getStackTrace())).toList());
+  }
+
+  @DisplayName("Ensure a call fails once no permit became free within the acquire timeout")
+  @Test
+  void ensure_call_fails_after_acquire_timeout() throws Exception {
+    // GIVEN
+    final ConcurrencyLimiter limiter = limiter(1, Duration.ofMillis(50));
+    final CountDownLatch acquired = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      executor.submit(() -> {
+        try (Permit _ = limiter.acquire("ses")) {
+          acquired.countDown();
+          release.await();
+        }
+        return null;
+      });
+      acquired.await(1, TimeUnit.SECONDS);
+
+      // WHEN & ASSERT
+      assertThrows(FailedOperationException.class, () -> limiter.acquire("ses"));
+      release.countDown();
+    }
+  }
+
+  @DisplayName("Ensure a thread holding a permit of an integration is not asked for another one")
+  @Test
+  void ensure_nested_calls_reuse_the_held_permit() {
+    // GIVEN
+    final ConcurrencyLimiter limiter = limiter(1, Duration.ofMillis(50));
+
+    // WHEN & ASSERT
+    try (Permit _ = limiter.acquire("google-calendar")) {
+      assertDoesNotThrow(() -> limiter.acquire("google-calendar").close());
+    }
+    assertDoesNotThrow(() -> limiter.acquire("google-calendar").close());
+  }
+
+  private static ConcurrencyLimiter limiter(final int maxConcurrent, final Duration acquireTimeout) {
+    final ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+    properties.setMaxConcurrent(maxConcurrent);
+    properties.setAcquireTimeout(acquireTimeout);
+    return new ConcurrencyLimiter(properties, new SimpleMeterRegistry());
+  }
+
+  /**
+   * Runs the work while JFR records every virtual thread that blocks while pinned to its carrier.
+   */
+  private List<RecordedEvent> recordPinning(final ThrowingRunnable work) throws Exception {
+    final Path recordingFile = recordingDirectory.resolve("pinning.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+      recording.start();
+      work.run();
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+    return readEvents(recordingFile);
+  }
+
+  private static List<RecordedEvent> readEvents(final Path recordingFile) throws IOException {
+    return RecordingFile.readAllEvents(recordingFile).stream()
+      .filter(event -> PINNED_EVENT.equals(event.getEventType().getName()))
+      .toList();
+  }
+
+  @FunctionalInterface
+  private interface ThrowingRunnable {
+
+    void run() throws Exception;
+  }
+}
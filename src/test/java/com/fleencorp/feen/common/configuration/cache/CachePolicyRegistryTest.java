@@ -0,0 +1,107 @@
+package com.fleencorp.feen.common.configuration.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleencorp.feen.common.configuration.cache.TieredCacheProperties.CachePolicy;
+import com.fleencorp.feen.common.support.redis.EmbeddedRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachePolicyRegistryTest {
+
+  private static EmbeddedRedis redis;
+  private static JedisConnectionFactory connectionFactory;
+  private static StringRedisTemplate redisTemplate;
+
+  private RedisCacheManager cacheManager;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redis = EmbeddedRedis.start();
+    connectionFactory = redis.getConnectionFactory();
+    redisTemplate = redis.getRedisTemplate();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    redis.close();
+  }
+
+  @BeforeEach
+  void setUp() {
+    redis.flushAll();
+
+    final TieredCacheProperties properties = new TieredCacheProperties();
+    properties.getDefaults().setTtl(Duration.ofMinutes(30));
+    final CachePolicy countries = new CachePolicy();
+    countries.setTtl(Duration.ofHours(12));
+    properties.getCaches().put("countries", countries);
+
+    final CachePolicyRegistry registry = new CachePolicyRegistry(properties, "feen:", new ObjectMapper());
+    cacheManager = RedisCacheManager.builder(connectionFactory)
+      .cacheDefaults(registry.getDefaultConfiguration())
+      .withInitialCacheConfigurations(registry.getInitialConfigurations())
+      .build();
+    cacheManager.afterPropertiesSet();
+  }
+
+  @DisplayName("Ensure a cache with a declared policy is written with its own TTL and the prefix")
+  @Test
+  void ensure_declared_policy_ttl_is_applied() {
+    // GIVEN
+    final Cache cache = cacheManager.getCache("countries");
+
+    // WHEN
+    cache.put("NG", "Nigeria");
+    final Long ttl = redisTemplate.getExpire("feen:countries::NG");
+
+    // ASSERT
+    assertNotNull(ttl);
+    assertTrue(ttl > Duration.ofHours(11).toSeconds() && ttl <= Duration.ofHours(12).toSeconds());
+  }
+
+  @DisplayName("Ensure a cache without a declared policy falls back to the default TTL")
+  @Test
+  void ensure_default_policy_ttl_is_applied() {
+    // GIVEN
+    final Cache cache = cacheManager.getCache("availableContactTypes");
+
+    // WHEN
+    cache.put("en:types", "types");
+    final Long ttl = redisTemplate.getExpire("feen:availableContactTypes::en:types");
+
+    // ASSERT
+    assertNotNull(ttl);
+    assertTrue(ttl > Duration.ofMinutes(29).toSeconds() && ttl <= Duration.ofMinutes(30).toSeconds());
+  }
+
+  @DisplayName("Ensure values round trip through the default codec and null values are rejected by default")
+  @Test
+  void ensure_json_values_and_null_policy() {
+    // GIVEN
+    final Cache cache = cacheManager.getCache("countries");
+    final Map<String, String> country = new LinkedHashMap<>();
+    country.put("code", "NG");
+
+    // WHEN
+    cache.put("NG", country);
+    final Map<?, ?> cached = cache.get("NG", Map.class);
+
+    // ASSERT
+    assertEquals("NG", cached.get("code"));
+    assertThrows(IllegalArgumentException.class, () -> cache.put("GH", null));
+  }
+}
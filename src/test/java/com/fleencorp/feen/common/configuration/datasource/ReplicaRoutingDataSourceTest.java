@@ -0,0 +1,128 @@
+package com.fleencorp.feen.common.configuration.datasource;
+
+import com.fleencorp.feen.common.configuration.datasource.ReplicaRoutingDataSource.NamedDataSource;
+import com.fleencorp.feen.shared.security.RegisteredUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTest {
+
+  private DataSource primary;
+  private DataSource firstReplica;
+  private DataSource secondReplica;
+  private ReadYourWritesTracker readYourWritesTracker;
+  private ReplicaDataSourceProperties properties;
+  private Map<DataSource, Duration> lags;
+  private Set<DataSource> unreachable;
+  private ReplicaRoutingDataSource routingDataSource;
+
+  @BeforeEach
+  void setUp() {
+    primary = mock(DataSource.class);
+    firstReplica = mock(DataSource.class);
+    secondReplica = mock(DataSource.class);
+    readYourWritesTracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+
+    properties = new ReplicaDataSourceProperties();
+    properties.setMaxLag(Duration.ofSeconds(5));
+    properties.setLagCheckInterval(Duration.ofHours(1));
+
+    lags = new ConcurrentHashMap<>(Map.of(firstReplica, Duration.ZERO, secondReplica, Duration.ZERO));
+    unreachable = ConcurrentHashMap.newKeySet();
+    routingDataSource = new ReplicaRoutingDataSource(
+      primary,
+      List.of(new NamedDataSource("replica-0", firstReplica), new NamedDataSource("replica-1", secondReplica)),
+      readYourWritesTracker,
+      properties,
+      new SimpleMeterRegistry(),
+      this::measureLag);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    routingDataSource.destroy();
+    SecurityContextHolder.clearContext();
+  }
+
+  @DisplayName("Ensure reads are spread over the replicas in turn")
+  @Test
+  void ensure_reads_are_spread_over_replicas() {
+    // WHEN
+    final DataSource first = routingDataSource.route();
+    final DataSource second = routingDataSource.route();
+    final DataSource third = routingDataSource.route();
+
+    // ASSERT
+    assertNotSame(first, second);
+    assertTrue(List.of(firstReplica, secondReplica).containsAll(List.of(first, second)));
+    assertSame(first, third);
+  }
+
+  @DisplayName("Ensure a replica lagging beyond the limit stops receiving reads")
+  @Test
+  void ensure_lagging_replica_is_skipped() {
+    // GIVEN
+    lags.put(firstReplica, Duration.ofSeconds(30));
+
+    // WHEN
+    routingDataSource.checkLag();
+
+    // ASSERT
+    assertSame(secondReplica, routingDataSource.route());
+    assertSame(secondReplica, routingDataSource.route());
+  }
+
+  @DisplayName("Ensure reads fall back to the primary when no replica is usable")
+  @Test
+  void ensure_primary_is_used_without_available_replica() {
+    // GIVEN
+    lags.put(firstReplica, Duration.ofSeconds(30));
+    unreachable.add(secondReplica);
+
+    // WHEN
+    routingDataSource.checkLag();
+
+    // ASSERT
+    assertSame(primary, routingDataSource.route());
+  }
+
+  @DisplayName("Ensure a user reads from the primary right after committing a write")
+  @Test
+  void ensure_reads_stick_to_primary_after_write() {
+    // GIVEN
+    final RegisteredUser writer = RegisteredUser.of(1L);
+    SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(writer, null, List.of()));
+
+    // WHEN
+    readYourWritesTracker.recordWrite();
+
+    // ASSERT
+    assertSame(primary, routingDataSource.route());
+
+    SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(RegisteredUser.of(2L), null, List.of()));
+    assertNotSame(primary, routingDataSource.route());
+  }
+
+  private Duration measureLag(final DataSource replica) throws SQLException {
+    if (unreachable.contains(replica)) {
+      throw new SQLException("Connection to the replica refused");
+    }
+    return lags.get(replica);
+  }
+}
@@ -0,0 +1,161 @@
+package com.fleencorp.feen.common.configuration.datasource;
+
+import com.fleencorp.feen.common.support.redis.EmbeddedRedis;
+import com.fleencorp.feen.shared.security.RegisteredUser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that read-only transactions reach the replica through the whole routing chain, from
+ * {@code @Transactional(readOnly = true)} through the {@link ReadYourWritesJpaTransactionManager}, the
+ * {@code LazyConnectionDataSourceProxy} and the {@link ReplicaRoutingDataSource}.
+ *
+ * <p>The primary and the replica are two PostgreSQL containers with different database names, so the database a
+ * transaction ran on is told by {@code current_database()}. The replica does not replicate from the primary and
+ * is never considered lagging. Only the primary is migrated by Liquibase. Redis is an embedded server.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Testcontainers
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class ReplicaRoutingIntegrationTest {
+
+  private static final String PRIMARY_DATABASE = "primary_db";
+  private static final String REPLICA_DATABASE = "replica_db";
+
+  @Container
+  private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:16-alpine")
+    .withDatabaseName(PRIMARY_DATABASE);
+
+  @Container
+  private static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:16-alpine")
+    .withDatabaseName(REPLICA_DATABASE);
+
+  private static EmbeddedRedis redis;
+
+  @Autowired
+  private CurrentDatabase currentDatabase;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redis = EmbeddedRedis.start();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    redis.close();
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  /**
+   * The primary pool is built from {@code spring.datasource} by {@link ReplicaRoutingConfiguration}, so the
+   * containers are wired through properties rather than a service connection.
+   */
+  @DynamicPropertySource
+  static void dataSourceProperties(final DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", PRIMARY::getJdbcUrl);
+    registry.add("spring.datasource.username", PRIMARY::getUsername);
+    registry.add("spring.datasource.password", PRIMARY::getPassword);
+    registry.add("datasource.replica.enabled", () -> "true");
+    registry.add("datasource.replica.replicas[0].url", REPLICA::getJdbcUrl);
+    registry.add("datasource.replica.replicas[0].username", REPLICA::getUsername);
+    registry.add("datasource.replica.replicas[0].password", REPLICA::getPassword);
+    registry.add("datasource.replica.read-your-writes-window", () -> "1m");
+    registry.add("spring.data.redis.host", () -> "localhost");
+    registry.add("spring.data.redis.port", () -> redis.getConnectionFactory().getPort());
+  }
+
+  @DisplayName("Ensure a read-only transaction runs on the replica and a read-write one on the primary")
+  @Test
+  void ensure_read_only_transaction_reaches_replica() {
+    // WHEN
+    final String readDatabase = currentDatabase.read();
+    final String writeDatabase = currentDatabase.write();
+
+    // ASSERT
+    assertEquals(REPLICA_DATABASE, readDatabase);
+    assertEquals(PRIMARY_DATABASE, writeDatabase);
+  }
+
+  @DisplayName("Ensure a user reads from the primary after committing a write, while other users read from the replica")
+  @Test
+  void ensure_reads_stick_to_primary_after_write() {
+    // GIVEN
+    authenticate(1L);
+    assertEquals(REPLICA_DATABASE, currentDatabase.read());
+
+    // WHEN
+    currentDatabase.write();
+
+    // ASSERT
+    assertEquals(PRIMARY_DATABASE, currentDatabase.read());
+
+    authenticate(2L);
+    assertEquals(REPLICA_DATABASE, currentDatabase.read());
+  }
+
+  private static void authenticate(final Long userId) {
+    SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(RegisteredUser.of(userId), null, List.of()));
+  }
+
+  /**
+   * Tells the database a transaction runs on, in a read-only and a read-write transaction.
+   */
+  static class CurrentDatabase {
+
+    private static final String CURRENT_DATABASE_QUERY = "SELECT current_database()";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public String read() {
+      return query();
+    }
+
+    @Transactional
+    public String write() {
+      return query();
+    }
+
+    private String query() {
+      return (String) entityManager.createNativeQuery(CURRENT_DATABASE_QUERY).getSingleResult();
+    }
+  }
+
+  @TestConfiguration
+  static class ReplicaRoutingTestConfiguration {
+
+    @Bean
+    CurrentDatabase currentDatabase() {
+      return new CurrentDatabase();
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.fleencorp.feen.common.configuration.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class SqlFingerprintTest {
+
+  @DisplayName("Ensure executions of a query with different literals share a fingerprint")
+  @Test
+  void ensure_literals_do_not_change_fingerprint() {
+    // GIVEN
+    final String first = "SELECT * FROM stream WHERE stream_id IN (1, 2, 3) AND title = 'Morning'";
+    final String second = "SELECT *  FROM stream\n WHERE stream_id IN (7, 42) AND title = 'It''s late' -- search";
+
+    // WHEN
+    final SqlFingerprint firstFingerprint = SqlFingerprint.of(first);
+    final SqlFingerprint secondFingerprint = SqlFingerprint.of(second);
+
+    // ASSERT
+    assertEquals("SELECT * FROM stream WHERE stream_id IN (?, ...) AND title = ?", firstFingerprint.sql());
+    assertEquals(firstFingerprint, secondFingerprint);
+    assertEquals("select", firstFingerprint.type());
+  }
+
+  @DisplayName("Ensure placeholder lists of any length share a fingerprint")
+  @Test
+  void ensure_in_lists_share_fingerprint() {
+    // WHEN
+    final SqlFingerprint two = SqlFingerprint.of("delete from likes where like_id in (?, ?)");
+    final SqlFingerprint five = SqlFingerprint.of("delete from likes where like_id in (?,?,?,?,?)");
+    final SqlFingerprint other = SqlFingerprint.of("delete from bookmarks where bookmark_id in (?, ?)");
+
+    // ASSERT
+    assertEquals(two.id(), five.id());
+    assertEquals("delete", two.type());
+    assertNotEquals(two.id(), other.id());
+  }
+}
@@ -0,0 +1,71 @@
+package com.fleencorp.feen.common.configuration.message;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompilingMessageSourceTest {
+
+  private static final String BASE_NAME = "classpath:i18n/messages";
+
+  @DisplayName("Ensure every message is formatted exactly like the standard message source in every locale")
+  @Test
+  void ensure_output_matches_standard_message_source() throws IOException {
+    // GIVEN
+    final ReloadableResourceBundleMessageSource standard = configure(new ReloadableResourceBundleMessageSource());
+    final ReloadableResourceBundleMessageSource compiling = configure(new CompilingMessageSource());
+    final Properties messages = PropertiesLoaderUtils.loadProperties(new ClassPathResource("i18n/messages_en_US.properties"));
+    final Object[][] argumentSets = {
+      null,
+      new Object[] { "Jane Doe" },
+      new Object[] { "Jane Doe", "Book Club" },
+      new Object[] { 1_234L, "Jane Doe" },
+      new Object[] { null, "It's" }
+    };
+
+    for (final Locale locale : new Locale[] { Locale.US, Locale.FRENCH }) {
+      for (final String code : messages.stringPropertyNames()) {
+        for (final Object[] args : argumentSets) {
+          // WHEN
+          final String expected = standard.getMessage(code, args, locale);
+          final String first = compiling.getMessage(code, args, locale);
+          final String cached = compiling.getMessage(code, args, locale);
+
+          // ASSERT
+          assertEquals(expected, first, code + " in " + locale);
+          assertEquals(expected, cached, code + " in " + locale);
+        }
+      }
+    }
+  }
+
+  @DisplayName("Ensure a missing code still fails like the standard message source")
+  @Test
+  void ensure_missing_code_is_not_cached() {
+    // GIVEN
+    final ReloadableResourceBundleMessageSource compiling = configure(new CompilingMessageSource());
+
+    // ASSERT
+    assertThrows(NoSuchMessageException.class, () -> compiling.getMessage("no.such.code", null, Locale.US));
+    assertThrows(NoSuchMessageException.class, () -> compiling.getMessage("no.such.code", null, Locale.US));
+  }
+
+  private static ReloadableResourceBundleMessageSource configure(final ReloadableResourceBundleMessageSource messageSource) {
+    messageSource.setBasenames(BASE_NAME);
+    messageSource.setDefaultLocale(Locale.US);
+    messageSource.setAlwaysUseMessageFormat(true);
+    messageSource.setUseCodeAsDefaultMessage(false);
+    messageSource.setFallbackToSystemLocale(false);
+    messageSource.setDefaultEncoding("UTF-8");
+    return messageSource;
+  }
+}
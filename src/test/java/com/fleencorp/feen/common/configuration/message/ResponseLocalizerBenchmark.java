@@ -0,0 +1,104 @@
+package com.fleencorp.feen.common.configuration.message;
+
+import com.fleencorp.base.model.view.search.SearchResult;
+import com.fleencorp.feen.chat.space.model.search.mutual.MutualChatSpaceMembershipSearchResult;
+import com.fleencorp.feen.follower.model.search.FollowerSearchResult;
+import com.fleencorp.feen.follower.model.search.FollowingSearchResult;
+import com.fleencorp.feen.stream.model.search.common.UserCreatedStreamsSearchResult;
+import com.fleencorp.feen.stream.model.search.mutual.MutualStreamAttendanceSearchResult;
+import com.fleencorp.feen.user.model.response.UserProfileResponse;
+import com.fleencorp.localizer.service.Localizer;
+import com.fleencorp.localizer.service.adapter.LocalizerAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static com.fleencorp.base.util.FleenUtil.toSearchResult;
+
+/**
+ * Measures the cost of localizing the user profile, the response with the most nested localized results.
+ *
+ * <p>{@code adapter} localizes the profile the way the service used to, with one call for each of the five
+ * nested search results and one for the profile. {@code response} uses the {@link ResponseLocalizer} now
+ * configured for the application, which localizes the profile and its nested results in a single call.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseLocalizerBenchmark {
+
+  @Param({"adapter", "response"})
+  public String localizerType;
+
+  @Param({"en-US", "fr"})
+  public String languageTag;
+
+  private Localizer localizer;
+  private UserProfileResponse userProfileResponse;
+
+  @Setup
+  public void setUp() {
+    final CompilingMessageSource messageSource = new CompilingMessageSource();
+    messageSource.setBasenames("classpath:i18n/response/messages");
+    messageSource.setDefaultLocale(Locale.US);
+    messageSource.setAlwaysUseMessageFormat(true);
+    messageSource.setUseCodeAsDefaultMessage(false);
+    messageSource.setFallbackToSystemLocale(false);
+    messageSource.setDefaultEncoding("UTF-8");
+
+    localizer = "response".equals(localizerType)
+      ? new ResponseLocalizer(messageSource)
+      : new LocalizerAdapter(messageSource);
+
+    final SearchResult searchResult = toSearchResult(List.of(), Page.empty());
+    userProfileResponse = UserProfileResponse.of();
+    userProfileResponse.setUserCreatedStreamsSearchResult(UserCreatedStreamsSearchResult.of(searchResult, "Jane Doe"));
+    userProfileResponse.setMutualStreamAttendanceSearchResult(MutualStreamAttendanceSearchResult.of(searchResult, "Jane Doe"));
+    userProfileResponse.setMutualChatSpaceMembershipSearchResult(MutualChatSpaceMembershipSearchResult.of(searchResult, "Jane Doe"));
+    userProfileResponse.setFollowerSearchResult(FollowerSearchResult.of(searchResult));
+    userProfileResponse.setFollowingSearchResult(FollowingSearchResult.of(searchResult));
+
+    LocaleContextHolder.setLocale(Locale.forLanguageTag(languageTag));
+  }
+
+  @Benchmark
+  public UserProfileResponse localizeUserProfile() {
+    if (localizer instanceof ResponseLocalizer) {
+      return localizer.of(userProfileResponse);
+    }
+
+    localizer.of(userProfileResponse.getUserCreatedStreamsSearchResult());
+    localizer.of(userProfileResponse.getMutualStreamAttendanceSearchResult());
+    localizer.of(userProfileResponse.getMutualChatSpaceMembershipSearchResult());
+    localizer.of(userProfileResponse.getFollowerSearchResult());
+    localizer.of(userProfileResponse.getFollowingSearchResult());
+    return localizer.of(userProfileResponse);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(ResponseLocalizerBenchmark.class.getSimpleName())
+      .build())
+      .run();
+  }
+}
@@ -0,0 +1,220 @@
+package com.fleencorp.feen.common.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of inserting poll votes and stream attendees in bulk, the way Hibernate writes them with
+ * each identifier strategy.
+ *
+ * <p>{@code identity} sends one {@code INSERT ... RETURNING} per row, which is what Hibernate does for
+ * {@code IDENTITY} identifiers since it needs the generated key of every row. {@code sequence} allocates the
+ * identifiers from the sequence 50 at a time, as the pooled generators of the entities do, and sends the rows as
+ * JDBC batches of 50 that the driver rewrites into multi-row inserts.</p>
+ *
+ * <p>Runs against the database given by {@code benchmark.db.url}, which must hold at least one poll option, one
+ * stream and {@code rows} members. Every invocation is rolled back.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+  private static final int BATCH_SIZE = 50;
+
+  private static final String INSERT_POLL_VOTE = "INSERT INTO poll_vote (vote_id, poll_id, option_id, member_id) VALUES (?, ?, ?, ?)";
+  private static final String INSERT_POLL_VOTE_IDENTITY = "INSERT INTO poll_vote (poll_id, option_id, member_id) VALUES (?, ?, ?) RETURNING vote_id";
+  private static final String INSERT_ATTENDEE = "INSERT INTO stream_attendee (stream_attendee_id, email_address, stream_id, member_id) VALUES (?, ?, ?, ?)";
+  private static final String INSERT_ATTENDEE_IDENTITY = "INSERT INTO stream_attendee (email_address, stream_id, member_id) VALUES (?, ?, ?) RETURNING stream_attendee_id";
+
+  @Param({"identity", "sequence"})
+  public String idStrategy;
+
+  @Param({"100"})
+  public int rows;
+
+  private Connection connection;
+  private long pollId;
+  private long optionId;
+  private long streamId;
+  private final List<Long> memberIds = new ArrayList<>();
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection(
+      System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/fleen_feen?reWriteBatchedInserts=true"),
+      System.getProperty("benchmark.db.username", System.getenv("DB_USERNAME")),
+      System.getProperty("benchmark.db.password", System.getenv("DB_PASSWORD")));
+    connection.setAutoCommit(false);
+
+    try (PreparedStatement statement = connection.prepareStatement("SELECT poll_id, poll_option_id FROM poll_option LIMIT 1");
+         ResultSet resultSet = statement.executeQuery()) {
+      resultSet.next();
+      pollId = resultSet.getLong(1);
+      optionId = resultSet.getLong(2);
+    }
+    try (PreparedStatement statement = connection.prepareStatement("SELECT stream_id FROM stream LIMIT 1");
+         ResultSet resultSet = statement.executeQuery()) {
+      resultSet.next();
+      streamId = resultSet.getLong(1);
+    }
+    try (PreparedStatement statement = connection.prepareStatement("SELECT member_id FROM member LIMIT ?")) {
+      statement.setInt(1, rows);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          memberIds.add(resultSet.getLong(1));
+        }
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    connection.close();
+  }
+
+  @Benchmark
+  public int insertPollVotes() throws SQLException {
+    try {
+      if ("identity".equals(idStrategy)) {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_POLL_VOTE_IDENTITY)) {
+          for (final Long memberId : memberIds) {
+            statement.setLong(1, pollId);
+            statement.setLong(2, optionId);
+            statement.setLong(3, memberId);
+            readGeneratedId(statement);
+          }
+        }
+        return memberIds.size();
+      }
+
+      try (PreparedStatement statement = connection.prepareStatement(INSERT_POLL_VOTE)) {
+        int batched = 0;
+        final IdAllocator ids = new IdAllocator("poll_vote_vote_id_seq");
+        for (final Long memberId : memberIds) {
+          statement.setLong(1, ids.next());
+          statement.setLong(2, pollId);
+          statement.setLong(3, optionId);
+          statement.setLong(4, memberId);
+          addBatch(statement, ++batched);
+        }
+        statement.executeBatch();
+        return batched;
+      }
+    } finally {
+      connection.rollback();
+    }
+  }
+
+  @Benchmark
+  public int insertStreamAttendees() throws SQLException {
+    try {
+      if ("identity".equals(idStrategy)) {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_ATTENDEE_IDENTITY)) {
+          for (final Long memberId : memberIds) {
+            statement.setString(1, "attendee" + memberId + "@example.com");
+            statement.setLong(2, streamId);
+            statement.setLong(3, memberId);
+            readGeneratedId(statement);
+          }
+        }
+        return memberIds.size();
+      }
+
+      try (PreparedStatement statement = connection.prepareStatement(INSERT_ATTENDEE)) {
+        int batched = 0;
+        final IdAllocator ids = new IdAllocator("stream_attendee_stream_attendee_id_seq");
+        for (final Long memberId : memberIds) {
+          statement.setLong(1, ids.next());
+          statement.setString(2, "attendee" + memberId + "@example.com");
+          statement.setLong(3, streamId);
+          statement.setLong(4, memberId);
+          addBatch(statement, ++batched);
+        }
+        statement.executeBatch();
+        return batched;
+      }
+    } finally {
+      connection.rollback();
+    }
+  }
+
+  private static void readGeneratedId(final PreparedStatement statement) throws SQLException {
+    try (ResultSet resultSet = statement.executeQuery()) {
+      resultSet.next();
+      resultSet.getLong(1);
+    }
+  }
+
+  /**
+   * Adds the current row to the batch and sends the batch once it holds {@link #BATCH_SIZE} rows, as Hibernate does
+   * with {@code hibernate.jdbc.batch_size}.
+   */
+  private static void addBatch(final PreparedStatement statement, final int batched) throws SQLException {
+    statement.addBatch();
+    if (batched % BATCH_SIZE == 0) {
+      statement.executeBatch();
+    }
+  }
+
+  /**
+   * Hands out identifiers the way the pooled optimizer does, calling the sequence once per {@link #BATCH_SIZE}.
+   */
+  private final class IdAllocator {
+
+    private final String sequenceName;
+    private long next;
+    private long upperBound;
+
+    private IdAllocator(final String sequenceName) {
+      this.sequenceName = sequenceName;
+    }
+
+    private long next() throws SQLException {
+      if (next >= upperBound) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT nextval(?)")) {
+          statement.setString(1, sequenceName);
+          try (ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            upperBound = resultSet.getLong(1) + 1;
+            next = upperBound - BATCH_SIZE;
+          }
+        }
+      }
+      return next++;
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(BulkInsertBenchmark.class.getSimpleName())
+      .build())
+      .run();
+  }
+}
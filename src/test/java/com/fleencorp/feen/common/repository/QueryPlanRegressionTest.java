@@ -0,0 +1,385 @@
+package com.fleencorp.feen.common.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleencorp.feen.common.support.redis.EmbeddedRedis;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Parameter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Plans every {@link Query} declared on the repositories against a seeded database and fails when a query reads a
+ * large table with a sequential scan.
+ *
+ * <p>Each query is run once with placeholder arguments inside a transaction that is rolled back, so Hibernate
+ * produces the exact SQL the application sends. The statements are captured on their way to the driver and
+ * planned with {@code EXPLAIN (FORMAT JSON, GENERIC_PLAN)}, which plans them independently of the placeholder
+ * values and requires PostgreSQL 16 or later. A {@code Seq Scan} on a table holding more rows than
+ * {@code query-plan.seq-scan-threshold} fails the test, unless the query is listed in {@link #ACCEPTED_SEQ_SCANS}.</p>
+ *
+ * <p>A query that sends no statement when run with placeholder arguments, or whose statement cannot be planned,
+ * fails the test as well, unless it is listed in {@link #ACCEPTED_UNPLANNED}, so a query cannot escape the check
+ * by failing quietly.</p>
+ *
+ * <p>The plans depend on the table statistics, so the test runs against a PostgreSQL container migrated by
+ * Liquibase and seeded by {@code db/query-plan-seed.sql} with 20000 rows in every table the migrations leave empty,
+ * which is above the default threshold. Redis is an embedded server.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Slf4j
+@Testcontainers
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Sql(scripts = "classpath:/db/query-plan-seed.sql", config = @SqlConfig(separator = ScriptUtils.EOF_STATEMENT_SEPARATOR))
+class QueryPlanRegressionTest {
+
+  private static final String REPOSITORY_BASE_PACKAGE = "com.fleencorp.feen";
+
+  @Container
+  @ServiceConnection
+  private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  private static EmbeddedRedis redis;
+
+  /**
+   * Queries that list a whole table on purpose and are expected to scan it.
+   */
+  private static final Set<String> ACCEPTED_SEQ_SCANS = Set.of(
+    "PollRepository.findMany",
+    "PollVoteSearchRepository.findMany"
+  );
+
+  /**
+   * Queries that cannot be run with placeholder arguments or planned generically, and are left out of the check.
+   */
+  private static final Set<String> ACCEPTED_UNPLANNED = Set.of();
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private CapturingStatementInspector statementInspector;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Value("${query-plan.seq-scan-threshold:10000}")
+  private long seqScanThreshold;
+
+  private final Map<String, Long> tableRows = new HashMap<>();
+  private final List<String> unplanned = new ArrayList<>();
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redis = EmbeddedRedis.start();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    redis.close();
+  }
+
+  @DynamicPropertySource
+  static void redisProperties(final DynamicPropertyRegistry registry) {
+    registry.add("spring.data.redis.host", () -> "localhost");
+    registry.add("spring.data.redis.port", () -> redis.getConnectionFactory().getPort());
+  }
+
+  @DisplayName("Ensure no repository query plans a sequential scan over a large table")
+  @Test
+  void ensure_no_query_plans_a_seq_scan_over_a_large_table() {
+    // GIVEN
+    jdbcTemplate.execute("ANALYZE");
+    final List<Method> queryMethods = findQueryMethods();
+    final List<String> seqScans = new ArrayList<>();
+    int plannedStatements = 0;
+
+    // WHEN
+    for (final Method method : queryMethods) {
+      final String queryName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+      for (final String sql : captureStatements(queryName, method)) {
+        final Optional<JsonNode> plan = explain(queryName, sql);
+        if (plan.isPresent()) {
+          plannedStatements++;
+          findLargeSeqScans(plan.get())
+            .filter(_ -> !ACCEPTED_SEQ_SCANS.contains(queryName))
+            .ifPresent(relation -> seqScans.add(queryName + " scans " + relation));
+        }
+      }
+    }
+
+    // ASSERT
+    log.info("Planned {} statements of {} repository queries", plannedStatements, queryMethods.size());
+    assertFalse(queryMethods.isEmpty());
+    assertTrue(plannedStatements > 0);
+    assertTrue(unplanned.isEmpty(), "Queries that could not be planned:\n" + String.join("\n", unplanned));
+    assertTrue(seqScans.isEmpty(), "Sequential scans over more than " + seqScanThreshold + " rows:\n" + String.join("\n", seqScans));
+  }
+
+  /**
+   * Finds every repository method annotated with a query, skipping the ones that use SpEL expressions.
+   */
+  private static List<Method> findQueryMethods() {
+    final ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+      @Override
+      protected boolean isCandidateComponent(final AnnotatedBeanDefinition beanDefinition) {
+        return beanDefinition.getMetadata().isInterface();
+      }
+    };
+    scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+
+    final List<Method> queryMethods = new ArrayList<>();
+    for (final BeanDefinition beanDefinition : scanner.findCandidateComponents(REPOSITORY_BASE_PACKAGE)) {
+      final Class<?> repositoryType = ClassUtils.resolveClassName(beanDefinition.getBeanClassName(), QueryPlanRegressionTest.class.getClassLoader());
+      for (final Method method : repositoryType.getDeclaredMethods()) {
+        final Query query = method.getAnnotation(Query.class);
+        if (nonNull(query) && !query.value().contains("#{")) {
+          queryMethods.add(method);
+        }
+      }
+    }
+    queryMethods.sort(Comparator.comparing(method -> method.getDeclaringClass().getSimpleName() + "." + method.getName()));
+    return queryMethods;
+  }
+
+  /**
+   * Runs the query of the method with placeholder arguments in a rolled back transaction and returns the SQL
+   * statements it sent to the database. A query that fails before sending a statement is recorded as unplanned, while
+   * one that fails in the database, such as an update rejected for the placeholder values, is still planned.
+   */
+  private List<String> captureStatements(final String queryName, final Method method) {
+    final Query query = method.getAnnotation(Query.class);
+    statementInspector.clear();
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        status.setRollbackOnly();
+        final jakarta.persistence.Query jpaQuery = query.nativeQuery()
+          ? entityManager.createNativeQuery(query.value())
+          : entityManager.createQuery(query.value());
+        bindParameters(method, jpaQuery, query.nativeQuery());
+
+        if (query.value().stripLeading().regionMatches(true, 0, "SELECT", 0, 6)) {
+          jpaQuery.setMaxResults(1).getResultList();
+        } else {
+          jpaQuery.executeUpdate();
+        }
+      });
+    } catch (final RuntimeException ex) {
+      if (statementInspector.getStatements().isEmpty()) {
+        recordUnplanned(queryName, "failed with placeholder arguments: " + ex.getMessage());
+      }
+    }
+    return statementInspector.getStatements();
+  }
+
+  private void bindParameters(final Method method, final jakarta.persistence.Query jpaQuery, final boolean nativeQuery) {
+    final Set<String> parameterNames = new HashSet<>();
+    for (final Parameter<?> parameter : jpaQuery.getParameters()) {
+      if (nonNull(parameter.getName())) {
+        parameterNames.add(parameter.getName());
+      }
+    }
+
+    final java.lang.reflect.Parameter[] parameters = method.getParameters();
+    for (int i = 0; i < parameters.length; i++) {
+      final Class<?> type = parameters[i].getType();
+      if (Pageable.class.isAssignableFrom(type) || Sort.class.isAssignableFrom(type)) {
+        continue;
+      }
+
+      final Param param = parameters[i].getAnnotation(Param.class);
+      final String name = nonNull(param) ? param.value() : parameters[i].getName();
+      if (parameterNames.contains(name)) {
+        jpaQuery.setParameter(name, placeholderOf(ResolvableType.forMethodParameter(method, i), nativeQuery));
+      }
+    }
+  }
+
+  /**
+   * Creates a value of the given type for a query to be bound to. Entities are bound as references that are
+   * never loaded, and enums are bound by name to native queries.
+   */
+  private Object placeholderOf(final ResolvableType type, final boolean nativeQuery) {
+    final Class<?> rawType = type.resolve(Object.class);
+    if (Collection.class.isAssignableFrom(rawType)) {
+      return List.of(placeholderOf(type.asCollection().getGeneric(0), nativeQuery));
+    }
+    if (rawType.isEnum()) {
+      final Enum<?> constant = (Enum<?>) rawType.getEnumConstants()[0];
+      return nativeQuery ? constant.name() : constant;
+    }
+    if (rawType.isAnnotationPresent(Entity.class)) {
+      final Class<?> idType = entityManager.getMetamodel().entity(rawType).getIdType().getJavaType();
+      return entityManager.getReference(rawType, placeholderOf(ResolvableType.forClass(idType), nativeQuery));
+    }
+    return switch (ClassUtils.resolvePrimitiveIfNecessary(rawType).getSimpleName()) {
+      case "Long" -> 0L;
+      case "Integer" -> 0;
+      case "Double" -> 0.0d;
+      case "Boolean" -> Boolean.FALSE;
+      case "String" -> "placeholder";
+      case "BigDecimal" -> BigDecimal.ZERO;
+      case "LocalDateTime" -> LocalDateTime.now();
+      case "LocalDate" -> LocalDate.now();
+      case "OffsetDateTime" -> OffsetDateTime.now();
+      case "Instant" -> Instant.now();
+      default -> null;
+    };
+  }
+
+  private Optional<JsonNode> explain(final String queryName, final String sql) {
+    try {
+      final String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON, GENERIC_PLAN) " + toNumberedParameters(sql), String.class);
+      return Optional.of(objectMapper.readTree(plan).get(0).get("Plan"));
+    } catch (final Exception ex) {
+      recordUnplanned(queryName, "could not be planned: " + ex.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private void recordUnplanned(final String queryName, final String reason) {
+    if (!ACCEPTED_UNPLANNED.contains(queryName)) {
+      unplanned.add(queryName + " " + reason);
+    }
+  }
+
+  /**
+   * Returns the first relation the plan reads with a sequential scan and that holds more rows than the threshold.
+   */
+  private Optional<String> findLargeSeqScans(final JsonNode plan) {
+    if ("Seq Scan".equals(plan.path("Node Type").asText())) {
+      final String relation = plan.path("Relation Name").asText();
+      final long rows = tableRows.computeIfAbsent(relation, this::countRows);
+      if (rows > seqScanThreshold) {
+        return Optional.of(relation + " (" + rows + " rows)");
+      }
+    }
+    for (final JsonNode child : plan.path("Plans")) {
+      final Optional<String> seqScan = findLargeSeqScans(child);
+      if (seqScan.isPresent()) {
+        return seqScan;
+      }
+    }
+    return Optional.empty();
+  }
+
+  private long countRows(final String relation) {
+    final Long rows = jdbcTemplate.queryForObject(
+      "SELECT COALESCE(MAX(reltuples), 0)::bigint FROM pg_class WHERE relname = ? AND relkind IN ('r', 'p')", Long.class, relation);
+    return isNull(rows) ? 0 : rows;
+  }
+
+  /**
+   * Replaces the JDBC placeholders of the statement with the numbered parameters a generic plan expects.
+   */
+  private static String toNumberedParameters(final String sql) {
+    final StringBuilder numbered = new StringBuilder(sql.length() + 16);
+    boolean inLiteral = false;
+    int parameter = 0;
+    for (int i = 0; i < sql.length(); i++) {
+      final char c = sql.charAt(i);
+      if (c == '\'') {
+        inLiteral = !inLiteral;
+      }
+      if (c == '?' && !inLiteral) {
+        numbered.append('$').append(++parameter);
+      } else {
+        numbered.append(c);
+      }
+    }
+    return numbered.toString();
+  }
+
+  /**
+   * Records the statements Hibernate prepares, leaving them unchanged.
+   */
+  static class CapturingStatementInspector implements StatementInspector {
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(final String sql) {
+      statements.add(sql);
+      return sql;
+    }
+
+    void clear() {
+      statements.clear();
+    }
+
+    List<String> getStatements() {
+      return List.copyOf(statements);
+    }
+  }
+
+  @TestConfiguration
+  static class QueryPlanConfiguration {
+
+    @Bean
+    CapturingStatementInspector capturingStatementInspector() {
+      return new CapturingStatementInspector();
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer statementInspectorCustomizer(final CapturingStatementInspector statementInspector) {
+      return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementInspector);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.fleencorp.feen.common.service.impl.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleencorp.feen.common.configuration.cache.TieredCacheProperties;
+import com.fleencorp.feen.common.support.redis.EmbeddedRedis;
+import com.fleencorp.feen.country.model.response.CountryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to warm the country cache with one {@code SET} per country against the bulk operations
+ * of {@link CacheService}, on an embedded Redis.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheServiceWarmUpBenchmark {
+
+  private static final int COUNTRY_COUNT = 250;
+
+  private EmbeddedRedis redis;
+  private CacheService cacheService;
+  private Map<String, CountryResponse> countries;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    redis = EmbeddedRedis.start();
+
+    final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+    final RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+    redisTemplate.setConnectionFactory(redis.getConnectionFactory());
+    redisTemplate.setKeySerializer(new StringRedisSerializer());
+    redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer(mapper));
+    redisTemplate.afterPropertiesSet();
+
+    final StringRedisTemplate stringRedisTemplate = redis.getRedisTemplate();
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final TieredCacheMetrics metrics = new TieredCacheMetrics(meterRegistry);
+    final LocalCacheRegistry localCacheRegistry =
+      new LocalCacheRegistry(stringRedisTemplate, mapper, new TieredCacheProperties(), metrics, meterRegistry);
+    // The JSON utility is only used when reading values, which this benchmark does not do
+    cacheService = new CacheService(redisTemplate, mapper, null, localCacheRegistry, metrics);
+
+    countries = new LinkedHashMap<>();
+    for (int i = 0; i < COUNTRY_COUNT; i++) {
+      countries.put("COUNTRY:::Country " + i, new CountryResponse("Country " + i, "C" + i, "Etc/GMT"));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    redis.close();
+  }
+
+  @Benchmark
+  public void sequentialSet() {
+    countries.forEach(cacheService::set);
+  }
+
+  @Benchmark
+  public void multiSet() {
+    cacheService.multiSet(countries);
+  }
+
+  @Benchmark
+  public void pipelinedMultiSetWithTtl() {
+    cacheService.multiSet(countries, Duration.ofHours(12));
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(CacheServiceWarmUpBenchmark.class.getSimpleName())
+      .build())
+      .run();
+  }
+}
@@ -0,0 +1,142 @@
+package com.fleencorp.feen.common.service.impl.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleencorp.feen.common.configuration.cache.TieredCacheProperties;
+import com.fleencorp.feen.common.support.redis.EmbeddedRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TieredCacheManagerTest {
+
+  private static EmbeddedRedis redis;
+  private static JedisConnectionFactory connectionFactory;
+  private static StringRedisTemplate redisTemplate;
+  private static final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redis = EmbeddedRedis.start();
+    connectionFactory = redis.getConnectionFactory();
+    redisTemplate = redis.getRedisTemplate();
+  }
+
+  @AfterAll
+  static void stopRedis() throws Exception {
+    for (final RedisMessageListenerContainer container : containers) {
+      container.destroy();
+    }
+    redis.close();
+  }
+
+  @DisplayName("Ensure a value read from the Redis tier is served locally afterwards")
+  @Test
+  void ensure_value_is_served_from_local_tier() {
+    // GIVEN
+    final ConcurrentMapCacheManager redisStandIn = new ConcurrentMapCacheManager();
+    final Cache cache = createNode(redisStandIn).getCache("countries");
+    redisStandIn.getCache("countries").put("NG", "Nigeria");
+
+    // WHEN
+    final Cache.ValueWrapper first = cache.get("NG");
+    redisStandIn.getCache("countries").evict("NG");
+    final Cache.ValueWrapper second = cache.get("NG");
+
+    // ASSERT
+    assertNotNull(first);
+    assertNotNull(second);
+    assertEquals("Nigeria", second.get());
+  }
+
+  @DisplayName("Ensure a write on one node drops the stale local entry on another node")
+  @Test
+  void ensure_write_invalidates_other_nodes() throws InterruptedException {
+    // GIVEN
+    final ConcurrentMapCacheManager sharedRedis = new ConcurrentMapCacheManager();
+    final Cache nodeA = createNode(sharedRedis).getCache("availableLinkTypes");
+    final Cache nodeB = createNode(sharedRedis).getCache("availableLinkTypes");
+    nodeB.put("en:types", "old");
+    assertEquals("old", nodeA.get("en:types", String.class));
+
+    // WHEN
+    nodeB.put("en:types", "new");
+
+    // ASSERT
+    String seenByA = nodeA.get("en:types", String.class);
+    for (int i = 0; i < 50 && !"new".equals(seenByA); i++) {
+      Thread.sleep(20);
+      seenByA = nodeA.get("en:types", String.class);
+    }
+    assertEquals("new", seenByA);
+  }
+
+  @DisplayName("Ensure concurrent misses of the same key call the loader once and share its result")
+  @Test
+  void ensure_concurrent_misses_are_coalesced() throws Exception {
+    // GIVEN
+    final Cache cache = createNode(new ConcurrentMapCacheManager()).getCache("dataToCreatePoll");
+    final AtomicInteger loads = new AtomicInteger();
+    final CountDownLatch start = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(16);
+    final List<Future<String>> results = new ArrayList<>();
+
+    // WHEN
+    for (int i = 0; i < 16; i++) {
+      results.add(executor.submit(() -> {
+        start.await();
+        return cache.get("en:poll", () -> {
+          loads.incrementAndGet();
+          Thread.sleep(200);
+          return "poll-data";
+        });
+      }));
+    }
+    start.countDown();
+
+    final List<String> values = new ArrayList<>();
+    for (final Future<String> result : results) {
+      values.add(result.get());
+    }
+    executor.shutdown();
+
+    // ASSERT
+    assertEquals(1, loads.get());
+    assertTrue(values.stream().allMatch("poll-data"::equals));
+  }
+
+  private static TieredCacheManager createNode(final ConcurrentMapCacheManager redisCacheManager) {
+    final TieredCacheProperties properties = new TieredCacheProperties();
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final TieredCacheMetrics metrics = new TieredCacheMetrics(meterRegistry);
+    final LocalCacheRegistry registry = new LocalCacheRegistry(redisTemplate, new ObjectMapper(), properties, metrics, meterRegistry);
+
+    final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(registry, ChannelTopic.of(properties.getInvalidationChannel()));
+    container.afterPropertiesSet();
+    container.start();
+    containers.add(container);
+
+    final CacheLoadCoordinator loadCoordinator = new CacheLoadCoordinator(redisTemplate, properties, metrics, meterRegistry);
+    return new TieredCacheManager(redisCacheManager, registry, loadCoordinator, metrics);
+  }
+}
@@ -0,0 +1,136 @@
+package com.fleencorp.feen.common.service.impl.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleencorp.feen.country.model.response.CountryResponse;
+import com.fleencorp.feen.softask.model.domain.SoftAskParticipantDetail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the encoded size and serialization time of cache values across the Jackson codecs.
+ *
+ * <p>{@code JSON} matches the typed JSON written before envelopes existed, plus the four byte header. The
+ * encoded size of each value is printed once per codec during setup.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+  @Param({"SMILE", "SMILE_LZ4", "JSON", "JSON_LZ4"})
+  public String codec;
+
+  private RedisSerializer<Object> serializer;
+  private CountryResponse country;
+  private List<CountryResponse> countries;
+  private SoftAskParticipantDetail participantDetail;
+  private byte[] encodedCountry;
+  private byte[] encodedCountries;
+  private byte[] encodedParticipantDetail;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    serializer = createSerializer(codec);
+    country = createCountry(1, "Nigeria", "NG", "Africa/Lagos");
+    countries = new ArrayList<>();
+    for (int i = 0; i < 250; i++) {
+      countries.add(createCountry(i, "Country " + i, "C" + i, "Etc/GMT"));
+    }
+    participantDetail = SoftAskParticipantDetail.of(10L, 20L, "quiet-otter-4821", "Quiet Otter");
+    participantDetail.setAvatarUrl("https://cdn.example.com/avatars/quiet-otter-4821.png");
+    participantDetail.setCreatedAt(LocalDateTime.now());
+
+    encodedCountry = serializer.serialize(country);
+    encodedCountries = serializer.serialize(countries);
+    encodedParticipantDetail = serializer.serialize(participantDetail);
+    System.out.printf("%n%s sizes: country=%d, countries=%d, participantDetail=%d bytes%n",
+      codec, encodedCountry.length, encodedCountries.length, encodedParticipantDetail.length);
+  }
+
+  @Benchmark
+  public byte[] serializeCountry() {
+    return serializer.serialize(country);
+  }
+
+  @Benchmark
+  public Object deserializeCountry() {
+    return serializer.deserialize(encodedCountry);
+  }
+
+  @Benchmark
+  public byte[] serializeCountries() {
+    return serializer.serialize(countries);
+  }
+
+  @Benchmark
+  public Object deserializeCountries() {
+    return serializer.deserialize(encodedCountries);
+  }
+
+  @Benchmark
+  public byte[] serializeParticipantDetail() {
+    return serializer.serialize(participantDetail);
+  }
+
+  @Benchmark
+  public Object deserializeParticipantDetail() {
+    return serializer.deserialize(encodedParticipantDetail);
+  }
+
+  private static RedisSerializer<Object> createSerializer(final String codec) {
+    final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+    final CacheCodec smile = JacksonCacheCodec.smile(mapper);
+    final CacheCodec json = JacksonCacheCodec.json(mapper);
+    final CacheCodec jdk = new JdkCacheCodec();
+    final Map<Byte, CacheCodec> codecs = Map.of(
+      smile.getType().getCodecId(), smile,
+      json.getType().getCodecId(), json,
+      jdk.getType().getCodecId(), jdk
+    );
+
+    return switch (codec) {
+      case "SMILE" -> new EnvelopeRedisSerializer(smile, codecs, json, jdk, 0);
+      case "SMILE_LZ4" -> new EnvelopeRedisSerializer(smile, codecs, json, jdk, 1_024);
+      case "JSON_LZ4" -> new EnvelopeRedisSerializer(json, codecs, json, jdk, 1_024);
+      default -> new EnvelopeRedisSerializer(json, codecs, json, jdk, 0);
+    };
+  }
+
+  private static CountryResponse createCountry(final long id, final String title, final String code, final String timezone) {
+    final CountryResponse country = new CountryResponse(title, code, timezone);
+    country.setId(id);
+    country.setCreatedOn(LocalDateTime.now());
+    country.setUpdatedOn(LocalDateTime.now());
+    return country;
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(CacheCodecBenchmark.class.getSimpleName())
+      .build())
+      .run();
+  }
+}
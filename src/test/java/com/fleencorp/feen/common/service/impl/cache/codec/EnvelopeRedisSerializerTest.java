@@ -0,0 +1,79 @@
+package com.fleencorp.feen.common.service.impl.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleencorp.feen.country.model.response.CountryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnvelopeRedisSerializerTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
+  private static final CacheCodec SMILE = JacksonCacheCodec.smile(MAPPER);
+  private static final CacheCodec JSON = JacksonCacheCodec.json(MAPPER);
+  private static final CacheCodec JDK = new JdkCacheCodec();
+  private static final Map<Byte, CacheCodec> CODECS = Map.of(
+    SMILE.getType().getCodecId(), SMILE,
+    JSON.getType().getCodecId(), JSON,
+    JDK.getType().getCodecId(), JDK
+  );
+
+  @DisplayName("Ensure values round trip through the envelope with and without compression")
+  @Test
+  void ensure_values_round_trip() {
+    // GIVEN
+    final EnvelopeRedisSerializer plain = new EnvelopeRedisSerializer(SMILE, CODECS, JSON, JDK, 0);
+    final EnvelopeRedisSerializer compressed = new EnvelopeRedisSerializer(SMILE, CODECS, JSON, JDK, 1);
+    final CountryResponse country = createCountry();
+
+    // WHEN
+    final byte[] plainBytes = plain.serialize(country);
+    final byte[] compressedBytes = compressed.serialize("x".repeat(2_000));
+    final CountryResponse plainValue = (CountryResponse) plain.deserialize(plainBytes);
+
+    // ASSERT
+    assertEquals("NG", plainValue.getCode());
+    assertEquals("x".repeat(2_000), compressed.deserialize(compressedBytes));
+    assertTrue(compressedBytes.length < 2_000);
+  }
+
+  @DisplayName("Ensure entries written by another codec or without an envelope can still be read")
+  @Test
+  void ensure_other_codecs_and_legacy_entries_are_read() {
+    // GIVEN
+    final EnvelopeRedisSerializer smileSerializer = new EnvelopeRedisSerializer(SMILE, CODECS, JSON, JDK, 0);
+    final EnvelopeRedisSerializer jsonSerializer = new EnvelopeRedisSerializer(JSON, CODECS, JSON, JDK, 0);
+    final byte[] legacyEntry = new GenericJackson2JsonRedisSerializer().serialize(createCountry());
+
+    // WHEN
+    final Object fromJsonEnvelope = smileSerializer.deserialize(jsonSerializer.serialize(createCountry()));
+    final Object fromLegacyEntry = smileSerializer.deserialize(legacyEntry);
+
+    // ASSERT
+    assertInstanceOf(CountryResponse.class, fromJsonEnvelope);
+    assertInstanceOf(CountryResponse.class, fromLegacyEntry);
+  }
+
+  @DisplayName("Ensure entries from a newer envelope version are treated as misses")
+  @Test
+  void ensure_newer_envelope_is_a_miss() {
+    // GIVEN
+    final EnvelopeRedisSerializer serializer = new EnvelopeRedisSerializer(SMILE, CODECS, JSON, JDK, 0);
+    final byte[] entry = serializer.serialize(createCountry());
+    entry[1] = 9;
+
+    // WHEN
+    final Object value = serializer.deserialize(entry);
+
+    // ASSERT
+    assertNull(value);
+  }
+
+  private static CountryResponse createCountry() {
+    return new CountryResponse("Nigeria", "NG", "Africa/Lagos");
+  }
+}
@@ -0,0 +1,140 @@
+package com.fleencorp.feen.common.service.impl.ratelimit;
+
+import com.fleencorp.feen.common.configuration.ratelimit.RateLimitProperties;
+import com.fleencorp.feen.common.constant.ratelimit.RateLimitKeyType;
+import com.fleencorp.feen.common.model.ratelimit.RateLimitDecision;
+import com.fleencorp.feen.common.model.ratelimit.RateLimitPolicy;
+import com.fleencorp.feen.common.support.redis.EmbeddedRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterServiceTest {
+
+  private static EmbeddedRedis redis;
+  private static StringRedisTemplate redisTemplate;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redis = EmbeddedRedis.start();
+    redisTemplate = redis.getRedisTemplate();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    redis.close();
+  }
+
+  @BeforeEach
+  void flush() {
+    redis.flushAll();
+  }
+
+  @DisplayName("Ensure requests within capacity are allowed and the next one is rejected with a retry after")
+  @Test
+  void ensure_requests_over_capacity_are_rejected() {
+    // GIVEN
+    final RateLimiterService rateLimiterService = createRateLimiterService(0);
+    final RateLimitPolicy policy = RateLimitPolicy.of("otp", 3, 3, Duration.ofMinutes(10), RateLimitKeyType.PRINCIPAL);
+
+    // WHEN
+    final RateLimitDecision first = rateLimiterService.tryConsume(policy, "user:1");
+    final RateLimitDecision second = rateLimiterService.tryConsume(policy, "user:1");
+    final RateLimitDecision third = rateLimiterService.tryConsume(policy, "user:1");
+    final RateLimitDecision fourth = rateLimiterService.tryConsume(policy, "user:1");
+    final RateLimitDecision otherUser = rateLimiterService.tryConsume(policy, "user:2");
+
+    // ASSERT
+    assertTrue(first.allowed());
+    assertTrue(second.allowed());
+    assertTrue(third.allowed());
+    assertFalse(fourth.allowed());
+    assertTrue(fourth.retryAfter().toSeconds() > 0);
+    assertTrue(otherUser.allowed());
+  }
+
+  @DisplayName("Ensure concurrent requests from several nodes never exceed the bucket capacity")
+  @Test
+  void ensure_concurrent_requests_do_not_exceed_capacity() throws Exception {
+    // GIVEN
+    final long capacity = 100;
+    final int nodes = 4;
+    final int threadsPerNode = 8;
+    final int requestsPerThread = 20;
+    final RateLimitPolicy policy = RateLimitPolicy.of("vote", capacity, 1, Duration.ofHours(1), RateLimitKeyType.PRINCIPAL);
+
+    final List<RateLimiterService> services = new ArrayList<>();
+    for (int i = 0; i < nodes; i++) {
+      services.add(createRateLimiterService(2));
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(nodes * threadsPerNode);
+    final CountDownLatch start = new CountDownLatch(1);
+    final List<Future<Integer>> results = new ArrayList<>();
+
+    // WHEN
+    for (final RateLimiterService service : services) {
+      for (int t = 0; t < threadsPerNode; t++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          int allowed = 0;
+          for (int r = 0; r < requestsPerThread; r++) {
+            if (service.tryConsume(policy, "user:1").allowed()) {
+              allowed++;
+            }
+          }
+          return allowed;
+        }));
+      }
+    }
+    start.countDown();
+
+    int totalAllowed = 0;
+    for (final Future<Integer> result : results) {
+      totalAllowed += result.get();
+    }
+    executor.shutdown();
+
+    // ASSERT
+    assertTrue(totalAllowed <= capacity);
+    assertTrue(totalAllowed > 0);
+  }
+
+  @DisplayName("Ensure buckets are created with an expiry so idle clients do not hold memory")
+  @Test
+  void ensure_bucket_has_expiry() {
+    // GIVEN
+    final RateLimiterService rateLimiterService = createRateLimiterService(0);
+    final RateLimitPolicy policy = RateLimitPolicy.of("sign-in", 10, 10, Duration.ofMinutes(1), RateLimitKeyType.IP);
+
+    // WHEN
+    rateLimiterService.tryConsume(policy, "127.0.0.1");
+    final Long ttl = redisTemplate.getExpire("rate-limit:sign-in:127.0.0.1");
+
+    // ASSERT
+    assertNotNull(ttl);
+    assertTrue(ttl > 0 && ttl <= 61);
+  }
+
+  private static RateLimiterService createRateLimiterService(final int leaseSize) {
+    final RateLimitProperties properties = new RateLimitProperties();
+    properties.setLocalLeaseSize(leaseSize);
+    properties.setFailOpen(false);
+    return new RateLimiterService(redisTemplate, properties, new SimpleMeterRegistry());
+  }
+}
@@ -0,0 +1,81 @@
+package com.fleencorp.feen.common.support.redis;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * An embedded Redis server on a free port, with a started connection factory and a string template connected to it.
+ *
+ * <p>Tests start one per class and close it once all of them ran, flushing it between tests that need an empty
+ * server.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public final class EmbeddedRedis implements AutoCloseable {
+
+  private final RedisServer redisServer;
+  private final JedisConnectionFactory connectionFactory;
+  private final StringRedisTemplate redisTemplate;
+
+  private EmbeddedRedis(final RedisServer redisServer, final JedisConnectionFactory connectionFactory) {
+    this.redisServer = redisServer;
+    this.connectionFactory = connectionFactory;
+    this.redisTemplate = new StringRedisTemplate(connectionFactory);
+    this.redisTemplate.afterPropertiesSet();
+  }
+
+  /**
+   * Starts a Redis server on a free port and connects to it.
+   *
+   * @return the started server
+   * @throws IOException if no free port could be found or the server failed to start
+   */
+  public static EmbeddedRedis start() throws IOException {
+    final int port;
+    try (final ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    final RedisServer redisServer = new RedisServer(port);
+    redisServer.start();
+
+    final JedisConnectionFactory connectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+    return new EmbeddedRedis(redisServer, connectionFactory);
+  }
+
+  public JedisConnectionFactory getConnectionFactory() {
+    return connectionFactory;
+  }
+
+  public StringRedisTemplate getRedisTemplate() {
+    return redisTemplate;
+  }
+
+  /**
+   * Removes every key from the server.
+   */
+  public void flushAll() {
+    redisTemplate.execute(connection -> {
+      connection.serverCommands().flushAll();
+      return null;
+    }, true);
+  }
+
+  /**
+   * Closes the connections and stops the server.
+   *
+   * @throws IOException if the server failed to stop
+   */
+  @Override
+  public void close() throws IOException {
+    connectionFactory.destroy();
+    redisServer.stop();
+  }
+}
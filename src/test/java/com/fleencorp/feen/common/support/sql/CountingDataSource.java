@@ -0,0 +1,106 @@
+package com.fleencorp.feen.common.support.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link DataSource} that counts the statements executed through its connections, the rows they return and the
+ * time spent executing them.
+ *
+ * <p>Connections, statements and result sets are wrapped in JDK proxies that forward every call to the real
+ * object and only record the calls that execute a statement or advance a result set. The counters are shared by
+ * all threads, so usage should be measured one request at a time.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class CountingDataSource extends DelegatingDataSource {
+
+  private final AtomicLong statements = new AtomicLong();
+  private final AtomicLong rows = new AtomicLong();
+  private final AtomicLong elapsedNanos = new AtomicLong();
+
+  public CountingDataSource(final DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return proxy(Connection.class, super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(final String username, final String password) throws SQLException {
+    return proxy(Connection.class, super.getConnection(username, password));
+  }
+
+  /**
+   * Resets every counter to zero.
+   */
+  public void reset() {
+    statements.set(0);
+    rows.set(0);
+    elapsedNanos.set(0);
+  }
+
+  public long getStatements() {
+    return statements.get();
+  }
+
+  public long getRows() {
+    return rows.get();
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos.get();
+  }
+
+  private <T> T proxy(final Class<T> type, final T target) {
+    final InvocationHandler handler = (_, method, args) -> {
+      final boolean executes = method.getName().startsWith("execute");
+      final long start = executes ? System.nanoTime() : 0L;
+      final Object result = invoke(method, target, args);
+
+      if (executes) {
+        elapsedNanos.addAndGet(System.nanoTime() - start);
+        statements.addAndGet(switch (result) {
+          case final int[] batch -> batch.length;
+          case final long[] batch -> batch.length;
+          case null, default -> 1;
+        });
+      } else if (type == ResultSet.class && "next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+        rows.incrementAndGet();
+      }
+      return wrap(result);
+    };
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+  }
+
+  /**
+   * Wraps the statements and result sets a call returns, so their own calls are recorded too.
+   */
+  private Object wrap(final Object result) {
+    return switch (result) {
+      case final CallableStatement statement -> proxy(CallableStatement.class, statement);
+      case final PreparedStatement statement -> proxy(PreparedStatement.class, statement);
+      case final Statement statement -> proxy(Statement.class, statement);
+      case final ResultSet resultSet -> proxy(ResultSet.class, resultSet);
+      case null, default -> result;
+    };
+  }
+
+  private static Object invoke(final Method method, final Object target, final Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (final InvocationTargetException ex) {
+      throw ex.getTargetException();
+    }
+  }
+}
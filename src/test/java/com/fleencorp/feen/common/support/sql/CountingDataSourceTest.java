@@ -0,0 +1,139 @@
+package com.fleencorp.feen.common.support.sql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CountingDataSourceTest {
+
+  private static final String SQL = "SELECT 1";
+
+  private Connection connection;
+  private CountingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    final DataSource target = mock(DataSource.class);
+    connection = mock(Connection.class);
+    when(target.getConnection()).thenReturn(connection);
+    dataSource = new CountingDataSource(target);
+  }
+
+  @DisplayName("Ensure every executed statement is counted once")
+  @Test
+  void ensure_executed_statements_are_counted() throws SQLException {
+    // GIVEN
+    final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    final Statement statement = mock(Statement.class);
+    when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+    when(connection.createStatement()).thenReturn(statement);
+    when(preparedStatement.executeUpdate()).thenReturn(1);
+    when(statement.execute(SQL)).thenReturn(true);
+
+    // WHEN
+    try (final Connection counted = dataSource.getConnection()) {
+      counted.prepareStatement(SQL).executeUpdate();
+      counted.prepareStatement(SQL).executeUpdate();
+      counted.createStatement().execute(SQL);
+    }
+
+    // ASSERT
+    assertEquals(3, dataSource.getStatements());
+    assertEquals(0, dataSource.getRows());
+    assertTrue(dataSource.getElapsedNanos() >= 0);
+  }
+
+  @DisplayName("Ensure a batch counts once for every statement it holds")
+  @Test
+  void ensure_batch_counts_each_statement() throws SQLException {
+    // GIVEN
+    final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+    when(preparedStatement.executeBatch()).thenReturn(new int[] { 1, 1, 1 });
+    when(preparedStatement.executeLargeBatch()).thenReturn(new long[] { 1L, 1L });
+
+    // WHEN
+    try (final Connection counted = dataSource.getConnection()) {
+      final PreparedStatement batch = counted.prepareStatement(SQL);
+      batch.addBatch();
+      batch.executeBatch();
+      batch.executeLargeBatch();
+    }
+
+    // ASSERT
+    assertEquals(5, dataSource.getStatements());
+  }
+
+  @DisplayName("Ensure the rows read from a result set are counted")
+  @Test
+  void ensure_rows_read_are_counted() throws SQLException {
+    // GIVEN
+    final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    final ResultSet resultSet = mock(ResultSet.class);
+    when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true, true, false);
+
+    // WHEN
+    try (final Connection counted = dataSource.getConnection()) {
+      final ResultSet rows = counted.prepareStatement(SQL).executeQuery();
+      while (rows.next()) {
+        rows.getString(1);
+      }
+    }
+
+    // ASSERT
+    assertEquals(1, dataSource.getStatements());
+    assertEquals(2, dataSource.getRows());
+  }
+
+  @DisplayName("Ensure resetting sets every counter back to zero")
+  @Test
+  void ensure_reset_clears_counters() throws SQLException {
+    // GIVEN
+    final Statement statement = mock(Statement.class);
+    when(connection.createStatement()).thenReturn(statement);
+    try (final Connection counted = dataSource.getConnection()) {
+      counted.createStatement().execute(SQL);
+    }
+
+    // WHEN
+    dataSource.reset();
+
+    // ASSERT
+    assertEquals(0, dataSource.getStatements());
+    assertEquals(0, dataSource.getRows());
+    assertEquals(0, dataSource.getElapsedNanos());
+  }
+
+  @DisplayName("Ensure the exception a statement throws reaches the caller unwrapped")
+  @Test
+  void ensure_statement_exception_is_not_wrapped() throws SQLException {
+    // GIVEN
+    final Statement statement = mock(Statement.class);
+    when(connection.createStatement()).thenReturn(statement);
+    when(statement.execute(SQL)).thenThrow(new SQLException("syntax error"));
+
+    // WHEN
+    try (final Connection counted = dataSource.getConnection()) {
+      final Statement countedStatement = counted.createStatement();
+      final SQLException exception = assertThrows(SQLException.class, () -> countedStatement.execute(SQL));
+
+      // ASSERT
+      assertEquals("syntax error", exception.getMessage());
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.fleencorp.feen.common.support.sql;
+
+import org.hibernate.stat.Statistics;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Measures the SQL a MockMvc request causes and checks it against a budget.
+ *
+ * <p>A budget is the number of statements an endpoint may execute, whatever the size of the page it serves. The
+ * request is performed once for every page size given, and each measurement is written to the
+ * {@link SqlBudgetReport}. A statement count that grows with the page size is the signature of an N+1 query, and
+ * fails the budget as soon as a large enough page is requested.</p>
+ *
+ * <p>Statements and rows are counted by the {@link CountingDataSource}, and the entity loads, collection fetches
+ * and query executions are read from the Hibernate {@link Statistics}.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class SqlBudget {
+
+  private final CountingDataSource dataSource;
+  private final Statistics statistics;
+  private final SqlBudgetReport report;
+
+  public SqlBudget(final CountingDataSource dataSource, final Statistics statistics, final SqlBudgetReport report) {
+    this.dataSource = dataSource;
+    this.statistics = statistics;
+    this.report = report;
+  }
+
+  /**
+   * Performs the request and returns the database work done to serve it.
+   *
+   * @param mockMvc the MockMvc to perform the request with
+   * @param request the request to perform
+   * @return the usage of the request
+   * @throws Exception if the request fails or does not succeed
+   */
+  public SqlUsage measure(final MockMvc mockMvc, final RequestBuilder request) throws Exception {
+    dataSource.reset();
+    statistics.clear();
+
+    mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+
+    return new SqlUsage(
+      dataSource.getStatements(),
+      dataSource.getRows(),
+      Duration.ofNanos(dataSource.getElapsedNanos()),
+      statistics.getEntityLoadCount(),
+      statistics.getCollectionFetchCount(),
+      statistics.getQueryExecutionCount());
+  }
+
+  /**
+   * Performs the request at each page size and fails if any of them executes more statements than the budget.
+   *
+   * @param mockMvc the MockMvc to perform the requests with
+   * @param endpoint the method and path of the endpoint, as it appears in the report
+   * @param maxStatements the maximum number of statements allowed per request
+   * @param requestOfPageSize builds the request for a page size
+   * @param pageSizes the page sizes to request
+   * @throws Exception if a request fails or does not succeed
+   */
+  public void assertWithin(
+      final MockMvc mockMvc,
+      final String endpoint,
+      final long maxStatements,
+      final IntFunction<RequestBuilder> requestOfPageSize,
+      final int... pageSizes) throws Exception {
+    final List<String> overBudget = new ArrayList<>();
+
+    for (final int pageSize : pageSizes) {
+      final SqlUsage usage = measure(mockMvc, requestOfPageSize.apply(pageSize));
+      report.write(endpoint, pageSize, usage, maxStatements);
+
+      if (usage.statements() > maxStatements) {
+        overBudget.add("page size " + pageSize + ": " + usage);
+      }
+    }
+
+    if (!overBudget.isEmpty()) {
+      throw new AssertionError(endpoint + " executed more than " + maxStatements + " statements at "
+        + String.join(System.lineSeparator(), overBudget));
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.fleencorp.feen.common.support.sql;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Test configuration that counts the SQL executed by the application, for tests that check {@link SqlBudget}s.
+ *
+ * <p>The application {@link DataSource} is wrapped in a {@link CountingDataSource} before anything uses it, so
+ * the statements of Hibernate, the {@code JdbcTemplate}s and Liquibase are all counted, and Hibernate is started
+ * with its statistics enabled.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlBudgetConfiguration {
+
+  @Bean
+  public static BeanPostProcessor countingDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        return bean instanceof final DataSource dataSource && !(bean instanceof CountingDataSource)
+          ? new CountingDataSource(dataSource)
+          : bean;
+      }
+    };
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer statisticsCustomizer() {
+    return properties -> properties.put(AvailableSettings.GENERATE_STATISTICS, Boolean.TRUE);
+  }
+
+  @Bean
+  public SqlBudget sqlBudget(final DataSource dataSource, final EntityManagerFactory entityManagerFactory) throws SQLException {
+    return new SqlBudget(
+      dataSource.unwrap(CountingDataSource.class),
+      entityManagerFactory.unwrap(SessionFactory.class).getStatistics(),
+      new SqlBudgetReport());
+  }
+}
@@ -0,0 +1,71 @@
+package com.fleencorp.feen.common.support.sql;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Appends every measured request to a CSV file, so the statement counts of the endpoints can be compared across
+ * changes.
+ *
+ * <p>The file is {@code target/sql-budget-report.csv} unless the {@code sql-budget.report} system property names
+ * another one. It is created with a header on the first measurement of a run and appended to afterwards.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class SqlBudgetReport {
+
+  private static final String HEADER = "endpoint,page_size,statements,budget,within_budget,rows,elapsed_ms,entity_loads,collection_fetches,query_executions";
+
+  private final Path reportFile;
+  private boolean headerWritten;
+
+  public SqlBudgetReport() {
+    this(Path.of(System.getProperty("sql-budget.report", "target/sql-budget-report.csv")));
+  }
+
+  public SqlBudgetReport(final Path reportFile) {
+    this.reportFile = reportFile;
+  }
+
+  /**
+   * Writes the usage of one request together with the budget it was checked against.
+   *
+   * @param endpoint the method and path of the request
+   * @param pageSize the page size the request asked for
+   * @param usage the database work done for the request
+   * @param budget the maximum number of statements allowed
+   */
+  public synchronized void write(final String endpoint, final int pageSize, final SqlUsage usage, final long budget) {
+    final String line = String.join(",",
+      '"' + endpoint + '"',
+      String.valueOf(pageSize),
+      String.valueOf(usage.statements()),
+      String.valueOf(budget),
+      String.valueOf(usage.statements() <= budget),
+      String.valueOf(usage.rows()),
+      String.valueOf(usage.elapsed().toMillis()),
+      String.valueOf(usage.entityLoads()),
+      String.valueOf(usage.collectionFetches()),
+      String.valueOf(usage.queryExecutions()));
+
+    try {
+      if (!headerWritten) {
+        if (nonNull(reportFile.getParent())) {
+          Files.createDirectories(reportFile.getParent());
+        }
+        Files.writeString(reportFile, HEADER + System.lineSeparator(), StandardCharsets.UTF_8);
+        headerWritten = true;
+      }
+      Files.writeString(reportFile, line + System.lineSeparator(), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    } catch (final IOException ex) {
+      throw new UncheckedIOException("Unable to write the SQL budget report to " + reportFile, ex);
+    }
+  }
+}
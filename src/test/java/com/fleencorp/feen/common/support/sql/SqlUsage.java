@@ -0,0 +1,24 @@
+package com.fleencorp.feen.common.support.sql;
+
+import java.time.Duration;
+
+/**
+ * The database work done while serving one request.
+ *
+ * @param statements the JDBC statements executed, a batch counting once per batched statement
+ * @param rows the rows read from result sets
+ * @param elapsed the time spent executing statements
+ * @param entityLoads the entities Hibernate loaded
+ * @param collectionFetches the collections Hibernate fetched
+ * @param queryExecutions the JPQL, criteria and native queries Hibernate executed
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record SqlUsage(
+    long statements,
+    long rows,
+    Duration elapsed,
+    long entityLoads,
+    long collectionFetches,
+    long queryExecutions) {}
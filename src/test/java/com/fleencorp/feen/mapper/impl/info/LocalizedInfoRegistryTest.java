@@ -0,0 +1,139 @@
+package com.fleencorp.feen.mapper.impl.info;
+
+import com.fleencorp.feen.like.constant.IsLiked;
+import com.fleencorp.feen.like.model.info.UserLikeInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalizedInfoRegistryTest {
+
+  private static final int PAGE_SIZE = 50;
+
+  private ReloadableResourceBundleMessageSource messageSource;
+
+  @BeforeEach
+  void setUp() {
+    messageSource = new ReloadableResourceBundleMessageSource();
+    messageSource.setBasenames("classpath:i18n/messages");
+    messageSource.setDefaultLocale(Locale.US);
+    messageSource.setAlwaysUseMessageFormat(true);
+    messageSource.setFallbackToSystemLocale(false);
+    messageSource.setDefaultEncoding("UTF-8");
+  }
+
+  @AfterEach
+  void tearDown() {
+    LocaleContextHolder.resetLocaleContext();
+  }
+
+  @DisplayName("Ensure the same info instance is returned per state and locale")
+  @Test
+  void ensure_instances_are_shared_per_state_and_locale() {
+    // GIVEN
+    final ToInfoMapperImpl toInfoMapper = new ToInfoMapperImpl(messageSource, new LocalizedInfoRegistry(List.of(Locale.US, Locale.FRENCH)));
+
+    // WHEN
+    LocaleContextHolder.setLocale(Locale.US);
+    final UserLikeInfo liked = toInfoMapper.toLikeInfo(true);
+    final UserLikeInfo notLiked = toInfoMapper.toLikeInfo(false);
+
+    LocaleContextHolder.setLocale(Locale.FRENCH);
+    final UserLikeInfo likedInFrench = toInfoMapper.toLikeInfo(true);
+
+    // ASSERT
+    LocaleContextHolder.setLocale(Locale.US);
+    assertSame(liked, toInfoMapper.toLikeInfo(true));
+    assertSame(notLiked, toInfoMapper.toLikeInfo(false));
+    assertTrue(liked.getLiked());
+    assertFalse(notLiked.getLiked());
+
+    LocaleContextHolder.setLocale(Locale.FRENCH);
+    assertSame(likedInFrench, toInfoMapper.toLikeInfo(true));
+    assertNotSame(liked, likedInFrench);
+    assertEquals(messageSource.getMessage("is.liked.yes", null, Locale.FRENCH), likedInFrench.getLikeText());
+  }
+
+  @DisplayName("Ensure info objects of unsupported locales are built on every call")
+  @Test
+  void ensure_unsupported_locale_is_not_cached() {
+    // GIVEN
+    final ToInfoMapperImpl toInfoMapper = new ToInfoMapperImpl(messageSource, new LocalizedInfoRegistry(List.of(Locale.US)));
+    LocaleContextHolder.setLocale(Locale.GERMAN);
+
+    // WHEN
+    final UserLikeInfo first = toInfoMapper.toLikeInfo(true);
+    final UserLikeInfo second = toInfoMapper.toLikeInfo(true);
+
+    // ASSERT
+    assertNotSame(first, second);
+    assertEquals(first.getLikeText(), second.getLikeText());
+  }
+
+  @DisplayName("Ensure every registered info object is built for every supported locale on startup")
+  @Test
+  void ensure_instances_are_built_on_startup() {
+    // GIVEN
+    final LocalizedInfoRegistry registry = new LocalizedInfoRegistry(List.of(Locale.US, Locale.FRENCH));
+    final ToInfoMapperImpl toInfoMapper = new ToInfoMapperImpl(messageSource, registry);
+    LocaleContextHolder.setLocale(Locale.GERMAN);
+
+    // WHEN
+    registry.buildOnStartup();
+    messageSource.setBasenames("classpath:i18n/no-such-messages");
+
+    // ASSERT
+    assertEquals(Locale.GERMAN, LocaleContextHolder.getLocale());
+    LocaleContextHolder.setLocale(Locale.FRENCH);
+    assertNotNull(toInfoMapper.toLikeInfo(true).getLikeText());
+    assertNotNull(toInfoMapper.toBookmarkInfo(false).getBookmarkOtherText());
+    assertNotNull(toInfoMapper.toIsDeletedInfo(true).getDeletedText());
+  }
+
+  @DisplayName("Ensure an info type cannot be registered a second time")
+  @Test
+  void ensure_second_registration_fails() {
+    // GIVEN
+    final LocalizedInfoRegistry registry = new LocalizedInfoRegistry(List.of(Locale.US));
+    new ToInfoMapperImpl(messageSource, registry);
+
+    // WHEN & ASSERT
+    assertThrows(IllegalStateException.class, () ->
+      registry.register(UserLikeInfo.class, IsLiked.class, isLiked -> UserLikeInfo.of(isLiked == IsLiked.YES, null, null)));
+  }
+
+  @DisplayName("Ensure a page of shared info objects retains a fraction of the memory of per-item instances")
+  @Test
+  void ensure_page_footprint_drops() {
+    // GIVEN
+    final ToInfoMapperImpl sharedMapper = new ToInfoMapperImpl(messageSource, new LocalizedInfoRegistry(List.of(Locale.US)));
+    final ToInfoMapperImpl perItemMapper = new ToInfoMapperImpl(messageSource, new LocalizedInfoRegistry(List.of()));
+    LocaleContextHolder.setLocale(Locale.US);
+
+    // WHEN
+    final long sharedSize = GraphLayout.parseInstance(buildPage(sharedMapper)).totalSize();
+    final long perItemSize = GraphLayout.parseInstance(buildPage(perItemMapper)).totalSize();
+
+    // ASSERT
+    assertTrue(sharedSize * 5 < perItemSize, "shared=" + sharedSize + " per-item=" + perItemSize);
+  }
+
+  private static Object[] buildPage(final ToInfoMapperImpl toInfoMapper) {
+    final Object[] page = new Object[PAGE_SIZE * 3];
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      page[i * 3] = toInfoMapper.toLikeInfo(i % 2 == 0);
+      page[(i * 3) + 1] = toInfoMapper.toBookmarkInfo(i % 3 == 0);
+      page[(i * 3) + 2] = toInfoMapper.toIsDeletedInfo(false);
+    }
+    return page;
+  }
+}
@@ -0,0 +1,107 @@
+package com.fleencorp.feen.mapper.impl.info;
+
+import com.fleencorp.feen.common.configuration.message.CompilingMessageSource;
+import com.fleencorp.feen.follower.model.info.IsFollowingInfo;
+import com.fleencorp.feen.like.model.info.UserLikeInfo;
+import com.fleencorp.feen.model.info.user.profile.TotalFollowingInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of building the localized {@code *Info} objects attached to every item of a page.
+ *
+ * <p>The {@code standard} message source is the plain {@link ReloadableResourceBundleMessageSource} used
+ * before; {@code compiling} is the {@link CompilingMessageSource} now configured for the application.</p>
+ *
+ * <p>{@code shared} info instances come from a {@link LocalizedInfoRegistry} caching the benchmarked locales;
+ * {@code per-item} uses a registry without supported locales, which builds every info object on each call as
+ * the mappers did before. {@link #toPageOfStateInfos(Blackhole)} builds the state infos of a page of 20 items.
+ * Run with {@code -prof gc} to compare allocation per call.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ToInfoMapperBenchmark {
+
+  @Param({"standard", "compiling"})
+  public String messageSourceType;
+
+  @Param({"en-US", "fr"})
+  public String languageTag;
+
+  @Param({"shared", "per-item"})
+  public String infoInstances;
+
+  private ToInfoMapperImpl toInfoMapper;
+
+  @Setup
+  public void setUp() {
+    final ReloadableResourceBundleMessageSource messageSource = "compiling".equals(messageSourceType)
+      ? new CompilingMessageSource()
+      : new ReloadableResourceBundleMessageSource();
+    messageSource.setBasenames("classpath:i18n/messages");
+    messageSource.setDefaultLocale(Locale.US);
+    messageSource.setAlwaysUseMessageFormat(true);
+    messageSource.setUseCodeAsDefaultMessage(false);
+    messageSource.setFallbackToSystemLocale(false);
+    messageSource.setDefaultEncoding("UTF-8");
+
+    final Locale locale = Locale.forLanguageTag(languageTag);
+    final LocalizedInfoRegistry localizedInfoRegistry = new LocalizedInfoRegistry("shared".equals(infoInstances) ? List.of(locale) : List.of());
+    toInfoMapper = new ToInfoMapperImpl(messageSource, localizedInfoRegistry);
+    LocaleContextHolder.setLocale(locale);
+  }
+
+  @Benchmark
+  public IsFollowingInfo toIsFollowingInfo() {
+    return toInfoMapper.toIsFollowingInfo(true, "Jane Doe");
+  }
+
+  @Benchmark
+  public TotalFollowingInfo toTotalFollowingInfo() {
+    return toInfoMapper.toTotalFollowingInfo(1_234L, "Jane Doe");
+  }
+
+  @Benchmark
+  public UserLikeInfo toLikeInfo() {
+    return toInfoMapper.toLikeInfo(true);
+  }
+
+  @Benchmark
+  public void toPageOfStateInfos(final Blackhole blackhole) {
+    for (int i = 0; i < 20; i++) {
+      blackhole.consume(toInfoMapper.toLikeInfo(i % 2 == 0));
+      blackhole.consume(toInfoMapper.toBookmarkInfo(i % 3 == 0));
+      blackhole.consume(toInfoMapper.toIsDeletedInfo(false));
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(ToInfoMapperBenchmark.class.getSimpleName())
+      .build())
+      .run();
+  }
+}
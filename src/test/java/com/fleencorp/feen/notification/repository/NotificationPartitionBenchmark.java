@@ -0,0 +1,231 @@
+package com.fleencorp.feen.notification.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the notification queries on a single heap table and on a table partitioned by month.
+ *
+ * <p>Both tables are seeded in the {@code benchmark} schema with {@code rows} notifications spread evenly over the
+ * last {@code months} months and over {@code receivers} receivers, with a tenth of them unread. The tables are kept
+ * between runs and only seeded again when their size changes, since seeding the 50M rows the partitioning was sized
+ * for takes a while. {@code partitioned} bounds the queries by the retention window the way
+ * {@link NotificationRepository} does, so the planner prunes the older partitions, while {@code heap} runs the
+ * queries as they were before partitioning.</p>
+ *
+ * <p>{@code markAllAsRead} runs the bulk update of a receiver in a transaction that is rolled back, so every call
+ * finds the same unread notifications.</p>
+ *
+ * <p>Runs against the database given by {@code benchmark.db.url}. Use {@code -p rows=50000000} for the full
+ * dataset.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationPartitionBenchmark {
+
+  private static final String HEAP_TABLE = "benchmark.notification_heap";
+  private static final String PARTITIONED_TABLE = "benchmark.notification_partitioned";
+
+  private static final String CREATE_COLUMNS = """
+    notification_id BIGINT NOT NULL,
+    receiver_id BIGINT NOT NULL,
+    notification_status VARCHAR(255) NOT NULL,
+    message_key VARCHAR(1000) NOT NULL,
+    created_on TIMESTAMP NOT NULL
+    """;
+
+  private static final String SEED = """
+    INSERT INTO %s (notification_id, receiver_id, notification_status, message_key, created_on)
+    SELECT id,
+      id %% ?,
+      CASE WHEN id %% 10 = 0 THEN 'UNREAD' ELSE 'READ' END,
+      'notification.user.following',
+      CURRENT_DATE - make_interval(secs => (id %% (? * 30 * 86400))::DOUBLE PRECISION)
+    FROM generate_series(1, ?) AS id
+    """;
+
+  private static final String FIND_MANY = """
+    SELECT n.* FROM %s n
+    WHERE n.receiver_id = ?%s
+    ORDER BY n.created_on DESC
+    LIMIT 20
+    """;
+
+  private static final String COUNT_MANY = "SELECT COUNT(*) FROM %s n WHERE n.receiver_id = ?%s";
+
+  private static final String MARK_ALL_AS_READ = """
+    UPDATE %s n SET notification_status = 'READ'
+    WHERE n.receiver_id = ? AND n.notification_status = 'UNREAD'%s
+    """;
+
+  private static final String RETENTION_BOUND = " AND n.created_on >= ?";
+
+  @Param({"heap", "partitioned"})
+  public String layout;
+
+  @Param({"1000000"})
+  public long rows;
+
+  @Param({"24"})
+  public int months;
+
+  @Param({"12"})
+  public int retentionMonths;
+
+  @Param({"100000"})
+  public int receivers;
+
+  private Connection connection;
+  private String table;
+  private String bound;
+  private Timestamp since;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection(
+      System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/fleen_feen"),
+      System.getProperty("benchmark.db.username", System.getenv("DB_USERNAME")),
+      System.getProperty("benchmark.db.password", System.getenv("DB_PASSWORD")));
+
+    final boolean partitioned = "partitioned".equals(layout);
+    table = partitioned ? PARTITIONED_TABLE : HEAP_TABLE;
+    bound = partitioned ? RETENTION_BOUND : "";
+    since = Timestamp.valueOf(LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths).atStartOfDay());
+
+    if (countRows() != rows) {
+      seed(partitioned);
+    }
+    connection.setAutoCommit(false);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    connection.rollback();
+    connection.close();
+  }
+
+  @Benchmark
+  public int findMany() throws SQLException {
+    int found = 0;
+    try (PreparedStatement statement = prepare(FIND_MANY)) {
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          found++;
+        }
+      }
+    }
+    try (PreparedStatement statement = prepare(COUNT_MANY)) {
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        found += resultSet.getInt(1);
+      }
+    }
+    connection.commit();
+    return found;
+  }
+
+  @Benchmark
+  public int markAllAsRead() throws SQLException {
+    try (PreparedStatement statement = prepare(MARK_ALL_AS_READ)) {
+      return statement.executeUpdate();
+    } finally {
+      connection.rollback();
+    }
+  }
+
+  private PreparedStatement prepare(final String query) throws SQLException {
+    final PreparedStatement statement = connection.prepareStatement(query.formatted(table, bound));
+    statement.setLong(1, ThreadLocalRandom.current().nextInt(receivers));
+    if (!bound.isEmpty()) {
+      statement.setTimestamp(2, since);
+    }
+    return statement;
+  }
+
+  private long countRows() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE SCHEMA IF NOT EXISTS benchmark");
+      try (ResultSet resultSet = statement.executeQuery("SELECT to_regclass('" + table + "') IS NOT NULL")) {
+        resultSet.next();
+        if (!resultSet.getBoolean(1)) {
+          return -1;
+        }
+      }
+      try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+        resultSet.next();
+        return resultSet.getLong(1);
+      }
+    }
+  }
+
+  /**
+   * Creates the table the way the partition changelog lays out {@code notification}, then fills it.
+   */
+  private void seed(final boolean partitioned) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + table);
+      if (partitioned) {
+        statement.execute("CREATE TABLE " + table + " (" + CREATE_COLUMNS + ", PRIMARY KEY (notification_id, created_on)) PARTITION BY RANGE (created_on)");
+        statement.execute("CREATE TABLE " + table + "_default PARTITION OF " + table + " DEFAULT");
+        for (int month = -months; month <= 1; month++) {
+          final LocalDate start = LocalDate.now().withDayOfMonth(1).plusMonths(month);
+          statement.execute("CREATE TABLE %s_y%dm%02d PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+            .formatted(table, start.getYear(), start.getMonthValue(), table, start, start.plusMonths(1)));
+        }
+      } else {
+        statement.execute("CREATE TABLE " + table + " (" + CREATE_COLUMNS + ", PRIMARY KEY (notification_id))");
+      }
+    }
+
+    try (PreparedStatement statement = connection.prepareStatement(SEED.formatted(table))) {
+      statement.setInt(1, receivers);
+      statement.setInt(2, months);
+      statement.setLong(3, rows);
+      statement.executeUpdate();
+    }
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE INDEX ON " + table + " (receiver_id, created_on DESC)");
+      if (partitioned) {
+        statement.execute("CREATE INDEX ON " + table + " (receiver_id, created_on) WHERE notification_status = 'UNREAD'");
+      }
+      statement.execute("ANALYZE " + table);
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(NotificationPartitionBenchmark.class.getSimpleName())
+      .build())
+      .run();
+  }
+}
@@ -0,0 +1,114 @@
+package com.fleencorp.feen.notification.service.impl;
+
+import com.fleencorp.feen.common.configuration.datasource.PartitionMaintenanceProperties;
+import com.fleencorp.feen.common.configuration.message.CompilingMessageSource;
+import com.fleencorp.feen.notification.model.domain.Notification;
+import com.fleencorp.feen.notification.model.response.NotificationResponse;
+import com.fleencorp.localizer.service.adapter.DefaultLocalizerAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static com.fleencorp.feen.notification.constant.NotificationType.*;
+
+/**
+ * Measures the throughput of rendering a page of the notification feed.
+ *
+ * <p>{@code revisited} renders the same page again and again, as when a user pages back and forth through the
+ * feed, and is served from the rendered message cache after the first call. {@code unseen} gives every
+ * notification a new id on each call, so every message is rendered from its compiled template.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationFeedBenchmark {
+
+  private static final int PAGE_SIZE = 50;
+
+  @Param({"revisited", "unseen"})
+  public String page;
+
+  @Param({"en-US", "fr"})
+  public String languageTag;
+
+  private NotificationServiceImpl notificationService;
+  private List<Notification> notifications;
+  private long nextNotificationId;
+
+  @Setup
+  public void setUp() {
+    final CompilingMessageSource messageSource = new CompilingMessageSource();
+    messageSource.setBasenames("classpath:i18n/messages");
+    messageSource.setDefaultLocale(Locale.US);
+    messageSource.setAlwaysUseMessageFormat(true);
+    messageSource.setUseCodeAsDefaultMessage(false);
+    messageSource.setFallbackToSystemLocale(false);
+    messageSource.setDefaultEncoding("UTF-8");
+
+    final NotificationMessageService notificationMessageService = new NotificationMessageService(new DefaultLocalizerAdapter(messageSource));
+    notificationService = new NotificationServiceImpl(notificationMessageService, null, null, new PartitionMaintenanceProperties());
+
+    notifications = new ArrayList<>(PAGE_SIZE);
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      final Notification notification = new Notification();
+      notification.setNotificationId(++nextNotificationId);
+      notification.setChatSpaceTitle("Book Club " + i);
+      notification.setStreamTitle("Weekly Standup " + i);
+      notification.setInitiatorOrRequesterName("Jane Doe");
+      switch (i % 3) {
+        case 0 -> {
+          notification.setNotificationType(requestToJoinChatSpaceApproved());
+          notification.setMessageKey(requestToJoinChatSpaceApproved().getCode());
+        }
+        case 1 -> {
+          notification.setNotificationType(requestToJoinChatSpaceReceived());
+          notification.setMessageKey(requestToJoinChatSpaceReceived().getCode());
+        }
+        default -> {
+          notification.setNotificationType(requestToJoinEventReceived());
+          notification.setMessageKey(requestToJoinEventReceived().getCode());
+        }
+      }
+      notifications.add(notification);
+    }
+
+    LocaleContextHolder.setLocale(Locale.forLanguageTag(languageTag));
+  }
+
+  @Benchmark
+  public List<NotificationResponse> renderFeedPage() {
+    if ("unseen".equals(page)) {
+      for (final Notification notification : notifications) {
+        notification.setNotificationId(++nextNotificationId);
+      }
+    }
+    return notificationService.toNotificationResponses(notifications);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(NotificationFeedBenchmark.class.getSimpleName())
+      .build())
+      .run();
+  }
+}
@@ -0,0 +1,146 @@
+package com.fleencorp.feen.security.password;
+
+import com.fleencorp.feen.security.properties.PasswordHashingProperties;
+import com.fleencorp.feen.user.exception.authentication.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.nonNull;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BoundedPasswordEncoderTest {
+
+  private static final String RAW_PASSWORD = "password";
+  private static final String ENCODED_PASSWORD = "{bcrypt}encoded";
+
+  private PasswordEncoder delegate;
+  private SimpleMeterRegistry meterRegistry;
+  private CountDownLatch hashing;
+  private CountDownLatch release;
+  private BoundedPasswordEncoder encoder;
+  private ExecutorService callers;
+
+  @BeforeEach
+  void setUp() {
+    delegate = mock(PasswordEncoder.class);
+    meterRegistry = new SimpleMeterRegistry();
+    hashing = new CountDownLatch(1);
+    release = new CountDownLatch(1);
+    callers = Executors.newVirtualThreadPerTaskExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    callers.close();
+    if (nonNull(encoder)) {
+      encoder.destroy();
+    }
+  }
+
+  @DisplayName("Ensure a hash runs on the executor and records its latency and queue wait")
+  @Test
+  void ensure_hash_is_timed() {
+    // GIVEN
+    encoder = encoder(1, 1, Duration.ofSeconds(5));
+    when(delegate.encode(RAW_PASSWORD)).thenReturn(ENCODED_PASSWORD);
+    when(delegate.matches(RAW_PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+
+    // WHEN
+    final String encoded = encoder.encode(RAW_PASSWORD);
+    final boolean matches = encoder.matches(RAW_PASSWORD, ENCODED_PASSWORD);
+
+    // ASSERT
+    assertEquals(ENCODED_PASSWORD, encoded);
+    assertTrue(matches);
+    assertEquals(1, meterRegistry.timer("password.hashing.latency", "operation", "encode").count());
+    assertEquals(1, meterRegistry.timer("password.hashing.latency", "operation", "matches").count());
+    assertEquals(2, meterRegistry.timer("password.hashing.queue.wait").count());
+    assertEquals(0, meterRegistry.counter("password.hashing.rejected").count());
+  }
+
+  @DisplayName("Ensure a hash is rejected at once when every thread is busy and the queue is full")
+  @Test
+  void ensure_hash_is_rejected_when_saturated() throws Exception {
+    // GIVEN
+    encoder = encoder(1, 1, Duration.ofSeconds(5));
+    blockEncode();
+    final Future<String> running = callers.submit(() -> encoder.encode(RAW_PASSWORD));
+    assertTrue(hashing.await(1, TimeUnit.SECONDS));
+    final Future<String> queued = callers.submit(() -> encoder.encode(RAW_PASSWORD));
+    awaitQueueSize(1);
+
+    // WHEN & ASSERT
+    assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode(RAW_PASSWORD));
+    assertEquals(1, meterRegistry.counter("password.hashing.rejected").count());
+
+    release.countDown();
+    assertEquals(ENCODED_PASSWORD, running.get(1, TimeUnit.SECONDS));
+    assertEquals(ENCODED_PASSWORD, queued.get(1, TimeUnit.SECONDS));
+  }
+
+  @DisplayName("Ensure a hash that does not finish within the maximum wait is rejected")
+  @Test
+  void ensure_hash_is_rejected_after_max_wait() throws Exception {
+    // GIVEN
+    encoder = encoder(1, 1, Duration.ofMillis(50));
+    blockEncode();
+
+    // WHEN & ASSERT
+    assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode(RAW_PASSWORD));
+    assertEquals(1, meterRegistry.counter("password.hashing.rejected").count());
+  }
+
+  @DisplayName("Ensure checking whether a hash needs an upgrade never waits for the executor")
+  @Test
+  void ensure_upgrade_check_runs_on_caller() throws Exception {
+    // GIVEN
+    encoder = encoder(1, 1, Duration.ofSeconds(5));
+    blockEncode();
+    when(delegate.upgradeEncoding(ENCODED_PASSWORD)).thenReturn(true);
+    callers.submit(() -> encoder.encode(RAW_PASSWORD));
+    assertTrue(hashing.await(1, TimeUnit.SECONDS));
+
+    // WHEN & ASSERT
+    assertTrue(encoder.upgradeEncoding(ENCODED_PASSWORD));
+  }
+
+  private BoundedPasswordEncoder encoder(final int poolSize, final int queueCapacity, final Duration maxWait) {
+    final PasswordHashingProperties properties = new PasswordHashingProperties();
+    properties.setPoolSize(poolSize);
+    properties.setQueueCapacity(queueCapacity);
+    properties.setMaxWait(maxWait);
+    return new BoundedPasswordEncoder(delegate, properties, meterRegistry);
+  }
+
+  /**
+   * Makes every encode hold its hashing thread until the test releases it.
+   */
+  private void blockEncode() {
+    when(delegate.encode(any())).thenAnswer(_ -> {
+      hashing.countDown();
+      release.await();
+      return ENCODED_PASSWORD;
+    });
+  }
+
+  private void awaitQueueSize(final int size) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+    while (meterRegistry.get("password.hashing.queue.size").gauge().value() < size && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+}
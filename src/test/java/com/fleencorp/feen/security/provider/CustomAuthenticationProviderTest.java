@@ -0,0 +1,114 @@
+package com.fleencorp.feen.security.provider;
+
+import com.fleencorp.feen.shared.security.RegisteredUser;
+import com.fleencorp.feen.user.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CustomAuthenticationProviderTest {
+
+  private static final Long USER_ID = 1L;
+  private static final String EMAIL_ADDRESS = "user@fleencorp.com";
+  private static final String RAW_PASSWORD = "password";
+
+  private BCryptPasswordEncoder passwordEncoder;
+  private UserDetailsService userDetailsService;
+  private MemberRepository memberRepository;
+  private CustomAuthenticationProvider authenticationProvider;
+
+  @BeforeEach
+  void setUp() {
+    // The lowest cost BCrypt accepts, configured one above the hashes created with a weaker cost
+    passwordEncoder = new BCryptPasswordEncoder(5);
+    userDetailsService = mock(UserDetailsService.class);
+    memberRepository = mock(MemberRepository.class);
+    authenticationProvider = new CustomAuthenticationProvider(userDetailsService, passwordEncoder, memberRepository);
+  }
+
+  @DisplayName("Ensure a password hashed with a weaker cost is rehashed and stored on sign-in")
+  @Test
+  void ensure_weaker_hash_is_upgraded() {
+    // GIVEN
+    final RegisteredUser user = user(new BCryptPasswordEncoder(4).encode(RAW_PASSWORD));
+
+    // WHEN
+    final Authentication authentication = authenticationProvider.authenticate(credentials(user, RAW_PASSWORD));
+
+    // ASSERT
+    assertNotNull(authentication);
+    verify(memberRepository).updatePassword(eq(USER_ID), eq(user.getPassword()));
+    assertTrue(user.getPassword().startsWith("$2a$05$"));
+    assertTrue(passwordEncoder.matches(RAW_PASSWORD, user.getPassword()));
+  }
+
+  @DisplayName("Ensure a password hashed with the configured cost is left as it is")
+  @Test
+  void ensure_current_hash_is_kept() {
+    // GIVEN
+    final String encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+    final RegisteredUser user = user(encodedPassword);
+
+    // WHEN
+    final Authentication authentication = authenticationProvider.authenticate(credentials(user, RAW_PASSWORD));
+
+    // ASSERT
+    assertNotNull(authentication);
+    verify(memberRepository, never()).updatePassword(anyLong(), anyString());
+    assertEquals(encodedPassword, user.getPassword());
+  }
+
+  @DisplayName("Ensure a failure to store the upgraded hash does not fail the sign-in")
+  @Test
+  void ensure_failed_upgrade_keeps_authentication() {
+    // GIVEN
+    final String encodedPassword = new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+    final RegisteredUser user = user(encodedPassword);
+    doThrow(new DataAccessResourceFailureException("Database unavailable"))
+      .when(memberRepository).updatePassword(anyLong(), anyString());
+
+    // WHEN
+    final Authentication authentication = authenticationProvider.authenticate(credentials(user, RAW_PASSWORD));
+
+    // ASSERT
+    assertNotNull(authentication);
+    assertEquals(encodedPassword, user.getPassword());
+  }
+
+  @DisplayName("Ensure a wrong password is neither authenticated nor rehashed")
+  @Test
+  void ensure_wrong_password_is_not_upgraded() {
+    // GIVEN
+    final RegisteredUser user = user(new BCryptPasswordEncoder(4).encode(RAW_PASSWORD));
+
+    // WHEN
+    final Authentication authentication = authenticationProvider.authenticate(credentials(user, "wrong-password"));
+
+    // ASSERT
+    assertNull(authentication);
+    verifyNoInteractions(memberRepository);
+  }
+
+  private RegisteredUser user(final String encodedPassword) {
+    final RegisteredUser user = RegisteredUser.of(USER_ID);
+    user.setEmailAddress(EMAIL_ADDRESS);
+    user.setPassword(encodedPassword);
+    when(userDetailsService.loadUserByUsername(EMAIL_ADDRESS)).thenReturn(user);
+    return user;
+  }
+
+  private static UsernamePasswordAuthenticationToken credentials(final RegisteredUser user, final String password) {
+    return new UsernamePasswordAuthenticationToken(user.getEmailAddress(), password);
+  }
+}
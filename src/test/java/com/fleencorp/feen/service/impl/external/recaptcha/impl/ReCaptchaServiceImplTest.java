@@ -0,0 +1,109 @@
+package com.fleencorp.feen.service.impl.external.recaptcha.impl;
+
+import com.fleencorp.feen.adapter.google.recaptcha.ReCaptchaAdapter;
+import com.fleencorp.feen.adapter.google.recaptcha.model.response.ReCaptchaResponse;
+import com.fleencorp.feen.common.configuration.external.google.recaptcha.ReCaptchaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReCaptchaServiceImplTest {
+
+  private static final String TOKEN = "recaptcha-token";
+  private static final String CLIENT = "203.0.113.10";
+  private static final String OTHER_CLIENT = "198.51.100.20";
+
+  private ReCaptchaAdapter reCaptchaAdapter;
+  private SimpleMeterRegistry meterRegistry;
+  private ReCaptchaServiceImpl reCaptchaService;
+
+  @BeforeEach
+  void setUp() {
+    reCaptchaAdapter = mock(ReCaptchaAdapter.class);
+    meterRegistry = new SimpleMeterRegistry();
+
+    final ReCaptchaProperties properties = new ReCaptchaProperties();
+    properties.setVerdictCacheTtl(Duration.ofSeconds(10));
+    reCaptchaService = new ReCaptchaServiceImpl(reCaptchaAdapter, properties, meterRegistry, "0.5");
+  }
+
+  @AfterEach
+  void tearDown() {
+    reCaptchaService.destroy();
+  }
+
+  @DisplayName("Ensure a retry of the same token by the same client reuses the verdict")
+  @Test
+  void ensure_verdict_is_reused_for_same_token_and_client() {
+    // GIVEN
+    when(reCaptchaAdapter.verifyRecaptcha(TOKEN)).thenReturn(response(true, 0.9f));
+
+    // WHEN
+    final ReCaptchaResponse first = reCaptchaService.verifyReCaptcha(TOKEN, CLIENT);
+    final ReCaptchaResponse second = reCaptchaService.verifyReCaptcha(TOKEN, CLIENT);
+
+    // ASSERT
+    assertSame(first, second);
+    assertTrue(reCaptchaService.isReCaptchaValid(second));
+    verify(reCaptchaAdapter, times(1)).verifyRecaptcha(TOKEN);
+    assertEquals(1, meterRegistry.counter("recaptcha.verification.cache.hits").count());
+  }
+
+  @DisplayName("Ensure the same token sent from another client is verified with Google again")
+  @Test
+  void ensure_verdict_is_not_shared_across_clients() {
+    // GIVEN
+    when(reCaptchaAdapter.verifyRecaptcha(TOKEN)).thenReturn(response(true, 0.9f), response(false, 0));
+
+    // WHEN
+    final ReCaptchaResponse original = reCaptchaService.verifyReCaptcha(TOKEN, CLIENT);
+    final ReCaptchaResponse replayed = reCaptchaService.verifyReCaptcha(TOKEN, OTHER_CLIENT);
+
+    // ASSERT
+    assertTrue(reCaptchaService.isReCaptchaValid(original));
+    assertFalse(reCaptchaService.isReCaptchaValid(replayed));
+    verify(reCaptchaAdapter, times(2)).verifyRecaptcha(TOKEN);
+  }
+
+  @DisplayName("Ensure a failed call to Google is not cached")
+  @Test
+  void ensure_failed_call_is_retried() {
+    // GIVEN
+    when(reCaptchaAdapter.verifyRecaptcha(TOKEN))
+      .thenThrow(new IllegalStateException("Google unavailable"))
+      .thenReturn(response(true, 0.9f));
+
+    // WHEN
+    assertThrows(CompletionException.class, () -> reCaptchaService.verifyReCaptcha(TOKEN, CLIENT));
+    final ReCaptchaResponse retried = reCaptchaService.verifyReCaptcha(TOKEN, CLIENT);
+
+    // ASSERT
+    assertTrue(reCaptchaService.isReCaptchaValid(retried));
+    verify(reCaptchaAdapter, times(2)).verifyRecaptcha(TOKEN);
+  }
+
+  @DisplayName("Ensure a missing token is not sent to Google")
+  @Test
+  void ensure_missing_token_is_not_verified() {
+    // WHEN
+    final ReCaptchaResponse response = reCaptchaService.verifyReCaptcha(" ", CLIENT);
+
+    // ASSERT
+    assertNull(response);
+    assertFalse(reCaptchaService.isReCaptchaValid(response));
+    verifyNoInteractions(reCaptchaAdapter);
+  }
+
+  private static ReCaptchaResponse response(final boolean success, final float score) {
+    return new ReCaptchaResponse(success, "localhost", "sign_in", score, null, List.of());
+  }
+}
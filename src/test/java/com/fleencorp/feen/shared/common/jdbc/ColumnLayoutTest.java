@@ -0,0 +1,85 @@
+package com.fleencorp.feen.shared.common.jdbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ColumnLayoutTest {
+
+  @DisplayName("Ensure columns are resolved to their indexes without regard to case")
+  @Test
+  void ensure_columns_resolve_case_insensitively() throws SQLException {
+    // GIVEN
+    final ColumnLayout layout = ColumnLayout.create();
+    final Column streamId = layout.column("streamId");
+    final Column title = layout.column("TITLE");
+    final ResultSetMetaData metaData = metaDataOf("title", "streamid");
+
+    // WHEN
+    final int[] indexes = layout.resolve(metaData);
+
+    // ASSERT
+    assertEquals(2, indexes[streamId.slot()]);
+    assertEquals(1, indexes[title.slot()]);
+  }
+
+  @DisplayName("Ensure a column the result set does not have resolves to no index")
+  @Test
+  void ensure_missing_column_resolves_to_zero() throws SQLException {
+    // GIVEN
+    final ColumnLayout layout = ColumnLayout.create();
+    layout.column("title");
+    final Column description = layout.column("description");
+
+    // WHEN
+    final int[] indexes = layout.resolve(metaDataOf("title"));
+
+    // ASSERT
+    assertEquals(0, indexes[description.slot()]);
+  }
+
+  @DisplayName("Ensure declaring the same label twice returns the same slot")
+  @Test
+  void ensure_duplicate_declaration_shares_slot() {
+    // GIVEN
+    final ColumnLayout layout = ColumnLayout.create();
+
+    // WHEN
+    final Column first = layout.column("title");
+    final Column second = layout.column("Title");
+
+    // ASSERT
+    assertEquals(first.slot(), second.slot());
+  }
+
+  @DisplayName("Ensure a label repeated in the result set resolves to its first occurrence")
+  @Test
+  void ensure_duplicate_result_set_label_resolves_to_first() throws SQLException {
+    // GIVEN
+    final ColumnLayout layout = ColumnLayout.create();
+    layout.column("id");
+    layout.column("title");
+
+    // WHEN
+    final int[] indexes = layout.resolve(metaDataOf("id", "title", "id"));
+
+    // ASSERT
+    assertArrayEquals(new int[] { 1, 2 }, indexes);
+  }
+
+  static ResultSetMetaData metaDataOf(final String... labels) throws SQLException {
+    final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+    when(metaData.getColumnCount()).thenReturn(labels.length);
+    for (int index = 0; index < labels.length; index++) {
+      when(metaData.getColumnLabel(index + 1)).thenReturn(labels[index]);
+    }
+    return metaData;
+  }
+}
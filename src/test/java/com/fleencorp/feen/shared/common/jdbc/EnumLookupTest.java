@@ -0,0 +1,38 @@
+package com.fleencorp.feen.shared.common.jdbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EnumLookupTest {
+
+  private final EnumLookup<DayOfWeek> lookup = EnumLookup.of(DayOfWeek.class);
+
+  @DisplayName("Ensure a value is matched to the constant of the same name")
+  @Test
+  void ensure_exact_name_is_matched() {
+    // WHEN & ASSERT
+    assertEquals(DayOfWeek.MONDAY, lookup.of("MONDAY"));
+  }
+
+  @DisplayName("Ensure a value is matched to the constant of its upper case name")
+  @Test
+  void ensure_upper_case_name_is_matched() {
+    // WHEN & ASSERT
+    assertEquals(DayOfWeek.FRIDAY, lookup.of("friday"));
+    assertEquals(DayOfWeek.FRIDAY, lookup.of("Friday"));
+  }
+
+  @DisplayName("Ensure a null value or a value naming no constant maps to null")
+  @Test
+  void ensure_unknown_value_maps_to_null() {
+    // WHEN & ASSERT
+    assertNull(lookup.of(null));
+    assertNull(lookup.of("FUNDAY"));
+    assertNull(lookup.of(""));
+  }
+}
@@ -0,0 +1,78 @@
+package com.fleencorp.feen.shared.common.jdbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import static com.fleencorp.feen.shared.common.jdbc.ColumnLayoutTest.metaDataOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IndexedRowMapperTest {
+
+  private static final ColumnLayout LAYOUT = ColumnLayout.create();
+  private static final Column TITLE = LAYOUT.column("title");
+
+  private static final class TitleMapper extends IndexedRowMapper<String> {
+
+    private TitleMapper() {
+      super(LAYOUT);
+    }
+
+    @Override
+    protected String map(final IndexedRow row) throws SQLException {
+      return row.getString(TITLE);
+    }
+  }
+
+  @DisplayName("Ensure the layout is resolved once for all the rows of a result set")
+  @Test
+  void ensure_layout_is_resolved_once_per_result_set() throws SQLException {
+    // GIVEN
+    final TitleMapper mapper = new TitleMapper();
+    final ResultSetMetaData metaData = metaDataOf("id", "title");
+    final ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getMetaData()).thenReturn(metaData);
+    when(resultSet.getString(2)).thenReturn("first", "second");
+
+    // WHEN
+    final String first = mapper.mapRow(resultSet, 0);
+    final String second = mapper.mapRow(resultSet, 1);
+
+    // ASSERT
+    assertEquals("first", first);
+    assertEquals("second", second);
+    verify(resultSet, times(1)).getMetaData();
+  }
+
+  @DisplayName("Ensure the layout is resolved again when the mapper is handed another result set")
+  @Test
+  void ensure_layout_is_resolved_again_for_another_result_set() throws SQLException {
+    // GIVEN
+    final TitleMapper mapper = new TitleMapper();
+    final ResultSetMetaData firstMetaData = metaDataOf("id", "title");
+    final ResultSet firstResultSet = mock(ResultSet.class);
+    when(firstResultSet.getMetaData()).thenReturn(firstMetaData);
+    when(firstResultSet.getString(2)).thenReturn("from first");
+
+    final ResultSetMetaData secondMetaData = metaDataOf("title");
+    final ResultSet secondResultSet = mock(ResultSet.class);
+    when(secondResultSet.getMetaData()).thenReturn(secondMetaData);
+    when(secondResultSet.getString(1)).thenReturn("from second");
+
+    // WHEN
+    final String first = mapper.mapRow(firstResultSet, 0);
+    final String second = mapper.mapRow(secondResultSet, 0);
+
+    // ASSERT
+    assertEquals("from first", first);
+    assertEquals("from second", second);
+    verify(secondResultSet, times(1)).getMetaData();
+  }
+}
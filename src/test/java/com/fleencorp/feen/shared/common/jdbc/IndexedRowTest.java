@@ -0,0 +1,74 @@
+package com.fleencorp.feen.shared.common.jdbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IndexedRowTest {
+
+  @DisplayName("Ensure a column is read at the index resolved for its slot")
+  @Test
+  void ensure_column_is_read_by_resolved_index() throws SQLException {
+    // GIVEN
+    final ColumnLayout layout = ColumnLayout.create();
+    final Column title = layout.column("title");
+    final Column day = layout.column("day");
+    final ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getString(3)).thenReturn("Morning show");
+    when(resultSet.getString(1)).thenReturn("monday");
+
+    // WHEN
+    final IndexedRow row = new IndexedRow(resultSet, new int[] { 3, 1 });
+
+    // ASSERT
+    assertEquals("Morning show", row.getString(title));
+    assertEquals(DayOfWeek.MONDAY, row.getEnum(day, EnumLookup.of(DayOfWeek.class)));
+  }
+
+  @DisplayName("Ensure a null timestamp is read as a null date time")
+  @Test
+  void ensure_null_timestamp_is_read_as_null() throws SQLException {
+    // GIVEN
+    final ColumnLayout layout = ColumnLayout.create();
+    final Column createdOn = layout.column("created_on");
+    final Column updatedOn = layout.column("updated_on");
+    final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+    final ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getTimestamp(1)).thenReturn(null);
+    when(resultSet.getTimestamp(2)).thenReturn(Timestamp.valueOf(now));
+
+    // WHEN
+    final IndexedRow row = new IndexedRow(resultSet, new int[] { 1, 2 });
+
+    // ASSERT
+    assertNull(row.getLocalDateTime(createdOn));
+    assertEquals(now, row.getLocalDateTime(updatedOn));
+  }
+
+  @DisplayName("Ensure reading a column the result set does not have fails with its label")
+  @Test
+  void ensure_missing_column_fails() {
+    // GIVEN
+    final ColumnLayout layout = ColumnLayout.create();
+    final Column description = layout.column("description");
+    final IndexedRow row = new IndexedRow(mock(ResultSet.class), new int[] { 0 });
+
+    // WHEN
+    final SQLException exception = assertThrows(SQLException.class, () -> row.getString(description));
+
+    // ASSERT
+    assertTrue(exception.getMessage().contains("description"));
+  }
+}
@@ -0,0 +1,195 @@
+package com.fleencorp.feen.shared.common.jdbc;
+
+import com.fleencorp.feen.shared.stream.model.StreamData;
+import com.fleencorp.feen.shared.stream.query.mapper.stream.StreamQueryMapper;
+import com.fleencorp.feen.stream.constant.core.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mapping the rows of one query to {@link StreamData}.
+ *
+ * <p>{@code label} maps every row the way the query mappers did before, looking each column up by its label and
+ * each enum up through its {@code of} method. {@code index} uses {@link StreamQueryMapper}, which resolves the
+ * columns once per query and maps the enums through precomputed tables. A new mapper is created for every query,
+ * as the query services do, so the resolution is part of what is measured.</p>
+ *
+ * <p>The rows are generated by the database given by {@code benchmark.db.url} with the labels of
+ * {@code FIND_STREAM_BY_ID}, fetched once when the trial starts and read again from the start of the result set
+ * for every query, so only the mapping is measured.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMapperBenchmark {
+
+  private static final String GENERATE_STREAM_ROWS = """
+    SELECT
+      n                                AS streamId,
+      'external-' || n                 AS externalId,
+      n % 100                          AS chatSpaceId,
+      'Stream ' || n                   AS title,
+      'A stream generated for the benchmark' AS description,
+      'music,live'                     AS tags,
+      'Lagos'                          AS location,
+      n % 5                            AS totalSpeakers,
+      n % 50                           AS totalAttendees,
+      n % 7                            AS bookmarkCount,
+      n % 11                           AS likeCount,
+      n % 3                            AS shareCount,
+      'Africa/Lagos'                   AS timezone,
+      now() + n * interval '1 minute'  AS scheduledStartDate,
+      now() + n * interval '2 minute'  AS scheduledEndDate,
+      'https://meet.google.com/abc-defg-hij' AS streamLink,
+      NULL                             AS thumbnailLink,
+      NULL                             AS otherDetails,
+      NULL                             AS otherLink,
+      'Fleen'                          AS groupOrOrganizationName,
+      NULL                             AS musicLink,
+      'GOOGLE_MEET'                    AS streamSource,
+      CASE WHEN n % 2 = 0 THEN 'EVENT' ELSE 'LIVE_STREAM' END AS streamType,
+      'SCHEDULED'                      AS streamCreationType,
+      CASE WHEN n % 2 = 0 THEN 'PUBLIC' ELSE 'PRIVATE' END AS streamVisibility,
+      'ACTIVE'                         AS streamStatus,
+      'Organizer ' || n                AS organizerName,
+      'organizer' || n || '@fleen.com' AS organizerEmail,
+      '+2348000000000'                 AS organizerPhone,
+      n % 1000                         AS memberId,
+      false                            AS deleted,
+      n % 4 = 0                        AS forKids,
+      'stream-' || n                   AS slug,
+      now()                            AS createdOn,
+      now()                            AS updatedOn
+    FROM generate_series(1, ?) AS n
+    """;
+
+  @Param({"label", "index"})
+  public String mode;
+
+  @Param({"10000"})
+  public int rows;
+
+  private Connection connection;
+  private PreparedStatement statement;
+  private ResultSet resultSet;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection(
+      System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/fleen_feen"),
+      System.getProperty("benchmark.db.username", System.getenv("DB_USERNAME")),
+      System.getProperty("benchmark.db.password", System.getenv("DB_PASSWORD")));
+    connection.setReadOnly(true);
+
+    statement = connection.prepareStatement(GENERATE_STREAM_ROWS, ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+    statement.setInt(1, rows);
+    resultSet = statement.executeQuery();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    resultSet.close();
+    statement.close();
+    connection.close();
+  }
+
+  @Benchmark
+  public void mapRows(final Blackhole blackhole) throws SQLException {
+    final RowMapper<StreamData> mapper = "label".equals(mode) ? new ByLabelStreamMapper() : StreamQueryMapper.of();
+
+    resultSet.beforeFirst();
+    int rowNum = 0;
+    while (resultSet.next()) {
+      blackhole.consume(mapper.mapRow(resultSet, rowNum++));
+    }
+  }
+
+  /**
+   * The stream mapper as it was before the columns were resolved by index.
+   */
+  private static final class ByLabelStreamMapper implements RowMapper<StreamData> {
+
+    @Override
+    public StreamData mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+      final StreamData stream = new StreamData();
+
+      stream.setStreamId(rs.getLong("streamId"));
+      stream.setExternalId(rs.getString("externalId"));
+      stream.setChatSpaceId(rs.getLong("chatSpaceId"));
+      stream.setTitle(rs.getString("title"));
+      stream.setDescription(rs.getString("description"));
+      stream.setTags(rs.getString("tags"));
+      stream.setLocation(rs.getString("location"));
+
+      stream.setTotalSpeakers(rs.getInt("totalSpeakers"));
+      stream.setTotalAttendees(rs.getInt("totalAttendees"));
+      stream.setBookmarkCount(rs.getInt("bookmarkCount"));
+      stream.setLikeCount(rs.getInt("likeCount"));
+      stream.setShareCount(rs.getInt("shareCount"));
+
+      stream.setTimezone(rs.getString("timezone"));
+      stream.setScheduledStartDate(rs.getTimestamp("scheduledStartDate").toLocalDateTime());
+      stream.setScheduledEndDate(rs.getTimestamp("scheduledEndDate").toLocalDateTime());
+
+      stream.setStreamLink(rs.getString("streamLink"));
+      stream.setThumbnailLink(rs.getString("thumbnailLink"));
+      stream.setOtherDetails(rs.getString("otherDetails"));
+      stream.setOtherLink(rs.getString("otherLink"));
+      stream.setGroupOrOrganizationName(rs.getString("groupOrOrganizationName"));
+      stream.setMusicLink(rs.getString("musicLink"));
+
+      stream.setStreamSource(StreamSource.of(rs.getString("streamSource")));
+      stream.setStreamType(StreamType.of(rs.getString("streamType")));
+      stream.setStreamCreationType(StreamCreationType.of(rs.getString("streamCreationType")));
+      stream.setStreamVisibility(StreamVisibility.of(rs.getString("streamVisibility")));
+      stream.setStreamStatus(StreamStatus.of(rs.getString("streamStatus")));
+
+      stream.setOrganizerName(rs.getString("organizerName"));
+      stream.setOrganizerEmail(rs.getString("organizerEmail"));
+      stream.setOrganizerPhone(rs.getString("organizerPhone"));
+      stream.setMemberId(rs.getLong("memberId"));
+
+      stream.setDeleted(rs.getBoolean("deleted"));
+      stream.setForKids(rs.getBoolean("forKids"));
+      stream.setSlug(rs.getString("slug"));
+
+      stream.setCreatedOn(rs.getTimestamp("createdOn").toLocalDateTime());
+      stream.setUpdatedOn(rs.getTimestamp("updatedOn").toLocalDateTime());
+
+      return stream;
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(RowMapperBenchmark.class.getSimpleName())
+      .build())
+      .run();
+  }
+}
@@ -0,0 +1,55 @@
+package com.fleencorp.feen.shared.common.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageSlicesTest {
+
+  @DisplayName("Ensure the extra row of a look-ahead query marks a next page without being returned")
+  @Test
+  void ensure_look_ahead_row_marks_next_page() {
+    // GIVEN
+    final Pageable pageable = PageRequest.of(1, 3);
+    final List<Integer> rows = List.of(4, 5, 6, 7);
+
+    // WHEN
+    final Slice<Integer> slice = PageSlices.toSlice(rows, pageable);
+    final Page<Integer> page = PageSlices.toPage(slice);
+
+    // ASSERT
+    assertEquals(4, PageSlices.lookAheadLimit(pageable));
+    assertEquals(List.of(4, 5, 6), slice.getContent());
+    assertTrue(slice.hasNext());
+    assertTrue(page.hasNext());
+    assertEquals(7, page.getTotalElements());
+  }
+
+  @DisplayName("Ensure the total is only asked for when the page does not tell it")
+  @Test
+  void ensure_total_is_only_counted_when_unknown() {
+    // GIVEN
+    final Pageable pageable = PageRequest.of(0, 3);
+    final AtomicInteger counts = new AtomicInteger();
+
+    // WHEN
+    final Page<Integer> lastPage = PageSlices.toPage(PageSlices.toSlice(List.of(1, 2), pageable), () -> counts.incrementAndGet() * 100L);
+    final Page<Integer> firstPage = PageSlices.toPage(PageSlices.toSlice(List.of(1, 2, 3, 4), pageable), () -> counts.incrementAndGet() * 100L);
+
+    // ASSERT
+    assertEquals(2, lastPage.getTotalElements());
+    assertFalse(lastPage.hasNext());
+    assertEquals(100, firstPage.getTotalElements());
+    assertEquals(1, counts.get());
+  }
+}
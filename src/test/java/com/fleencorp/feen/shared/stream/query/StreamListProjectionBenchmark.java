@@ -0,0 +1,334 @@
+package com.fleencorp.feen.shared.stream.query;
+
+import com.fleencorp.feen.shared.chat.space.query.constant.ChatSpaceQueryConstant;
+import com.fleencorp.feen.shared.stream.query.constant.StreamQueryConstant;
+import com.google.common.base.Suppliers;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Measures the application CPU spent on one page of the public stream and chat space lists.
+ *
+ * <p>{@code entity} stands in for Hibernate loading the entities, with plain JDBC: it reads every column of the
+ * page, the eagerly fetched attendees of each stream or the organizer of each chat space, and decrypts every
+ * encrypted column of every row as the attribute converters do. It does not run Hibernate itself, so the cost of
+ * hydrating the entities is left out and the difference it measures is a lower bound. {@code projection} runs the
+ * list queries of {@link StreamQueryConstant} and {@link ChatSpaceQueryConstant}, which select only the rendered
+ * columns. The list shows the fully masked link of the source, and the link is only decrypted for the rows whose
+ * viewer may see it unmasked, which is {@code unmaskedPercent} of the page and has no effect on {@code entity}.</p>
+ *
+ * <p>The values in the database are encrypted with the application key, so decryption is stood in for by an
+ * AES/GCM cipher with a key of its own, applied to a link encrypted when the trial starts. The
+ * {@code cpuMicrosPerPage} counter is the CPU time of the benchmark thread, which leaves out the time spent
+ * waiting on the database.</p>
+ *
+ * <p>Runs against the database given by {@code benchmark.db.url}, which must hold at least {@code pageSize}
+ * active streams and chat spaces.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamListProjectionBenchmark {
+
+  private static final String ACTIVE = "ACTIVE";
+  private static final String STREAM_LINK = "https://meet.google.com/abc-defg-hij";
+  private static final String FULLY_MASKED_LINK = "https://meet.google.com/***-***-***";
+  private static final int GCM_IV_LENGTH = 12;
+  private static final int GCM_TAG_LENGTH = 128;
+
+  private static final String FIND_STREAM_ENTITIES = """
+    SELECT s.*
+    FROM stream s
+    WHERE s.status = ?
+    ORDER BY s.updated_on DESC
+    LIMIT ?
+    """;
+
+  private static final String FIND_STREAM_ATTENDEES = "SELECT sa.* FROM stream_attendee sa WHERE sa.stream_id = ?";
+
+  private static final String FIND_CHAT_SPACE_ENTITIES = """
+    SELECT cs.*, m.*
+    FROM chat_space cs
+    JOIN member m ON cs.member_id = m.member_id
+    WHERE cs.space_status = ?
+    ORDER BY cs.updated_on DESC
+    LIMIT ?
+    """;
+
+  @Param({"entity", "projection"})
+  public String mode;
+
+  @Param({"20"})
+  public int pageSize;
+
+  @Param({"0", "100"})
+  public int unmaskedPercent;
+
+  private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+  private Connection connection;
+  private NamedParameterJdbcTemplate jdbcTemplate;
+  private SecretKey key;
+  private String encryptedLink;
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class CpuTime {
+
+    public long cpuNanos;
+    public long pages;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      cpuNanos = 0;
+      pages = 0;
+    }
+
+    public double cpuMicrosPerPage() {
+      return pages == 0 ? 0 : cpuNanos / 1_000.0 / pages;
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException, GeneralSecurityException {
+    connection = DriverManager.getConnection(
+      System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/fleen_feen"),
+      System.getProperty("benchmark.db.username", System.getenv("DB_USERNAME")),
+      System.getProperty("benchmark.db.password", System.getenv("DB_PASSWORD")));
+    connection.setReadOnly(true);
+    jdbcTemplate = new NamedParameterJdbcTemplate(new SingleConnectionDataSource(connection, true));
+
+    final KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+    keyGenerator.init(256);
+    key = keyGenerator.generateKey();
+    encryptedLink = encrypt(STREAM_LINK);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    connection.close();
+  }
+
+  @Benchmark
+  public int listStreams(final CpuTime cpuTime) throws SQLException {
+    final long start = threadMXBean.getCurrentThreadCpuTime();
+    final int rendered = "entity".equals(mode) ? loadStreamEntities() : loadStreamProjections();
+    cpuTime.cpuNanos += threadMXBean.getCurrentThreadCpuTime() - start;
+    cpuTime.pages++;
+    return rendered;
+  }
+
+  @Benchmark
+  public int listChatSpaces(final CpuTime cpuTime) throws SQLException {
+    final long start = threadMXBean.getCurrentThreadCpuTime();
+    final int rendered = "entity".equals(mode) ? loadChatSpaceEntities() : loadChatSpaceProjections();
+    cpuTime.cpuNanos += threadMXBean.getCurrentThreadCpuTime() - start;
+    cpuTime.pages++;
+    return rendered;
+  }
+
+  private int loadStreamEntities() throws SQLException {
+    final List<Long> streamIds = new ArrayList<>();
+    int rendered = 0;
+
+    try (PreparedStatement statement = connection.prepareStatement(FIND_STREAM_ENTITIES)) {
+      statement.setString(1, ACTIVE);
+      statement.setInt(2, pageSize);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          readAllColumns(resultSet);
+          streamIds.add(resultSet.getLong("stream_id"));
+          rendered += decrypt(encryptedLink).length();
+        }
+      }
+    }
+
+    for (final Long streamId : streamIds) {
+      try (PreparedStatement statement = connection.prepareStatement(FIND_STREAM_ATTENDEES)) {
+        statement.setLong(1, streamId);
+        try (ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next()) {
+            readAllColumns(resultSet);
+          }
+        }
+      }
+    }
+    return rendered;
+  }
+
+  private int loadStreamProjections() {
+    final MapSqlParameterSource params = new MapSqlParameterSource()
+      .addValue("status", ACTIVE)
+      .addValue("limit", pageSize)
+      .addValue("offset", 0);
+
+    final List<Supplier<String>> links = jdbcTemplate.query(StreamQueryConstant.FIND_STREAMS_BY_STATUS, params, (rs, _) -> {
+      rs.getLong("streamId");
+      rs.getString("title");
+      rs.getString("description");
+      rs.getString("tags");
+      rs.getString("location");
+      rs.getTimestamp("scheduledStartDate");
+      rs.getTimestamp("scheduledEndDate");
+      rs.getString("organizerName");
+      rs.getString("streamStatus");
+      rs.getTimestamp("updatedOn");
+      return defer(rs.getString("streamLink"));
+    });
+
+    return render(links);
+  }
+
+  private int loadChatSpaceEntities() throws SQLException {
+    int rendered = 0;
+
+    try (PreparedStatement statement = connection.prepareStatement(FIND_CHAT_SPACE_ENTITIES)) {
+      statement.setString(1, ACTIVE);
+      statement.setInt(2, pageSize);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          readAllColumns(resultSet);
+          rendered += decrypt(encryptedLink).length();
+          if (nonNull(resultSet.getString("mfa_secret"))) {
+            decrypt(encryptedLink);
+          }
+        }
+      }
+    }
+    return rendered;
+  }
+
+  private int loadChatSpaceProjections() {
+    final MapSqlParameterSource params = new MapSqlParameterSource()
+      .addValue("status", ACTIVE)
+      .addValue("limit", pageSize)
+      .addValue("offset", 0);
+
+    final List<Supplier<String>> links = jdbcTemplate.query(ChatSpaceQueryConstant.FIND_CHAT_SPACES_BY_STATUS, params, (rs, _) -> {
+      rs.getLong("chatSpaceId");
+      rs.getString("title");
+      rs.getString("description");
+      rs.getString("tags");
+      rs.getString("organizerName");
+      rs.getString("organizerEmail");
+      rs.getString("spaceVisibility");
+      rs.getTimestamp("updatedOn");
+      return defer(rs.getString("spaceLink"));
+    });
+
+    return render(links);
+  }
+
+  /**
+   * Renders the links of a page, decrypting only those the viewer may see unmasked.
+   */
+  private int render(final List<Supplier<String>> links) {
+    int rendered = 0;
+    for (int row = 0; row < links.size(); row++) {
+      rendered += row * 100 < unmaskedPercent * links.size()
+        ? links.get(row).get().length()
+        : FULLY_MASKED_LINK.length();
+    }
+    return rendered;
+  }
+
+  private static void readAllColumns(final ResultSet resultSet) throws SQLException {
+    final int columnCount = resultSet.getMetaData().getColumnCount();
+    for (int column = 1; column <= columnCount; column++) {
+      resultSet.getObject(column);
+    }
+  }
+
+  /**
+   * Defers decryption the way the list mappers do. The column itself is only checked for {@code null}, since its
+   * cipher text belongs to the application key.
+   */
+  private Supplier<String> defer(final String cipherText) {
+    if (isNull(cipherText)) {
+      return () -> "";
+    }
+    return Suppliers.memoize(() -> decrypt(encryptedLink));
+  }
+
+  private String encrypt(final String plainText) throws GeneralSecurityException {
+    final byte[] iv = new byte[GCM_IV_LENGTH];
+    new SecureRandom().nextBytes(iv);
+
+    final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+    cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+    final byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+
+    return Base64.getEncoder().encodeToString(ByteBuffer.allocate(iv.length + encrypted.length)
+      .put(iv)
+      .put(encrypted)
+      .array());
+  }
+
+  private String decrypt(final String cipherText) {
+    try {
+      final ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(cipherText));
+      final byte[] iv = new byte[GCM_IV_LENGTH];
+      buffer.get(iv);
+      final byte[] encrypted = new byte[buffer.remaining()];
+      buffer.get(encrypted);
+
+      final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+      cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+      return new String(cipher.doFinal(encrypted), StandardCharsets.UTF_8);
+    } catch (final GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(StreamListProjectionBenchmark.class.getSimpleName())
+      .build())
+      .run();
+  }
+}
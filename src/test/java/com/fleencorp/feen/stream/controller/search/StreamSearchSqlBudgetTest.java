@@ -0,0 +1,94 @@
+package com.fleencorp.feen.stream.controller.search;
+
+import com.fleencorp.feen.common.support.redis.EmbeddedRedis;
+import com.fleencorp.feen.common.support.sql.SqlBudget;
+import com.fleencorp.feen.common.support.sql.SqlBudgetConfiguration;
+import com.fleencorp.feen.shared.security.RegisteredUser;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Checks the number of SQL statements the stream search endpoints execute against a seeded database.
+ *
+ * <p>Runs against a PostgreSQL container migrated by Liquibase and seeded by {@code db/query-plan-seed.sql}, so
+ * every page size asked for can be filled. Redis is an embedded server. The requests are made as the member whose
+ * id is given by {@code sql-budget.member-id}.</p>
+ */
+@Testcontainers
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
+@Sql(scripts = "classpath:/db/query-plan-seed.sql", config = @SqlConfig(separator = ScriptUtils.EOF_STATEMENT_SEPARATOR))
+class StreamSearchSqlBudgetTest {
+
+  private static final int[] PAGE_SIZES = { 5, 20, 50 };
+
+  @Container
+  @ServiceConnection
+  private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  private static EmbeddedRedis redis;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private SqlBudget sqlBudget;
+
+  @Value("${sql-budget.member-id:1}")
+  private Long memberId;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redis = EmbeddedRedis.start();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    redis.close();
+  }
+
+  @DynamicPropertySource
+  static void redisProperties(final DynamicPropertyRegistry registry) {
+    registry.add("spring.data.redis.host", () -> "localhost");
+    registry.add("spring.data.redis.port", () -> redis.getConnectionFactory().getPort());
+  }
+
+  @DisplayName("Ensure searching streams executes at most 6 statements at any page size")
+  @Test
+  void ensure_stream_search_is_within_budget() throws Exception {
+    // GIVEN
+    final RegisteredUser registeredUser = RegisteredUser.of(memberId);
+    registeredUser.setAuthorities(List.of());
+
+    // WHEN / ASSERT
+    sqlBudget.assertWithin(mockMvc, "GET /api/stream/search", 6,
+      pageSize -> get("/api/stream/search")
+        .param("page_size", String.valueOf(pageSize))
+        .with(user(registeredUser)),
+      PAGE_SIZES);
+  }
+}
@@ -0,0 +1,140 @@
+package com.fleencorp.feen.verification.service.impl;
+
+import com.fleencorp.feen.common.exception.RateLimitExceededException;
+import com.fleencorp.feen.common.support.redis.EmbeddedRedis;
+import com.fleencorp.feen.security.properties.OtpProperties;
+import com.fleencorp.feen.verification.constant.OtpPurpose;
+import com.fleencorp.feen.verification.constant.OtpVerificationStatus;
+import com.fleencorp.feen.verification.model.otp.OtpVerification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OtpStoreServiceImplTest {
+
+  private static final String SUBJECT = "user@fleen.com";
+
+  private static EmbeddedRedis redis;
+  private static StringRedisTemplate redisTemplate;
+
+  private OtpStoreServiceImpl otpStoreService;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redis = EmbeddedRedis.start();
+    redisTemplate = redis.getRedisTemplate();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    redis.close();
+  }
+
+  @BeforeEach
+  void setUp() {
+    redis.flushAll();
+
+    final OtpProperties otpProperties = new OtpProperties();
+    otpProperties.setMaxAttempts(3);
+    otpProperties.setLockout(Duration.ofMinutes(15));
+    otpProperties.setResendCooldown(Duration.ofSeconds(30));
+    otpStoreService = new OtpStoreServiceImpl(redisTemplate, otpProperties);
+  }
+
+  @DisplayName("Ensure a valid code is accepted only once")
+  @Test
+  void ensure_valid_code_is_consumed() {
+    // GIVEN
+    otpStoreService.issue(OtpPurpose.SIGN_UP, SUBJECT, "123456");
+
+    // WHEN
+    final OtpVerification first = otpStoreService.verifyAndConsume(OtpPurpose.SIGN_UP, SUBJECT, "123456");
+    final OtpVerification second = otpStoreService.verifyAndConsume(OtpPurpose.SIGN_UP, SUBJECT, "123456");
+
+    // ASSERT
+    assertTrue(first.isValid());
+    assertEquals(OtpVerificationStatus.EXPIRED, second.status());
+  }
+
+  @DisplayName("Ensure a code issued for one purpose cannot complete another and is not stored in plain text")
+  @Test
+  void ensure_code_is_scoped_to_purpose_and_hashed() {
+    // GIVEN
+    otpStoreService.issue(OtpPurpose.UPDATE_EMAIL, SUBJECT, "654321");
+
+    // WHEN
+    final OtpVerification otherPurpose = otpStoreService.verifyAndConsume(OtpPurpose.UPDATE_PHONE_NUMBER, SUBJECT, "654321");
+    final String storedHash = (String) redisTemplate.opsForHash().get("otp:update-email:" + SUBJECT, "hash");
+    final Long ttl = redisTemplate.getExpire("otp:update-email:" + SUBJECT);
+
+    // ASSERT
+    assertEquals(OtpVerificationStatus.EXPIRED, otherPurpose.status());
+    assertNotNull(storedHash);
+    assertNotEquals("654321", storedHash);
+    assertNotNull(ttl);
+    assertTrue(ttl > 0 && ttl <= OtpPurpose.UPDATE_EMAIL.getTtl().toSeconds());
+  }
+
+  @DisplayName("Ensure the subject is locked out after too many failed attempts")
+  @Test
+  void ensure_subject_is_locked_out_after_max_attempts() {
+    // GIVEN
+    otpStoreService.issue(OtpPurpose.RESET_PASSWORD, SUBJECT, "111111");
+
+    // WHEN
+    final OtpVerification first = otpStoreService.verifyAndConsume(OtpPurpose.RESET_PASSWORD, SUBJECT, "000000");
+    final OtpVerification second = otpStoreService.verifyAndConsume(OtpPurpose.RESET_PASSWORD, SUBJECT, "000001");
+    final OtpVerification third = otpStoreService.verifyAndConsume(OtpPurpose.RESET_PASSWORD, SUBJECT, "000002");
+    final OtpVerification correctAfterLockout = otpStoreService.verifyAndConsume(OtpPurpose.RESET_PASSWORD, SUBJECT, "111111");
+
+    // ASSERT
+    assertEquals(OtpVerificationStatus.INVALID, first.status());
+    assertEquals(2, first.attemptsLeft());
+    assertEquals(OtpVerificationStatus.INVALID, second.status());
+    assertEquals(OtpVerificationStatus.LOCKED, third.status());
+    assertEquals(OtpVerificationStatus.LOCKED, correctAfterLockout.status());
+    assertTrue(correctAfterLockout.retryAfter().toSeconds() > 0);
+    assertThrows(RateLimitExceededException.class,
+      () -> otpStoreService.issue(OtpPurpose.RESET_PASSWORD, SUBJECT, "222222"));
+  }
+
+  @DisplayName("Ensure a resend within the cooldown is rejected while a fresh issue is allowed")
+  @Test
+  void ensure_resend_cooldown_is_enforced() {
+    // GIVEN
+    otpStoreService.issue(OtpPurpose.MFA_AUTHENTICATION, SUBJECT, "123456");
+
+    // WHEN
+    final RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+      () -> otpStoreService.reissue(OtpPurpose.MFA_AUTHENTICATION, SUBJECT, "654321"));
+    otpStoreService.issue(OtpPurpose.MFA_AUTHENTICATION, SUBJECT, "777777");
+
+    // ASSERT
+    assertNotNull(exception);
+    assertTrue(otpStoreService.verifyAndConsume(OtpPurpose.MFA_AUTHENTICATION, SUBJECT, "777777").isValid());
+  }
+
+  @DisplayName("Ensure asking for a new code keeps the failed attempts of the live code")
+  @Test
+  void ensure_attempts_carry_over_to_a_new_code() {
+    // GIVEN
+    otpStoreService.issue(OtpPurpose.UPDATE_EMAIL, SUBJECT, "111111");
+    otpStoreService.verifyAndConsume(OtpPurpose.UPDATE_EMAIL, SUBJECT, "000000");
+    otpStoreService.verifyAndConsume(OtpPurpose.UPDATE_EMAIL, SUBJECT, "000001");
+
+    // WHEN
+    otpStoreService.issue(OtpPurpose.UPDATE_EMAIL, SUBJECT, "222222");
+    final OtpVerification afterNewCode = otpStoreService.verifyAndConsume(OtpPurpose.UPDATE_EMAIL, SUBJECT, "000002");
+
+    // ASSERT
+    assertEquals(OtpVerificationStatus.LOCKED, afterNewCode.status());
+  }
+}
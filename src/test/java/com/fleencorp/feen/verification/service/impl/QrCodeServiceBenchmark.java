@@ -0,0 +1,92 @@
+package com.fleencorp.feen.verification.service.impl;
+
+import com.fleencorp.feen.security.properties.QrCodeProperties;
+import com.fleencorp.feen.verification.constant.QrCodeFormat;
+import com.fleencorp.feen.verification.service.QrCodeService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency, allocation and encoded size of the QR codes rendered during authenticator MFA setup.
+ *
+ * <p>Run with {@code -prof gc} to compare the allocation rate of the SVG and PNG paths. The
+ * {@link EncodedSize} counters report the size in bytes of the last rendered image.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QrCodeServiceBenchmark {
+
+  private static final String OTP_AUTH_URI =
+    "otpauth://totp/Fleen%20Feen:john.doe%40example.com?secret=JBSWY3DPEHPK3PXPJBSWY3DPEHPK3PXP&issuer=Fleen%20Feen";
+
+  private QrCodeService qrCodeService;
+
+  @Setup
+  public void setUp() {
+    qrCodeService = new QrCodeServiceImpl(new QrCodeProperties());
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class EncodedSize {
+
+    public long svgBytes;
+    public long pngBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      svgBytes = 0;
+      pngBytes = 0;
+    }
+  }
+
+  @Benchmark
+  public byte[] renderSvg(final EncodedSize encodedSize) {
+    final byte[] image = qrCodeService.render(OTP_AUTH_URI, QrCodeFormat.SVG);
+    encodedSize.svgBytes = image.length;
+    return image;
+  }
+
+  @Benchmark
+  public byte[] renderPng(final EncodedSize encodedSize) {
+    final byte[] image = qrCodeService.render(OTP_AUTH_URI, QrCodeFormat.PNG);
+    encodedSize.pngBytes = image.length;
+    return image;
+  }
+
+  @Benchmark
+  public String svgDataUri() {
+    return qrCodeService.toDataUri(OTP_AUTH_URI, QrCodeFormat.SVG);
+  }
+
+  @Benchmark
+  public String pngDataUri() {
+    return qrCodeService.toDataUri(OTP_AUTH_URI, QrCodeFormat.PNG);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(QrCodeServiceBenchmark.class.getSimpleName())
+      .build())
+      .run();
+  }
+}
@@ -0,0 +1,74 @@
+-- Fills every table the migrations left empty with 20000 generated rows, so the planner sees the volumes the
+-- query plan check is about. Integer columns get a permutation of 1..20000, so keys stay unique and foreign keys
+-- point at existing rows, text columns restricted by a check constraint cycle through the values it allows, and
+-- columns of any other type are left to their default. Foreign keys and triggers are not enforced while seeding.
+DO $$
+DECLARE
+  seed_rows CONSTANT BIGINT := 20000;
+  multipliers CONSTANT INT[] := ARRAY[1, 3, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53, 59, 61, 67, 71, 73];
+  seeded_table RECORD;
+  seeded_column RECORD;
+  allowed_values TEXT[];
+  column_list TEXT;
+  expression_list TEXT;
+  expression TEXT;
+  has_rows BOOLEAN;
+BEGIN
+  SET LOCAL session_replication_role = replica;
+
+  FOR seeded_table IN
+    SELECT c.oid, c.relname
+    FROM pg_class c
+    JOIN pg_namespace n ON n.oid = c.relnamespace
+    WHERE n.nspname = 'public'
+      AND c.relkind IN ('r', 'p')
+      AND NOT c.relispartition
+      AND c.relname NOT LIKE 'databasechangelog%'
+  LOOP
+    EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I)', seeded_table.relname) INTO has_rows;
+    CONTINUE WHEN has_rows;
+
+    column_list := NULL;
+    expression_list := NULL;
+
+    FOR seeded_column IN
+      SELECT a.attnum, a.attname, t.typcategory, format_type(a.atttypid, a.atttypmod) AS type_name,
+        CASE WHEN a.atttypmod > 4 AND t.typcategory = 'S' THEN a.atttypmod - 4 END AS max_length
+      FROM pg_attribute a
+      JOIN pg_type t ON t.oid = a.atttypid
+      WHERE a.attrelid = seeded_table.oid
+        AND a.attnum > 0
+        AND NOT a.attisdropped
+        AND a.attgenerated = ''
+      ORDER BY a.attnum
+    LOOP
+      SELECT array_agg(m.value[1]) INTO allowed_values
+      FROM pg_constraint k
+      CROSS JOIN LATERAL regexp_matches(pg_get_constraintdef(k.oid), '''([^'']+)''', 'g') AS m(value)
+      WHERE k.conrelid = seeded_table.oid
+        AND k.contype = 'c'
+        AND k.conkey = ARRAY[seeded_column.attnum];
+
+      expression := CASE
+        WHEN allowed_values IS NOT NULL THEN
+          format('(%L::TEXT[])[(1 + g %% %s)::INT]', allowed_values, cardinality(allowed_values))
+        WHEN seeded_column.typcategory = 'N' THEN
+          format('1 + (g * %s) %% %s', multipliers[1 + seeded_column.attnum % cardinality(multipliers)], seed_rows)
+        WHEN seeded_column.typcategory = 'B' THEN
+          'g % 2 = 0'
+        WHEN seeded_column.typcategory = 'S' THEN
+          format('left(g || %L, %s)', '-' || seeded_column.attname, coalesce(seeded_column.max_length, 1000))
+        WHEN seeded_column.typcategory = 'D' THEN
+          'CURRENT_TIMESTAMP - make_interval(mins => (g % 525600)::INT)'
+        END;
+      CONTINUE WHEN expression IS NULL;
+
+      column_list := concat_ws(', ', column_list, quote_ident(seeded_column.attname));
+      expression_list := concat_ws(', ', expression_list, format('(%s)::%s', expression, seeded_column.type_name));
+    END LOOP;
+
+    EXECUTE format('INSERT INTO %I (%s) SELECT %s FROM generate_series(1, %s) AS g',
+      seeded_table.relname, column_list, expression_list, seed_rows);
+  END LOOP;
+END
+$$;